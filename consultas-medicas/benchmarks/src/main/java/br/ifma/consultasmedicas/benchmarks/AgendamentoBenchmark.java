@@ -0,0 +1,95 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryMedicoRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryPacienteRepository;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.Expediente;
+import br.ifma.consultasmedicas.core.domain.model.Medico;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.service.AgendarConsultaService;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaCommand;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agenda por médico: horários livres numa semana e secretárias agendando ao mesmo tempo
+ * (busca o primeiro horário livre, agenda e cancela, mantendo a ocupação estável).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AgendamentoBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    private AgendarConsultaService service;
+    private int pacientes;
+    private static final int HORIZONTE_DIAS = 120;
+
+    private int dias;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        pacientes = Fixtures.pacientes(tamanho);
+        // A grade só guarda dias até ~4 meses à frente do relógio; as buscas ficam dentro desse horizonte
+        dias = Math.min(Fixtures.dias(tamanho), HORIZONTE_DIAS);
+        Paciente[] cadastro = Fixtures.criarPacientes(pacientes);
+        Medico[] medicos = Fixtures.criarMedicos();
+        Fixtures.popularConsultas(consultaRepo, tamanho, cadastro, medicos);
+
+        var pacienteRepo = new InMemoryPacienteRepository();
+        for (Paciente paciente : cadastro) {
+            pacienteRepo.salvar(paciente);
+        }
+        var medicoRepo = new InMemoryMedicoRepository();
+        for (Medico medico : medicos) {
+            medicoRepo.salvar(medico);
+        }
+        Clock relogio = Clock.fixed(Fixtures.INICIO_AGENDA.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        var ids = new HiLoIdGenerator();
+        ids.avancarPara(IdGenerator.Sequencia.CONSULTA, tamanho);
+        service = new AgendarConsultaService(consultaRepo, pacienteRepo, medicoRepo, ids, Expediente.PADRAO, relogio);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<LocalDateTime> horariosLivresNaSemana() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime inicio = Fixtures.dia(random.nextInt(dias)).atStartOfDay();
+        return service.horariosLivres(random.nextInt(Fixtures.MEDICOS) + 1, inicio, inicio.plusDays(7), 5);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer agendarConcorrente() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int medicoId = random.nextInt(Fixtures.MEDICOS) + 1;
+        LocalDateTime inicio = Fixtures.dia(random.nextInt(dias)).atStartOfDay();
+        List<LocalDateTime> livres = service.horariosLivres(medicoId, inicio, inicio.plusDays(7), 1);
+        if (livres.isEmpty()) {
+            return null;
+        }
+        try {
+            Integer id = service.agendar(new AgendarConsultaCommand(random.nextInt(pacientes) + 1, medicoId, livres.get(0), false));
+            service.cancelar(id);
+            return id;
+        } catch (DomainException e) {
+            // outra secretária levou o horário entre a busca e a marcação
+            return null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ponto de entrada do benchmarks.jar: aceita as mesmas opções do JMH
+ * e liga o profiler de GC/alocação (-prof gc) por padrão.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        List<String> argumentos = Arrays.asList(args);
+        if (argumentos.contains("-h") || argumentos.contains("-l") || argumentos.contains("-lprof")) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        var cli = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+            .parent(cli)
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
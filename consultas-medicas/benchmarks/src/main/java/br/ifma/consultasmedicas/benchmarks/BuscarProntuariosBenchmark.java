@@ -0,0 +1,96 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.search.IndexedProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.search.IndiceInvertidoProntuarios;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.service.BuscarProntuariosService;
+import br.ifma.consultasmedicas.ports.in.ResultadoBuscaProntuarios;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca textual sobre prontuários com sintomas/observações sorteados de um vocabulário clínico
+ * (termos frequentes e raros), na clínica toda e restrita a um paciente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuscarProntuariosBenchmark {
+    // Os primeiros são sorteados com muito mais frequência (distribuição aproximadamente de Zipf)
+    private static final String[] VOCABULARIO = {
+        "febre", "tosse", "coriza", "dor", "garganta", "vômitos", "diarreia", "cefaleia", "otite",
+        "irritação", "manchas", "pele", "inapetência", "sonolência", "chiado", "peito", "dispneia",
+        "conjuntivite", "hidratação", "observar", "retorno", "alarme", "dieta", "repouso", "secreção",
+        "nasal", "amigdalite", "exantema", "abdominal", "urina", "constipação", "refluxo", "alergia",
+        "picada", "inseto", "bronquiolite", "asma", "sibilância", "febril", "desidratação"};
+    // Termo raro: em ~0,5% dos prontuários
+    private static final String TERMO_RARO = "convulsão";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tamanho;
+
+    private BuscarProntuariosService service;
+    private int pacientes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        pacientes = Fixtures.pacientes(tamanho);
+        Fixtures.popularConsultas(consultaRepo, tamanho, Fixtures.criarPacientes(pacientes), Fixtures.criarMedicos());
+        var indice = new IndiceInvertidoProntuarios();
+        var prontuarioRepo = new IndexedProntuarioRepository(new InMemoryProntuarioRepository(), indice);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int id = 1; id <= tamanho; id++) {
+            Consulta consulta = consultaRepo.buscarPorId(id).orElseThrow();
+            prontuarioRepo.salvar(new Prontuario(id, consulta, 15.0, 0.95,
+                texto(random, 4), texto(random, 12), List.of(), List.of()));
+        }
+        service = new BuscarProntuariosService(indice, prontuarioRepo);
+    }
+
+    private static String texto(SplittableRandom random, int palavras) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < palavras; i++) {
+            double u = random.nextDouble();
+            sb.append(VOCABULARIO[(int) (VOCABULARIO.length * u * u * u)]).append(' ');
+        }
+        if (random.nextInt(200) == 0) {
+            sb.append(TERMO_RARO);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResultadoBuscaProntuarios termoFrequente() {
+        return service.buscar("febre", null, 0, 20);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResultadoBuscaProntuarios termoRaroETermoFrequente() {
+        return service.buscar("convulsões febre", null, 0, 20);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResultadoBuscaProntuarios porPaciente() {
+        return service.buscar("tosse", ThreadLocalRandom.current().nextInt(pacientes) + 1, 0, 20);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public ResultadoBuscaProntuarios termoRaroETermoFrequenteConcorrente() {
+        return service.buscar("convulsões febre", null, 0, 20);
+    }
+}
@@ -0,0 +1,58 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.service.ConsultarHistoricoProntuarioService;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abertura do histórico de um paciente aleatório ({@link Fixtures#CONSULTAS_POR_PACIENTE} prontuários cada).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsultarHistoricoProntuarioBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private ConsultarHistoricoProntuarioService service;
+    private int pacientes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        pacientes = Fixtures.pacientes(tamanho);
+        Fixtures.popularConsultas(consultaRepo, tamanho, Fixtures.criarPacientes(pacientes), Fixtures.criarMedicos());
+        Fixtures.popularProntuarios(prontuarioRepo, consultaRepo, tamanho);
+        service = new ConsultarHistoricoProntuarioService(prontuarioRepo);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<Prontuario> consultarPorPaciente() {
+        return service.consultarPorPaciente(ThreadLocalRandom.current().nextInt(pacientes) + 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PaginaHistorico primeiraPagina() {
+        return service.consultarPorPaciente(ThreadLocalRandom.current().nextInt(pacientes) + 1, null, 10);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Prontuario> consultarPorPacienteConcorrente() {
+        return service.consultarPorPaciente(ThreadLocalRandom.current().nextInt(pacientes) + 1);
+    }
+}
@@ -0,0 +1,153 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.core.domain.model.PlanoSaude;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agenda do médico no mês, histórico do paciente no ano, faturamento do plano no mês e contagem por status:
+ * índices compostos do InMemoryConsultaRepository contra a implementação padrão da porta (filtra o período).
+ * Com 10^7 consultas, rode com heap maior (ex.: -jvmArgsAppend -Xmx4g).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConsultasPorGrupoBenchmark {
+    private static final PlanoSaude[] PLANOS = {
+        new PlanoSaude(1, "Plano 1"), new PlanoSaude(2, "Plano 2"), new PlanoSaude(3, "Plano 3"),
+        new PlanoSaude(4, "Plano 4"), null
+    };
+
+    @Param({"100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private ConsultaRepository indexado;
+    private ConsultaRepository filtrado;
+    private int dias;
+    private int pacientes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var repo = new InMemoryConsultaRepository();
+        pacientes = Fixtures.pacientes(tamanho);
+        Fixtures.popularConsultas(repo, tamanho, Fixtures.criarPacientes(pacientes, PLANOS), Fixtures.criarMedicos());
+        dias = Fixtures.dias(tamanho);
+        indexado = repo;
+        filtrado = semIndices(repo);
+    }
+
+    @Benchmark
+    public List<Consulta> medicoNoMes() {
+        LocalDateTime inicio = mes();
+        return indexado.buscarPorMedicoEPeriodo(medico(), inicio, inicio.plusDays(30));
+    }
+
+    @Benchmark
+    public List<Consulta> medicoNoMesFiltrado() {
+        LocalDateTime inicio = mes();
+        return filtrado.buscarPorMedicoEPeriodo(medico(), inicio, inicio.plusDays(30));
+    }
+
+    @Benchmark
+    public List<Consulta> pacienteNoAno() {
+        LocalDateTime inicio = ano();
+        return indexado.buscarPorPacienteEPeriodo(paciente(), inicio, inicio.plusDays(365));
+    }
+
+    @Benchmark
+    public List<Consulta> pacienteNoAnoFiltrado() {
+        LocalDateTime inicio = ano();
+        return filtrado.buscarPorPacienteEPeriodo(paciente(), inicio, inicio.plusDays(365));
+    }
+
+    @Benchmark
+    public List<Consulta> planoNoMes() {
+        LocalDateTime inicio = mes();
+        return indexado.buscarPorPlanoEPeriodo(plano(), inicio, inicio.plusDays(30));
+    }
+
+    @Benchmark
+    public List<Consulta> planoNoMesFiltrado() {
+        LocalDateTime inicio = mes();
+        return filtrado.buscarPorPlanoEPeriodo(plano(), inicio, inicio.plusDays(30));
+    }
+
+    @Benchmark
+    public Map<ConsultaStatus, Integer> contarPorStatus() {
+        LocalDateTime inicio = mes();
+        return indexado.contarPorStatus(medico(), inicio, inicio.plusDays(30));
+    }
+
+    @Benchmark
+    public Map<ConsultaStatus, Integer> contarPorStatusFiltrado() {
+        LocalDateTime inicio = mes();
+        return filtrado.contarPorStatus(medico(), inicio, inicio.plusDays(30));
+    }
+
+    private static int medico() {
+        return ThreadLocalRandom.current().nextInt(Fixtures.MEDICOS) + 1;
+    }
+
+    private static int plano() {
+        return ThreadLocalRandom.current().nextInt(PLANOS.length - 1) + 1;
+    }
+
+    private int paciente() {
+        return ThreadLocalRandom.current().nextInt(pacientes) + 1;
+    }
+
+    private LocalDateTime mes() {
+        return Fixtures.dia(ThreadLocalRandom.current().nextInt(dias)).atStartOfDay();
+    }
+
+    private LocalDateTime ano() {
+        return Fixtures.dia(ThreadLocalRandom.current().nextInt(dias)).atStartOfDay().minusDays(180);
+    }
+
+    /**
+     * Só as operações obrigatórias da porta: as buscas por grupo caem nas implementações padrão.
+     */
+    private static ConsultaRepository semIndices(InMemoryConsultaRepository repo) {
+        return new ConsultaRepository() {
+            @Override
+            public Optional<Consulta> buscarPorId(Integer id) {
+                return repo.buscarPorId(id);
+            }
+
+            @Override
+            public List<Consulta> buscarPorData(LocalDate data) {
+                return repo.buscarPorData(data);
+            }
+
+            @Override
+            public List<Consulta> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+                return repo.buscarPorPeriodo(inicio, fim);
+            }
+
+            @Override
+            public void salvar(Consulta consulta) {
+                repo.salvar(consulta);
+            }
+
+            @Override
+            public void salvarTodos(Collection<Consulta> consultas) {
+                repo.salvarTodos(consultas);
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.referencia.TabelaLms;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.model.IndicadorCrescimento;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.service.ConsultarHistoricoProntuarioService;
+import br.ifma.consultasmedicas.core.service.CurvaCrescimentoService;
+import br.ifma.consultasmedicas.ports.in.CurvaCrescimento;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Curvas de crescimento de um painel de pacientes: séries primitivas com escores z, comparadas
+ * com montar a mesma série a partir do histórico de prontuários.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurvaCrescimentoBenchmark {
+    private static final int PAINEL = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    private CurvaCrescimentoService curvas;
+    private ConsultarHistoricoProntuarioService historico;
+    private TabelaLms referencia;
+    private int pacientes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        pacientes = Fixtures.pacientes(tamanho);
+        Fixtures.popularConsultas(consultaRepo, tamanho, Fixtures.criarPacientes(pacientes), Fixtures.criarMedicos());
+        Fixtures.popularProntuarios(prontuarioRepo, consultaRepo, tamanho);
+        referencia = TabelaLms.oms();
+        curvas = new CurvaCrescimentoService(prontuarioRepo, referencia);
+        curvas.reconstruir();
+        historico = new ConsultarHistoricoProntuarioService(prontuarioRepo);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<CurvaCrescimento> painel() {
+        return curvas.consultarPainel(painelSorteado());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double painelPeloHistorico() {
+        double soma = 0;
+        for (Integer pacienteId : painelSorteado()) {
+            for (Prontuario prontuario : historico.consultarPorPaciente(pacienteId)) {
+                Paciente paciente = prontuario.getConsulta().getPaciente();
+                double idade = ChronoUnit.DAYS.between(paciente.getDataNascimento(),
+                    prontuario.getConsulta().getDataHora().toLocalDate()) / 30.4375;
+                double altura = prontuario.getAltura();
+                soma += referencia.escoreZ(IndicadorCrescimento.PESO, paciente.getSexo(), idade, prontuario.getPeso())
+                    + referencia.escoreZ(IndicadorCrescimento.ALTURA, paciente.getSexo(), idade, altura * 100)
+                    + referencia.escoreZ(IndicadorCrescimento.IMC, paciente.getSexo(), idade,
+                        prontuario.getPeso() / (altura * altura));
+            }
+        }
+        return soma;
+    }
+
+    private List<Integer> painelSorteado() {
+        int inicio = ThreadLocalRandom.current().nextInt(Math.max(1, pacientes - PAINEL)) + 1;
+        List<Integer> ids = new ArrayList<>(PAINEL);
+        for (int id = inicio; id < inicio + PAINEL && id <= pacientes; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,63 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.exportacao.BinarioExportacao;
+import br.ifma.consultasmedicas.adapters.out.exportacao.NdjsonExportacao;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.service.ExportarProntuariosService;
+import br.ifma.consultasmedicas.ports.in.FiltroExportacao;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportação completa dos prontuários para arquivo (NDJSON e binário).
+ * gc.alloc.rate.norm / tamanho dá o lixo por prontuário exportado.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportacaoBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int tamanho;
+
+    private ExportarProntuariosService service;
+    private Path arquivo;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        Fixtures.popularConsultas(consultaRepo, tamanho,
+            Fixtures.criarPacientes(Fixtures.pacientes(tamanho)), Fixtures.criarMedicos());
+        Fixtures.popularProntuarios(prontuarioRepo, consultaRepo, tamanho);
+        service = new ExportarProntuariosService(prontuarioRepo);
+        arquivo = Files.createTempFile("exportacao", ".dat");
+    }
+
+    @TearDown(Level.Trial)
+    public void apagar() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public long ndjson() {
+        try (var destino = new NdjsonExportacao(arquivo)) {
+            return service.exportar(FiltroExportacao.todos(), destino);
+        }
+    }
+
+    @Benchmark
+    public long binario() {
+        try (var destino = new BinarioExportacao(arquivo)) {
+            return service.exportar(FiltroExportacao.todos(), destino);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+import br.ifma.consultasmedicas.ports.out.ExameRepository;
+import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Massa de dados compartilhada pelos benchmarks.
+ * Pacientes e médicos são reaproveitados entre consultas para que 10^7 consultas caibam no heap.
+ */
+final class Fixtures {
+    static final int CONSULTAS_POR_DIA = 40;
+    static final int CONSULTAS_POR_PACIENTE = 20;
+    static final int MEDICOS = 50;
+    static final int ITENS_CATALOGO = 1_000;
+    static final LocalDateTime INICIO_AGENDA = LocalDateTime.of(2015, 1, 1, 8, 0);
+
+    private static final Endereco ENDERECO =
+        new Endereco("Rua A", "123", null, "Centro", "São Luís", "MA", "65000-000");
+
+    private Fixtures() {}
+
+    static int dias(int consultas) {
+        return Math.max(1, consultas / CONSULTAS_POR_DIA);
+    }
+
+    static int pacientes(int consultas) {
+        return Math.max(1, consultas / CONSULTAS_POR_PACIENTE);
+    }
+
+    static LocalDate dia(int indice) {
+        return INICIO_AGENDA.toLocalDate().plusDays(indice);
+    }
+
+    static LocalDateTime horario(int indiceConsulta) {
+        return INICIO_AGENDA
+            .plusDays(indiceConsulta / CONSULTAS_POR_DIA)
+            .plusMinutes((indiceConsulta % CONSULTAS_POR_DIA) * 15L);
+    }
+
+    static Paciente[] criarPacientes(int quantidade) {
+        return criarPacientes(quantidade, (PlanoSaude) null);
+    }
+
+    /**
+     * Pacientes com os planos distribuídos em rodízio; null no array é paciente particular.
+     */
+    static Paciente[] criarPacientes(int quantidade, PlanoSaude... planos) {
+        Paciente[] pacientes = new Paciente[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            pacientes[i] = new Paciente(i + 1, "Criança " + i, "Responsável " + i, LocalDate.of(2014, 1, 1), "F",
+                ENDERECO, List.of(new Telefone("9899999" + i, TelefoneTipo.CELULAR, null)), planos[i % planos.length]);
+        }
+        return pacientes;
+    }
+
+    static Medico[] criarMedicos() {
+        Medico[] medicos = new Medico[MEDICOS];
+        for (int i = 0; i < MEDICOS; i++) {
+            medicos[i] = new Medico(i + 1, "Dr. " + i, "CRM-MA " + i);
+        }
+        return medicos;
+    }
+
+    static Consulta consulta(int id, Paciente[] pacientes, Medico[] medicos) {
+        int indice = id - 1;
+        return new Consulta(id, pacientes[indice % pacientes.length], medicos[indice % medicos.length],
+            horario(indice), indice < pacientes.length);
+    }
+
+    /**
+     * Agenda consultas com ids 1..quantidade, distribuídas em dias de {@link #CONSULTAS_POR_DIA} horários.
+     */
+    static void popularConsultas(ConsultaRepository repo, int quantidade, Paciente[] pacientes, Medico[] medicos) {
+        for (int id = 1; id <= quantidade; id++) {
+            repo.salvar(consulta(id, pacientes, medicos));
+        }
+    }
+
+    static void popularCatalogo(MedicamentoRepository medicamentos, ExameRepository exames) {
+        for (int id = 1; id <= ITENS_CATALOGO; id++) {
+            medicamentos.salvar(new Medicamento(id, "Medicamento " + id));
+            exames.salvar(new Exame(id, "Exame " + id));
+        }
+    }
+
+    /**
+     * Um prontuário por consulta já agendada (ids 1..quantidade), com uma prescrição e um exame.
+     */
+    static void popularProntuarios(ProntuarioRepository repo, ConsultaRepository consultas, int quantidade) {
+        Medicamento medicamento = new Medicamento(1, "Paracetamol");
+        Exame exame = new Exame(1, "Hemograma");
+        for (int id = 1; id <= quantidade; id++) {
+            Consulta consulta = consultas.buscarPorId(id).orElseThrow();
+            repo.salvar(new Prontuario(id, consulta, 15.0, 0.95, "Febre", "Observar",
+                List.of(new Prescricao(id, medicamento, "10mg/kg", "VO a cada 6h", "3 dias")),
+                List.of(exame)));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.in.controller.ProntuarioController;
+import br.ifma.consultasmedicas.adapters.in.http.ProntuarioHttpServer;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.Medico;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.service.ConsultarHistoricoProntuarioService;
+import br.ifma.consultasmedicas.core.service.ListarConsultasDoDiaService;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teste de carga local da API HTTP: sobe o servidor em processo com uma agenda populada e dispara
+ * requisições concorrentes (mistura de consultas do dia, histórico e registro) por um tempo fixo.
+ * Os primeiros {@code aquecimento} segundos servem de aquecimento do JIT e não entram nas métricas.
+ * <p>
+ * Uso: {@code java -cp target/benchmarks.jar br.ifma.consultasmedicas.benchmarks.HttpLoadTest [segundos] [clientes] [consultas] [aquecimento]}
+ */
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int segundos = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        int clientes = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        int tamanho = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        int aquecimento = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        // Mesma configuração do Application: sem TCP_NODELAY o p99 mede o ACK atrasado, não o servidor
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        Paciente[] pacientes = Fixtures.criarPacientes(Fixtures.pacientes(tamanho));
+        Medico[] medicos = Fixtures.criarMedicos();
+        Fixtures.popularConsultas(consultaRepo, tamanho, pacientes, medicos);
+        Fixtures.popularCatalogo(medicamentoRepo, exameRepo);
+        Fixtures.popularProntuarios(prontuarioRepo, consultaRepo, tamanho / 2);
+
+        var controller = new ProntuarioController(
+            new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo, new HiLoIdGenerator()),
+            new ListarConsultasDoDiaService(consultaRepo),
+            new ConsultarHistoricoProntuarioService(prontuarioRepo));
+
+        // Consultas sem prontuário (segunda metade da agenda) são consumidas pelos POSTs
+        AtomicInteger proximaConsulta = new AtomicInteger(tamanho / 2 + 1);
+        int dias = Fixtures.dias(tamanho);
+        int qtdPacientes = pacientes.length;
+
+        try (var server = new ProntuarioHttpServer(controller, 0);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            server.iniciar();
+            String base = "http://localhost:" + server.porta();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).connectTimeout(Duration.ofSeconds(5)).build();
+
+            long inicioMedicao = System.nanoTime() + Duration.ofSeconds(aquecimento).toNanos();
+            long fim = inicioMedicao + Duration.ofSeconds(segundos).toNanos();
+            List<Future<long[]>> trabalhadores = new ArrayList<>();
+            for (int c = 0; c < clientes; c++) {
+                trabalhadores.add(executor.submit(() -> {
+                    long[] latencias = new long[1024];
+                    int n = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < fim) {
+                        HttpRequest request;
+                        int sorteio = random.nextInt(10);
+                        if (sorteio < 5) {
+                            request = HttpRequest.newBuilder(URI.create(base + "/consultas?data=" + Fixtures.dia(random.nextInt(dias)))).build();
+                        } else if (sorteio < 9) {
+                            request = HttpRequest.newBuilder(URI.create(base + "/pacientes/" + (random.nextInt(qtdPacientes) + 1) + "/prontuarios")).build();
+                        } else {
+                            int consultaId = proximaConsulta.getAndIncrement();
+                            request = HttpRequest.newBuilder(URI.create(base + "/prontuarios"))
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"consultaId\":" + consultaId
+                                    + ",\"peso\":15.2,\"altura\":0.95,\"sintomas\":\"Febre\",\"observacaoClinica\":\"Obs\","
+                                    + "\"prescricoes\":[{\"medicamentoId\":1,\"dosagem\":\"10mg/kg\",\"administracao\":\"VO\",\"tempoUso\":\"3 dias\"}],"
+                                    + "\"examesIds\":[1]}"))
+                                .build();
+                        }
+                        long inicio = System.nanoTime();
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (inicio < inicioMedicao) {
+                            continue;
+                        }
+                        if (n == latencias.length) {
+                            latencias = Arrays.copyOf(latencias, n * 2);
+                        }
+                        latencias[n++] = System.nanoTime() - inicio;
+                    }
+                    return Arrays.copyOf(latencias, n);
+                }));
+            }
+
+            long[] todas = new long[0];
+            for (Future<long[]> trabalhador : trabalhadores) {
+                long[] parcial = trabalhador.get();
+                long[] juntas = Arrays.copyOf(todas, todas.length + parcial.length);
+                System.arraycopy(parcial, 0, juntas, todas.length, parcial.length);
+                todas = juntas;
+            }
+            Arrays.sort(todas);
+
+            System.out.printf("clientes=%d duracao=%ds aquecimento=%ds consultas=%d%n", clientes, segundos, aquecimento, tamanho);
+            System.out.printf("requisicoes=%d  req/s=%.0f%n", todas.length, todas.length / (double) segundos);
+            System.out.printf("p50=%.3fms  p99=%.3fms  p999=%.3fms  max=%.3fms%n",
+                percentil(todas, 0.50), percentil(todas, 0.99), percentil(todas, 0.999),
+                todas.length == 0 ? 0 : todas[todas.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.min(ordenadas.length - 1, Math.ceil(p * ordenadas.length) - 1);
+        return ordenadas[Math.max(0, indice)] / 1e6;
+    }
+}
@@ -0,0 +1,35 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contador global (antes) contra blocos por faixa (depois), com todas as threads gerando ids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final AtomicInteger contador = new AtomicInteger(1);
+    private final HiLoIdGenerator hiLo = new HiLoIdGenerator();
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int atomicIntegerConcorrente() {
+        return contador.getAndIncrement();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int hiLoConcorrente() {
+        return hiLo.proximoId(IdGenerator.Sequencia.PRONTUARIO);
+    }
+}
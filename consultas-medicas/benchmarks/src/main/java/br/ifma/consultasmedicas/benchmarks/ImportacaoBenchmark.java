@@ -0,0 +1,65 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.in.importacao.ImportadorEmLote;
+import br.ifma.consultasmedicas.adapters.in.importacao.RelatorioImportacao;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.service.ImportarCadastrosService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importação de um CSV de pacientes gerado no setup, em repositórios vazios a cada execução.
+ * Com -prof gc, gc.alloc.rate.norm/tamanho dá o lixo por linha; o heap em uso fica limitado aos lotes em voo.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImportacaoBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int tamanho;
+
+    @Param({"1", "4"})
+    public int paralelismo;
+
+    private Path arquivo;
+    private ImportadorEmLote importador;
+
+    @Setup(Level.Trial)
+    public void gerarArquivo() throws IOException {
+        arquivo = Files.createTempFile("pacientes", ".csv");
+        try (BufferedWriter out = Files.newBufferedWriter(arquivo)) {
+            out.write("id,nomeCrianca,nomeResponsavel,dataNascimento,sexo,logradouro,numero,complemento,bairro,cidade,uf,cep,telefones,planoSaudeId,planoSaude\n");
+            for (int id = 1; id <= tamanho; id++) {
+                out.write(id + ",Paciente " + id + ",Responsável " + id + ",2020-01-" + (id % 28 + 1)
+                    + ",F,Rua " + (id % 500) + "," + id + ",,Centro,São Luís,MA,65000-000,98999990000:CELULAR:Mãe,,\n");
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void novosRepositorios() {
+        importador = new ImportadorEmLote(new ImportarCadastrosService(new InMemoryPacienteRepository(),
+            new InMemoryConsultaRepository(), new InMemoryMedicamentoRepository(), new InMemoryExameRepository(),
+            new InMemoryMedicoRepository()),
+            paralelismo, ImportadorEmLote.TAMANHO_LOTE_PADRAO);
+    }
+
+    @TearDown(Level.Trial)
+    public void apagarArquivo() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public RelatorioImportacao importarPacientes() throws IOException {
+        return importador.importar(arquivo, ImportadorEmLote.Tipo.PACIENTE);
+    }
+}
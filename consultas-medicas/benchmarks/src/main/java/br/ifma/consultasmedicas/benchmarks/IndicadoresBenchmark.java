@@ -0,0 +1,79 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.service.IndicadoresService;
+import br.ifma.consultasmedicas.ports.in.ContagemIndicador;
+import br.ifma.consultasmedicas.ports.in.ProporcaoPacientesNovos;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indicadores gerenciais: consultas sobre os agregados pré-calculados e a reconstrução completa
+ * a partir dos prontuários (stream paralelo).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndicadoresBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    private IndicadoresService service;
+    private int dias;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        Fixtures.popularConsultas(consultaRepo, tamanho,
+            Fixtures.criarPacientes(Fixtures.pacientes(tamanho)), Fixtures.criarMedicos());
+        Fixtures.popularProntuarios(prontuarioRepo, consultaRepo, tamanho);
+        dias = Fixtures.dias(tamanho);
+        service = new IndicadoresService(prontuarioRepo);
+        service.reconstruir();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<ContagemIndicador> medicamentosMaisPrescritos() {
+        return service.medicamentosMaisPrescritos(YearMonth.from(diaSorteado()), 10);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<ContagemIndicador> examesPorMedico() {
+        return service.examesPorMedico(YearMonth.from(diaSorteado()),
+            ThreadLocalRandom.current().nextInt(Fixtures.MEDICOS) + 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ProporcaoPacientesNovos proporcaoPacientesNovosNoAno() {
+        LocalDate inicio = diaSorteado();
+        return service.proporcaoPacientesNovos(inicio, inicio.plusYears(1));
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(iterations = 2, time = 5)
+    @Measurement(iterations = 3, time = 5)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public IndicadoresService reconstruir() {
+        service.reconstruir();
+        return service;
+    }
+
+    private LocalDate diaSorteado() {
+        return Fixtures.dia(ThreadLocalRandom.current().nextInt(dias));
+    }
+}
@@ -0,0 +1,72 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.service.AgendaDoDiaProjecao;
+import br.ifma.consultasmedicas.core.service.ListarConsultasDoDiaService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tela "consultas do dia": leitura de um dia aleatório da agenda, consultando o repositório
+ * (service) ou a visão materializada já carregada (projecao).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListarConsultasDoDiaBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private ListarConsultasDoDiaService service;
+    private AgendaDoDiaProjecao projecao;
+    private int dias;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        Fixtures.popularConsultas(consultaRepo, tamanho,
+            Fixtures.criarPacientes(Fixtures.pacientes(tamanho)), Fixtures.criarMedicos());
+        service = new ListarConsultasDoDiaService(consultaRepo);
+        dias = Fixtures.dias(tamanho);
+        // Relógio no início da agenda e janela cobrindo todos os dias: todos ficam materializados
+        Clock inicio = Clock.fixed(Fixtures.INICIO_AGENDA.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        projecao = new AgendaDoDiaProjecao(consultaRepo, inicio, 0, dias);
+        for (int d = 0; d < dias; d++) {
+            projecao.listar(Fixtures.dia(d));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<Consulta> listar() {
+        return service.listar(Fixtures.dia(ThreadLocalRandom.current().nextInt(dias)));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Consulta> listarConcorrente() {
+        return service.listar(Fixtures.dia(ThreadLocalRandom.current().nextInt(dias)));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<Consulta> listarProjecao() {
+        return projecao.listar(Fixtures.dia(ThreadLocalRandom.current().nextInt(dias)));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<Consulta> listarProjecaoConcorrente() {
+        return projecao.listar(Fixtures.dia(ThreadLocalRandom.current().nextInt(dias)));
+    }
+}
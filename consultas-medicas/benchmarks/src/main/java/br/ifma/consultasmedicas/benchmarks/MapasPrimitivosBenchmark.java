@@ -0,0 +1,84 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Antes/depois da troca de HashMap&lt;Integer, ?&gt; pelos mapas primitivos de core.util.
+ * Rodar com -prof gc para comparar a alocação por leitura (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapasPrimitivosBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int tamanho;
+
+    private Map<Integer, Object> hashMap;
+    private ConcurrentHashMap<Integer, Object> concurrentHashMap;
+    private IntObjectMap<Object> intObjectMap;
+    private ConcurrentIntObjectMap<Object> concurrentIntObjectMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        hashMap = new HashMap<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        intObjectMap = new IntObjectMap<>();
+        concurrentIntObjectMap = new ConcurrentIntObjectMap<>();
+        for (int id = 1; id <= tamanho; id++) {
+            Object valor = new Object();
+            hashMap.put(id, valor);
+            concurrentHashMap.put(id, valor);
+            intObjectMap.put(id, valor);
+            concurrentIntObjectMap.put(id, valor);
+        }
+    }
+
+    // Ids acima de 127 saem do cache de Integer: cada get em mapa boxed aloca
+    private int idAleatorio() {
+        return ThreadLocalRandom.current().nextInt(tamanho) + 1;
+    }
+
+    @Benchmark
+    public Object hashMapGet() {
+        return hashMap.get(idAleatorio());
+    }
+
+    @Benchmark
+    public Object intObjectMapGet() {
+        return intObjectMap.get(idAleatorio());
+    }
+
+    @Benchmark
+    public Object concurrentHashMapGet() {
+        return concurrentHashMap.get(idAleatorio());
+    }
+
+    @Benchmark
+    public Object concurrentIntObjectMapGet() {
+        return concurrentIntObjectMap.get(idAleatorio());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object concurrentHashMapGetConcorrente() {
+        return concurrentHashMap.get(idAleatorio());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object concurrentIntObjectMapGetConcorrente() {
+        return concurrentIntObjectMap.get(idAleatorio());
+    }
+}
@@ -0,0 +1,107 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryPacienteRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.Internamento;
+import br.ifma.consultasmedicas.core.domain.model.*;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Mede o heap retido por paciente e por prontuário com e sem o {@link Internamento}, com textos criados
+ * a cada registro como numa importação, e mostra as linhas String/byte[] do histograma de classes do heap.
+ * Uso: java -cp target/benchmarks.jar br.ifma.consultasmedicas.benchmarks.PegadaInternamento [registros]
+ */
+public final class PegadaInternamento {
+    private static final String[] BAIRROS = {"Centro", "Cohama", "Renascença", "Calhau", "Turu", "Anil", "Cohab", "Vinhais"};
+    private static final String[] ADMINISTRACOES = {"VO a cada 6h", "VO a cada 8h", "VO a cada 12h", "Inalatório 3x ao dia"};
+    private static final String[] TEMPOS = {"3 dias", "5 dias", "7 dias", "10 dias"};
+
+    private PegadaInternamento() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int registros = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        System.out.printf("%-28s %14s%n", "cenário", "bytes/registro");
+        medir("pacientes sem internamento", registros, n -> pacientes(n, Internamento.DESLIGADO));
+        medir("pacientes com internamento", registros, n -> pacientes(n, Internamento.novo()));
+        medir("prontuários sem internamento", registros, n -> prontuarios(n, Internamento.DESLIGADO));
+        medir("prontuários com internamento", registros, n -> prontuarios(n, Internamento.novo()));
+    }
+
+    private static Object pacientes(int quantidade, Internamento internamento) {
+        var repo = new InMemoryPacienteRepository();
+        for (int id = 1; id <= quantidade; id++) {
+            repo.salvar(paciente(id, internamento));
+        }
+        return repo;
+    }
+
+    private static Object prontuarios(int quantidade, Internamento internamento) {
+        var repo = new InMemoryProntuarioRepository();
+        Paciente paciente = paciente(1, Internamento.DESLIGADO);
+        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        Medicamento medicamento = new Medicamento(1, "Paracetamol");
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 8, 0);
+        for (int id = 1; id <= quantidade; id++) {
+            Consulta consulta = new Consulta(id, paciente, medico, inicio.plusMinutes(id), false);
+            repo.salvar(new Prontuario(id, consulta, 15, 0.95, "", "",
+                List.of(new Prescricao(id, medicamento, internamento.frasePrescricao(texto((id % 5 + 5) + "mg/kg")),
+                    internamento.frasePrescricao(texto(ADMINISTRACOES[id % ADMINISTRACOES.length])),
+                    internamento.frasePrescricao(texto(TEMPOS[id % TEMPOS.length])))),
+                List.of()));
+        }
+        return repo;
+    }
+
+    // Canonizado antes de construir, como faz o importador
+    private static Paciente paciente(int id, Internamento internamento) {
+        String bairro = BAIRROS[id % BAIRROS.length];
+        return new Paciente(id, "Criança " + id, "Responsável " + id, LocalDate.of(2020, 1, 1),
+            internamento.cadastro(texto(id % 2 == 0 ? "F" : "M")),
+            internamento.endereco(texto("Rua " + (id % 200)), texto(String.valueOf(id % 500)), null, texto(bairro),
+                texto("São Luís"), texto("MA"), texto("65" + (id % 100) + "0-000")),
+            List.of(internamento.telefone(new Telefone("98" + (900_000_000 + id / 2), TelefoneTipo.CELULAR, texto("Responsável")))),
+            null);
+    }
+
+    // Instância nova, como sai de um parser
+    private static String texto(String valor) {
+        return new String(valor.toCharArray());
+    }
+
+    private static void medir(String nome, int registros, IntFunction<Object> criar) throws Exception {
+        long antes = heapUsado();
+        Object repo = criar.apply(registros);
+        long depois = heapUsado();
+        System.out.printf("%-28s %14.1f%n", nome, (depois - antes) / (double) registros);
+        for (String linha : histograma().split("\n")) {
+            if (linha.contains(" java.lang.String ") || linha.contains(" [B ")) {
+                System.out.println("    " + linha.trim());
+            }
+        }
+        // mantém o repositório vivo até a segunda medição
+        if (repo.hashCode() == 42) {
+            System.out.print("");
+        }
+    }
+
+    private static String histograma() throws Exception {
+        return (String) ManagementFactory.getPlatformMBeanServer().invoke(
+            new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+            new Object[]{null}, new String[]{String[].class.getName()});
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
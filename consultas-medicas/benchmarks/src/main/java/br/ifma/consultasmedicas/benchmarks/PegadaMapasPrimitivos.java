@@ -0,0 +1,73 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Mede o heap retido por entrada de cada mapa (antes: HashMap/ConcurrentHashMap
+ * com chave Integer; depois: IntObjectMap/ConcurrentIntObjectMap).
+ * Uso: java -cp target/benchmarks.jar br.ifma.consultasmedicas.benchmarks.PegadaMapasPrimitivos [entradas]
+ */
+public final class PegadaMapasPrimitivos {
+
+    private static final Object VALOR = new Object();
+
+    private PegadaMapasPrimitivos() {
+    }
+
+    public static void main(String[] args) {
+        int entradas = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        System.out.printf("%-24s %14s%n", "mapa", "bytes/entrada");
+        medir("HashMap<Integer>", entradas, n -> {
+            HashMap<Integer, Object> mapa = new HashMap<>();
+            for (int id = 1; id <= n; id++) {
+                mapa.put(id, VALOR);
+            }
+            return mapa;
+        });
+        medir("ConcurrentHashMap<Int.>", entradas, n -> {
+            ConcurrentHashMap<Integer, Object> mapa = new ConcurrentHashMap<>();
+            for (int id = 1; id <= n; id++) {
+                mapa.put(id, VALOR);
+            }
+            return mapa;
+        });
+        medir("IntObjectMap", entradas, n -> {
+            IntObjectMap<Object> mapa = new IntObjectMap<>();
+            for (int id = 1; id <= n; id++) {
+                mapa.put(id, VALOR);
+            }
+            return mapa;
+        });
+        medir("ConcurrentIntObjectMap", entradas, n -> {
+            ConcurrentIntObjectMap<Object> mapa = new ConcurrentIntObjectMap<>();
+            for (int id = 1; id <= n; id++) {
+                mapa.put(id, VALOR);
+            }
+            return mapa;
+        });
+    }
+
+    private static void medir(String nome, int entradas, IntFunction<Object> criar) {
+        long antes = heapUsado();
+        Object mapa = criar.apply(entradas);
+        long depois = heapUsado();
+        System.out.printf("%-24s %14.1f%n", nome, (depois - antes) / (double) entradas);
+        // mantém o mapa vivo até a segunda medição
+        if (mapa.hashCode() == 42) {
+            System.out.print("");
+        }
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,109 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.Medico;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caminho quente do registro: cada operação agenda uma consulta nova e registra seu prontuário
+ * sobre um repositório populado com {@code tamanho} consultas no início de cada iteração.
+ * {@code agendar} faz só a parte de preparo (consulta e comando); a diferença de {@code gc.alloc.rate.norm}
+ * entre {@code registrar} e {@code agendar} é o que o registro aloca por prontuário (o mesmo orçamento
+ * verificado pelo {@code RegistroAlocacaoTest}). {@code reenviarConcorrente} é a rajada de reenvios de um
+ * comando com chave de idempotência já registrado.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrarProntuarioBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private InMemoryConsultaRepository consultaRepo;
+    private RegistrarProntuarioService service;
+    private Paciente[] pacientes;
+    private Medico[] medicos;
+    private final AtomicInteger proximaConsulta = new AtomicInteger();
+    private RegistrarProntuarioCommand reenvio;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pacientes = Fixtures.criarPacientes(Fixtures.pacientes(tamanho));
+        medicos = Fixtures.criarMedicos();
+    }
+
+    /**
+     * Recria os repositórios a cada iteração: toda medição parte de {@code tamanho} consultas e nenhum
+     * prontuário, em vez de somar o crescimento acumulado das iterações anteriores.
+     */
+    @Setup(Level.Iteration)
+    public void recriarRepositorios() {
+        consultaRepo = new InMemoryConsultaRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        Fixtures.popularConsultas(consultaRepo, tamanho, pacientes, medicos);
+        Fixtures.popularCatalogo(medicamentoRepo, exameRepo);
+        service = new RegistrarProntuarioService(consultaRepo, new InMemoryProntuarioRepository(), medicamentoRepo, exameRepo,
+            new HiLoIdGenerator());
+        proximaConsulta.set(tamanho + 1);
+
+        RegistrarProntuarioCommand original = agendarNova();
+        reenvio = new RegistrarProntuarioCommand(original.getConsultaId(), original.getPeso(), original.getAltura(),
+            original.getSintomas(), original.getObservacaoClinica(), original.getPrescricoes(), original.getExamesIds(),
+            "tablet-1:" + original.getConsultaId());
+        service.registrar(reenvio);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer registrar() {
+        return registrarNovo();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer reenviarConcorrente() {
+        return service.registrar(reenvio);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RegistrarProntuarioCommand agendar() {
+        return agendarNova();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer registrarConcorrente() {
+        return registrarNovo();
+    }
+
+    private Integer registrarNovo() {
+        return service.registrar(agendarNova());
+    }
+
+    private RegistrarProntuarioCommand agendarNova() {
+        int id = proximaConsulta.getAndIncrement();
+        Consulta consulta = Fixtures.consulta(id, pacientes, medicos);
+        consultaRepo.salvar(consulta);
+
+        int catalogo = ThreadLocalRandom.current().nextInt(Fixtures.ITENS_CATALOGO) + 1;
+        return new RegistrarProntuarioCommand(id, 15.0, 0.95, "Febre e tosse", "Hidratar",
+            List.of(new RegistrarProntuarioCommand.PrescricaoItemCommand(catalogo, "10mg/kg", "VO a cada 6h", "3 dias")),
+            List.of(catalogo));
+    }
+}
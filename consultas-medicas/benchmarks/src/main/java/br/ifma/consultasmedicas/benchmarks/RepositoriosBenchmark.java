@@ -0,0 +1,128 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.metrics.RegistroMetricas;
+import br.ifma.consultasmedicas.adapters.metrics.TimedConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operações isoladas de cada InMemory*Repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoriosBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private InMemoryConsultaRepository consultaRepo;
+    private TimedConsultaRepository consultaRepoMedido;
+    private InMemoryProntuarioRepository prontuarioRepo;
+    private InMemoryPacienteRepository pacienteRepo;
+    private InMemoryMedicamentoRepository medicamentoRepo;
+    private InMemoryExameRepository exameRepo;
+    private int pacientes;
+    private List<Integer> idsCatalogo;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        consultaRepo = new InMemoryConsultaRepository();
+        prontuarioRepo = new InMemoryProntuarioRepository();
+        pacienteRepo = new InMemoryPacienteRepository();
+        medicamentoRepo = new InMemoryMedicamentoRepository();
+        exameRepo = new InMemoryExameRepository();
+
+        pacientes = Fixtures.pacientes(tamanho);
+        Paciente[] cadastro = Fixtures.criarPacientes(pacientes);
+        for (Paciente paciente : cadastro) {
+            pacienteRepo.salvar(paciente);
+        }
+        Fixtures.popularConsultas(consultaRepo, tamanho, cadastro, Fixtures.criarMedicos());
+        Fixtures.popularProntuarios(prontuarioRepo, consultaRepo, tamanho);
+        Fixtures.popularCatalogo(medicamentoRepo, exameRepo);
+        idsCatalogo = List.of(1, 10, 100, 500, 999);
+        consultaRepoMedido = new TimedConsultaRepository(consultaRepo, new RegistroMetricas());
+    }
+
+    private int consultaAleatoria() {
+        return ThreadLocalRandom.current().nextInt(tamanho) + 1;
+    }
+
+    private int catalogoAleatorio() {
+        return ThreadLocalRandom.current().nextInt(Fixtures.ITENS_CATALOGO) + 1;
+    }
+
+    @Benchmark
+    public Optional<Consulta> consultaBuscarPorId() {
+        return consultaRepo.buscarPorId(consultaAleatoria());
+    }
+
+    // Custo do decorador de métricas sobre a mesma leitura
+    @Benchmark
+    public Optional<Consulta> consultaBuscarPorIdMedido() {
+        return consultaRepoMedido.buscarPorId(consultaAleatoria());
+    }
+
+    @Benchmark
+    public void consultaSalvar() {
+        consultaRepo.salvar(consultaRepo.buscarPorId(consultaAleatoria()).orElseThrow());
+    }
+
+    @Benchmark
+    public List<Consulta> consultaBuscarPorData() {
+        return consultaRepo.buscarPorData(Fixtures.dia(ThreadLocalRandom.current().nextInt(Fixtures.dias(tamanho))));
+    }
+
+    @Benchmark
+    public boolean prontuarioExisteParaConsulta() {
+        return prontuarioRepo.existeParaConsulta(consultaAleatoria());
+    }
+
+    @Benchmark
+    public List<Prontuario> prontuarioBuscarPorPaciente() {
+        return prontuarioRepo.buscarPorPaciente(ThreadLocalRandom.current().nextInt(pacientes) + 1);
+    }
+
+    @Benchmark
+    public Optional<Paciente> pacienteBuscarPorId() {
+        return pacienteRepo.buscarPorId(ThreadLocalRandom.current().nextInt(pacientes) + 1);
+    }
+
+    @Benchmark
+    public Optional<Medicamento> medicamentoBuscarPorId() {
+        return medicamentoRepo.buscarPorId(catalogoAleatorio());
+    }
+
+    @Benchmark
+    public Map<Integer, Medicamento> medicamentoBuscarPorIds() {
+        return medicamentoRepo.buscarPorIds(idsCatalogo);
+    }
+
+    @Benchmark
+    public Optional<Exame> exameBuscarPorId() {
+        return exameRepo.buscarPorId(catalogoAleatorio());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Consulta> consultaBuscarPorIdConcorrente() {
+        return consultaRepo.buscarPorId(consultaAleatoria());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean prontuarioExisteParaConsultaConcorrente() {
+        return prontuarioRepo.existeParaConsulta(consultaAleatoria());
+    }
+}
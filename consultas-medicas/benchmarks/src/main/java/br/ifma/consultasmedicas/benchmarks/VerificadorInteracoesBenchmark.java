@@ -0,0 +1,99 @@
+package br.ifma.consultasmedicas.benchmarks;
+
+import br.ifma.consultasmedicas.adapters.out.referencia.TabelaInteracoes;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.VerificadorInteracoes;
+import br.ifma.consultasmedicas.ports.in.AlertaPrescricao;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checagem de interações no registro: prontuário novo com três prescrições contra a matriz de
+ * {@link Fixtures#ITENS_CATALOGO} medicamentos (~4% dos pares interagem) e contra o que o paciente recebeu
+ * em três visitas nos últimos 30 dias.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VerificadorInteracoesBenchmark {
+    private static final int PARES_COM_INTERACAO = 20_000;
+    private static final int VISITAS_ANTERIORES = 3;
+    private static final int PRESCRICOES = 3;
+
+    @Param({"1000", "100000"})
+    public int pacientes;
+
+    private VerificadorInteracoes verificador;
+    private Prontuario[] novos;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        Path arquivo = Files.createTempFile("interacoes", ".csv");
+        try (BufferedWriter saida = Files.newBufferedWriter(arquivo)) {
+            saida.write("medicamentoA,medicamentoB,gravidade,descricao\n");
+            for (int i = 0; i < PARES_COM_INTERACAO; i++) {
+                int a = aleatorio.nextInt(Fixtures.ITENS_CATALOGO) + 1;
+                int b = aleatorio.nextInt(Fixtures.ITENS_CATALOGO) + 1;
+                if (a != b) {
+                    saida.write(a + "," + b + ",moderada,Interação " + a + "/" + b + "\n");
+                }
+            }
+        }
+        TabelaInteracoes tabela = TabelaInteracoes.ler(arquivo);
+        Files.delete(arquivo);
+
+        Medicamento[] catalogo = new Medicamento[Fixtures.ITENS_CATALOGO];
+        for (int i = 0; i < catalogo.length; i++) {
+            catalogo[i] = new Medicamento(i + 1, "Medicamento " + (i + 1));
+        }
+        Paciente[] cadastro = Fixtures.criarPacientes(pacientes);
+        Medico medico = Fixtures.criarMedicos()[0];
+
+        verificador = new VerificadorInteracoes(new InMemoryProntuarioRepository(), tabela);
+        novos = new Prontuario[pacientes];
+        int id = 1;
+        for (Paciente paciente : cadastro) {
+            for (int visita = VISITAS_ANTERIORES; visita >= 0; visita--) {
+                Consulta consulta = new Consulta(id, paciente, medico, Fixtures.INICIO_AGENDA.minusDays(visita * 7L), false);
+                ProntuarioBuilder builder = ProntuarioBuilder.builder(PRESCRICOES, 0).id(id).consulta(consulta);
+                for (int p = 0; p < PRESCRICOES; p++) {
+                    builder.addPrescricao(new Prescricao(id * PRESCRICOES + p,
+                        catalogo[aleatorio.nextInt(catalogo.length)], "1cp", "VO", "5 dias"));
+                }
+                Prontuario prontuario = builder.build();
+                if (visita == 0) {
+                    novos[paciente.getId() - 1] = prontuario;
+                } else {
+                    verificador.aplicar(new ProntuarioRegistrado(prontuario));
+                }
+                id++;
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<AlertaPrescricao> verificar() {
+        return verificador.verificar(novos[ThreadLocalRandom.current().nextInt(novos.length)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<AlertaPrescricao> verificarConcorrente() {
+        return verificador.verificar(novos[ThreadLocalRandom.current().nextInt(novos.length)]);
+    }
+}
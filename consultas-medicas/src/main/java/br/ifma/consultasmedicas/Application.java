@@ -1,25 +1,87 @@
 package br.ifma.consultasmedicas;
 
 import br.ifma.consultasmedicas.adapters.in.controller.ProntuarioController;
+import br.ifma.consultasmedicas.adapters.in.http.ProntuarioHttpServer;
+import br.ifma.consultasmedicas.adapters.in.importacao.ImportadorEmLote;
+import br.ifma.consultasmedicas.adapters.in.importacao.RelatorioImportacao;
+import br.ifma.consultasmedicas.adapters.metrics.*;
+import br.ifma.consultasmedicas.adapters.out.events.BarramentoEventos;
+import br.ifma.consultasmedicas.adapters.out.events.EventosConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.exportacao.ArquivoExportacao;
+import br.ifma.consultasmedicas.adapters.out.exportacao.BinarioExportacao;
+import br.ifma.consultasmedicas.adapters.out.exportacao.NdjsonExportacao;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.journal.JournaledRepositorios;
+import br.ifma.consultasmedicas.adapters.out.referencia.TabelaInteracoes;
+import br.ifma.consultasmedicas.adapters.out.referencia.TabelaLms;
 import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.adapters.out.search.IndexedProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.search.IndiceInvertidoProntuarios;
 import br.ifma.consultasmedicas.core.domain.model.*;
-import br.ifma.consultasmedicas.core.service.ListarConsultasDoDiaService;
+import br.ifma.consultasmedicas.core.service.AgendaDoDiaProjecao;
+import br.ifma.consultasmedicas.core.service.AgendarConsultaService;
+import br.ifma.consultasmedicas.core.service.BuscarProntuariosService;
+import br.ifma.consultasmedicas.core.service.CacheIdempotencia;
+import br.ifma.consultasmedicas.core.service.ConsultarHistoricoProntuarioService;
+import br.ifma.consultasmedicas.core.service.CurvaCrescimentoService;
+import br.ifma.consultasmedicas.core.service.ExportarProntuariosService;
+import br.ifma.consultasmedicas.core.service.ImportarCadastrosService;
+import br.ifma.consultasmedicas.core.service.IndicadoresService;
 import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.core.service.VerificadorInteracoes;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaCommand;
+import br.ifma.consultasmedicas.ports.in.FiltroExportacao;
 import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+import br.ifma.consultasmedicas.ports.out.InteracoesMedicamentosas;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
 import java.util.List;
 
 public class Application {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Adapters OUT (infra)
+        var metricas = new RegistroMetricas();
+        // Quem publica já gravou: falha de assinante vira erro nas métricas em vez de desfazer a resposta
+        var falhasAssinantes = metricas.operacao("PublicadorEventos.assinantes");
+        var eventos = new BarramentoEventos((evento, erro) -> falhasAssinantes.registrar(0, true));
         var pacienteRepo = new InMemoryPacienteRepository();
-        var consultaRepo = new InMemoryConsultaRepository();
-        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var consultaRepo = new EventosConsultaRepository(new InMemoryConsultaRepository(), eventos);
+        var indiceTextual = new IndiceInvertidoProntuarios();
+        var prontuarioRepo = new IndexedProntuarioRepository(new InMemoryProntuarioRepository(), indiceTextual);
         var medicamentoRepo = new InMemoryMedicamentoRepository();
         var exameRepo = new InMemoryExameRepository();
+        var medicoRepo = new InMemoryMedicoRepository();
+        // Marcas de ids em arquivo (--ids arquivo, padrão ids.dat): ids não se repetem entre execuções
+        int opcaoIds = Arrays.asList(args).indexOf("--ids");
+        var ids = new HiLoIdGenerator(Path.of(opcaoIds >= 0 && args.length > opcaoIds + 1
+            ? args[opcaoIds + 1] : JournaledRepositorios.ARQUIVO_IDS));
+
+        // Carga do sistema anterior: --importar TIPO arquivo (.csv/.ndjson), repetível; pacientes antes das consultas
+        var importador = new ImportadorEmLote(
+            new ImportarCadastrosService(pacienteRepo, consultaRepo, medicamentoRepo, exameRepo, medicoRepo));
+        for (int i = 0; i + 2 < args.length; i++) {
+            if ("--importar".equals(args[i])) {
+                var tipo = ImportadorEmLote.Tipo.valueOf(args[i + 1].toUpperCase());
+                RelatorioImportacao relatorio = importador.importar(Path.of(args[i + 2]), tipo);
+                System.out.println("Importação " + tipo + ": " + relatorio);
+                relatorio.getErros().stream().limit(20).forEach(erro -> System.out.println("  " + erro));
+                if (tipo == ImportadorEmLote.Tipo.PACIENTE) {
+                    ids.avancarPara(IdGenerator.Sequencia.PACIENTE, relatorio.getMaiorId());
+                } else if (tipo == ImportadorEmLote.Tipo.CONSULTA) {
+                    ids.avancarPara(IdGenerator.Sequencia.CONSULTA, relatorio.getMaiorId());
+                }
+            }
+        }
 
         // Seed (cadastros prévios de medicamentos e exames - pré-condição do enunciado)
         medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
@@ -29,21 +91,57 @@ public class Application {
 
         // Domínio: paciente e consulta agendada (secretária agenda)
         Endereco endereco = new Endereco("Rua A", "123", "Apto 10", "Centro", "São Luís", "MA", "65000-000");
-        Paciente paciente = new Paciente(1, "Ana", "Maria (mãe)", LocalDate.of(2020, 5, 3), "F", endereco,
+        Paciente paciente = new Paciente(ids.proximoId(IdGenerator.Sequencia.PACIENTE), "Ana", "Maria (mãe)", LocalDate.of(2020, 5, 3), "F", endereco,
             List.of(new Telefone("98999990000", TelefoneTipo.CELULAR, "Maria")), null);
         pacienteRepo.salvar(paciente);
 
-        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        // Preserva o médico 1 se veio na importação (as consultas importadas já o referenciam)
+        Medico medico = medicoRepo.buscarPorId(1).orElseGet(() -> new Medico(1, "Dr. Vilegas", "CRM-MA 12345"));
+        medicoRepo.salvar(medico);
 
-        Consulta consulta = new Consulta(1, paciente, medico, LocalDateTime.now().withHour(9).withMinute(0), true);
+        Consulta consulta = new Consulta(ids.proximoId(IdGenerator.Sequencia.CONSULTA), paciente, medico, LocalDateTime.now().withHour(9).withMinute(0), true);
         consultaRepo.salvar(consulta);
 
+        // Métricas: decoradores nas portas de entrada e de saída
+        var consultaRepoMedido = new TimedConsultaRepository(consultaRepo, metricas);
+        var prontuarioRepoMedido = new TimedProntuarioRepository(prontuarioRepo, metricas);
+
+        // Interações medicamentosas: --interacoes arquivo.csv (medicamentoA,medicamentoB,gravidade,descricao)
+        int opcaoInteracoes = Arrays.asList(args).indexOf("--interacoes");
+        InteracoesMedicamentosas interacoes = opcaoInteracoes >= 0 && args.length > opcaoInteracoes + 1
+            ? TabelaInteracoes.ler(Path.of(args[opcaoInteracoes + 1]))
+            : InteracoesMedicamentosas.NENHUMA;
+        var verificadorInteracoes = new VerificadorInteracoes(prontuarioRepoMedido, interacoes);
+        verificadorInteracoes.reconstruir();
+        eventos.assinar(verificadorInteracoes::aplicar);
+
         // Core services (casos de uso)
-        var registrarProntuarioUC = new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo);
-        var listarConsultasUC = new ListarConsultasDoDiaService(consultaRepo);
+        var registrarProntuarioUC = new RegistrarProntuarioService(consultaRepoMedido, prontuarioRepoMedido,
+            new TimedMedicamentoRepository(medicamentoRepo, metricas), new TimedExameRepository(exameRepo, metricas), ids, eventos,
+            new CacheIdempotencia(), verificadorInteracoes);
+        // Agenda do dia: visão materializada atualizada pelos eventos
+        var listarConsultasUC = new AgendaDoDiaProjecao(consultaRepoMedido);
+        eventos.assinar(listarConsultasUC::aplicar);
+        var consultarHistoricoUC = new ConsultarHistoricoProntuarioService(prontuarioRepoMedido);
+        var buscarProntuariosUC = new BuscarProntuariosService(indiceTextual, prontuarioRepoMedido);
+        // Agenda por médico: conflito de horário e horários livres, mantida também pelos eventos
+        var agendarConsultaService = new AgendarConsultaService(consultaRepoMedido, pacienteRepo, medicoRepo, ids);
+        eventos.assinar(agendarConsultaService::aplicar);
+        var agendarConsultaUC = new TimedAgendarConsultaUseCase(agendarConsultaService, metricas);
+        // Indicadores gerenciais: agregados por dia/mês recalculados na partida e mantidos pelos eventos
+        var indicadoresUC = new IndicadoresService(prontuarioRepoMedido);
+        indicadoresUC.reconstruir();
+        eventos.assinar(indicadoresUC::aplicar);
+        // Curvas de crescimento em arrays primitivos, com escores z pela referência da OMS
+        var curvaCrescimentoUC = new CurvaCrescimentoService(prontuarioRepoMedido, TabelaLms.oms());
+        curvaCrescimentoUC.reconstruir();
+        eventos.assinar(curvaCrescimentoUC::aplicar);
 
         // Adapter IN (controller)
-        var prontuarioController = new ProntuarioController(registrarProntuarioUC);
+        var prontuarioController = new ProntuarioController(
+            new TimedRegistrarProntuarioUseCase(registrarProntuarioUC, metricas),
+            new TimedListarConsultasDoDiaUseCase(listarConsultasUC, metricas),
+            new TimedConsultarHistoricoProntuarioUseCase(consultarHistoricoUC, metricas));
 
         // Fluxo do caso de uso: listar consultas do dia
         System.out.println("Consultas do dia:");
@@ -53,7 +151,7 @@ public class Application {
 
         // Registrar prontuário
         var cmd = new RegistrarProntuarioCommand(
-            1,
+            consulta.getId(),
             15.2,
             0.95,
             "Febre e tosse",
@@ -64,6 +162,63 @@ public class Application {
 
         Integer prontuarioId = prontuarioController.registrarProntuario(cmd);
         System.out.println("Prontuário registrado com ID: " + prontuarioId);
-        System.out.println("Status da consulta após registro: " + consultaRepo.buscarPorId(1).get().getStatus());
+        System.out.println("Status da consulta após registro: " + consultaRepo.buscarPorId(consulta.getId()).get().getStatus());
+
+        var curva = curvaCrescimentoUC.consultar(paciente.getId());
+        for (int i = 0; i < curva.getTamanho(); i++) {
+            System.out.printf("Crescimento %s: %.1f kg (z=%.2f), %.1f cm (z=%.2f)%n", curva.getData(i),
+                curva.getPeso(i), curva.getZPeso(i), curva.getAltura(i), curva.getZAltura(i));
+        }
+        System.out.println("Mais prescritos no mês: " + indicadoresUC.medicamentosMaisPrescritos(YearMonth.now(), 5));
+
+        // Próximos horários livres do médico nesta semana e agendamento no primeiro deles
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime fimSemana = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+        var livres = agendarConsultaUC.horariosLivres(medico.getId(), agora, fimSemana, 3);
+        System.out.println("Próximos horários livres de " + medico.getNome() + ": " + livres);
+        if (!livres.isEmpty()) {
+            Integer retorno = agendarConsultaUC.agendar(new AgendarConsultaCommand(paciente.getId(), medico.getId(), livres.get(0), false));
+            System.out.println("Retorno agendado: consulta " + retorno + " em " + livres.get(0));
+        }
+
+        // Busca textual (o índice é atualizado a cada salvar)
+        var busca = buscarProntuariosUC.buscar("tosses", null, 0, 10);
+        System.out.println("Prontuários com \"tosses\": " + busca.getTotal());
+
+        // Exportação completa: --exportar arquivo (.ndjson ou .bin)
+        int opcaoExportar = Arrays.asList(args).indexOf("--exportar");
+        if (opcaoExportar >= 0 && args.length > opcaoExportar + 1) {
+            Path arquivo = Path.of(args[opcaoExportar + 1]);
+            var exportarUC = new ExportarProntuariosService(prontuarioRepoMedido);
+            try (ArquivoExportacao destino = arquivo.toString().endsWith(".bin")
+                    ? new BinarioExportacao(arquivo) : new NdjsonExportacao(arquivo)) {
+                long exportados = exportarUC.exportar(FiltroExportacao.todos(), destino);
+                System.out.println(exportados + " prontuário(s) exportado(s) para " + arquivo.toAbsolutePath());
+            }
+        }
+
+        // Despejo periódico das métricas: --metricas [arquivo]
+        int opcaoMetricas = Arrays.asList(args).indexOf("--metricas");
+        if (opcaoMetricas >= 0) {
+            boolean temArquivo = args.length > opcaoMetricas + 1 && !args[opcaoMetricas + 1].startsWith("--");
+            Path arquivo = Path.of(temArquivo ? args[opcaoMetricas + 1] : "metricas.txt");
+            metricas.despejar(arquivo);
+            metricas.despejarPeriodicamente(arquivo, Duration.ofSeconds(10));
+            System.out.println("Métricas gravadas a cada 10s em " + arquivo.toAbsolutePath());
+        }
+
+        // Adapter IN (HTTP): --http [porta]
+        int opcaoHttp = Arrays.asList(args).indexOf("--http");
+        if (opcaoHttp >= 0) {
+            boolean temPorta = args.length > opcaoHttp + 1 && !args[opcaoHttp + 1].startsWith("--");
+            int porta = temPorta ? Integer.parseInt(args[opcaoHttp + 1]) : 8080;
+            // Lida quando o primeiro HttpServer é criado; um -D explícito na linha de comando prevalece
+            if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            }
+            var httpServer = new ProntuarioHttpServer(prontuarioController, porta);
+            httpServer.iniciar();
+            System.out.println("API HTTP ouvindo na porta " + httpServer.porta());
+        }
     }
 }
@@ -0,0 +1,67 @@
+package br.ifma.consultasmedicas.adapters.in.controller;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.in.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Adaptador de entrada não bloqueante: devolve futuros e permite disparar várias consultas em
+ * paralelo sem reservar uma thread de plataforma por chamada.
+ */
+public class ProntuarioAsyncController {
+    private final RegistrarProntuarioAsyncUseCase registrarProntuarioUseCase;
+    private final ListarConsultasDoDiaAsyncUseCase listarConsultasDoDiaUseCase;
+    private final ConsultarHistoricoProntuarioAsyncUseCase consultarHistoricoProntuarioUseCase;
+
+    public ProntuarioAsyncController(RegistrarProntuarioAsyncUseCase registrarProntuarioUseCase,
+                                     ListarConsultasDoDiaAsyncUseCase listarConsultasDoDiaUseCase,
+                                     ConsultarHistoricoProntuarioAsyncUseCase consultarHistoricoProntuarioUseCase) {
+        this.registrarProntuarioUseCase = Objects.requireNonNull(registrarProntuarioUseCase);
+        this.listarConsultasDoDiaUseCase = Objects.requireNonNull(listarConsultasDoDiaUseCase);
+        this.consultarHistoricoProntuarioUseCase = Objects.requireNonNull(consultarHistoricoProntuarioUseCase);
+    }
+
+    public CompletableFuture<Integer> registrarProntuario(RegistrarProntuarioCommand command) {
+        return registrarProntuarioUseCase.registrar(command);
+    }
+
+    public CompletableFuture<List<ResultadoRegistroProntuario>> registrarProntuariosEmLote(List<RegistrarProntuarioCommand> commands) {
+        return registrarProntuarioUseCase.registrarEmLote(commands);
+    }
+
+    public CompletableFuture<List<Consulta>> listarConsultasDoDia(LocalDate data) {
+        return listarConsultasDoDiaUseCase.listar(data);
+    }
+
+    public CompletableFuture<List<Consulta>> listarConsultasDoDia(LocalDate data, Integer medicoId) {
+        return listarConsultasDoDiaUseCase.listarPorMedico(data, medicoId);
+    }
+
+    public CompletableFuture<List<Prontuario>> consultarHistorico(Integer pacienteId) {
+        return consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId);
+    }
+
+    public CompletableFuture<PaginaHistorico> consultarHistorico(Integer pacienteId, Integer cursor, int limite) {
+        return consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId, cursor, limite);
+    }
+
+    /**
+     * Primeira página do histórico de vários pacientes, consultados em paralelo.
+     */
+    public CompletableFuture<Map<Integer, PaginaHistorico>> consultarHistoricos(Collection<Integer> pacientesIds, int limite) {
+        Map<Integer, CompletableFuture<PaginaHistorico>> pendentes = new LinkedHashMap<>();
+        for (Integer pacienteId : pacientesIds) {
+            pendentes.put(pacienteId, consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId, null, limite));
+        }
+        return CompletableFuture.allOf(pendentes.values().toArray(CompletableFuture[]::new))
+            .thenApply(ignorado -> {
+                Map<Integer, PaginaHistorico> paginas = new LinkedHashMap<>();
+                pendentes.forEach((pacienteId, futuro) -> paginas.put(pacienteId, futuro.join()));
+                return paginas;
+            });
+    }
+}
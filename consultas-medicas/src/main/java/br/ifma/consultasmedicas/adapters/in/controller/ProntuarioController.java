@@ -1,8 +1,17 @@
 package br.ifma.consultasmedicas.adapters.in.controller;
 
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.in.ConsultarHistoricoProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.ListarConsultasDoDiaUseCase;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
 import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
 import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.RegistroProntuario;
+import br.ifma.consultasmedicas.ports.in.ResultadoRegistroProntuario;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -11,12 +20,42 @@ import java.util.Objects;
  */
 public class ProntuarioController {
     private final RegistrarProntuarioUseCase registrarProntuarioUseCase;
+    private final ListarConsultasDoDiaUseCase listarConsultasDoDiaUseCase;
+    private final ConsultarHistoricoProntuarioUseCase consultarHistoricoProntuarioUseCase;
 
-    public ProntuarioController(RegistrarProntuarioUseCase registrarProntuarioUseCase) {
+    public ProntuarioController(RegistrarProntuarioUseCase registrarProntuarioUseCase,
+                                ListarConsultasDoDiaUseCase listarConsultasDoDiaUseCase,
+                                ConsultarHistoricoProntuarioUseCase consultarHistoricoProntuarioUseCase) {
         this.registrarProntuarioUseCase = Objects.requireNonNull(registrarProntuarioUseCase);
+        this.listarConsultasDoDiaUseCase = Objects.requireNonNull(listarConsultasDoDiaUseCase);
+        this.consultarHistoricoProntuarioUseCase = Objects.requireNonNull(consultarHistoricoProntuarioUseCase);
     }
 
     public Integer registrarProntuario(RegistrarProntuarioCommand command) {
         return registrarProntuarioUseCase.registrar(command);
     }
+
+    public RegistroProntuario registrarProntuarioComAlertas(RegistrarProntuarioCommand command) {
+        return registrarProntuarioUseCase.registrarComAlertas(command);
+    }
+
+    public List<ResultadoRegistroProntuario> registrarProntuariosEmLote(List<RegistrarProntuarioCommand> commands) {
+        return registrarProntuarioUseCase.registrarEmLote(commands);
+    }
+
+    public List<Consulta> listarConsultasDoDia(LocalDate data) {
+        return listarConsultasDoDiaUseCase.listar(data);
+    }
+
+    public List<Consulta> listarConsultasDoDia(LocalDate data, Integer medicoId) {
+        return listarConsultasDoDiaUseCase.listarPorMedico(data, medicoId);
+    }
+
+    public List<Prontuario> consultarHistorico(Integer pacienteId) {
+        return consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId);
+    }
+
+    public PaginaHistorico consultarHistorico(Integer pacienteId, Integer cursor, int limite) {
+        return consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId, cursor, limite);
+    }
 }
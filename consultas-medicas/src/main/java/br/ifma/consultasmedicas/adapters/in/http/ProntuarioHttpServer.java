@@ -0,0 +1,363 @@
+package br.ifma.consultasmedicas.adapters.in.http;
+
+import br.ifma.consultasmedicas.adapters.in.controller.ProntuarioController;
+import br.ifma.consultasmedicas.adapters.json.JsonReader;
+import br.ifma.consultasmedicas.adapters.json.JsonWriter;
+import br.ifma.consultasmedicas.adapters.out.repository.Internamento;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.ports.in.AlertaPrescricao;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.in.RegistroProntuario;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Adaptador de entrada HTTP sobre o servidor embutido do JDK, uma virtual thread por requisição.
+ * <ul>
+ *   <li>POST /prontuarios — registra prontuário; 201 {"id":...} (mais {"alertas":[...]} se alguma prescrição
+ *       interage ou se repete), 400 para corpo malformado ou sem campos obrigatórios, 422 {"erro":...} para
+ *       regra de negócio violada e 500 para falha inesperada (ex.: gravação). Com o cabeçalho
+ *       {@code Idempotency-Key}, reenvios devolvem 201 com o id do primeiro registro</li>
+ *   <li>GET /consultas?data=AAAA-MM-DD[&amp;medico=ID] — consultas do dia (padrão: hoje), opcionalmente de um médico</li>
+ *   <li>GET /pacientes/{id}/prontuarios — histórico do paciente</li>
+ *   <li>GET /pacientes/{id}/prontuarios?limite=N[&amp;cursor=C] — página do histórico, mais recentes primeiro:
+ *       {"itens":[...],"proximoCursor":C|null}</li>
+ * </ul>
+ * As respostas são escritas em streaming diretamente no corpo da resposta (chunked). Como terminam com um
+ * chunk pequeno, rode com {@code -Dsun.net.httpserver.nodelay=true}: sem TCP_NODELAY, Nagle + ACK atrasado
+ * do cliente somam ~40ms por requisição. A propriedade vale para todo HttpServer do processo, por isso quem
+ * a define é o ponto de entrada ({@code Application}), não esta classe.
+ */
+public class ProntuarioHttpServer implements AutoCloseable {
+    private static final int LIMITE_PADRAO = 10;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ProntuarioController controller;
+
+    public ProntuarioHttpServer(ProntuarioController controller, int porta) throws IOException {
+        this.controller = Objects.requireNonNull(controller);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(porta), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/prontuarios", this::tratarRegistro);
+        this.server.createContext("/consultas", this::tratarConsultasDoDia);
+        this.server.createContext("/pacientes/", this::tratarHistorico);
+    }
+
+    public void iniciar() {
+        server.start();
+    }
+
+    public int porta() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void tratarRegistro(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                responderErro(exchange, 405, "Método não permitido");
+                return;
+            }
+            RegistrarProntuarioCommand command;
+            try (Reader corpo = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8))) {
+                command = lerComando(new JsonReader(corpo), exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            } catch (IllegalArgumentException e) {
+                responderErro(exchange, 400, e.getMessage());
+                return;
+            }
+            try {
+                RegistroProntuario registro = controller.registrarProntuarioComAlertas(command);
+                JsonWriter json = iniciarResposta(exchange, 201);
+                json.beginObject().name("id").value(registro.getProntuarioId());
+                if (!registro.getAlertas().isEmpty()) {
+                    json.name("alertas").beginArray();
+                    for (AlertaPrescricao alerta : registro.getAlertas()) {
+                        escreverAlerta(json, alerta);
+                    }
+                    json.endArray();
+                }
+                json.endObject();
+                json.flush();
+            } catch (DomainException e) {
+                responderErro(exchange, 422, e.getMessage());
+            } catch (RuntimeException e) {
+                // Sem resposta o cliente veria só a conexão fechada
+                responderErro(exchange, 500, "Erro interno ao registrar prontuário");
+            }
+        }
+    }
+
+    private void tratarConsultasDoDia(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                responderErro(exchange, 405, "Método não permitido");
+                return;
+            }
+            LocalDate data;
+            try {
+                String parametro = parametro(exchange, "data");
+                data = parametro == null ? LocalDate.now() : LocalDate.parse(parametro);
+            } catch (DateTimeParseException e) {
+                responderErro(exchange, 400, "Data inválida");
+                return;
+            }
+            Integer medicoId;
+            try {
+                String medico = parametro(exchange, "medico");
+                medicoId = medico == null ? null : Integer.valueOf(medico);
+            } catch (NumberFormatException e) {
+                responderErro(exchange, 400, "Id de médico inválido");
+                return;
+            }
+            List<Consulta> consultas = medicoId == null
+                ? controller.listarConsultasDoDia(data)
+                : controller.listarConsultasDoDia(data, medicoId);
+            JsonWriter json = iniciarResposta(exchange, 200);
+            json.beginArray();
+            for (Consulta consulta : consultas) {
+                escreverConsulta(json, consulta);
+            }
+            json.endArray();
+            json.flush();
+        }
+    }
+
+    private void tratarHistorico(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // /pacientes/{id}/prontuarios
+            String[] partes = exchange.getRequestURI().getPath().split("/");
+            if (partes.length != 4 || !"prontuarios".equals(partes[3])) {
+                responderErro(exchange, 404, "Recurso não encontrado");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                responderErro(exchange, 405, "Método não permitido");
+                return;
+            }
+            int pacienteId;
+            try {
+                pacienteId = Integer.parseInt(partes[2]);
+            } catch (NumberFormatException e) {
+                responderErro(exchange, 400, "Id de paciente inválido");
+                return;
+            }
+            String limite = parametro(exchange, "limite");
+            String cursor = parametro(exchange, "cursor");
+            if (limite != null || cursor != null) {
+                responderPaginaHistorico(exchange, pacienteId, cursor, limite);
+                return;
+            }
+            List<Prontuario> historico = controller.consultarHistorico(pacienteId);
+            JsonWriter json = iniciarResposta(exchange, 200);
+            json.beginArray();
+            for (Prontuario prontuario : historico) {
+                escreverProntuario(json, prontuario);
+            }
+            json.endArray();
+            json.flush();
+        }
+    }
+
+    private void responderPaginaHistorico(HttpExchange exchange, int pacienteId,
+                                          String cursor, String limite) throws IOException {
+        PaginaHistorico pagina;
+        try {
+            pagina = controller.consultarHistorico(pacienteId,
+                cursor == null ? null : Integer.valueOf(cursor),
+                limite == null ? LIMITE_PADRAO : Integer.parseInt(limite));
+        } catch (NumberFormatException e) {
+            responderErro(exchange, 400, "Parâmetro de paginação inválido");
+            return;
+        } catch (DomainException e) {
+            responderErro(exchange, 400, e.getMessage());
+            return;
+        }
+        JsonWriter json = iniciarResposta(exchange, 200);
+        json.beginObject().name("itens").beginArray();
+        for (Prontuario prontuario : pagina.getItens()) {
+            escreverProntuario(json, prontuario);
+        }
+        json.endArray().name("proximoCursor");
+        if (pagina.temProxima()) {
+            json.value(pagina.getProximoCursor());
+        } else {
+            json.nullValue();
+        }
+        json.endObject();
+        json.flush();
+    }
+
+    private static RegistrarProntuarioCommand lerComando(JsonReader json, String chaveIdempotencia) throws IOException {
+        Integer consultaId = null;
+        double peso = 0;
+        double altura = 0;
+        String sintomas = null;
+        String observacao = null;
+        List<RegistrarProntuarioCommand.PrescricaoItemCommand> prescricoes = new ArrayList<>();
+        List<Integer> examesIds = new ArrayList<>();
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "consultaId" -> consultaId = json.nextInt();
+                case "peso" -> peso = json.nextDouble();
+                case "altura" -> altura = json.nextDouble();
+                case "sintomas" -> sintomas = json.nextString();
+                case "observacaoClinica" -> observacao = json.nextString();
+                case "prescricoes" -> {
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        prescricoes.add(lerPrescricao(json));
+                    }
+                    json.endArray();
+                }
+                case "examesIds" -> {
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        examesIds.add(json.nextInt());
+                    }
+                    json.endArray();
+                }
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+        if (consultaId == null) {
+            throw new IllegalArgumentException("consultaId é obrigatório");
+        }
+        return new RegistrarProntuarioCommand(consultaId, peso, altura, sintomas, observacao, prescricoes, examesIds,
+            chaveIdempotencia);
+    }
+
+    private static RegistrarProntuarioCommand.PrescricaoItemCommand lerPrescricao(JsonReader json) throws IOException {
+        Integer medicamentoId = null;
+        String dosagem = null;
+        String administracao = null;
+        String tempoUso = null;
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "medicamentoId" -> medicamentoId = json.nextInt();
+                // Frases repetidas entre prontuários: canonizadas antes de virarem Prescricao
+                case "dosagem" -> dosagem = Internamento.COMPARTILHADO.frasePrescricao(json.nextString());
+                case "administracao" -> administracao = Internamento.COMPARTILHADO.frasePrescricao(json.nextString());
+                case "tempoUso" -> tempoUso = Internamento.COMPARTILHADO.frasePrescricao(json.nextString());
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+        if (medicamentoId == null) {
+            throw new IllegalArgumentException("medicamentoId é obrigatório na prescrição");
+        }
+        return new RegistrarProntuarioCommand.PrescricaoItemCommand(medicamentoId,
+            obrigatorio(dosagem, "dosagem"), obrigatorio(administracao, "administracao"), obrigatorio(tempoUso, "tempoUso"));
+    }
+
+    private static String obrigatorio(String valor, String campo) {
+        if (valor == null) {
+            throw new IllegalArgumentException(campo + " é obrigatório na prescrição");
+        }
+        return valor;
+    }
+
+    private static void escreverAlerta(JsonWriter json, AlertaPrescricao alerta) throws IOException {
+        json.beginObject()
+            .name("tipo").value(alerta.getTipo().name())
+            .name("medicamentoId").value(alerta.getMedicamentoId())
+            .name("outroMedicamentoId").value(alerta.getOutroMedicamentoId());
+        if (alerta.getGravidade() != null) {
+            json.name("gravidade").value(alerta.getGravidade());
+        }
+        if (alerta.getPrescritoEm() != null) {
+            json.name("prescritoEm").value(alerta.getPrescritoEm().toString());
+        }
+        json.name("descricao").value(alerta.getDescricao()).endObject();
+    }
+
+    private static void escreverConsulta(JsonWriter json, Consulta consulta) throws IOException {
+        json.beginObject()
+            .name("id").value(consulta.getId())
+            .name("dataHora").value(consulta.getDataHora().toString())
+            .name("status").value(consulta.getStatus().name())
+            .name("pacienteNovo").value(consulta.isPacienteNovo())
+            .name("pacienteId").value(consulta.getPaciente().getId())
+            .name("paciente").value(consulta.getPaciente().getNomeCrianca())
+            .name("medicoId").value(consulta.getMedico().getId())
+            .name("medico").value(consulta.getMedico().getNome())
+            .endObject();
+    }
+
+    private static void escreverProntuario(JsonWriter json, Prontuario prontuario) throws IOException {
+        json.beginObject()
+            .name("id").value(prontuario.getId())
+            .name("consultaId").value(prontuario.getConsulta().getId())
+            .name("dataHora").value(prontuario.getConsulta().getDataHora().toString())
+            .name("peso").value(prontuario.getPeso())
+            .name("altura").value(prontuario.getAltura())
+            .name("sintomas").value(prontuario.getSintomas())
+            .name("observacaoClinica").value(prontuario.getObservacaoClinica());
+        json.name("prescricoes").beginArray();
+        for (Prescricao prescricao : prontuario.getPrescricoes()) {
+            json.beginObject()
+                .name("medicamentoId").value(prescricao.getMedicamento().getId())
+                .name("medicamento").value(prescricao.getMedicamento().getNome())
+                .name("dosagem").value(prescricao.getDosagem())
+                .name("administracao").value(prescricao.getAdministracao())
+                .name("tempoUso").value(prescricao.getTempoUso())
+                .endObject();
+        }
+        json.endArray();
+        json.name("exames").beginArray();
+        for (Exame exame : prontuario.getExames()) {
+            json.beginObject().name("id").value(exame.getId()).name("nome").value(exame.getNome()).endObject();
+        }
+        json.endArray();
+        json.endObject();
+    }
+
+    private static JsonWriter iniciarResposta(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        return new JsonWriter(new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)));
+    }
+
+    private static void responderErro(HttpExchange exchange, int status, String mensagem) throws IOException {
+        JsonWriter json = iniciarResposta(exchange, status);
+        json.beginObject().name("erro").value(mensagem).endObject();
+        json.flush();
+    }
+
+    private static String parametro(HttpExchange exchange, String nome) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String par : query.split("&")) {
+            int igual = par.indexOf('=');
+            if (igual > 0 && par.substring(0, igual).equals(nome)) {
+                return par.substring(igual + 1);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,299 @@
+package br.ifma.consultasmedicas.adapters.in.importacao;
+
+import br.ifma.consultasmedicas.adapters.out.repository.Internamento;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.ports.in.ImportarCadastrosUseCase;
+import br.ifma.consultasmedicas.ports.in.ImportarConsultaCommand;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Importa arquivos CSV (com cabeçalho) ou NDJSON do sistema anterior da clínica.
+ * <p>
+ * Uma thread lê o arquivo em streaming e agrupa as linhas em lotes; um pool converte e valida os
+ * lotes em paralelo e grava cada um com uma única chamada ao caso de uso. No máximo
+ * 2 × paralelismo lotes ficam em memória: com o pool ocupado, a leitura espera (backpressure),
+ * então o heap usado não depende do tamanho do arquivo.
+ * <p>
+ * Campos por tipo (os mesmos nomes no cabeçalho CSV e nas chaves NDJSON):
+ * <ul>
+ *   <li>PACIENTE: id, nomeCrianca, nomeResponsavel, dataNascimento, sexo, logradouro, numero, complemento,
+ *       bairro, cidade, uf, cep, telefones ("numero:TIPO[:responsavel]" separados por |), planoSaudeId, planoSaude</li>
+ *   <li>CONSULTA: id, pacienteId, medicoId, medicoNome, medicoCrm, dataHora, pacienteNovo, status</li>
+ *   <li>MEDICAMENTO e EXAME: id, nome</li>
+ * </ul>
+ * Pacientes devem ser importados antes das consultas que os referenciam. Os textos repetidos do cadastro
+ * (endereço, sexo, plano, telefones) passam pelo {@link Internamento} antes de o paciente ser construído.
+ */
+public class ImportadorEmLote {
+    public static final int MAXIMO_ERROS_DETALHADOS = 1000;
+    public static final int TAMANHO_LOTE_PADRAO = 1000;
+
+    public enum Tipo {
+        PACIENTE, CONSULTA, MEDICAMENTO, EXAME
+    }
+
+    public enum Formato {
+        CSV, NDJSON;
+
+        static Formato doArquivo(Path arquivo) {
+            String nome = arquivo.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (nome.endsWith(".csv")) {
+                return CSV;
+            }
+            if (nome.endsWith(".ndjson") || nome.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Formato não reconhecido (use .csv, .ndjson ou .jsonl): " + arquivo);
+        }
+    }
+
+    private final ImportarCadastrosUseCase useCase;
+    private final int paralelismo;
+    private final int tamanhoLote;
+    private final Internamento internamento;
+
+    public ImportadorEmLote(ImportarCadastrosUseCase useCase) {
+        this(useCase, Runtime.getRuntime().availableProcessors(), TAMANHO_LOTE_PADRAO);
+    }
+
+    public ImportadorEmLote(ImportarCadastrosUseCase useCase, int paralelismo, int tamanhoLote) {
+        this(useCase, paralelismo, tamanhoLote, Internamento.COMPARTILHADO);
+    }
+
+    public ImportadorEmLote(ImportarCadastrosUseCase useCase, int paralelismo, int tamanhoLote, Internamento internamento) {
+        if (paralelismo < 1 || tamanhoLote < 1) {
+            throw new IllegalArgumentException("paralelismo e tamanhoLote devem ser positivos");
+        }
+        this.useCase = Objects.requireNonNull(useCase);
+        this.paralelismo = paralelismo;
+        this.tamanhoLote = tamanhoLote;
+        this.internamento = Objects.requireNonNull(internamento);
+    }
+
+    public RelatorioImportacao importar(Path arquivo, Tipo tipo) throws IOException {
+        Formato formato = Formato.doArquivo(arquivo);
+        try (BufferedReader entrada = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return importar(entrada, formato, tipo);
+        }
+    }
+
+    public RelatorioImportacao importar(Reader entrada, Formato formato, Tipo tipo) throws IOException {
+        long inicio = System.nanoTime();
+        BufferedReader linhas = entrada instanceof BufferedReader b ? b : new BufferedReader(entrada);
+        Execucao execucao = new Execucao(formato, tipo);
+        long numeroLinha = 0;
+        long lidas = 0;
+
+        if (formato == Formato.CSV) {
+            String cabecalho = linhas.readLine();
+            if (cabecalho == null) {
+                return execucao.relatorio(0, Duration.ofNanos(System.nanoTime() - inicio));
+            }
+            execucao.cabecalho = Registro.cabecalho(cabecalho);
+            numeroLinha++;
+        }
+
+        Semaphore lotesEmVoo = new Semaphore(paralelismo * 2);
+        // close() do executor espera os lotes ainda em processamento
+        try (ExecutorService executor = Executors.newFixedThreadPool(paralelismo)) {
+            Lote lote = new Lote(tamanhoLote);
+            String linha;
+            while ((linha = linhas.readLine()) != null) {
+                numeroLinha++;
+                if (linha.isBlank()) {
+                    continue;
+                }
+                lidas++;
+                lote.adicionar(numeroLinha, linha);
+                if (lote.quantidade == tamanhoLote) {
+                    submeter(executor, lotesEmVoo, execucao, lote);
+                    lote = new Lote(tamanhoLote);
+                }
+            }
+            if (lote.quantidade > 0) {
+                submeter(executor, lotesEmVoo, execucao, lote);
+            }
+        }
+        return execucao.relatorio(lidas, Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    private void submeter(ExecutorService executor, Semaphore lotesEmVoo, Execucao execucao, Lote lote) {
+        lotesEmVoo.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                processar(execucao, lote);
+            } finally {
+                lotesEmVoo.release();
+            }
+        });
+    }
+
+    private void processar(Execucao execucao, Lote lote) {
+        switch (execucao.tipo) {
+            case PACIENTE -> gravar(execucao, lote, this::paciente, pacientes -> {
+                useCase.importarPacientes(pacientes);
+                return Map.of();
+            }, Paciente::getId);
+            case MEDICAMENTO -> gravar(execucao, lote, r -> new Medicamento(r.inteiro("id"), r.obrigatorio("nome")),
+                medicamentos -> {
+                    useCase.importarMedicamentos(medicamentos);
+                    return Map.of();
+                }, Medicamento::getId);
+            case EXAME -> gravar(execucao, lote, r -> new Exame(r.inteiro("id"), r.obrigatorio("nome")), exames -> {
+                useCase.importarExames(exames);
+                return Map.of();
+            }, Exame::getId);
+            case CONSULTA -> gravar(execucao, lote, ImportadorEmLote::consulta, useCase::importarConsultas,
+                ImportarConsultaCommand::getId);
+        }
+    }
+
+    private static <T> void gravar(Execucao execucao, Lote lote, Function<Registro, T> conversor,
+                                   Function<List<T>, Map<Integer, String>> gravacao, ToIntFunction<T> id) {
+        List<T> itens = new ArrayList<>(lote.quantidade);
+        long[] linhasDosItens = new long[lote.quantidade];
+        for (int i = 0; i < lote.quantidade; i++) {
+            try {
+                Registro registro = execucao.formato == Formato.CSV
+                    ? Registro.csv(lote.linhas[i], execucao.cabecalho)
+                    : Registro.json(lote.linhas[i]);
+                T item = conversor.apply(registro);
+                linhasDosItens[itens.size()] = lote.numeros[i];
+                itens.add(item);
+            } catch (RuntimeException e) {
+                execucao.erro(lote.numeros[i], e);
+            }
+        }
+        if (itens.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> rejeitados;
+        try {
+            rejeitados = gravacao.apply(itens);
+        } catch (RuntimeException e) {
+            for (int i = 0; i < itens.size(); i++) {
+                execucao.erro(linhasDosItens[i], "falha ao gravar o lote: " + mensagem(e));
+            }
+            return;
+        }
+        for (int i = 0; i < itens.size(); i++) {
+            String motivo = rejeitados.get(i);
+            if (motivo != null) {
+                execucao.erro(linhasDosItens[i], motivo);
+            } else {
+                execucao.importado(id.applyAsInt(itens.get(i)));
+            }
+        }
+    }
+
+    private Paciente paciente(Registro r) {
+        Endereco endereco = internamento.endereco(r.obrigatorio("logradouro"), r.obrigatorio("numero"), r.texto("complemento"),
+            r.obrigatorio("bairro"), r.obrigatorio("cidade"), r.obrigatorio("uf"), r.obrigatorio("cep"));
+        Integer planoId = r.inteiroOpcional("planoSaudeId");
+        PlanoSaude plano = planoId == null ? null : internamento.plano(planoId, r.obrigatorio("planoSaude"));
+        return new Paciente(r.inteiro("id"), r.obrigatorio("nomeCrianca"), r.obrigatorio("nomeResponsavel"),
+            r.data("dataNascimento"), internamento.cadastro(r.obrigatorio("sexo")), endereco,
+            telefones(r.texto("telefones")), plano);
+    }
+
+    private List<Telefone> telefones(String campo) {
+        if (campo == null) {
+            return List.of();
+        }
+        List<Telefone> telefones = new ArrayList<>();
+        for (String telefone : campo.split("\\|")) {
+            String[] partes = telefone.split(":", 3);
+            if (partes.length < 2) {
+                throw new IllegalArgumentException("telefone inválido: " + telefone);
+            }
+            telefones.add(internamento.telefone(new Telefone(partes[0].trim(),
+                TelefoneTipo.valueOf(partes[1].trim().toUpperCase(Locale.ROOT)),
+                partes.length == 3 && !partes[2].isBlank() ? partes[2].trim() : null)));
+        }
+        return telefones;
+    }
+
+    private static ImportarConsultaCommand consulta(Registro r) {
+        String status = r.texto("status");
+        return new ImportarConsultaCommand(r.inteiro("id"), r.inteiro("pacienteId"), r.inteiro("medicoId"),
+            r.obrigatorio("medicoNome"), r.obrigatorio("medicoCrm"), r.dataHora("dataHora"), r.logico("pacienteNovo"),
+            status == null ? null : ConsultaStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+    }
+
+    private static String mensagem(RuntimeException e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static final class Lote {
+        final long[] numeros;
+        final String[] linhas;
+        int quantidade;
+
+        Lote(int capacidade) {
+            numeros = new long[capacidade];
+            linhas = new String[capacidade];
+        }
+
+        void adicionar(long numero, String linha) {
+            numeros[quantidade] = numero;
+            linhas[quantidade++] = linha;
+        }
+    }
+
+    /**
+     * Estado compartilhado pelos lotes de uma importação.
+     */
+    private static final class Execucao {
+        final Formato formato;
+        final Tipo tipo;
+        String[] cabecalho;
+        final AtomicLong importados = new AtomicLong();
+        final AtomicLong totalErros = new AtomicLong();
+        final AtomicInteger maiorId = new AtomicInteger();
+        final Queue<RelatorioImportacao.Erro> erros = new ConcurrentLinkedQueue<>();
+
+        Execucao(Formato formato, Tipo tipo) {
+            this.formato = formato;
+            this.tipo = tipo;
+        }
+
+        void importado(int id) {
+            importados.incrementAndGet();
+            maiorId.accumulateAndGet(id, Math::max);
+        }
+
+        void erro(long linha, RuntimeException e) {
+            erro(linha, mensagem(e));
+        }
+
+        void erro(long linha, String motivo) {
+            if (totalErros.incrementAndGet() <= MAXIMO_ERROS_DETALHADOS) {
+                erros.add(new RelatorioImportacao.Erro(linha, motivo));
+            }
+        }
+
+        RelatorioImportacao relatorio(long linhasLidas, Duration duracao) {
+            List<RelatorioImportacao.Erro> ordenados = new ArrayList<>(erros);
+            ordenados.sort(Comparator.comparingLong(RelatorioImportacao.Erro::getLinha));
+            return new RelatorioImportacao(linhasLidas, importados.get(), totalErros.get(), ordenados,
+                maiorId.get(), duracao);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package br.ifma.consultasmedicas.adapters.in.importacao;
+
+import br.ifma.consultasmedicas.adapters.json.JsonReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uma linha do arquivo já separada em campos, independente do formato de origem.
+ * Campos vazios são tratados como ausentes.
+ */
+final class Registro {
+    private final Map<String, String> campos;
+
+    private Registro(Map<String, String> campos) {
+        this.campos = campos;
+    }
+
+    /**
+     * Linha CSV (separador vírgula, aspas duplas com "" como escape; sem quebras de linha dentro de campos).
+     */
+    static Registro csv(String linha, String[] cabecalho) {
+        List<String> valores = dividirCsv(linha);
+        if (valores.size() != cabecalho.length) {
+            throw new IllegalArgumentException("esperados " + cabecalho.length + " campos, encontrados " + valores.size());
+        }
+        Map<String, String> campos = new HashMap<>(cabecalho.length * 2);
+        for (int i = 0; i < cabecalho.length; i++) {
+            campos.put(cabecalho[i], valores.get(i));
+        }
+        return new Registro(campos);
+    }
+
+    /**
+     * Linha NDJSON: um objeto plano por linha; valores numéricos e booleanos viram texto.
+     */
+    static Registro json(String linha) {
+        JsonReader json = new JsonReader(new StringReader(linha));
+        Map<String, String> campos = new HashMap<>();
+        try {
+            json.beginObject();
+            while (json.hasNext()) {
+                String nome = json.nextName();
+                campos.put(nome, json.nextScalar());
+            }
+            json.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Registro(campos);
+    }
+
+    static String[] cabecalho(String linha) {
+        return dividirCsv(linha).stream().map(String::trim).toArray(String[]::new);
+    }
+
+    String texto(String nome) {
+        String valor = campos.get(nome);
+        return valor == null || valor.isEmpty() ? null : valor;
+    }
+
+    String obrigatorio(String nome) {
+        String valor = texto(nome);
+        if (valor == null) {
+            throw new IllegalArgumentException("campo obrigatório ausente: " + nome);
+        }
+        return valor;
+    }
+
+    int inteiro(String nome) {
+        String valor = obrigatorio(nome);
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("número inválido em " + nome + ": " + valor);
+        }
+    }
+
+    Integer inteiroOpcional(String nome) {
+        return texto(nome) == null ? null : inteiro(nome);
+    }
+
+    boolean logico(String nome) {
+        String valor = texto(nome);
+        return valor != null && (valor.equalsIgnoreCase("true") || valor.equals("1") || valor.equalsIgnoreCase("sim"));
+    }
+
+    LocalDate data(String nome) {
+        return LocalDate.parse(obrigatorio(nome).trim());
+    }
+
+    LocalDateTime dataHora(String nome) {
+        return LocalDateTime.parse(obrigatorio(nome).trim());
+    }
+
+    private static List<String> dividirCsv(String linha) {
+        List<String> valores = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"') {
+                    if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                        atual.append('"');
+                        i++;
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                valores.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("aspas não fechadas");
+        }
+        valores.add(atual.toString());
+        return valores;
+    }
+}
@@ -0,0 +1,67 @@
+package br.ifma.consultasmedicas.adapters.in.importacao;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resumo de uma importação. Só os primeiros {@link ImportadorEmLote#MAXIMO_ERROS_DETALHADOS}
+ * erros são guardados com linha e motivo; totalErros conta todos.
+ */
+public class RelatorioImportacao {
+    private final long linhasLidas;
+    private final long importados;
+    private final long totalErros;
+    private final List<Erro> erros;
+    private final int maiorId;
+    private final Duration duracao;
+
+    RelatorioImportacao(long linhasLidas, long importados, long totalErros, List<Erro> erros,
+                        int maiorId, Duration duracao) {
+        this.linhasLidas = linhasLidas;
+        this.importados = importados;
+        this.totalErros = totalErros;
+        this.erros = List.copyOf(erros);
+        this.maiorId = maiorId;
+        this.duracao = duracao;
+    }
+
+    public long getLinhasLidas() { return linhasLidas; }
+    public long getImportados() { return importados; }
+    public long getTotalErros() { return totalErros; }
+    public List<Erro> getErros() { return erros; }
+    public Duration getDuracao() { return duracao; }
+
+    /**
+     * Maior id importado (0 se nenhum), para avançar o gerador de ids da sequência correspondente.
+     */
+    public int getMaiorId() { return maiorId; }
+
+    public double registrosPorSegundo() {
+        long nanos = Math.max(1, duracao.toNanos());
+        return importados * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d linhas, %d importados, %d erros em %d ms (%.0f registros/s)",
+            linhasLidas, importados, totalErros, duracao.toMillis(), registrosPorSegundo());
+    }
+
+    public static class Erro {
+        private final long linha;
+        private final String motivo;
+
+        Erro(long linha, String motivo) {
+            this.linha = linha;
+            this.motivo = motivo;
+        }
+
+        public long getLinha() { return linha; }
+        public String getMotivo() { return motivo; }
+
+        @Override
+        public String toString() {
+            return "linha " + linha + ": " + motivo;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package br.ifma.consultasmedicas.adapters.json;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Leitor JSON do tipo pull: consome tokens sob demanda, sem montar árvore em memória.
+ * Suporta apenas o necessário para os comandos da API e as linhas NDJSON da importação.
+ */
+public class JsonReader {
+    private final Reader in;
+    private int atual = -2;
+
+    public JsonReader(Reader in) {
+        this.in = in;
+    }
+
+    public void beginObject() throws IOException {
+        esperar('{');
+    }
+
+    public void endObject() throws IOException {
+        esperar('}');
+    }
+
+    public void beginArray() throws IOException {
+        esperar('[');
+    }
+
+    public void endArray() throws IOException {
+        esperar(']');
+    }
+
+    /**
+     * true se ainda há elementos no objeto/array corrente; consome a vírgula separadora.
+     */
+    public boolean hasNext() throws IOException {
+        int c = espiar();
+        if (c == ',') {
+            consumir();
+            return true;
+        }
+        return c != '}' && c != ']';
+    }
+
+    public String nextName() throws IOException {
+        String nome = nextString();
+        esperar(':');
+        return nome;
+    }
+
+    public boolean nextNull() throws IOException {
+        if (espiar() == 'n') {
+            literal("null");
+            return true;
+        }
+        return false;
+    }
+
+    public String nextString() throws IOException {
+        if (nextNull()) {
+            return null;
+        }
+        esperar('"');
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int c = lerBruto();
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c == '\\') {
+                int e = lerBruto();
+                switch (e) {
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        char[] hex = new char[4];
+                        for (int i = 0; i < 4; i++) hex[i] = (char) lerBruto();
+                        sb.append((char) Integer.parseInt(new String(hex), 16));
+                    }
+                    default -> sb.append((char) e);
+                }
+            } else {
+                sb.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Texto, número ou booleano como String (null para null); objetos e arrays não são aceitos.
+     */
+    public String nextScalar() throws IOException {
+        int c = espiar();
+        if (c == '"' || c == 'n') {
+            return nextString();
+        }
+        if (c == 't') {
+            literal("true");
+            return "true";
+        }
+        if (c == 'f') {
+            literal("false");
+            return "false";
+        }
+        if (c == '{' || c == '[') {
+            throw erro("valor simples esperado");
+        }
+        return numero();
+    }
+
+    public double nextDouble() throws IOException {
+        return Double.parseDouble(numero());
+    }
+
+    public int nextInt() throws IOException {
+        return Integer.parseInt(numero());
+    }
+
+    public void skipValue() throws IOException {
+        int c = espiar();
+        if (c == '{' || c == '[') {
+            consumir();
+            int profundidade = 1;
+            while (profundidade > 0) {
+                int d = espiar();
+                if (d == -1) {
+                    throw erro("fim inesperado");
+                }
+                if (d == '"') {
+                    nextString();
+                    continue;
+                }
+                consumir();
+                if (d == '{' || d == '[') profundidade++;
+                if (d == '}' || d == ']') profundidade--;
+            }
+        } else if (c == '"') {
+            nextString();
+        } else if (c == 't') {
+            literal("true");
+        } else if (c == 'f') {
+            literal("false");
+        } else if (!nextNull()) {
+            numero();
+        }
+    }
+
+    private String numero() throws IOException {
+        espiar();
+        StringBuilder sb = new StringBuilder();
+        while (atual == '-' || atual == '+' || atual == '.' || atual == 'e' || atual == 'E'
+                || (atual >= '0' && atual <= '9')) {
+            sb.append((char) atual);
+            atual = in.read();
+        }
+        if (sb.isEmpty()) {
+            throw erro("número esperado");
+        }
+        return sb.toString();
+    }
+
+    private void literal(String esperado) throws IOException {
+        espiar();
+        for (int i = 0; i < esperado.length(); i++) {
+            if (lerBruto() != esperado.charAt(i)) {
+                throw erro("literal inválido, esperado " + esperado);
+            }
+        }
+    }
+
+    private void esperar(char c) throws IOException {
+        if (espiar() != c) {
+            throw erro("esperado '" + c + "'");
+        }
+        consumir();
+    }
+
+    private int espiar() throws IOException {
+        if (atual == -2) {
+            atual = in.read();
+        }
+        while (atual == ' ' || atual == '\n' || atual == '\r' || atual == '\t') {
+            atual = in.read();
+        }
+        return atual;
+    }
+
+    private void consumir() {
+        atual = -2;
+    }
+
+    private int lerBruto() throws IOException {
+        int c = atual != -2 ? atual : in.read();
+        atual = -2;
+        if (c == -1) {
+            throw erro("fim inesperado");
+        }
+        return c;
+    }
+
+    private IllegalArgumentException erro(String mensagem) {
+        return new IllegalArgumentException("JSON inválido: " + mensagem);
+    }
+}
@@ -0,0 +1,121 @@
+package br.ifma.consultasmedicas.adapters.json;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escritor JSON em streaming: cada valor vai direto para o Writer, sem montar árvore em memória.
+ */
+public class JsonWriter {
+    private final Writer out;
+    private boolean precisaVirgula;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        separar();
+        out.write('{');
+        precisaVirgula = false;
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        out.write('}');
+        precisaVirgula = true;
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        separar();
+        out.write('[');
+        precisaVirgula = false;
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        out.write(']');
+        precisaVirgula = true;
+        return this;
+    }
+
+    public JsonWriter name(String nome) throws IOException {
+        separar();
+        escreverTexto(nome);
+        out.write(':');
+        precisaVirgula = false;
+        return this;
+    }
+
+    public JsonWriter value(String valor) throws IOException {
+        separar();
+        if (valor == null) {
+            out.write("null");
+        } else {
+            escreverTexto(valor);
+        }
+        precisaVirgula = true;
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        separar();
+        out.write("null");
+        precisaVirgula = true;
+        return this;
+    }
+
+    public JsonWriter value(long valor) throws IOException {
+        separar();
+        out.write(Long.toString(valor));
+        precisaVirgula = true;
+        return this;
+    }
+
+    public JsonWriter value(double valor) throws IOException {
+        separar();
+        out.write(Double.isFinite(valor) ? Double.toString(valor) : "null");
+        precisaVirgula = true;
+        return this;
+    }
+
+    public JsonWriter value(boolean valor) throws IOException {
+        separar();
+        out.write(valor ? "true" : "false");
+        precisaVirgula = true;
+        return this;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void separar() throws IOException {
+        if (precisaVirgula) {
+            out.write(',');
+        }
+    }
+
+    private void escreverTexto(String texto) throws IOException {
+        out.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,79 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histograma de latências em nanossegundos, log-linear (16 sub-faixas por potência de 2, erro
+ * relativo máximo de ~6%). O registro é lock-free e não aloca (um incremento atômico por chamada);
+ * totais e percentis são calculados na leitura e são aproximados sob escritas concorrentes.
+ */
+public class Histograma {
+    private static final int BITS_SUB_FAIXA = 4;
+    private static final int SUB_FAIXAS = 1 << BITS_SUB_FAIXA;
+    private static final int FAIXAS = (64 - BITS_SUB_FAIXA) * SUB_FAIXAS;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(FAIXAS);
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    public void registrar(long nanos) {
+        long valor = Math.max(nanos, 0);
+        contagens.incrementAndGet(indice(valor));
+        // Só faz CAS quando o valor supera o máximo atual
+        maximo.accumulate(valor);
+    }
+
+    public long total() {
+        long n = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            n += contagens.get(i);
+        }
+        return n;
+    }
+
+    public long maximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Valor abaixo do qual estão ao menos {@code percentil}% dos registros (limite superior da faixa).
+     */
+    public long percentil(double percentil) {
+        long[] copia = new long[FAIXAS];
+        long n = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            copia[i] = contagens.get(i);
+            n += copia[i];
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(n * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    static int indice(long valor) {
+        if (valor < 2 * SUB_FAIXAS) {
+            return (int) valor;
+        }
+        int deslocamento = 63 - Long.numberOfLeadingZeros(valor) - BITS_SUB_FAIXA;
+        int mantissa = (int) (valor >>> deslocamento);
+        return (deslocamento + 1) * SUB_FAIXAS + (mantissa - SUB_FAIXAS);
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < 2 * SUB_FAIXAS) {
+            return indice;
+        }
+        int deslocamento = indice / SUB_FAIXAS - 1;
+        long mantissa = SUB_FAIXAS + indice % SUB_FAIXAS;
+        return ((mantissa + 1) << deslocamento) - 1;
+    }
+}
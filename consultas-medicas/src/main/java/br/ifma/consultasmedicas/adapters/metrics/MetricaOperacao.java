@@ -0,0 +1,60 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Chamadas, erros e latência de uma operação de porta.
+ */
+public class MetricaOperacao {
+    private final String nome;
+    private final Histograma latencia = new Histograma();
+    private final LongAdder erros = new LongAdder();
+
+    MetricaOperacao(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Executa a chamada medindo a latência; exceções contam como erro e são propagadas.
+     */
+    public <T> T medir(Supplier<T> chamada) {
+        long inicio = System.nanoTime();
+        boolean erro = true;
+        try {
+            T resultado = chamada.get();
+            erro = false;
+            return resultado;
+        } finally {
+            registrar(System.nanoTime() - inicio, erro);
+        }
+    }
+
+    public void medir(Runnable chamada) {
+        long inicio = System.nanoTime();
+        boolean erro = true;
+        try {
+            chamada.run();
+            erro = false;
+        } finally {
+            registrar(System.nanoTime() - inicio, erro);
+        }
+    }
+
+    public void registrar(long nanos, boolean erro) {
+        latencia.registrar(nanos);
+        if (erro) {
+            erros.increment();
+        }
+    }
+
+    public SnapshotMetrica snapshot() {
+        return new SnapshotMetrica(nome, latencia.total(), erros.sum(),
+            latencia.percentil(50), latencia.percentil(99), latencia.percentil(99.9),
+            latencia.maximo());
+    }
+}
@@ -0,0 +1,105 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Registro das métricas por operação ("Porta.metodo"), compartilhado pelos decoradores Timed*.
+ */
+public class RegistroMetricas {
+    private final ConcurrentHashMap<String, MetricaOperacao> operacoes = new ConcurrentHashMap<>();
+
+    public MetricaOperacao operacao(String nome) {
+        return operacoes.computeIfAbsent(nome, MetricaOperacao::new);
+    }
+
+    /**
+     * Leitura de todas as operações, em ordem de nome.
+     */
+    public List<SnapshotMetrica> snapshot() {
+        List<SnapshotMetrica> snapshot = new ArrayList<>(operacoes.size());
+        for (MetricaOperacao operacao : operacoes.values()) {
+            snapshot.add(operacao.snapshot());
+        }
+        snapshot.sort(Comparator.comparing(SnapshotMetrica::getNome));
+        return snapshot;
+    }
+
+    /**
+     * Tabela em texto com as operações já chamadas; latências em microssegundos.
+     */
+    public String formatar() {
+        StringBuilder texto = new StringBuilder(String.format("%-48s %10s %8s %10s %10s %10s %10s%n",
+            "operacao", "chamadas", "erros", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+        for (SnapshotMetrica metrica : snapshot()) {
+            if (metrica.getChamadas() > 0) {
+                texto.append(metrica).append(System.lineSeparator());
+            }
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Regrava {@code arquivo} a cada intervalo com a tabela de {@link #formatar()}; a troca é atômica,
+     * então leitores nunca veem o arquivo pela metade. Fechar o retorno encerra o despejo.
+     * Despejos que falham contam como erro na operação "RegistroMetricas.despejar".
+     */
+    public AutoCloseable despejarPeriodicamente(Path arquivo, Duration intervalo) {
+        MetricaOperacao despejos = operacao("RegistroMetricas.despejar");
+        return despejarPeriodicamente(arquivo, intervalo, erro -> despejos.registrar(0, true));
+    }
+
+    /**
+     * Como {@link #despejarPeriodicamente(Path, Duration)}, entregando cada falha a {@code falhas}
+     * (na thread do despejo); os despejos seguintes continuam.
+     */
+    public AutoCloseable despejarPeriodicamente(Path arquivo, Duration intervalo,
+                                                Consumer<? super UncheckedIOException> falhas) {
+        Objects.requireNonNull(arquivo);
+        Objects.requireNonNull(falhas);
+        ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "metricas-despejo");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodo = intervalo.toMillis();
+        agendador.scheduleAtFixedRate(() -> {
+            try {
+                despejar(arquivo);
+            } catch (UncheckedIOException e) {
+                // Relançar cancelaria os despejos seguintes
+                falhas.accept(e);
+            }
+        }, periodo, periodo, TimeUnit.MILLISECONDS);
+        return () -> {
+            agendador.shutdownNow();
+            despejar(arquivo);
+        };
+    }
+
+    public void despejar(Path arquivo) {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try {
+            Files.writeString(temporario, "# " + Instant.now() + System.lineSeparator() + formatar(),
+                StandardCharsets.UTF_8);
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+/**
+ * Leitura pontual de uma {@link MetricaOperacao}; latências em nanossegundos.
+ */
+public class SnapshotMetrica {
+    private final String nome;
+    private final long chamadas;
+    private final long erros;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long maximo;
+
+    public SnapshotMetrica(String nome, long chamadas, long erros, long p50, long p99, long p999,
+                           long maximo) {
+        this.nome = nome;
+        this.chamadas = chamadas;
+        this.erros = erros;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.maximo = maximo;
+    }
+
+    public String getNome() { return nome; }
+    public long getChamadas() { return chamadas; }
+    public long getErros() { return erros; }
+    public long getP50() { return p50; }
+    public long getP99() { return p99; }
+    public long getP999() { return p999; }
+    public long getMaximo() { return maximo; }
+
+    @Override
+    public String toString() {
+        return String.format("%-48s %10d %8d %10.1f %10.1f %10.1f %10.1f",
+            nome, chamadas, erros, p50 / 1000.0, p99 / 1000.0, p999 / 1000.0, maximo / 1000.0);
+    }
+}
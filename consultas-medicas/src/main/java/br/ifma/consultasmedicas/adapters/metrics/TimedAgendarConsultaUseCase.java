@@ -0,0 +1,37 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaCommand;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaUseCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+public class TimedAgendarConsultaUseCase implements AgendarConsultaUseCase {
+    private final AgendarConsultaUseCase delegate;
+    private final MetricaOperacao agendar;
+    private final MetricaOperacao cancelar;
+    private final MetricaOperacao horariosLivres;
+
+    public TimedAgendarConsultaUseCase(AgendarConsultaUseCase delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.agendar = metricas.operacao("AgendarConsultaUseCase.agendar");
+        this.cancelar = metricas.operacao("AgendarConsultaUseCase.cancelar");
+        this.horariosLivres = metricas.operacao("AgendarConsultaUseCase.horariosLivres");
+    }
+
+    @Override
+    public Integer agendar(AgendarConsultaCommand command) {
+        return agendar.medir(() -> delegate.agendar(command));
+    }
+
+    @Override
+    public void cancelar(Integer consultaId) {
+        cancelar.medir(() -> delegate.cancelar(consultaId));
+    }
+
+    @Override
+    public List<LocalDateTime> horariosLivres(Integer medicoId, LocalDateTime aPartirDe, LocalDateTime ate, int quantidade) {
+        return horariosLivres.medir(() -> delegate.horariosLivres(medicoId, aPartirDe, ate, quantidade));
+    }
+}
@@ -0,0 +1,89 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class TimedConsultaRepository implements ConsultaRepository {
+    private final ConsultaRepository delegate;
+    private final MetricaOperacao buscarPorId;
+    private final MetricaOperacao buscarPorData;
+    private final MetricaOperacao buscarPorPeriodo;
+    private final MetricaOperacao buscarPorMedicoEPeriodo;
+    private final MetricaOperacao buscarPorPacienteEPeriodo;
+    private final MetricaOperacao buscarPorPlanoEPeriodo;
+    private final MetricaOperacao contarPorStatus;
+    private final MetricaOperacao salvar;
+    private final MetricaOperacao salvarTodos;
+
+    public TimedConsultaRepository(ConsultaRepository delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.buscarPorId = metricas.operacao("ConsultaRepository.buscarPorId");
+        this.buscarPorData = metricas.operacao("ConsultaRepository.buscarPorData");
+        this.buscarPorPeriodo = metricas.operacao("ConsultaRepository.buscarPorPeriodo");
+        this.buscarPorMedicoEPeriodo = metricas.operacao("ConsultaRepository.buscarPorMedicoEPeriodo");
+        this.buscarPorPacienteEPeriodo = metricas.operacao("ConsultaRepository.buscarPorPacienteEPeriodo");
+        this.buscarPorPlanoEPeriodo = metricas.operacao("ConsultaRepository.buscarPorPlanoEPeriodo");
+        this.contarPorStatus = metricas.operacao("ConsultaRepository.contarPorStatus");
+        this.salvar = metricas.operacao("ConsultaRepository.salvar");
+        this.salvarTodos = metricas.operacao("ConsultaRepository.salvarTodos");
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(Integer id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(int id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public List<Consulta> buscarPorData(LocalDate data) {
+        return buscarPorData.medir(() -> delegate.buscarPorData(data));
+    }
+
+    @Override
+    public List<Consulta> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return buscarPorPeriodo.medir(() -> delegate.buscarPorPeriodo(inicio, fim));
+    }
+
+    @Override
+    public List<Consulta> buscarPorMedicoEPeriodo(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return buscarPorMedicoEPeriodo.medir(() -> delegate.buscarPorMedicoEPeriodo(medicoId, inicio, fim));
+    }
+
+    @Override
+    public List<Consulta> buscarPorPacienteEPeriodo(int pacienteId, LocalDateTime inicio, LocalDateTime fim) {
+        return buscarPorPacienteEPeriodo.medir(() -> delegate.buscarPorPacienteEPeriodo(pacienteId, inicio, fim));
+    }
+
+    @Override
+    public List<Consulta> buscarPorPlanoEPeriodo(int planoId, LocalDateTime inicio, LocalDateTime fim) {
+        return buscarPorPlanoEPeriodo.medir(() -> delegate.buscarPorPlanoEPeriodo(planoId, inicio, fim));
+    }
+
+    @Override
+    public Map<ConsultaStatus, Integer> contarPorStatus(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return contarPorStatus.medir(() -> delegate.contarPorStatus(medicoId, inicio, fim));
+    }
+
+    @Override
+    public void salvar(Consulta consulta) {
+        salvar.medir(() -> delegate.salvar(consulta));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Consulta> consultas) {
+        salvarTodos.medir(() -> delegate.salvarTodos(consultas));
+    }
+}
@@ -0,0 +1,31 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.in.ConsultarHistoricoProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
+
+import java.util.List;
+import java.util.Objects;
+
+public class TimedConsultarHistoricoProntuarioUseCase implements ConsultarHistoricoProntuarioUseCase {
+    private final ConsultarHistoricoProntuarioUseCase delegate;
+    private final MetricaOperacao consultarPorPaciente;
+    private final MetricaOperacao consultarPagina;
+
+    public TimedConsultarHistoricoProntuarioUseCase(ConsultarHistoricoProntuarioUseCase delegate,
+                                                    RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.consultarPorPaciente = metricas.operacao("ConsultarHistoricoProntuarioUseCase.consultarPorPaciente");
+        this.consultarPagina = metricas.operacao("ConsultarHistoricoProntuarioUseCase.consultarPagina");
+    }
+
+    @Override
+    public List<Prontuario> consultarPorPaciente(Integer pacienteId) {
+        return consultarPorPaciente.medir(() -> delegate.consultarPorPaciente(pacienteId));
+    }
+
+    @Override
+    public PaginaHistorico consultarPorPaciente(Integer pacienteId, Integer cursor, int limite) {
+        return consultarPagina.medir(() -> delegate.consultarPorPaciente(pacienteId, cursor, limite));
+    }
+}
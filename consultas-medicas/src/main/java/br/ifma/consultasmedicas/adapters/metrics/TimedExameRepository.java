@@ -0,0 +1,65 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
+import br.ifma.consultasmedicas.ports.out.ExameRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class TimedExameRepository implements ExameRepository {
+    private final ExameRepository delegate;
+    private final MetricaOperacao buscarPorId;
+    private final MetricaOperacao buscarPorIds;
+    private final MetricaOperacao listarTodos;
+    private final MetricaOperacao salvar;
+    private final MetricaOperacao salvarTodos;
+
+    public TimedExameRepository(ExameRepository delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.buscarPorId = metricas.operacao("ExameRepository.buscarPorId");
+        this.buscarPorIds = metricas.operacao("ExameRepository.buscarPorIds");
+        this.listarTodos = metricas.operacao("ExameRepository.listarTodos");
+        this.salvar = metricas.operacao("ExameRepository.salvar");
+        this.salvarTodos = metricas.operacao("ExameRepository.salvarTodos");
+    }
+
+    @Override
+    public Optional<Exame> buscarPorId(Integer id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Exame> buscarPorId(int id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Map<Integer, Exame> buscarPorIds(Collection<Integer> ids) {
+        return buscarPorIds.medir(() -> delegate.buscarPorIds(ids));
+    }
+
+    @Override
+    public IntObjectMap<Exame> buscarPorIds(IntSet ids) {
+        return buscarPorIds.medir(() -> delegate.buscarPorIds(ids));
+    }
+
+    @Override
+    public List<Exame> listarTodos() {
+        return listarTodos.medir(delegate::listarTodos);
+    }
+
+    @Override
+    public void salvar(Exame exame) {
+        salvar.medir(() -> delegate.salvar(exame));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Exame> exames) {
+        salvarTodos.medir(() -> delegate.salvarTodos(exames));
+    }
+}
@@ -0,0 +1,30 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.ports.in.ListarConsultasDoDiaUseCase;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+public class TimedListarConsultasDoDiaUseCase implements ListarConsultasDoDiaUseCase {
+    private final ListarConsultasDoDiaUseCase delegate;
+    private final MetricaOperacao listar;
+    private final MetricaOperacao listarPorMedico;
+
+    public TimedListarConsultasDoDiaUseCase(ListarConsultasDoDiaUseCase delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.listar = metricas.operacao("ListarConsultasDoDiaUseCase.listar");
+        this.listarPorMedico = metricas.operacao("ListarConsultasDoDiaUseCase.listarPorMedico");
+    }
+
+    @Override
+    public List<Consulta> listar(LocalDate data) {
+        return listar.medir(() -> delegate.listar(data));
+    }
+
+    @Override
+    public List<Consulta> listarPorMedico(LocalDate data, Integer medicoId) {
+        return listarPorMedico.medir(() -> delegate.listarPorMedico(data, medicoId));
+    }
+}
@@ -0,0 +1,65 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Medicamento;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
+import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public class TimedMedicamentoRepository implements MedicamentoRepository {
+    private final MedicamentoRepository delegate;
+    private final MetricaOperacao buscarPorId;
+    private final MetricaOperacao buscarPorIds;
+    private final MetricaOperacao listarTodos;
+    private final MetricaOperacao salvar;
+    private final MetricaOperacao salvarTodos;
+
+    public TimedMedicamentoRepository(MedicamentoRepository delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.buscarPorId = metricas.operacao("MedicamentoRepository.buscarPorId");
+        this.buscarPorIds = metricas.operacao("MedicamentoRepository.buscarPorIds");
+        this.listarTodos = metricas.operacao("MedicamentoRepository.listarTodos");
+        this.salvar = metricas.operacao("MedicamentoRepository.salvar");
+        this.salvarTodos = metricas.operacao("MedicamentoRepository.salvarTodos");
+    }
+
+    @Override
+    public Optional<Medicamento> buscarPorId(Integer id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Medicamento> buscarPorId(int id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Map<Integer, Medicamento> buscarPorIds(Collection<Integer> ids) {
+        return buscarPorIds.medir(() -> delegate.buscarPorIds(ids));
+    }
+
+    @Override
+    public IntObjectMap<Medicamento> buscarPorIds(IntSet ids) {
+        return buscarPorIds.medir(() -> delegate.buscarPorIds(ids));
+    }
+
+    @Override
+    public List<Medicamento> listarTodos() {
+        return listarTodos.medir(delegate::listarTodos);
+    }
+
+    @Override
+    public void salvar(Medicamento medicamento) {
+        salvar.medir(() -> delegate.salvar(medicamento));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Medicamento> medicamentos) {
+        salvarTodos.medir(() -> delegate.salvarTodos(medicamentos));
+    }
+}
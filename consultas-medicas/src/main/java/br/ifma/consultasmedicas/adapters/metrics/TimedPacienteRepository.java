@@ -0,0 +1,42 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.ports.out.PacienteRepository;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+public class TimedPacienteRepository implements PacienteRepository {
+    private final PacienteRepository delegate;
+    private final MetricaOperacao buscarPorId;
+    private final MetricaOperacao salvar;
+    private final MetricaOperacao salvarTodos;
+
+    public TimedPacienteRepository(PacienteRepository delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.buscarPorId = metricas.operacao("PacienteRepository.buscarPorId");
+        this.salvar = metricas.operacao("PacienteRepository.salvar");
+        this.salvarTodos = metricas.operacao("PacienteRepository.salvarTodos");
+    }
+
+    @Override
+    public Optional<Paciente> buscarPorId(Integer id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Paciente> buscarPorId(int id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public void salvar(Paciente paciente) {
+        salvar.medir(() -> delegate.salvar(paciente));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Paciente> pacientes) {
+        salvarTodos.medir(() -> delegate.salvarTodos(pacientes));
+    }
+}
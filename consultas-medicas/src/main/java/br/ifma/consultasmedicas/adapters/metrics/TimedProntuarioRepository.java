@@ -0,0 +1,99 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Em streamPorPaciente e streamTodos só a abertura do stream é medida; a leitura acontece no consumidor.
+ */
+public class TimedProntuarioRepository implements ProntuarioRepository {
+    private final ProntuarioRepository delegate;
+    private final MetricaOperacao salvar;
+    private final MetricaOperacao salvarTodos;
+    private final MetricaOperacao salvarSeAusente;
+    private final MetricaOperacao buscarPorId;
+    private final MetricaOperacao buscarPorPaciente;
+    private final MetricaOperacao buscarPaginaPorPaciente;
+    private final MetricaOperacao streamPorPaciente;
+    private final MetricaOperacao streamTodos;
+    private final MetricaOperacao existeParaConsulta;
+
+    public TimedProntuarioRepository(ProntuarioRepository delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.salvar = metricas.operacao("ProntuarioRepository.salvar");
+        this.salvarTodos = metricas.operacao("ProntuarioRepository.salvarTodos");
+        this.salvarSeAusente = metricas.operacao("ProntuarioRepository.salvarSeAusente");
+        this.buscarPorId = metricas.operacao("ProntuarioRepository.buscarPorId");
+        this.buscarPorPaciente = metricas.operacao("ProntuarioRepository.buscarPorPaciente");
+        this.buscarPaginaPorPaciente = metricas.operacao("ProntuarioRepository.buscarPaginaPorPaciente");
+        this.streamPorPaciente = metricas.operacao("ProntuarioRepository.streamPorPaciente");
+        this.streamTodos = metricas.operacao("ProntuarioRepository.streamTodos");
+        this.existeParaConsulta = metricas.operacao("ProntuarioRepository.existeParaConsulta");
+    }
+
+    @Override
+    public void salvar(Prontuario prontuario) {
+        salvar.medir(() -> delegate.salvar(prontuario));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Prontuario> prontuarios) {
+        salvarTodos.medir(() -> delegate.salvarTodos(prontuarios));
+    }
+
+    @Override
+    public boolean salvarSeAusente(Prontuario prontuario) {
+        return salvarSeAusente.medir(() -> delegate.salvarSeAusente(prontuario));
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(Integer id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(int id) {
+        return buscarPorId.medir(() -> delegate.buscarPorId(id));
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(Integer pacienteId) {
+        return buscarPorPaciente.medir(() -> delegate.buscarPorPaciente(pacienteId));
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId) {
+        return buscarPorPaciente.medir(() -> delegate.buscarPorPaciente(pacienteId));
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId, Integer aposProntuarioId, int limite) {
+        return buscarPaginaPorPaciente.medir(() -> delegate.buscarPorPaciente(pacienteId, aposProntuarioId, limite));
+    }
+
+    @Override
+    public Stream<Prontuario> streamPorPaciente(int pacienteId) {
+        return streamPorPaciente.medir(() -> delegate.streamPorPaciente(pacienteId));
+    }
+
+    @Override
+    public Stream<Prontuario> streamTodos() {
+        return streamTodos.medir(delegate::streamTodos);
+    }
+
+    @Override
+    public boolean existeParaConsulta(Integer consultaId) {
+        return existeParaConsulta.medir(() -> delegate.existeParaConsulta(consultaId));
+    }
+
+    @Override
+    public boolean existeParaConsulta(int consultaId) {
+        return existeParaConsulta.medir(() -> delegate.existeParaConsulta(consultaId));
+    }
+}
@@ -0,0 +1,38 @@
+package br.ifma.consultasmedicas.adapters.metrics;
+
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.RegistroProntuario;
+import br.ifma.consultasmedicas.ports.in.ResultadoRegistroProntuario;
+
+import java.util.List;
+import java.util.Objects;
+
+public class TimedRegistrarProntuarioUseCase implements RegistrarProntuarioUseCase {
+    private final RegistrarProntuarioUseCase delegate;
+    private final MetricaOperacao registrar;
+    private final MetricaOperacao registrarComAlertas;
+    private final MetricaOperacao registrarEmLote;
+
+    public TimedRegistrarProntuarioUseCase(RegistrarProntuarioUseCase delegate, RegistroMetricas metricas) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registrar = metricas.operacao("RegistrarProntuarioUseCase.registrar");
+        this.registrarComAlertas = metricas.operacao("RegistrarProntuarioUseCase.registrarComAlertas");
+        this.registrarEmLote = metricas.operacao("RegistrarProntuarioUseCase.registrarEmLote");
+    }
+
+    @Override
+    public Integer registrar(RegistrarProntuarioCommand command) {
+        return registrar.medir(() -> delegate.registrar(command));
+    }
+
+    @Override
+    public RegistroProntuario registrarComAlertas(RegistrarProntuarioCommand command) {
+        return registrarComAlertas.medir(() -> delegate.registrarComAlertas(command));
+    }
+
+    @Override
+    public List<ResultadoRegistroProntuario> registrarEmLote(List<RegistrarProntuarioCommand> commands) {
+        return registrarEmLote.medir(() -> delegate.registrarEmLote(commands));
+    }
+}
@@ -0,0 +1,63 @@
+package br.ifma.consultasmedicas.adapters.out.events;
+
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.ports.out.PublicadorEventos;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Barramento em processo: entrega cada evento aos assinantes na própria thread que publicou,
+ * então quem grava já enxerga as projeções atualizadas ao retornar. Um assinante que falha não
+ * impede a entrega aos demais; depois da rodada, a falha (com as outras como suprimidas) vai para o
+ * {@link TratadorFalhas}, que por padrão a propaga para quem publicou.
+ */
+public class BarramentoEventos implements PublicadorEventos {
+    /**
+     * Relança a falha para quem publicou.
+     */
+    public static final TratadorFalhas PROPAGAR = (evento, erro) -> {
+        throw erro;
+    };
+
+    private final List<Consumer<? super EventoDominio>> assinantes = new CopyOnWriteArrayList<>();
+    private final TratadorFalhas tratadorFalhas;
+
+    public BarramentoEventos() {
+        this(PROPAGAR);
+    }
+
+    public BarramentoEventos(TratadorFalhas tratadorFalhas) {
+        this.tratadorFalhas = Objects.requireNonNull(tratadorFalhas);
+    }
+
+    public void assinar(Consumer<? super EventoDominio> assinante) {
+        assinantes.add(assinante);
+    }
+
+    @Override
+    public void publicar(EventoDominio evento) {
+        RuntimeException falha = null;
+        for (Consumer<? super EventoDominio> assinante : assinantes) {
+            try {
+                assinante.accept(evento);
+            } catch (RuntimeException e) {
+                if (falha == null) {
+                    falha = e;
+                } else {
+                    falha.addSuppressed(e);
+                }
+            }
+        }
+        if (falha != null) {
+            tratadorFalhas.falhou(evento, falha);
+        }
+    }
+
+    @FunctionalInterface
+    public interface TratadorFalhas {
+        void falhou(EventoDominio evento, RuntimeException erro);
+    }
+}
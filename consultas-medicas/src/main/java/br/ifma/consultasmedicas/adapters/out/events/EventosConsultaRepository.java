@@ -0,0 +1,94 @@
+package br.ifma.consultasmedicas.adapters.out.events;
+
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaCancelada;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+import br.ifma.consultasmedicas.ports.out.PublicadorEventos;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Publica um evento após cada gravação: ConsultaAgendada para consultas AGENDADA e
+ * ConsultaCancelada para CANCELADA. A passagem para REALIZADA é anunciada pelo
+ * ProntuarioRegistrado de quem registra o prontuário.
+ */
+public class EventosConsultaRepository implements ConsultaRepository {
+    private final ConsultaRepository delegate;
+    private final PublicadorEventos publicador;
+
+    public EventosConsultaRepository(ConsultaRepository delegate, PublicadorEventos publicador) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.publicador = Objects.requireNonNull(publicador);
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(Integer id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(int id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public List<Consulta> buscarPorData(LocalDate data) {
+        return delegate.buscarPorData(data);
+    }
+
+    @Override
+    public List<Consulta> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.buscarPorPeriodo(inicio, fim);
+    }
+
+    @Override
+    public List<Consulta> buscarPorMedicoEPeriodo(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.buscarPorMedicoEPeriodo(medicoId, inicio, fim);
+    }
+
+    @Override
+    public List<Consulta> buscarPorPacienteEPeriodo(int pacienteId, LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.buscarPorPacienteEPeriodo(pacienteId, inicio, fim);
+    }
+
+    @Override
+    public List<Consulta> buscarPorPlanoEPeriodo(int planoId, LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.buscarPorPlanoEPeriodo(planoId, inicio, fim);
+    }
+
+    @Override
+    public Map<ConsultaStatus, Integer> contarPorStatus(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.contarPorStatus(medicoId, inicio, fim);
+    }
+
+    @Override
+    public void salvar(Consulta consulta) {
+        delegate.salvar(consulta);
+        publicar(consulta);
+    }
+
+    @Override
+    public void salvarTodos(Collection<Consulta> consultas) {
+        delegate.salvarTodos(consultas);
+        for (Consulta consulta : consultas) {
+            publicar(consulta);
+        }
+    }
+
+    private void publicar(Consulta consulta) {
+        ConsultaStatus status = consulta.getStatus();
+        if (status == ConsultaStatus.AGENDADA) {
+            publicador.publicar(new ConsultaAgendada(consulta));
+        } else if (status == ConsultaStatus.CANCELADA) {
+            publicador.publicar(new ConsultaCancelada(consulta));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.ifma.consultasmedicas.adapters.out.exportacao;
+
+import br.ifma.consultasmedicas.ports.out.DestinoExportacao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Base dos destinos em arquivo: os registros são codificados direto num ByteBuffer direto, que
+ * vai para o FileChannel quando enche. Buffer direto evita a cópia intermediária que o canal faz
+ * com buffers do heap; em memória fica no máximo um lote (o buffer).
+ */
+public abstract class ArquivoExportacao implements DestinoExportacao, AutoCloseable {
+    public static final int TAMANHO_BUFFER_PADRAO = 1 << 20;
+
+    private final FileChannel canal;
+    protected ByteBuffer buffer;
+
+    protected ArquivoExportacao(Path arquivo, int tamanhoBuffer) {
+        try {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.buffer = ByteBuffer.allocateDirect(tamanhoBuffer);
+    }
+
+    /**
+     * Grava no canal os bytes já codificados no buffer e o esvazia.
+     */
+    protected void descarregarBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void descarregar() {
+        try {
+            descarregarBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (canal) {
+            descarregar();
+            canal.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
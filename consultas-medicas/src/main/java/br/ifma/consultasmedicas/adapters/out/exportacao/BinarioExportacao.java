@@ -0,0 +1,122 @@
+package br.ifma.consultasmedicas.adapters.out.exportacao;
+
+import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.domain.model.Prescricao;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+
+/**
+ * Formato binário compacto, big-endian. Cabeçalho: "PRTX" + versão (short). Cada registro:
+ * <pre>
+ * int tamanho (bytes seguintes)
+ * int id, int consultaId, int pacienteId, int medicoId
+ * long epochSecond (dataHora como UTC), int nano, double peso, double altura
+ * texto sintomas, texto observacaoClinica
+ * short prescrições × (int id, int medicamentoId, texto dosagem, texto administracao, texto tempoUso)
+ * short exames × int id
+ * </pre>
+ * texto = int bytes (-1 para null) + UTF-8.
+ */
+public class BinarioExportacao extends ArquivoExportacao {
+    public static final byte[] ASSINATURA = {'P', 'R', 'T', 'X'};
+    public static final short VERSAO = 1;
+
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    public BinarioExportacao(Path arquivo) {
+        this(arquivo, TAMANHO_BUFFER_PADRAO);
+    }
+
+    public BinarioExportacao(Path arquivo, int tamanhoBuffer) {
+        super(arquivo, tamanhoBuffer);
+        buffer.put(ASSINATURA).putShort(VERSAO);
+    }
+
+    @Override
+    public void escrever(Prontuario prontuario) {
+        try {
+            while (true) {
+                int inicio = buffer.position();
+                try {
+                    codificar(prontuario);
+                    return;
+                } catch (BufferOverflowException e) {
+                    // Registro não coube: descarta a parte escrita, esvazia o buffer e tenta de novo
+                    buffer.position(inicio);
+                    if (inicio > 0) {
+                        descarregarBuffer();
+                    } else {
+                        buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void codificar(Prontuario prontuario) {
+        int inicio = buffer.position();
+        buffer.putInt(0);
+        buffer.putInt(prontuario.getId())
+            .putInt(prontuario.getConsulta().getId())
+            .putInt(prontuario.getConsulta().getPaciente().getId())
+            .putInt(prontuario.getConsulta().getMedico().getId())
+            .putLong(prontuario.getConsulta().getDataHora().toEpochSecond(ZoneOffset.UTC))
+            .putInt(prontuario.getConsulta().getDataHora().getNano())
+            .putDouble(prontuario.getPeso())
+            .putDouble(prontuario.getAltura());
+        texto(prontuario.getSintomas());
+        texto(prontuario.getObservacaoClinica());
+        buffer.putShort((short) prontuario.getPrescricoes().size());
+        for (Prescricao prescricao : prontuario.getPrescricoes()) {
+            buffer.putInt(prescricao.getId()).putInt(prescricao.getMedicamento().getId());
+            texto(prescricao.getDosagem());
+            texto(prescricao.getAdministracao());
+            texto(prescricao.getTempoUso());
+        }
+        buffer.putShort((short) prontuario.getExames().size());
+        for (Exame exame : prontuario.getExames()) {
+            buffer.putInt(exame.getId());
+        }
+        buffer.putInt(inicio, buffer.position() - inicio - Integer.BYTES);
+    }
+
+    private void texto(String valor) {
+        if (valor == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        int inicio = buffer.position();
+        buffer.putInt(0);
+        // Caminho rápido para ASCII (a maior parte do texto clínico) sem alocar CharBuffer
+        boolean ascii = true;
+        for (int i = 0; i < valor.length() && ascii; i++) {
+            char c = valor.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else {
+                ascii = false;
+            }
+        }
+        if (!ascii) {
+            buffer.position(inicio + Integer.BYTES);
+            encoder.reset();
+            CoderResult resultado = encoder.encode(CharBuffer.wrap(valor), buffer, true);
+            if (resultado.isOverflow()) {
+                throw new BufferOverflowException();
+            }
+        }
+        buffer.putInt(inicio, buffer.position() - inicio - Integer.BYTES);
+    }
+}
@@ -0,0 +1,139 @@
+package br.ifma.consultasmedicas.adapters.out.exportacao;
+
+import br.ifma.consultasmedicas.adapters.json.JsonWriter;
+import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.domain.model.Prescricao;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Um objeto JSON por linha:
+ * {"id","consultaId","pacienteId","medicoId","dataHora","peso","altura","sintomas","observacaoClinica",
+ * "prescricoes":[{"id","medicamentoId","dosagem","administracao","tempoUso"}],"examesIds":[...]}.
+ * O texto é codificado em UTF-8 direto no buffer do canal, sem String/byte[] por linha.
+ */
+public class NdjsonExportacao extends ArquivoExportacao {
+    private final EscritorBuffer escritor = new EscritorBuffer();
+
+    public NdjsonExportacao(Path arquivo) {
+        this(arquivo, TAMANHO_BUFFER_PADRAO);
+    }
+
+    public NdjsonExportacao(Path arquivo, int tamanhoBuffer) {
+        super(arquivo, tamanhoBuffer);
+    }
+
+    @Override
+    public void escrever(Prontuario prontuario) {
+        try {
+            JsonWriter json = new JsonWriter(escritor);
+            json.beginObject()
+                .name("id").value(prontuario.getId())
+                .name("consultaId").value(prontuario.getConsulta().getId())
+                .name("pacienteId").value(prontuario.getConsulta().getPaciente().getId())
+                .name("medicoId").value(prontuario.getConsulta().getMedico().getId())
+                .name("dataHora").value(prontuario.getConsulta().getDataHora().toString())
+                .name("peso").value(prontuario.getPeso())
+                .name("altura").value(prontuario.getAltura())
+                .name("sintomas").value(prontuario.getSintomas())
+                .name("observacaoClinica").value(prontuario.getObservacaoClinica());
+            json.name("prescricoes").beginArray();
+            for (Prescricao prescricao : prontuario.getPrescricoes()) {
+                json.beginObject()
+                    .name("id").value(prescricao.getId())
+                    .name("medicamentoId").value(prescricao.getMedicamento().getId())
+                    .name("dosagem").value(prescricao.getDosagem())
+                    .name("administracao").value(prescricao.getAdministracao())
+                    .name("tempoUso").value(prescricao.getTempoUso())
+                    .endObject();
+            }
+            json.endArray().name("examesIds").beginArray();
+            for (Exame exame : prontuario.getExames()) {
+                json.value(exame.getId());
+            }
+            json.endArray().endObject();
+            escritor.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void descarregar() {
+        try {
+            escritor.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        super.descarregar();
+    }
+
+    /**
+     * Acumula caracteres e os codifica no buffer direto em blocos; quando o buffer enche, vai para o canal.
+     */
+    private final class EscritorBuffer extends Writer {
+        private final CharBuffer pendentes = CharBuffer.allocate(8192);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+        @Override
+        public void write(int c) throws IOException {
+            if (!pendentes.hasRemaining()) {
+                codificar();
+            }
+            pendentes.put((char) c);
+        }
+
+        @Override
+        public void write(String texto, int inicio, int tamanho) throws IOException {
+            int fim = inicio + tamanho;
+            while (inicio < fim) {
+                if (!pendentes.hasRemaining()) {
+                    codificar();
+                }
+                int parte = Math.min(fim - inicio, pendentes.remaining());
+                pendentes.put(texto, inicio, inicio + parte);
+                inicio += parte;
+            }
+        }
+
+        @Override
+        public void write(char[] caracteres, int inicio, int tamanho) throws IOException {
+            int fim = inicio + tamanho;
+            while (inicio < fim) {
+                if (!pendentes.hasRemaining()) {
+                    codificar();
+                }
+                int parte = Math.min(fim - inicio, pendentes.remaining());
+                pendentes.put(caracteres, inicio, parte);
+                inicio += parte;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            codificar();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        private void codificar() throws IOException {
+            pendentes.flip();
+            // Um surrogate alto no fim do bloco fica pendente até o próximo
+            while (encoder.encode(pendentes, buffer, false) == CoderResult.OVERFLOW) {
+                descarregarBuffer();
+            }
+            pendentes.compact();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package br.ifma.consultasmedicas.adapters.out.ids;
+
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * IdGenerator por blocos (hi-lo). Cada sequência tem várias faixas; a thread escolhe a faixa pelo
+ * seu id e consome ids do bloco reservado com um CAS, sem disputar um contador global. Quando o
+ * bloco acaba, a faixa reserva o próximo a partir da marca d'água da sequência.
+ * <p>
+ * Com arquivo, a nova marca é gravada (fsync + troca atômica) antes de o bloco ser usado; após
+ * um reinício os ids continuam acima de tudo que já foi entregue. Ids dos blocos não consumidos
+ * se perdem, então as sequências têm lacunas mas nunca repetições.
+ */
+public class HiLoIdGenerator implements IdGenerator {
+    public static final int TAMANHO_BLOCO_PADRAO = 1000;
+
+    private static final IdGenerator.Sequencia[] SEQUENCIAS = IdGenerator.Sequencia.values();
+
+    private final Path arquivo;
+    private final int tamanhoBloco;
+    private final Faixa[][] faixas;
+    private final int mascaraFaixas;
+
+    // Próximo id ainda não reservado de cada sequência; protegido pelo monitor da instância
+    private final long[] marcas = new long[SEQUENCIAS.length];
+
+    /**
+     * Gerador só em memória (ids recomeçam em 1 a cada execução).
+     */
+    public HiLoIdGenerator() {
+        this(null, TAMANHO_BLOCO_PADRAO);
+    }
+
+    public HiLoIdGenerator(Path arquivo) {
+        this(arquivo, TAMANHO_BLOCO_PADRAO);
+    }
+
+    public HiLoIdGenerator(Path arquivo, int tamanhoBloco) {
+        if (tamanhoBloco < 1) {
+            throw new IllegalArgumentException("tamanhoBloco deve ser positivo");
+        }
+        this.arquivo = arquivo;
+        this.tamanhoBloco = tamanhoBloco;
+        // Potência de 2 próxima de 2x o número de CPUs, limitada para não desperdiçar ids a cada reinício
+        int quantidadeFaixas = Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1));
+        this.mascaraFaixas = quantidadeFaixas - 1;
+        this.faixas = new Faixa[SEQUENCIAS.length][quantidadeFaixas];
+        for (IdGenerator.Sequencia sequencia : SEQUENCIAS) {
+            for (int i = 0; i < quantidadeFaixas; i++) {
+                faixas[sequencia.ordinal()][i] = new Faixa(sequencia);
+            }
+        }
+        Arrays.fill(marcas, 1);
+        if (arquivo != null && Files.exists(arquivo)) {
+            ler();
+        }
+    }
+
+    @Override
+    public int proximoId(IdGenerator.Sequencia sequencia) {
+        Faixa faixa = faixas[sequencia.ordinal()][(int) espalhar(Thread.currentThread().threadId()) & mascaraFaixas];
+        return faixa.proximo();
+    }
+
+    /**
+     * Garante que a sequência só entregará ids maiores que {@code maiorIdUsado} (ex.: dados
+     * recuperados de antes de existir o arquivo de marcas). Deve ser chamado antes do primeiro uso.
+     */
+    public synchronized void avancarPara(IdGenerator.Sequencia sequencia, int maiorIdUsado) {
+        if (marcas[sequencia.ordinal()] <= maiorIdUsado) {
+            marcas[sequencia.ordinal()] = (long) maiorIdUsado + 1;
+            gravar();
+        }
+    }
+
+    private synchronized int reservar(IdGenerator.Sequencia sequencia) {
+        long inicio = marcas[sequencia.ordinal()];
+        if (inicio + tamanhoBloco - 1 > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Ids esgotados para a sequência " + sequencia);
+        }
+        marcas[sequencia.ordinal()] = inicio + tamanhoBloco;
+        gravar();
+        return (int) inicio;
+    }
+
+    private static long espalhar(long valor) {
+        long h = valor * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    private void ler() {
+        try {
+            ByteBuffer conteudo = ByteBuffer.wrap(Files.readAllBytes(arquivo));
+            int quantidade = conteudo.getInt();
+            long[] lidas = new long[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                lidas[i] = conteudo.getLong();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(conteudo.array(), 0, 4 + quantidade * 8);
+            if ((int) crc.getValue() != conteudo.getInt()) {
+                throw new IllegalStateException("Arquivo de ids corrompido: " + arquivo);
+            }
+            for (int i = 0; i < Math.min(quantidade, marcas.length); i++) {
+                marcas[i] = Math.max(marcas[i], lidas[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void gravar() {
+        if (arquivo == null) {
+            return;
+        }
+        ByteBuffer conteudo = ByteBuffer.allocate(4 + marcas.length * 8 + 4);
+        conteudo.putInt(marcas.length);
+        for (long marca : marcas) {
+            conteudo.putLong(marca);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(conteudo.array(), 0, conteudo.position());
+        conteudo.putInt((int) crc.getValue()).flip();
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (conteudo.hasRemaining()) {
+                    canal.write(conteudo);
+                }
+                canal.force(true);
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Bloco corrente de uma faixa: próximo id (32 bits altos) e limite exclusivo (32 bits baixos).
+     */
+    private final class Faixa {
+        private final IdGenerator.Sequencia sequencia;
+        private final AtomicLong bloco = new AtomicLong();
+
+        Faixa(IdGenerator.Sequencia sequencia) {
+            this.sequencia = sequencia;
+        }
+
+        int proximo() {
+            while (true) {
+                long atual = bloco.get();
+                int proximo = (int) (atual >>> 32);
+                int limite = (int) atual;
+                if (Integer.compareUnsigned(proximo, limite) < 0) {
+                    if (bloco.compareAndSet(atual, atual + (1L << 32))) {
+                        return proximo;
+                    }
+                } else {
+                    synchronized (this) {
+                        if (bloco.get() == atual) {
+                            long inicio = reservar(sequencia);
+                            bloco.set((inicio << 32) | (inicio + tamanhoBloco));
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
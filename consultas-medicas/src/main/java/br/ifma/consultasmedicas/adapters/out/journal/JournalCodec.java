@@ -0,0 +1,216 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.repository.Internamento;
+import br.ifma.consultasmedicas.core.domain.model.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formato binário compacto dos registros do journal. O primeiro byte identifica o tipo;
+ * referências a outras entidades são gravadas só pelo id, exceto o paciente da consulta
+ * (que não precisa estar cadastrado no PacienteRepository) e o médico (que não tem repositório).
+ */
+final class JournalCodec {
+    static final byte MEDICAMENTO = 1;
+    static final byte EXAME = 2;
+    static final byte PACIENTE = 3;
+    static final byte CONSULTA = 4;
+    static final byte PRONTUARIO = 5;
+
+    private JournalCodec() {}
+
+    static byte[] medicamento(Medicamento medicamento) {
+        Escrita out = new Escrita(MEDICAMENTO);
+        out.inteiro(medicamento.getId());
+        out.texto(medicamento.getNome());
+        return out.bytes();
+    }
+
+    static byte[] exame(Exame exame) {
+        Escrita out = new Escrita(EXAME);
+        out.inteiro(exame.getId());
+        out.texto(exame.getNome());
+        return out.bytes();
+    }
+
+    static byte[] paciente(Paciente paciente) {
+        Escrita out = new Escrita(PACIENTE);
+        escreverPaciente(out, paciente);
+        return out.bytes();
+    }
+
+    static byte[] consulta(Consulta consulta) {
+        Escrita out = new Escrita(CONSULTA);
+        out.inteiro(consulta.getId());
+        escreverPaciente(out, consulta.getPaciente());
+        out.inteiro(consulta.getMedico().getId());
+        out.texto(consulta.getMedico().getNome());
+        out.texto(consulta.getMedico().getCrm());
+        out.dataHora(consulta.getDataHora());
+        out.booleano(consulta.isPacienteNovo());
+        out.byte_((byte) consulta.getStatus().ordinal());
+        return out.bytes();
+    }
+
+    static byte[] prontuario(Prontuario prontuario) {
+        Escrita out = new Escrita(PRONTUARIO);
+        out.inteiro(prontuario.getId());
+        out.inteiro(prontuario.getConsulta().getId());
+        out.decimal(prontuario.getPeso());
+        out.decimal(prontuario.getAltura());
+        out.texto(prontuario.getSintomas());
+        out.texto(prontuario.getObservacaoClinica());
+        out.inteiro(prontuario.getPrescricoes().size());
+        for (Prescricao prescricao : prontuario.getPrescricoes()) {
+            out.inteiro(prescricao.getId());
+            out.inteiro(prescricao.getMedicamento().getId());
+            out.texto(prescricao.getDosagem());
+            out.texto(prescricao.getAdministracao());
+            out.texto(prescricao.getTempoUso());
+        }
+        out.inteiro(prontuario.getExames().size());
+        for (Exame exame : prontuario.getExames()) {
+            out.inteiro(exame.getId());
+        }
+        return out.bytes();
+    }
+
+    private static void escreverPaciente(Escrita out, Paciente paciente) {
+        out.inteiro(paciente.getId());
+        out.texto(paciente.getNomeCrianca());
+        out.texto(paciente.getNomeResponsavel());
+        out.longo(paciente.getDataNascimento().toEpochDay());
+        out.texto(paciente.getSexo());
+        Endereco endereco = paciente.getEndereco();
+        out.texto(endereco.getLogradouro());
+        out.texto(endereco.getNumero());
+        out.texto(endereco.getComplemento());
+        out.texto(endereco.getBairro());
+        out.texto(endereco.getCidade());
+        out.texto(endereco.getEstadoUf());
+        out.texto(endereco.getCep());
+        out.inteiro(paciente.getTelefones().size());
+        for (Telefone telefone : paciente.getTelefones()) {
+            out.texto(telefone.getNumero());
+            out.byte_((byte) telefone.getTipo().ordinal());
+            out.texto(telefone.getResponsavel());
+        }
+        PlanoSaude plano = paciente.getPlanoSaude();
+        out.booleano(plano != null);
+        if (plano != null) {
+            out.inteiro(plano.getId());
+            out.texto(plano.getNomePlano());
+        }
+    }
+
+    /**
+     * Os textos repetidos do cadastro passam pelo {@link Internamento} compartilhado, como na importação.
+     */
+    static Paciente lerPaciente(ByteBuffer in) {
+        Internamento internamento = Internamento.COMPARTILHADO;
+        int id = in.getInt();
+        String nomeCrianca = texto(in);
+        String nomeResponsavel = texto(in);
+        LocalDate dataNascimento = LocalDate.ofEpochDay(in.getLong());
+        String sexo = internamento.cadastro(texto(in));
+        Endereco endereco = internamento.endereco(texto(in), texto(in), texto(in), texto(in), texto(in), texto(in), texto(in));
+        int qtdTelefones = in.getInt();
+        List<Telefone> telefones = new ArrayList<>(qtdTelefones);
+        for (int i = 0; i < qtdTelefones; i++) {
+            telefones.add(internamento.telefone(new Telefone(texto(in), TelefoneTipo.values()[in.get()], texto(in))));
+        }
+        PlanoSaude plano = in.get() != 0 ? internamento.plano(in.getInt(), texto(in)) : null;
+        return new Paciente(id, nomeCrianca, nomeResponsavel, dataNascimento, sexo, endereco, telefones, plano);
+    }
+
+    static Medico lerMedico(ByteBuffer in) {
+        return new Medico(in.getInt(), texto(in), texto(in));
+    }
+
+    static LocalDateTime lerDataHora(ByteBuffer in) {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.getLong()), LocalTime.ofNanoOfDay(in.getLong()));
+    }
+
+    static String texto(ByteBuffer in) {
+        int tamanho = in.getInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Buffer de escrita que cresce sob demanda.
+     */
+    private static final class Escrita {
+        private ByteBuffer buffer = ByteBuffer.allocate(128);
+
+        Escrita(byte tipo) {
+            buffer.put(tipo);
+        }
+
+        void byte_(byte valor) {
+            garantir(1);
+            buffer.put(valor);
+        }
+
+        void booleano(boolean valor) {
+            byte_((byte) (valor ? 1 : 0));
+        }
+
+        void inteiro(int valor) {
+            garantir(Integer.BYTES);
+            buffer.putInt(valor);
+        }
+
+        void longo(long valor) {
+            garantir(Long.BYTES);
+            buffer.putLong(valor);
+        }
+
+        void decimal(double valor) {
+            garantir(Double.BYTES);
+            buffer.putDouble(valor);
+        }
+
+        void dataHora(LocalDateTime valor) {
+            longo(valor.toLocalDate().toEpochDay());
+            longo(valor.toLocalTime().toNanoOfDay());
+        }
+
+        void texto(String valor) {
+            if (valor == null) {
+                inteiro(-1);
+                return;
+            }
+            byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+            inteiro(bytes.length);
+            garantir(bytes.length);
+            buffer.put(bytes);
+        }
+
+        byte[] bytes() {
+            byte[] resultado = new byte[buffer.position()];
+            buffer.flip();
+            buffer.get(resultado);
+            return resultado;
+        }
+
+        private void garantir(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer maior = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                maior.put(buffer);
+                buffer = maior;
+            }
+        }
+    }
+}
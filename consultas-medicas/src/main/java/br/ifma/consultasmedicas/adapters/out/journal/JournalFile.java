@@ -0,0 +1,401 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log append-only com group commit.
+ * <p>
+ * Cada registro é gravado como [tamanho][crc32][payload]. Uma única thread escritora drena a fila,
+ * grava o lote inteiro e faz um só fsync para todos os registros do lote; quem chamou
+ * {@link #anexar(byte[]...)} espera apenas esse fsync compartilhado. Nada entra na fila depois do
+ * fechamento; o que sobrar nela quando a escritora termina falha com {@link IllegalStateException}.
+ * <p>
+ * A cada {@code registrosPorSnapshot} registros a escritora grava um snapshot do estado atual
+ * ({@code snapshot-N.dat}) e passa a escrever em um log novo ({@code journal-N.log}), descartando o
+ * anterior. A recuperação lê o snapshot mais recente e apenas o log da mesma geração, portanto o
+ * tempo de replay é limitado pelo intervalo entre snapshots. Um snapshot que falha não perde dados
+ * (o log atual continua valendo e cresce até a próxima tentativa) e vai para o {@link TratadorFalhas}.
+ */
+public class JournalFile implements AutoCloseable {
+    /**
+     * Não faz nada além de manter a contagem em {@link #falhasSnapshot()}.
+     */
+    public static final TratadorFalhas IGNORAR = erro -> { };
+
+    private static final int CABECALHO = Integer.BYTES * 2;
+    private static final int MAX_LOTE = 4096;
+    private static final Pendente FIM = new Pendente(new byte[0]);
+
+    private final Path diretorio;
+    private final int registrosPorSnapshot;
+    private final TratadorFalhas tratadorFalhas;
+    private final BlockingQueue<Pendente> fila = new LinkedBlockingQueue<>();
+    // Leitura: anexar; escrita: fechar. Garante que nada é enfileirado depois do FIM
+    private final ReadWriteLock portao = new ReentrantReadWriteLock();
+    private final Thread escritora;
+
+    private Supplier<Iterable<byte[]>> estadoAtual;
+    private FileChannel log;
+    private long geracao;
+    private long registrosDesdeSnapshot;
+    private volatile boolean aberto;
+    private boolean fechado;
+    private volatile long falhasSnapshot;
+
+    public JournalFile(Path diretorio, int registrosPorSnapshot) {
+        this(diretorio, registrosPorSnapshot, IGNORAR);
+    }
+
+    public JournalFile(Path diretorio, int registrosPorSnapshot, TratadorFalhas tratadorFalhas) {
+        if (registrosPorSnapshot <= 0) {
+            throw new IllegalArgumentException("registrosPorSnapshot deve ser positivo");
+        }
+        this.diretorio = diretorio;
+        this.registrosPorSnapshot = registrosPorSnapshot;
+        this.tratadorFalhas = Objects.requireNonNull(tratadorFalhas);
+        this.escritora = new Thread(this::escrever, "journal-writer");
+        this.escritora.setDaemon(true);
+    }
+
+    /**
+     * Reaplica snapshot + log da geração corrente (na ordem de gravação) e inicia a escritora.
+     * Um registro final truncado ou corrompido (queda no meio de uma escrita) é descartado.
+     *
+     * @param aplicar      recebe cada registro recuperado
+     * @param estadoAtual  fornece os registros que representam o estado completo, usado nos snapshots
+     */
+    public synchronized void abrir(Consumer<ByteBuffer> aplicar, Supplier<Iterable<byte[]>> estadoAtual) {
+        if (escritora.getState() != Thread.State.NEW) {
+            throw new IllegalStateException("Journal já aberto");
+        }
+        this.estadoAtual = estadoAtual;
+        try {
+            Files.createDirectories(diretorio);
+            geracao = geracaoMaisRecente();
+            Path snapshot = snapshot(geracao);
+            if (Files.exists(snapshot)) {
+                ler(snapshot, aplicar);
+            }
+            Path arquivoLog = log(geracao);
+            long valido = Files.exists(arquivoLog) ? ler(arquivoLog, aplicar) : 0;
+            registrosDesdeSnapshot = 0;
+            log = FileChannel.open(arquivoLog, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            log.truncate(valido);
+            log.position(valido);
+            sincronizarDiretorio();
+            removerGeracoesAntigas();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        aberto = true;
+        escritora.start();
+    }
+
+    /**
+     * Enfileira os registros, contíguos e na ordem dada; o futuro completa quando o(s) lote(s) que os
+     * contêm estiverem em disco.
+     */
+    public CompletableFuture<Void> anexar(byte[]... registros) {
+        CompletableFuture<?>[] futuros = new CompletableFuture<?>[registros.length];
+        portao.readLock().lock();
+        try {
+            if (!aberto) {
+                throw new IllegalStateException("Journal fechado");
+            }
+            for (int i = 0; i < registros.length; i++) {
+                Pendente pendente = new Pendente(registros[i]);
+                fila.add(pendente);
+                futuros[i] = pendente.gravado;
+            }
+        } finally {
+            portao.readLock().unlock();
+        }
+        return CompletableFuture.allOf(futuros);
+    }
+
+    /**
+     * Enfileira os registros e bloqueia até o fsync do(s) lote(s) que os contêm.
+     */
+    public void gravar(byte[]... registros) {
+        aguardar(anexar(registros));
+    }
+
+    /**
+     * Bloqueia até o futuro de {@link #anexar(byte[]...)} completar, relançando a falha da gravação.
+     */
+    public void aguardar(CompletableFuture<Void> gravado) {
+        try {
+            gravado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            if (e.getCause() instanceof RuntimeException erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Snapshots que falharam desde a abertura.
+     */
+    public long falhasSnapshot() {
+        return falhasSnapshot;
+    }
+
+    @Override
+    public void close() {
+        portao.writeLock().lock();
+        try {
+            if (fechado || escritora.getState() == Thread.State.NEW) {
+                return;
+            }
+            fechado = true;
+            aberto = false;
+            fila.add(FIM);
+        } finally {
+            portao.writeLock().unlock();
+        }
+        try {
+            escritora.join();
+            log.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void escrever() {
+        try {
+            List<Pendente> lote = new ArrayList<>();
+            boolean continuar = true;
+            while (continuar) {
+                try {
+                    lote.add(fila.take());
+                    fila.drainTo(lote, MAX_LOTE - 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                continuar = !lote.remove(FIM);
+                try {
+                    gravarLote(lote);
+                    lote.forEach(p -> p.gravado.complete(null));
+                } catch (IOException | RuntimeException e) {
+                    lote.forEach(p -> p.gravado.completeExceptionally(e));
+                }
+                lote.clear();
+                if (registrosDesdeSnapshot >= registrosPorSnapshot) {
+                    try {
+                        gravarSnapshot();
+                    } catch (IOException | RuntimeException e) {
+                        // O log atual continua valendo; tenta de novo após o próximo lote
+                        falhasSnapshot++;
+                        tratadorFalhas.falhou(e);
+                    }
+                }
+            }
+        } finally {
+            encerrarFila();
+        }
+    }
+
+    /**
+     * Fecha a entrada (caso a escritora tenha saído antes do FIM) e falha quem ficou na fila.
+     */
+    private void encerrarFila() {
+        portao.writeLock().lock();
+        try {
+            aberto = false;
+        } finally {
+            portao.writeLock().unlock();
+        }
+        IllegalStateException fechado = new IllegalStateException("Journal fechado");
+        for (Pendente p = fila.poll(); p != null; p = fila.poll()) {
+            p.gravado.completeExceptionally(fechado);
+        }
+    }
+
+    private void gravarLote(List<Pendente> lote) throws IOException {
+        if (lote.isEmpty()) {
+            return;
+        }
+        int tamanho = 0;
+        for (Pendente p : lote) {
+            tamanho += CABECALHO + p.registro.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(tamanho);
+        for (Pendente p : lote) {
+            enquadrar(buffer, p.registro);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            log.write(buffer);
+        }
+        log.force(false);
+        registrosDesdeSnapshot += lote.size();
+    }
+
+    /**
+     * Executado pela própria escritora, entre lotes. Todo registro já gravado no log foi aplicado
+     * em memória antes de ser enfileirado, portanto está contido no snapshot e o log pode ser descartado.
+     * <p>
+     * O log novo é criado antes do rename: se o snapshot ficar visível, o log da mesma geração já existe
+     * e os próximos lotes vão para ele. O diretório é sincronizado antes de apagar a geração anterior.
+     */
+    private void gravarSnapshot() throws IOException {
+        long proxima = geracao + 1;
+        Path temporario = diretorio.resolve("snapshot-" + proxima + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            for (byte[] registro : estadoAtual.get()) {
+                if (buffer.remaining() < CABECALHO + registro.length) {
+                    descarregar(canal, buffer);
+                    if (buffer.capacity() < CABECALHO + registro.length) {
+                        buffer = ByteBuffer.allocate(CABECALHO + registro.length);
+                    }
+                }
+                enquadrar(buffer, registro);
+            }
+            descarregar(canal, buffer);
+            canal.force(true);
+        }
+        FileChannel novoLog = FileChannel.open(log(proxima), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        boolean movido = false;
+        try {
+            Files.move(temporario, snapshot(proxima), StandardCopyOption.ATOMIC_MOVE);
+            movido = true;
+            sincronizarDiretorio();
+        } catch (IOException | RuntimeException e) {
+            novoLog.close();
+            if (movido) {
+                // Sem a garantia do rename, continua valendo a geração atual
+                Files.deleteIfExists(snapshot(proxima));
+            }
+            throw e;
+        }
+        log.close();
+        log = novoLog;
+        geracao = proxima;
+        registrosDesdeSnapshot = 0;
+        removerGeracoesAntigas();
+    }
+
+    private static void enquadrar(ByteBuffer buffer, byte[] registro) {
+        CRC32 crc = new CRC32();
+        crc.update(registro);
+        buffer.putInt(registro.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(registro);
+    }
+
+    private static void descarregar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Lê registros válidos em sequência e retorna a posição do fim do último registro íntegro.
+     */
+    private static long ler(Path arquivo, Consumer<ByteBuffer> aplicar) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer conteudo = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            CRC32 crc = new CRC32();
+            while (conteudo.remaining() >= CABECALHO) {
+                int inicio = conteudo.position();
+                int tamanho = conteudo.getInt();
+                int esperado = conteudo.getInt();
+                if (tamanho < 0 || tamanho > conteudo.remaining()) {
+                    return inicio;
+                }
+                ByteBuffer registro = conteudo.slice(conteudo.position(), tamanho);
+                crc.reset();
+                crc.update(registro.duplicate());
+                if ((int) crc.getValue() != esperado) {
+                    return inicio;
+                }
+                aplicar.accept(registro);
+                conteudo.position(conteudo.position() + tamanho);
+            }
+            return conteudo.position();
+        }
+    }
+
+    private long geracaoMaisRecente() throws IOException {
+        long maior = 0;
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "snapshot-*.dat")) {
+            for (Path arquivo : arquivos) {
+                String nome = arquivo.getFileName().toString();
+                maior = Math.max(maior, Long.parseLong(nome.substring("snapshot-".length(), nome.length() - ".dat".length())));
+            }
+        }
+        return maior;
+    }
+
+    private void removerGeracoesAntigas() throws IOException {
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, "{snapshot-,journal-}*")) {
+            for (Path arquivo : arquivos) {
+                if (!arquivo.equals(snapshot(geracao)) && !arquivo.equals(log(geracao))) {
+                    Files.delete(arquivo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Torna duráveis as entradas de diretório (rename do snapshot, criação do log). Onde o diretório não
+     * pode ser aberto como arquivo (Windows), o próprio sistema já persiste o rename.
+     */
+    private void sincronizarDiretorio() throws IOException {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (AccessDeniedException e) {
+            // Sem handle de diretório nesta plataforma
+        }
+    }
+
+    private Path snapshot(long g) {
+        return diretorio.resolve("snapshot-" + g + ".dat");
+    }
+
+    private Path log(long g) {
+        return diretorio.resolve("journal-" + g + ".log");
+    }
+
+    @FunctionalInterface
+    public interface TratadorFalhas {
+        /**
+         * Chamado na thread escritora quando um snapshot falha.
+         */
+        void falhou(Exception erro);
+    }
+
+    private static final class Pendente {
+        final byte[] registro;
+        final CompletableFuture<Void> gravado = new CompletableFuture<>();
+
+        Pendente(byte[] registro) {
+            this.registro = registro;
+        }
+    }
+}
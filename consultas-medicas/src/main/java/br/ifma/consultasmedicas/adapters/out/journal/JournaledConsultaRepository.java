@@ -0,0 +1,81 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class JournaledConsultaRepository implements ConsultaRepository {
+    private final InMemoryConsultaRepository memoria;
+    private final JournalFile journal;
+    private final TravasPorChave travas = new TravasPorChave();
+
+    JournaledConsultaRepository(InMemoryConsultaRepository memoria, JournalFile journal) {
+        this.memoria = memoria;
+        this.journal = journal;
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(Integer id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(int id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public List<Consulta> buscarPorData(LocalDate data) {
+        return memoria.buscarPorData(data);
+    }
+
+    @Override
+    public List<Consulta> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return memoria.buscarPorPeriodo(inicio, fim);
+    }
+
+    @Override
+    public List<Consulta> buscarPorMedicoEPeriodo(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return memoria.buscarPorMedicoEPeriodo(medicoId, inicio, fim);
+    }
+
+    @Override
+    public List<Consulta> buscarPorPacienteEPeriodo(int pacienteId, LocalDateTime inicio, LocalDateTime fim) {
+        return memoria.buscarPorPacienteEPeriodo(pacienteId, inicio, fim);
+    }
+
+    @Override
+    public List<Consulta> buscarPorPlanoEPeriodo(int planoId, LocalDateTime inicio, LocalDateTime fim) {
+        return memoria.buscarPorPlanoEPeriodo(planoId, inicio, fim);
+    }
+
+    @Override
+    public Map<ConsultaStatus, Integer> contarPorStatus(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return memoria.contarPorStatus(medicoId, inicio, fim);
+    }
+
+    @Override
+    public void salvar(Consulta consulta) {
+        journal.aguardar(travas.executar(consulta.getId(), () -> {
+            memoria.salvar(consulta);
+            return journal.anexar(JournalCodec.consulta(consulta));
+        }));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Consulta> consultas) {
+        int[] chaves = consultas.stream().mapToInt(Consulta::getId).toArray();
+        journal.aguardar(travas.executar(chaves, () -> {
+            memoria.salvarTodos(consultas);
+            return journal.anexar(consultas.stream().map(JournalCodec::consulta).toArray(byte[][]::new));
+        }));
+    }
+}
@@ -0,0 +1,65 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryExameRepository;
+import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
+import br.ifma.consultasmedicas.ports.out.ExameRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class JournaledExameRepository implements ExameRepository {
+    private final InMemoryExameRepository memoria;
+    private final JournalFile journal;
+    private final TravasPorChave travas = new TravasPorChave();
+
+    JournaledExameRepository(InMemoryExameRepository memoria, JournalFile journal) {
+        this.memoria = memoria;
+        this.journal = journal;
+    }
+
+    @Override
+    public Optional<Exame> buscarPorId(Integer id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Exame> buscarPorId(int id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Map<Integer, Exame> buscarPorIds(Collection<Integer> ids) {
+        return memoria.buscarPorIds(ids);
+    }
+
+    @Override
+    public IntObjectMap<Exame> buscarPorIds(IntSet ids) {
+        return memoria.buscarPorIds(ids);
+    }
+
+    @Override
+    public List<Exame> listarTodos() {
+        return memoria.listarTodos();
+    }
+
+    @Override
+    public void salvar(Exame exame) {
+        journal.aguardar(travas.executar(exame.getId(), () -> {
+            memoria.salvar(exame);
+            return journal.anexar(JournalCodec.exame(exame));
+        }));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Exame> exames) {
+        int[] chaves = exames.stream().mapToInt(Exame::getId).toArray();
+        journal.aguardar(travas.executar(chaves, () -> {
+            memoria.salvarTodos(exames);
+            return journal.anexar(exames.stream().map(JournalCodec::exame).toArray(byte[][]::new));
+        }));
+    }
+}
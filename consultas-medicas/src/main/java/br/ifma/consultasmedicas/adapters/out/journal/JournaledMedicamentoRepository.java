@@ -0,0 +1,65 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryMedicamentoRepository;
+import br.ifma.consultasmedicas.core.domain.model.Medicamento;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
+import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class JournaledMedicamentoRepository implements MedicamentoRepository {
+    private final InMemoryMedicamentoRepository memoria;
+    private final JournalFile journal;
+    private final TravasPorChave travas = new TravasPorChave();
+
+    JournaledMedicamentoRepository(InMemoryMedicamentoRepository memoria, JournalFile journal) {
+        this.memoria = memoria;
+        this.journal = journal;
+    }
+
+    @Override
+    public Optional<Medicamento> buscarPorId(Integer id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Medicamento> buscarPorId(int id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Map<Integer, Medicamento> buscarPorIds(Collection<Integer> ids) {
+        return memoria.buscarPorIds(ids);
+    }
+
+    @Override
+    public IntObjectMap<Medicamento> buscarPorIds(IntSet ids) {
+        return memoria.buscarPorIds(ids);
+    }
+
+    @Override
+    public List<Medicamento> listarTodos() {
+        return memoria.listarTodos();
+    }
+
+    @Override
+    public void salvar(Medicamento medicamento) {
+        journal.aguardar(travas.executar(medicamento.getId(), () -> {
+            memoria.salvar(medicamento);
+            return journal.anexar(JournalCodec.medicamento(medicamento));
+        }));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Medicamento> medicamentos) {
+        int[] chaves = medicamentos.stream().mapToInt(Medicamento::getId).toArray();
+        journal.aguardar(travas.executar(chaves, () -> {
+            memoria.salvarTodos(medicamentos);
+            return journal.anexar(medicamentos.stream().map(JournalCodec::medicamento).toArray(byte[][]::new));
+        }));
+    }
+}
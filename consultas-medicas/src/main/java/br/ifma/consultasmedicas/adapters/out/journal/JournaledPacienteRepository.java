@@ -0,0 +1,46 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryPacienteRepository;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.ports.out.PacienteRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public class JournaledPacienteRepository implements PacienteRepository {
+    private final InMemoryPacienteRepository memoria;
+    private final JournalFile journal;
+    private final TravasPorChave travas = new TravasPorChave();
+
+    JournaledPacienteRepository(InMemoryPacienteRepository memoria, JournalFile journal) {
+        this.memoria = memoria;
+        this.journal = journal;
+    }
+
+    @Override
+    public Optional<Paciente> buscarPorId(Integer id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Paciente> buscarPorId(int id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public void salvar(Paciente paciente) {
+        journal.aguardar(travas.executar(paciente.getId(), () -> {
+            memoria.salvar(paciente);
+            return journal.anexar(JournalCodec.paciente(paciente));
+        }));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Paciente> pacientes) {
+        int[] chaves = pacientes.stream().mapToInt(Paciente::getId).toArray();
+        journal.aguardar(travas.executar(chaves, () -> {
+            memoria.salvarTodos(pacientes);
+            return journal.anexar(pacientes.stream().map(JournalCodec::paciente).toArray(byte[][]::new));
+        }));
+    }
+}
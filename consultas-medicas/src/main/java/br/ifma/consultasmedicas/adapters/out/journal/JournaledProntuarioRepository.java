@@ -0,0 +1,95 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+public class JournaledProntuarioRepository implements ProntuarioRepository {
+    private final InMemoryProntuarioRepository memoria;
+    private final JournalFile journal;
+    private final TravasPorChave travas = new TravasPorChave();
+
+    JournaledProntuarioRepository(InMemoryProntuarioRepository memoria, JournalFile journal) {
+        this.memoria = memoria;
+        this.journal = journal;
+    }
+
+    @Override
+    public void salvar(Prontuario prontuario) {
+        journal.aguardar(travas.executar(prontuario.getConsulta().getId(), () -> {
+            memoria.salvar(prontuario);
+            return journal.anexar(JournalCodec.prontuario(prontuario));
+        }));
+    }
+
+    @Override
+    public void salvarTodos(Collection<Prontuario> prontuarios) {
+        int[] chaves = prontuarios.stream().mapToInt(p -> p.getConsulta().getId()).toArray();
+        journal.aguardar(travas.executar(chaves, () -> {
+            memoria.salvarTodos(prontuarios);
+            return journal.anexar(prontuarios.stream().map(JournalCodec::prontuario).toArray(byte[][]::new));
+        }));
+    }
+
+    @Override
+    public boolean salvarSeAusente(Prontuario prontuario) {
+        CompletableFuture<Void> gravado = travas.executar(prontuario.getConsulta().getId(), () ->
+            memoria.salvarSeAusente(prontuario) ? journal.anexar(JournalCodec.prontuario(prontuario)) : null);
+        if (gravado == null) {
+            return false;
+        }
+        journal.aguardar(gravado);
+        return true;
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(Integer id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(int id) {
+        return memoria.buscarPorId(id);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(Integer pacienteId) {
+        return memoria.buscarPorPaciente(pacienteId);
+    }
+
+    @Override
+    public Stream<Prontuario> streamTodos() {
+        return memoria.streamTodos();
+    }
+
+    @Override
+    public boolean existeParaConsulta(Integer consultaId) {
+        return memoria.existeParaConsulta(consultaId);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId) {
+        return memoria.buscarPorPaciente(pacienteId);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId, Integer aposProntuarioId, int limite) {
+        return memoria.buscarPorPaciente(pacienteId, aposProntuarioId, limite);
+    }
+
+    @Override
+    public Stream<Prontuario> streamPorPaciente(int pacienteId) {
+        return memoria.streamPorPaciente(pacienteId);
+    }
+
+    @Override
+    public boolean existeParaConsulta(int consultaId) {
+        return memoria.existeParaConsulta(consultaId);
+    }
+}
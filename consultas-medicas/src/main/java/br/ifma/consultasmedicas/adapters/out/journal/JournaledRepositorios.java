@@ -0,0 +1,224 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.util.ListaImutavel;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Conjunto de repositórios duráveis: o estado vive nos InMemory*Repository e cada salvar
+ * também é anexado ao {@link JournalFile}. Na abertura, snapshot + log são reaplicados.
+ * <p>
+ * A gravação em memória acontece antes do registro ser enfileirado no journal, as duas sob o lock
+ * da chave; assim todo registro já presente no log também está no snapshot seguinte, e gravações
+ * concorrentes do mesmo registro ficam no log na mesma ordem em que ficaram na memória.
+ * <p>
+ * Os ids gerados ficam em {@value #ARQUIVO_IDS} no mesmo diretório, acima de qualquer id recuperado.
+ */
+public class JournaledRepositorios implements AutoCloseable {
+    public static final int REGISTROS_POR_SNAPSHOT_PADRAO = 100_000;
+    public static final String ARQUIVO_IDS = "ids.dat";
+
+    private final InMemoryConsultaRepository consultasMemoria = new InMemoryConsultaRepository();
+    private final InMemoryProntuarioRepository prontuariosMemoria = new InMemoryProntuarioRepository();
+    private final InMemoryPacienteRepository pacientesMemoria = new InMemoryPacienteRepository();
+    private final InMemoryMedicamentoRepository medicamentosMemoria = new InMemoryMedicamentoRepository();
+    private final InMemoryExameRepository examesMemoria = new InMemoryExameRepository();
+
+    private final JournalFile journal;
+    private final JournaledConsultaRepository consultas;
+    private final JournaledProntuarioRepository prontuarios;
+    private final JournaledPacienteRepository pacientes;
+    private final JournaledMedicamentoRepository medicamentos;
+    private final JournaledExameRepository exames;
+    private final HiLoIdGenerator ids;
+
+    // Usados apenas durante a recuperação
+    private final Map<Integer, Paciente> pacientesLidos = new HashMap<>();
+    private final List<ByteBuffer> prontuariosPendentes = new ArrayList<>();
+
+    private JournaledRepositorios(Path diretorio, int registrosPorSnapshot,
+                                  JournalFile.TratadorFalhas falhasSnapshot) {
+        this.journal = new JournalFile(diretorio, registrosPorSnapshot, falhasSnapshot);
+        this.consultas = new JournaledConsultaRepository(consultasMemoria, journal);
+        this.prontuarios = new JournaledProntuarioRepository(prontuariosMemoria, journal);
+        this.pacientes = new JournaledPacienteRepository(pacientesMemoria, journal);
+        this.medicamentos = new JournaledMedicamentoRepository(medicamentosMemoria, journal);
+        this.exames = new JournaledExameRepository(examesMemoria, journal);
+        this.ids = new HiLoIdGenerator(diretorio.resolve(ARQUIVO_IDS));
+    }
+
+    public static JournaledRepositorios abrir(Path diretorio) {
+        return abrir(diretorio, REGISTROS_POR_SNAPSHOT_PADRAO);
+    }
+
+    public static JournaledRepositorios abrir(Path diretorio, int registrosPorSnapshot) {
+        return abrir(diretorio, registrosPorSnapshot, JournalFile.IGNORAR);
+    }
+
+    /**
+     * @param falhasSnapshot recebe os snapshots que falharam (o log continua valendo até o próximo)
+     */
+    public static JournaledRepositorios abrir(Path diretorio, int registrosPorSnapshot,
+                                              JournalFile.TratadorFalhas falhasSnapshot) {
+        JournaledRepositorios repositorios = new JournaledRepositorios(diretorio, registrosPorSnapshot, falhasSnapshot);
+        repositorios.journal.abrir(repositorios::aplicar, repositorios::estadoAtual);
+        repositorios.aplicarPendentes();
+        repositorios.avancarIds();
+        return repositorios;
+    }
+
+    public JournaledConsultaRepository consultas() { return consultas; }
+    public JournaledProntuarioRepository prontuarios() { return prontuarios; }
+    public JournaledPacienteRepository pacientes() { return pacientes; }
+    public JournaledMedicamentoRepository medicamentos() { return medicamentos; }
+    public JournaledExameRepository exames() { return exames; }
+    public IdGenerator ids() { return ids; }
+    public long falhasSnapshot() { return journal.falhasSnapshot(); }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+    private Iterable<byte[]> estadoAtual() {
+        return Stream.of(
+            medicamentosMemoria.listarTodos().stream().map(JournalCodec::medicamento),
+            examesMemoria.listarTodos().stream().map(JournalCodec::exame),
+            pacientesMemoria.listarTodos().stream().map(JournalCodec::paciente),
+            consultasMemoria.listarTodos().stream().map(JournalCodec::consulta),
+            prontuariosMemoria.listarTodos().stream().map(JournalCodec::prontuario)
+        ).flatMap(s -> s)::iterator;
+    }
+
+    private void aplicar(ByteBuffer registro) {
+        ByteBuffer in = registro.duplicate();
+        byte tipo = in.get();
+        switch (tipo) {
+            case JournalCodec.MEDICAMENTO -> medicamentosMemoria.salvar(new Medicamento(in.getInt(), JournalCodec.texto(in)));
+            case JournalCodec.EXAME -> examesMemoria.salvar(new Exame(in.getInt(), JournalCodec.texto(in)));
+            case JournalCodec.PACIENTE -> {
+                Paciente paciente = JournalCodec.lerPaciente(in);
+                pacientesLidos.put(paciente.getId(), paciente);
+                pacientesMemoria.salvar(paciente);
+            }
+            case JournalCodec.CONSULTA -> aplicarConsulta(in);
+            case JournalCodec.PRONTUARIO -> {
+                if (!aplicarProntuario(in)) {
+                    // Cópia: o registro original é uma janela sobre o arquivo mapeado
+                    prontuariosPendentes.add(ByteBuffer.allocate(registro.remaining()).put(registro.duplicate()).flip());
+                }
+            }
+            default -> throw new IllegalStateException("Tipo de registro desconhecido no journal: " + tipo);
+        }
+    }
+
+    private void aplicarConsulta(ByteBuffer in) {
+        int id = in.getInt();
+        Paciente lido = JournalCodec.lerPaciente(in);
+        Paciente paciente = pacientesLidos.computeIfAbsent(lido.getId(), k -> lido);
+        Medico medico = JournalCodec.lerMedico(in);
+        var dataHora = JournalCodec.lerDataHora(in);
+        boolean pacienteNovo = in.get() != 0;
+        ConsultaStatus status = ConsultaStatus.values()[in.get()];
+
+        // Atualização de status da mesma consulta: preserva a instância já referenciada por prontuários
+        Consulta existente = consultasMemoria.buscarPorId(id).orElse(null);
+        if (existente != null && existente.getDataHora().equals(dataHora)
+                && existente.getPaciente().getId().equals(paciente.getId())
+                && existente.getMedico().getId().equals(medico.getId())) {
+            existente.transicionar(existente.getStatus(), status);
+            return;
+        }
+        Consulta consulta = new Consulta(id, paciente, medico, dataHora, pacienteNovo);
+        consulta.transicionar(ConsultaStatus.AGENDADA, status);
+        consultasMemoria.salvar(consulta);
+    }
+
+    /**
+     * Retorna false se a consulta ou algum item do catálogo ainda não foi recuperado
+     * (registros gravados concorrentemente podem estar fora de ordem no log).
+     */
+    private boolean aplicarProntuario(ByteBuffer in) {
+        int id = in.getInt();
+        Consulta consulta = consultasMemoria.buscarPorId(in.getInt()).orElse(null);
+        if (consulta == null) {
+            return false;
+        }
+        double peso = in.getDouble();
+        double altura = in.getDouble();
+        String sintomas = JournalCodec.texto(in);
+        String observacao = JournalCodec.texto(in);
+
+        int qtdPrescricoes = in.getInt();
+        Prescricao[] prescricoes = new Prescricao[qtdPrescricoes];
+        for (int i = 0; i < qtdPrescricoes; i++) {
+            int prescricaoId = in.getInt();
+            Medicamento medicamento = medicamentosMemoria.buscarPorId(in.getInt()).orElse(null);
+            if (medicamento == null) {
+                return false;
+            }
+            Internamento frases = Internamento.COMPARTILHADO;
+            prescricoes[i] = new Prescricao(prescricaoId, medicamento, frases.frasePrescricao(JournalCodec.texto(in)),
+                frases.frasePrescricao(JournalCodec.texto(in)), frases.frasePrescricao(JournalCodec.texto(in)));
+        }
+
+        int qtdExames = in.getInt();
+        Exame[] examesProntuario = new Exame[qtdExames];
+        for (int i = 0; i < qtdExames; i++) {
+            Exame exame = examesMemoria.buscarPorId(in.getInt()).orElse(null);
+            if (exame == null) {
+                return false;
+            }
+            examesProntuario[i] = exame;
+        }
+
+        prontuariosMemoria.salvar(new Prontuario(id, consulta, peso, altura, sintomas, observacao,
+            ListaImutavel.adotar(prescricoes), ListaImutavel.adotar(examesProntuario)));
+        return true;
+    }
+
+    /**
+     * Cobre dados gravados antes do arquivo de ids existir (ou com o arquivo perdido).
+     */
+    private void avancarIds() {
+        int maiorProntuario = 0;
+        int maiorPrescricao = 0;
+        for (Prontuario prontuario : prontuariosMemoria.listarTodos()) {
+            maiorProntuario = Math.max(maiorProntuario, prontuario.getId());
+            for (Prescricao prescricao : prontuario.getPrescricoes()) {
+                maiorPrescricao = Math.max(maiorPrescricao, prescricao.getId());
+            }
+        }
+        int maiorConsulta = 0;
+        for (Consulta consulta : consultasMemoria.listarTodos()) {
+            maiorConsulta = Math.max(maiorConsulta, consulta.getId());
+        }
+        int maiorPaciente = 0;
+        for (Paciente paciente : pacientesMemoria.listarTodos()) {
+            maiorPaciente = Math.max(maiorPaciente, paciente.getId());
+        }
+        ids.avancarPara(IdGenerator.Sequencia.PRONTUARIO, maiorProntuario);
+        ids.avancarPara(IdGenerator.Sequencia.PRESCRICAO, maiorPrescricao);
+        ids.avancarPara(IdGenerator.Sequencia.CONSULTA, maiorConsulta);
+        ids.avancarPara(IdGenerator.Sequencia.PACIENTE, maiorPaciente);
+    }
+
+    private void aplicarPendentes() {
+        for (ByteBuffer registro : prontuariosPendentes) {
+            ByteBuffer in = registro.duplicate();
+            in.get();
+            if (!aplicarProntuario(in)) {
+                throw new IllegalStateException("Journal inconsistente: prontuário referencia entidade inexistente");
+            }
+        }
+        prontuariosPendentes.clear();
+        pacientesLidos.clear();
+    }
+}
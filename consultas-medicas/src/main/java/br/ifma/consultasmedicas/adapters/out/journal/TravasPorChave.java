@@ -0,0 +1,61 @@
+package br.ifma.consultasmedicas.adapters.out.journal;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Locks por faixa de id. Os repositórios aplicam em memória e enfileiram no journal segurando a faixa
+ * da chave, então duas gravações do mesmo registro chegam ao log na mesma ordem em que chegaram à
+ * memória. A espera pelo fsync acontece fora do lock.
+ */
+final class TravasPorChave {
+    private static final int FAIXAS = 64;
+
+    private final ReentrantLock[] travas = new ReentrantLock[FAIXAS];
+
+    TravasPorChave() {
+        for (int i = 0; i < FAIXAS; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    <T> T executar(int chave, Supplier<T> acao) {
+        ReentrantLock trava = travas[faixa(chave)];
+        trava.lock();
+        try {
+            return acao.get();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Segura as faixas de todas as chaves, sempre em ordem crescente de faixa para não haver deadlock
+     * entre lotes concorrentes.
+     */
+    <T> T executar(int[] chaves, Supplier<T> acao) {
+        boolean[] usadas = new boolean[FAIXAS];
+        for (int chave : chaves) {
+            usadas[faixa(chave)] = true;
+        }
+        int travadas = 0;
+        try {
+            for (; travadas < FAIXAS; travadas++) {
+                if (usadas[travadas]) {
+                    travas[travadas].lock();
+                }
+            }
+            return acao.get();
+        } finally {
+            for (int i = travadas - 1; i >= 0; i--) {
+                if (usadas[i]) {
+                    travas[i].unlock();
+                }
+            }
+        }
+    }
+
+    private static int faixa(int chave) {
+        return Math.floorMod(chave, FAIXAS);
+    }
+}
@@ -0,0 +1,560 @@
+package br.ifma.consultasmedicas.adapters.out.mmap;
+
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntLongMap;
+import br.ifma.consultasmedicas.core.util.ListaImutavel;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+import br.ifma.consultasmedicas.ports.out.ExameRepository;
+import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * ProntuarioRepository sobre arquivo mapeado em memória, para históricos maiores que o heap.
+ * <p>
+ * O arquivo é dividido em segmentos de tamanho fixo, cada um mapeado uma única vez; um registro
+ * nunca atravessa segmentos. Layout de um registro:
+ * <pre>
+ * [tamanho:int][id:int][consultaId:int][pacienteId:int][epochSecond:long][nano:int]
+ * [peso:double][altura:double][qtdPrescricoes:int][qtdExames:int]
+ * qtdPrescricoes x [prescricaoId:int][medicamentoId:int]
+ * qtdExames x [exameId:int]
+ * (2 + 3*qtdPrescricoes + 1) x [offset:int]   -- início de cada texto + fim do último
+ * textos UTF-8: sintomas, observacao, (dosagem, administracao, tempoUso) por prescrição
+ * </pre>
+ * O campo tamanho é gravado por último e marca o registro como completo: o corpo (seguido de um
+ * terminador zerado) é forçado para o disco antes de o tamanho ser publicado, e o tamanho é forçado
+ * antes de o salvar retornar. {@link #salvarTodos} força o lote inteiro de uma vez.
+ * <p>
+ * Em memória ficam apenas índices primitivos (id, consulta e paciente -> posição). Os prontuários são
+ * decodificados sob demanda quando a lista retornada é lida; consulta, medicamentos e exames são
+ * resolvidos pelos respectivos repositórios. Regravar um id anexa uma nova versão.
+ */
+public class MappedProntuarioRepository implements ProntuarioRepository, AutoCloseable {
+    public static final int TAMANHO_SEGMENTO_PADRAO = 64 * 1024 * 1024;
+
+    private static final int OFF_TAMANHO = 0;
+    private static final int OFF_ID = 4;
+    private static final int OFF_CONSULTA = 8;
+    private static final int OFF_PACIENTE = 12;
+    private static final int OFF_EPOCH_SECOND = 16;
+    private static final int OFF_NANO = 24;
+    private static final int OFF_PESO = 28;
+    private static final int OFF_ALTURA = 36;
+    private static final int OFF_QTD_PRESCRICOES = 44;
+    private static final int OFF_QTD_EXAMES = 48;
+    private static final int CABECALHO = 52;
+    private static final long AUSENTE = Long.MIN_VALUE;
+
+    private final FileChannel canal;
+    private final int tamanhoSegmento;
+    private final List<MappedByteBuffer> segmentos = new CopyOnWriteArrayList<>();
+    private final ConsultaRepository consultaRepository;
+    private final MedicamentoRepository medicamentoRepository;
+    private final ExameRepository exameRepository;
+
+    // porId e porConsulta são alterados só sob o monitor da instância e lidos sob o lock de leitura
+    private final IntLongMap porId = new IntLongMap();
+    private final IntLongMap porConsulta = new IntLongMap();
+    private final ReadWriteLock indices = new ReentrantReadWriteLock();
+    private final ConcurrentIntObjectMap<Historico> porPaciente = new ConcurrentIntObjectMap<>();
+
+    // Protegidos pelo monitor da instância (há um único ponto de escrita no arquivo)
+    private int segmentoEscrita;
+    private int posicaoEscrita;
+
+    public MappedProntuarioRepository(Path arquivo,
+                                      ConsultaRepository consultaRepository,
+                                      MedicamentoRepository medicamentoRepository,
+                                      ExameRepository exameRepository) {
+        this(arquivo, TAMANHO_SEGMENTO_PADRAO, consultaRepository, medicamentoRepository, exameRepository);
+    }
+
+    public MappedProntuarioRepository(Path arquivo,
+                                      int tamanhoSegmento,
+                                      ConsultaRepository consultaRepository,
+                                      MedicamentoRepository medicamentoRepository,
+                                      ExameRepository exameRepository) {
+        this.tamanhoSegmento = tamanhoSegmento;
+        this.consultaRepository = Objects.requireNonNull(consultaRepository);
+        this.medicamentoRepository = Objects.requireNonNull(medicamentoRepository);
+        this.exameRepository = Objects.requireNonNull(exameRepository);
+        try {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            reconstruirIndices();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void salvar(Prontuario prontuario) {
+        salvarTodos(List.of(prontuario));
+    }
+
+    @Override
+    public synchronized void salvarTodos(Collection<Prontuario> prontuarios) {
+        if (prontuarios.isEmpty()) {
+            return;
+        }
+        long[] posicoes = new long[prontuarios.size()];
+        int[] tamanhos = new int[posicoes.length];
+        long inicio = posicao(segmentoEscrita, posicaoEscrita);
+        int i = 0;
+        for (Prontuario prontuario : prontuarios) {
+            posicoes[i] = anexar(prontuario);
+            tamanhos[i] = posicaoEscrita - deslocamentoDe(posicoes[i]);
+            i++;
+        }
+        long fim = posicao(segmentoEscrita, Math.min(posicaoEscrita + 4, tamanhoSegmento));
+        // Corpos no disco antes de qualquer tamanho: um tamanho publicado nunca aponta para bytes incompletos
+        forcar(inicio, fim);
+        for (i = 0; i < posicoes.length; i++) {
+            segmentos.get(segmentoDe(posicoes[i])).putInt(deslocamentoDe(posicoes[i]) + OFF_TAMANHO, tamanhos[i]);
+        }
+        forcar(inicio, fim);
+        i = 0;
+        for (Prontuario prontuario : prontuarios) {
+            Consulta consulta = prontuario.getConsulta();
+            indexar(prontuario.getId(), consulta.getId(), consulta.getPaciente().getId(), consulta.getDataHora(), posicoes[i++]);
+        }
+    }
+
+    @Override
+    public synchronized boolean salvarSeAusente(Prontuario prontuario) {
+        // Escritas só acontecem sob este monitor: a leitura do índice dispensa o lock de leitura
+        long existente = porConsulta.getOrDefault(prontuario.getConsulta().getId(), AUSENTE);
+        if (existente != AUSENTE && existente != prontuario.getId()) {
+            return false;
+        }
+        salvar(prontuario);
+        return true;
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(Integer pacienteId) {
+        Historico historico = pacienteId == null ? null : porPaciente.get(pacienteId);
+        if (historico == null) {
+            return new ArrayList<>();
+        }
+        long[] posicoes = historico.posicoes();
+        return new AbstractList<>() {
+            @Override
+            public Prontuario get(int indice) {
+                return decodificar(posicoes[indice]);
+            }
+
+            @Override
+            public int size() {
+                return posicoes.length;
+            }
+        };
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId, Integer aposProntuarioId, int limite) {
+        Historico historico = porPaciente.get(pacienteId);
+        if (historico == null) {
+            return new ArrayList<>();
+        }
+        long[] posicoes;
+        if (aposProntuarioId == null) {
+            posicoes = historico.anteriores(Long.MAX_VALUE, 0, -1, limite);
+        } else {
+            long cursor = posicaoDoId(aposProntuarioId);
+            if (cursor == AUSENTE) {
+                return new ArrayList<>();
+            }
+            MappedByteBuffer buffer = segmentos.get(segmentoDe(cursor));
+            int base = deslocamentoDe(cursor);
+            posicoes = historico.anteriores(buffer.getLong(base + OFF_EPOCH_SECOND), buffer.getInt(base + OFF_NANO),
+                cursor, limite);
+        }
+        List<Prontuario> pagina = new ArrayList<>(posicoes.length);
+        for (long posicao : posicoes) {
+            pagina.add(decodificar(posicao));
+        }
+        return pagina;
+    }
+
+    @Override
+    public Stream<Prontuario> streamPorPaciente(int pacienteId) {
+        Historico historico = porPaciente.get(pacienteId);
+        if (historico == null) {
+            return Stream.empty();
+        }
+        long[] posicoes = historico.posicoes();
+        return IntStream.range(0, posicoes.length)
+            .mapToObj(i -> decodificar(posicoes[posicoes.length - 1 - i]));
+    }
+
+    @Override
+    public Stream<Prontuario> streamTodos() {
+        long[] posicoes;
+        indices.readLock().lock();
+        try {
+            posicoes = new long[porId.size()];
+            int[] i = {0};
+            porId.forEach((id, posicao) -> posicoes[i[0]++] = posicao);
+        } finally {
+            indices.readLock().unlock();
+        }
+        return Arrays.stream(posicoes).mapToObj(this::decodificar);
+    }
+
+    @Override
+    public boolean existeParaConsulta(Integer consultaId) {
+        return consultaId != null && existeParaConsulta(consultaId.intValue());
+    }
+
+    @Override
+    public boolean existeParaConsulta(int consultaId) {
+        indices.readLock().lock();
+        try {
+            return porConsulta.containsKey(consultaId);
+        } finally {
+            indices.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(int id) {
+        long posicao = posicaoDoId(id);
+        return posicao == AUSENTE ? Optional.empty() : Optional.of(decodificar(posicao));
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            for (MappedByteBuffer segmento : segmentos) {
+                segmento.force();
+            }
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long anexar(Prontuario prontuario) {
+        List<Prescricao> prescricoes = prontuario.getPrescricoes();
+        List<Exame> exames = prontuario.getExames();
+        int qtdTextos = 2 + 3 * prescricoes.size();
+        byte[][] textos = new byte[qtdTextos][];
+        textos[0] = prontuario.getSintomas().getBytes(StandardCharsets.UTF_8);
+        textos[1] = prontuario.getObservacaoClinica().getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < prescricoes.size(); i++) {
+            Prescricao prescricao = prescricoes.get(i);
+            textos[2 + 3 * i] = prescricao.getDosagem().getBytes(StandardCharsets.UTF_8);
+            textos[3 + 3 * i] = prescricao.getAdministracao().getBytes(StandardCharsets.UTF_8);
+            textos[4 + 3 * i] = prescricao.getTempoUso().getBytes(StandardCharsets.UTF_8);
+        }
+        int inicioOffsets = CABECALHO + prescricoes.size() * 8 + exames.size() * 4;
+        int inicioTextos = inicioOffsets + (qtdTextos + 1) * 4;
+        int tamanho = inicioTextos;
+        for (byte[] texto : textos) {
+            tamanho += texto.length;
+        }
+        if (tamanho > tamanhoSegmento) {
+            throw new IllegalArgumentException("Prontuário maior que o segmento: " + tamanho + " bytes");
+        }
+        if (posicaoEscrita + tamanho > tamanhoSegmento) {
+            segmentoEscrita++;
+            posicaoEscrita = 0;
+        }
+        MappedByteBuffer buffer = segmento(segmentoEscrita);
+        int base = posicaoEscrita;
+
+        LocalDateTime dataHora = prontuario.getConsulta().getDataHora();
+        buffer.putInt(base + OFF_ID, prontuario.getId());
+        buffer.putInt(base + OFF_CONSULTA, prontuario.getConsulta().getId());
+        buffer.putInt(base + OFF_PACIENTE, prontuario.getConsulta().getPaciente().getId());
+        buffer.putLong(base + OFF_EPOCH_SECOND, dataHora.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(base + OFF_NANO, dataHora.getNano());
+        buffer.putDouble(base + OFF_PESO, prontuario.getPeso());
+        buffer.putDouble(base + OFF_ALTURA, prontuario.getAltura());
+        buffer.putInt(base + OFF_QTD_PRESCRICOES, prescricoes.size());
+        buffer.putInt(base + OFF_QTD_EXAMES, exames.size());
+
+        int pos = base + CABECALHO;
+        for (Prescricao prescricao : prescricoes) {
+            buffer.putInt(pos, prescricao.getId());
+            buffer.putInt(pos + 4, prescricao.getMedicamento().getId());
+            pos += 8;
+        }
+        for (Exame exame : exames) {
+            buffer.putInt(pos, exame.getId());
+            pos += 4;
+        }
+        int offset = inicioTextos;
+        for (byte[] texto : textos) {
+            buffer.putInt(pos, offset);
+            buffer.put(base + offset, texto);
+            pos += 4;
+            offset += texto.length;
+        }
+        buffer.putInt(pos, offset);
+
+        // Terminador: a recuperação para aqui mesmo que haja restos de um lote interrompido adiante
+        if (base + tamanho + 4 <= tamanhoSegmento) {
+            buffer.putInt(base + tamanho, 0);
+        }
+        // O tamanho é publicado por salvarTodos depois que o corpo estiver no disco
+        posicaoEscrita += tamanho;
+        return posicao(segmentoEscrita, base);
+    }
+
+    private Prontuario decodificar(long posicao) {
+        MappedByteBuffer buffer = segmentos.get(segmentoDe(posicao));
+        int base = deslocamentoDe(posicao);
+
+        int id = buffer.getInt(base + OFF_ID);
+        int consultaId = buffer.getInt(base + OFF_CONSULTA);
+        Consulta consulta = consultaRepository.buscarPorId(consultaId)
+            .orElseThrow(() -> new IllegalStateException("Consulta " + consultaId + " do prontuário " + id + " não encontrada"));
+        int qtdPrescricoes = buffer.getInt(base + OFF_QTD_PRESCRICOES);
+        int qtdExames = buffer.getInt(base + OFF_QTD_EXAMES);
+        int offsets = base + CABECALHO + qtdPrescricoes * 8 + qtdExames * 4;
+
+        Prescricao[] prescricoes = new Prescricao[qtdPrescricoes];
+        int pos = base + CABECALHO;
+        for (int i = 0; i < qtdPrescricoes; i++) {
+            int medicamentoId = buffer.getInt(pos + 4);
+            Medicamento medicamento = medicamentoRepository.buscarPorId(medicamentoId)
+                .orElseThrow(() -> new IllegalStateException("Medicamento não encontrado: " + medicamentoId));
+            prescricoes[i] = new Prescricao(buffer.getInt(pos), medicamento,
+                texto(buffer, base, offsets, 2 + 3 * i),
+                texto(buffer, base, offsets, 3 + 3 * i),
+                texto(buffer, base, offsets, 4 + 3 * i));
+            pos += 8;
+        }
+        Exame[] exames = new Exame[qtdExames];
+        for (int i = 0; i < qtdExames; i++) {
+            int exameId = buffer.getInt(pos);
+            exames[i] = exameRepository.buscarPorId(exameId)
+                .orElseThrow(() -> new IllegalStateException("Exame não encontrado: " + exameId));
+            pos += 4;
+        }
+
+        return new Prontuario(id, consulta,
+            buffer.getDouble(base + OFF_PESO),
+            buffer.getDouble(base + OFF_ALTURA),
+            texto(buffer, base, offsets, 0),
+            texto(buffer, base, offsets, 1),
+            ListaImutavel.adotar(prescricoes), ListaImutavel.adotar(exames));
+    }
+
+    private static String texto(MappedByteBuffer buffer, int base, int offsets, int indice) {
+        int inicio = buffer.getInt(offsets + indice * 4);
+        int fim = buffer.getInt(offsets + (indice + 1) * 4);
+        byte[] bytes = new byte[fim - inicio];
+        buffer.get(base + inicio, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long posicaoDoId(int id) {
+        indices.readLock().lock();
+        try {
+            return porId.getOrDefault(id, AUSENTE);
+        } finally {
+            indices.readLock().unlock();
+        }
+    }
+
+    private void indexar(int id, int consultaId, int pacienteId, LocalDateTime dataHora, long posicao) {
+        long anterior;
+        indices.writeLock().lock();
+        try {
+            anterior = porId.getOrDefault(id, AUSENTE);
+            porId.put(id, posicao);
+            if (anterior != AUSENTE) {
+                int consultaAnterior = segmentos.get(segmentoDe(anterior)).getInt(deslocamentoDe(anterior) + OFF_CONSULTA);
+                if (consultaAnterior != consultaId && porConsulta.getOrDefault(consultaAnterior, AUSENTE) == id) {
+                    porConsulta.remove(consultaAnterior);
+                }
+            }
+            porConsulta.put(consultaId, id);
+        } finally {
+            indices.writeLock().unlock();
+        }
+        if (anterior != AUSENTE) {
+            Historico historicoAnterior = porPaciente.get(
+                segmentos.get(segmentoDe(anterior)).getInt(deslocamentoDe(anterior) + OFF_PACIENTE));
+            if (historicoAnterior != null) {
+                historicoAnterior.remover(anterior);
+            }
+        }
+        porPaciente.computeIfAbsent(pacienteId, k -> new Historico())
+            .inserir(dataHora.toEpochSecond(ZoneOffset.UTC), dataHora.getNano(), posicao);
+    }
+
+    /**
+     * Força para o disco os bytes entre duas posições de escrita, atravessando segmentos se preciso.
+     */
+    private void forcar(long inicio, long fim) {
+        for (int s = segmentoDe(inicio); s <= segmentoDe(fim); s++) {
+            int de = s == segmentoDe(inicio) ? deslocamentoDe(inicio) : 0;
+            int ate = s == segmentoDe(fim) ? deslocamentoDe(fim) : tamanhoSegmento;
+            if (ate > de) {
+                segmentos.get(s).force(de, ate - de);
+            }
+        }
+    }
+
+    private void reconstruirIndices() throws IOException {
+        long tamanhoArquivo = canal.size();
+        int quantidadeSegmentos = (int) ((tamanhoArquivo + tamanhoSegmento - 1) / tamanhoSegmento);
+        for (int s = 0; s < quantidadeSegmentos; s++) {
+            MappedByteBuffer buffer = segmento(s);
+            if (buffer.getInt(OFF_TAMANHO) == 0) {
+                break;
+            }
+            segmentoEscrita = s;
+            int base = 0;
+            while (base + CABECALHO <= tamanhoSegmento) {
+                int tamanho = buffer.getInt(base + OFF_TAMANHO);
+                if (tamanho <= 0) {
+                    break;
+                }
+                long epochSecond = buffer.getLong(base + OFF_EPOCH_SECOND);
+                LocalDateTime dataHora = LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(base + OFF_NANO), ZoneOffset.UTC);
+                indexar(buffer.getInt(base + OFF_ID), buffer.getInt(base + OFF_CONSULTA),
+                    buffer.getInt(base + OFF_PACIENTE), dataHora, posicao(s, base));
+                base += tamanho;
+            }
+            posicaoEscrita = base;
+        }
+    }
+
+    private MappedByteBuffer segmento(int indice) {
+        while (segmentos.size() <= indice) {
+            try {
+                segmentos.add(canal.map(FileChannel.MapMode.READ_WRITE, (long) segmentos.size() * tamanhoSegmento, tamanhoSegmento));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return segmentos.get(indice);
+    }
+
+    private static long posicao(int segmento, int deslocamento) {
+        return ((long) segmento << 32) | (deslocamento & 0xFFFFFFFFL);
+    }
+
+    private static int segmentoDe(long posicao) {
+        return (int) (posicao >>> 32);
+    }
+
+    private static int deslocamentoDe(long posicao) {
+        return (int) posicao;
+    }
+
+    /**
+     * Posições dos prontuários de um paciente ordenadas por dataHora da consulta (segundos e nanos),
+     * em arrays primitivos.
+     */
+    private static final class Historico {
+        private long[] segundos = new long[4];
+        private int[] nanos = new int[4];
+        private long[] posicoes = new long[4];
+        private int tamanho;
+
+        synchronized void inserir(long segundo, int nano, long posicao) {
+            int i = tamanho;
+            while (i > 0 && comparar(segundos[i - 1], nanos[i - 1], segundo, nano) > 0) {
+                i--;
+            }
+            if (tamanho == posicoes.length) {
+                segundos = Arrays.copyOf(segundos, tamanho * 2);
+                nanos = Arrays.copyOf(nanos, tamanho * 2);
+                posicoes = Arrays.copyOf(posicoes, tamanho * 2);
+            }
+            System.arraycopy(segundos, i, segundos, i + 1, tamanho - i);
+            System.arraycopy(nanos, i, nanos, i + 1, tamanho - i);
+            System.arraycopy(posicoes, i, posicoes, i + 1, tamanho - i);
+            segundos[i] = segundo;
+            nanos[i] = nano;
+            posicoes[i] = posicao;
+            tamanho++;
+        }
+
+        synchronized void remover(long posicao) {
+            for (int i = 0; i < tamanho; i++) {
+                if (posicoes[i] == posicao) {
+                    System.arraycopy(segundos, i + 1, segundos, i, tamanho - i - 1);
+                    System.arraycopy(nanos, i + 1, nanos, i, tamanho - i - 1);
+                    System.arraycopy(posicoes, i + 1, posicoes, i, tamanho - i - 1);
+                    tamanho--;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Até limite posições anteriores ao cursor (segundo, nano, posicao), da mais recente para a
+         * mais antiga; posicao -1 começa após a maior chave. Cursor ausente resulta em vazio.
+         */
+        synchronized long[] anteriores(long segundo, int nano, long posicao, int limite) {
+            int fim = tamanho;
+            if (posicao >= 0) {
+                // Busca binária pela primeira chave maior que a do cursor e volta pelos empates
+                int baixo = 0;
+                int alto = tamanho;
+                while (baixo < alto) {
+                    int meio = (baixo + alto) >>> 1;
+                    if (comparar(segundos[meio], nanos[meio], segundo, nano) <= 0) {
+                        baixo = meio + 1;
+                    } else {
+                        alto = meio;
+                    }
+                }
+                fim = -1;
+                for (int i = baixo - 1; i >= 0 && segundos[i] == segundo && nanos[i] == nano; i--) {
+                    if (posicoes[i] == posicao) {
+                        fim = i;
+                        break;
+                    }
+                }
+                if (fim < 0) {
+                    return new long[0];
+                }
+            }
+            int quantidade = Math.min(limite, fim);
+            long[] pagina = new long[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                pagina[i] = posicoes[fim - 1 - i];
+            }
+            return pagina;
+        }
+
+        synchronized long[] posicoes() {
+            return Arrays.copyOf(posicoes, tamanho);
+        }
+
+        private static int comparar(long segundoA, int nanoA, long segundoB, int nanoB) {
+            int porSegundo = Long.compare(segundoA, segundoB);
+            return porSegundo != 0 ? porSegundo : Integer.compare(nanoA, nanoB);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.ifma.consultasmedicas.adapters.out.referencia;
+
+import br.ifma.consultasmedicas.ports.out.InteracoesMedicamentosas;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tabela local de interações como matriz de bits indexada pelo id do medicamento: {@code linhas[a]} tem o
+ * bit {@code b} ligado quando a e b interagem (a matriz é simétrica). Medicamentos sem interação não têm
+ * linha, então o custo é ~n²/8 bytes sobre os n ids envolvidos (1 000 medicamentos: 125 KB). A gravidade e a
+ * descrição só são buscadas, num mapa, quando o bit está ligado.
+ * <p>
+ * Arquivo CSV com cabeçalho {@code medicamentoA,medicamentoB,gravidade,descricao}; a descrição é o
+ * restante da linha e pode conter vírgulas.
+ */
+public class TabelaInteracoes implements InteracoesMedicamentosas {
+    private final long[][] linhas;
+    private final Map<Long, Interacao> detalhes;
+
+    private TabelaInteracoes(long[][] linhas, Map<Long, Interacao> detalhes) {
+        this.linhas = linhas;
+        this.detalhes = detalhes;
+    }
+
+    public static TabelaInteracoes ler(Path arquivo) throws IOException {
+        try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return ler(leitor);
+        }
+    }
+
+    static TabelaInteracoes ler(BufferedReader leitor) throws IOException {
+        Map<Long, Interacao> detalhes = new HashMap<>();
+        int maiorId = -1;
+        String linha = leitor.readLine();
+        int numero = 1;
+        while ((linha = leitor.readLine()) != null) {
+            numero++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            String[] campos = linha.split(",", 4);
+            if (campos.length != 4) {
+                throw new IllegalArgumentException("Linha " + numero + ": esperados 4 campos");
+            }
+            int a = Integer.parseInt(campos[0].trim());
+            int b = Integer.parseInt(campos[1].trim());
+            if (a < 0 || b < 0 || a == b) {
+                throw new IllegalArgumentException("Linha " + numero + ": par de medicamentos inválido");
+            }
+            detalhes.put(chave(a, b), new Interacao(campos[2].trim(), campos[3].trim()));
+            maiorId = Math.max(maiorId, Math.max(a, b));
+        }
+
+        long[][] linhas = new long[maiorId + 1][];
+        int palavras = (maiorId >>> 6) + 1;
+        for (long par : detalhes.keySet()) {
+            int a = (int) (par >>> 32);
+            int b = (int) par;
+            marcar(linhas, palavras, a, b);
+            marcar(linhas, palavras, b, a);
+        }
+        return new TabelaInteracoes(linhas, detalhes);
+    }
+
+    @Override
+    public Interacao buscar(int medicamentoA, int medicamentoB) {
+        if (medicamentoA < 0 || medicamentoA >= linhas.length || medicamentoB < 0) {
+            return null;
+        }
+        long[] linha = linhas[medicamentoA];
+        if (linha == null || (medicamentoB >>> 6) >= linha.length
+            || (linha[medicamentoB >>> 6] & (1L << medicamentoB)) == 0) {
+            return null;
+        }
+        return detalhes.get(chave(medicamentoA, medicamentoB));
+    }
+
+    public int tamanho() {
+        return detalhes.size();
+    }
+
+    private static void marcar(long[][] linhas, int palavras, int a, int b) {
+        if (linhas[a] == null) {
+            linhas[a] = new long[palavras];
+        }
+        linhas[a][b >>> 6] |= 1L << b;
+    }
+
+    private static long chave(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+}
@@ -0,0 +1,162 @@
+package br.ifma.consultasmedicas.adapters.out.referencia;
+
+import br.ifma.consultasmedicas.core.domain.model.IndicadorCrescimento;
+import br.ifma.consultasmedicas.ports.out.ReferenciaCrescimento;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Referência pelo método LMS (usado pelas curvas da OMS): para cada indicador, sexo e idade há os
+ * parâmetros L (Box-Cox), M (mediana) e S (coeficiente de variação), e z = ((X/M)^L - 1) / (L·S).
+ * Entre duas idades tabeladas os parâmetros são interpolados linearmente; fora delas o escore é NaN.
+ * <p>
+ * Arquivo CSV com cabeçalho {@code indicador,sexo,mes,L,M,S} (indicador PESO, ALTURA ou IMC; sexo M ou F;
+ * idade em meses). {@link #oms()} traz um resumo embutido da OMS de 0 a 60 meses em idades-chave;
+ * para uso clínico, gere o arquivo a partir das tabelas mensais completas e carregue com {@link #ler(Path)}.
+ */
+public class TabelaLms implements ReferenciaCrescimento {
+    private static final String RECURSO_OMS = "/referencia/oms-lms.csv";
+
+    private static final String[] SEXOS = {"M", "F"};
+
+    // [indicador][sexo], null quando o arquivo não traz a combinação
+    private final Curva[][] curvas;
+
+    private TabelaLms(Curva[][] curvas) {
+        this.curvas = curvas;
+    }
+
+    public static TabelaLms oms() {
+        try (InputStream entrada = TabelaLms.class.getResourceAsStream(RECURSO_OMS)) {
+            if (entrada == null) {
+                throw new IllegalStateException("Recurso ausente: " + RECURSO_OMS);
+            }
+            return ler(new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static TabelaLms ler(Path arquivo) throws IOException {
+        try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return ler(leitor);
+        }
+    }
+
+    private static TabelaLms ler(BufferedReader leitor) throws IOException {
+        Map<String, TreeMap<Double, double[]>> linhas = new HashMap<>();
+        String linha = leitor.readLine();
+        int numero = 1;
+        while ((linha = leitor.readLine()) != null) {
+            numero++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            String[] campos = linha.split(",");
+            if (campos.length != 6) {
+                throw new IllegalArgumentException("Linha " + numero + ": esperados 6 campos");
+            }
+            IndicadorCrescimento indicador = IndicadorCrescimento.valueOf(campos[0].trim());
+            if (indiceSexo(campos[1]) < 0) {
+                throw new IllegalArgumentException("Linha " + numero + ": sexo deve ser M ou F");
+            }
+            String chave = indicador.name() + '/' + SEXOS[indiceSexo(campos[1])];
+            linhas.computeIfAbsent(chave, c -> new TreeMap<>()).put(Double.parseDouble(campos[2].trim()), new double[]{
+                Double.parseDouble(campos[3].trim()), Double.parseDouble(campos[4].trim()), Double.parseDouble(campos[5].trim())});
+        }
+        Curva[][] curvas = new Curva[IndicadorCrescimento.values().length][SEXOS.length];
+        for (IndicadorCrescimento indicador : IndicadorCrescimento.values()) {
+            for (int sexo = 0; sexo < SEXOS.length; sexo++) {
+                TreeMap<Double, double[]> pontos = linhas.get(indicador.name() + '/' + SEXOS[sexo]);
+                curvas[indicador.ordinal()][sexo] = pontos == null ? null : new Curva(pontos);
+            }
+        }
+        return new TabelaLms(curvas);
+    }
+
+    @Override
+    public double escoreZ(IndicadorCrescimento indicador, String sexo, double idadeMeses, double valor) {
+        Curva curva = curva(indicador, sexo);
+        return curva == null ? Double.NaN : curva.escoreZ(idadeMeses, valor);
+    }
+
+    @Override
+    public double[] escoresZ(IndicadorCrescimento indicador, String sexo, double[] idadesMeses, double[] valores) {
+        double[] escores = new double[valores.length];
+        Curva curva = curva(indicador, sexo);
+        for (int i = 0; i < valores.length; i++) {
+            escores[i] = curva == null ? Double.NaN : curva.escoreZ(idadesMeses[i], valores[i]);
+        }
+        return escores;
+    }
+
+    private Curva curva(IndicadorCrescimento indicador, String sexo) {
+        int indice = indiceSexo(sexo);
+        return indice < 0 ? null : curvas[indicador.ordinal()][indice];
+    }
+
+    private static int indiceSexo(String sexo) {
+        if (sexo == null || sexo.isBlank()) {
+            return -1;
+        }
+        return switch (Character.toUpperCase(sexo.trim().charAt(0))) {
+            case 'M' -> 0;
+            case 'F' -> 1;
+            default -> -1;
+        };
+    }
+
+    private static final class Curva {
+        final double[] meses;
+        final double[] l;
+        final double[] m;
+        final double[] s;
+
+        Curva(TreeMap<Double, double[]> pontos) {
+            int n = pontos.size();
+            meses = new double[n];
+            l = new double[n];
+            m = new double[n];
+            s = new double[n];
+            int i = 0;
+            for (Map.Entry<Double, double[]> ponto : pontos.entrySet()) {
+                meses[i] = ponto.getKey();
+                l[i] = ponto.getValue()[0];
+                m[i] = ponto.getValue()[1];
+                s[i] = ponto.getValue()[2];
+                i++;
+            }
+        }
+
+        double escoreZ(double idade, double valor) {
+            // Também descarta idade e valor NaN
+            if (!(idade >= meses[0] && idade <= meses[meses.length - 1] && valor > 0)) {
+                return Double.NaN;
+            }
+            int i = Arrays.binarySearch(meses, idade);
+            double lambda;
+            double mediana;
+            double variacao;
+            if (i >= 0) {
+                lambda = l[i];
+                mediana = m[i];
+                variacao = s[i];
+            } else {
+                int depois = -i - 1;
+                int antes = depois - 1;
+                double f = (idade - meses[antes]) / (meses[depois] - meses[antes]);
+                lambda = l[antes] + f * (l[depois] - l[antes]);
+                mediana = m[antes] + f * (m[depois] - m[antes]);
+                variacao = s[antes] + f * (s[depois] - s[antes]);
+            }
+            if (Math.abs(lambda) < 1e-9) {
+                return Math.log(valor / mediana) / variacao;
+            }
+            return (Math.pow(valor / mediana, lambda) - 1) / (lambda * variacao);
+        }
+    }
+}
@@ -1,30 +1,168 @@
 package br.ifma.consultasmedicas.adapters.out.repository;
 
 import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.core.domain.model.PlanoSaude;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
 import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Mantém, além do mapa por id, um índice da agenda ordenado por dataHora e índices compostos
+ * (médico, dataHora), (paciente, dataHora) e (plano, dataHora): um mapa ordenado por grupo, que reaproveita
+ * as chaves da agenda. Consultas por dia/período, inteiras ou de um grupo, percorrem apenas o intervalo
+ * pedido (O(log n + k)).
+ * Seguro para uso concorrente: gravações do mesmo id são serializadas pelo compute do mapa por id.
+ */
 public class InMemoryConsultaRepository implements ConsultaRepository {
-    private final Map<Integer, Consulta> store = new HashMap<>();
+    private final ConcurrentIntObjectMap<Consulta> store = new ConcurrentIntObjectMap<>();
+    private final NavigableMap<ChaveAgenda, Consulta> agenda = new ConcurrentSkipListMap<>();
+    private final ConcurrentIntObjectMap<NavigableMap<ChaveAgenda, Consulta>> porMedico = new ConcurrentIntObjectMap<>();
+    private final ConcurrentIntObjectMap<NavigableMap<ChaveAgenda, Consulta>> porPaciente = new ConcurrentIntObjectMap<>();
+    private final ConcurrentIntObjectMap<NavigableMap<ChaveAgenda, Consulta>> porPlano = new ConcurrentIntObjectMap<>();
 
     @Override
     public Optional<Consulta> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Consulta> buscarPorId(int id) {
         return Optional.ofNullable(store.get(id));
     }
 
     @Override
     public List<Consulta> buscarPorData(LocalDate data) {
-        return store.values().stream()
-            .filter(c -> c.getDataHora().toLocalDate().equals(data))
-            .sorted(Comparator.comparing(Consulta::getDataHora))
-            .collect(Collectors.toList());
+        return buscarPorPeriodo(data.atStartOfDay(), data.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    public List<Consulta> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        if (!inicio.isBefore(fim)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(agenda.subMap(ChaveAgenda.inicioDe(inicio), ChaveAgenda.inicioDe(fim)).values());
+    }
+
+    @Override
+    public List<Consulta> buscarPorMedicoEPeriodo(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        return new ArrayList<>(intervalo(porMedico, medicoId, inicio, fim).values());
+    }
+
+    @Override
+    public List<Consulta> buscarPorPacienteEPeriodo(int pacienteId, LocalDateTime inicio, LocalDateTime fim) {
+        return new ArrayList<>(intervalo(porPaciente, pacienteId, inicio, fim).values());
+    }
+
+    @Override
+    public List<Consulta> buscarPorPlanoEPeriodo(int planoId, LocalDateTime inicio, LocalDateTime fim) {
+        return new ArrayList<>(intervalo(porPlano, planoId, inicio, fim).values());
+    }
+
+    /**
+     * O status muda na própria instância (sem passar pelo repositório), então é lido a cada contagem
+     * percorrendo o intervalo do médico, sem copiar a lista.
+     */
+    @Override
+    public Map<ConsultaStatus, Integer> contarPorStatus(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        ConsultaStatus[] status = ConsultaStatus.values();
+        int[] contagem = new int[status.length];
+        for (Consulta consulta : intervalo(porMedico, medicoId, inicio, fim).values()) {
+            contagem[consulta.getStatus().ordinal()]++;
+        }
+        Map<ConsultaStatus, Integer> resultado = new EnumMap<>(ConsultaStatus.class);
+        for (ConsultaStatus s : status) {
+            resultado.put(s, contagem[s.ordinal()]);
+        }
+        return resultado;
+    }
+
+    private static NavigableMap<ChaveAgenda, Consulta> intervalo(
+            ConcurrentIntObjectMap<NavigableMap<ChaveAgenda, Consulta>> indice, int grupo,
+            LocalDateTime inicio, LocalDateTime fim) {
+        NavigableMap<ChaveAgenda, Consulta> doGrupo = indice.get(grupo);
+        if (doGrupo == null || !inicio.isBefore(fim)) {
+            return Collections.emptyNavigableMap();
+        }
+        return doGrupo.subMap(ChaveAgenda.inicioDe(inicio), true, ChaveAgenda.inicioDe(fim), false);
+    }
+
+    /**
+     * Cópia de todas as consultas em ordem de dataHora; não faz parte da porta.
+     */
+    public List<Consulta> listarTodos() {
+        return new ArrayList<>(agenda.values());
     }
 
     @Override
     public void salvar(Consulta consulta) {
-        store.put(consulta.getId(), consulta);
+        if (store.get(consulta.getId()) == consulta) {
+            // Mesma instância (ex.: só mudou o status): dataHora é final, a agenda já está certa
+            return;
+        }
+        store.compute(consulta.getId(), anterior -> {
+            if (anterior != null && anterior != consulta) {
+                ChaveAgenda chave = ChaveAgenda.de(anterior);
+                agenda.remove(chave);
+                desindexar(porMedico, anterior.getMedico().getId(), chave);
+                desindexar(porPaciente, anterior.getPaciente().getId(), chave);
+                PlanoSaude plano = anterior.getPaciente().getPlanoSaude();
+                if (plano != null) {
+                    desindexar(porPlano, plano.getId(), chave);
+                }
+            }
+            ChaveAgenda chave = ChaveAgenda.de(consulta);
+            agenda.put(chave, consulta);
+            indexar(porMedico, consulta.getMedico().getId(), chave, consulta);
+            indexar(porPaciente, consulta.getPaciente().getId(), chave, consulta);
+            PlanoSaude plano = consulta.getPaciente().getPlanoSaude();
+            if (plano != null) {
+                indexar(porPlano, plano.getId(), chave, consulta);
+            }
+            return consulta;
+        });
+    }
+
+    private static void indexar(ConcurrentIntObjectMap<NavigableMap<ChaveAgenda, Consulta>> indice, int grupo,
+                                ChaveAgenda chave, Consulta consulta) {
+        indice.computeIfAbsent(grupo, g -> new ConcurrentSkipListMap<>()).put(chave, consulta);
+    }
+
+    /**
+     * Mapas de grupo vazios ficam no índice: remover exigiria coordenar com indexar concorrente do mesmo grupo.
+     */
+    private static void desindexar(ConcurrentIntObjectMap<NavigableMap<ChaveAgenda, Consulta>> indice, int grupo,
+                                   ChaveAgenda chave) {
+        NavigableMap<ChaveAgenda, Consulta> doGrupo = indice.get(grupo);
+        if (doGrupo != null) {
+            doGrupo.remove(chave);
+        }
+    }
+
+    @Override
+    public void salvarTodos(Collection<Consulta> consultas) {
+        for (Consulta consulta : consultas) {
+            salvar(consulta);
+        }
+    }
+
+    private record ChaveAgenda(LocalDateTime dataHora, int id) implements Comparable<ChaveAgenda> {
+        static ChaveAgenda de(Consulta consulta) {
+            return new ChaveAgenda(consulta.getDataHora(), consulta.getId());
+        }
+
+        static ChaveAgenda inicioDe(LocalDateTime dataHora) {
+            return new ChaveAgenda(dataHora, Integer.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(ChaveAgenda outra) {
+            int cmp = dataHora.compareTo(outra.dataHora);
+            return cmp != 0 ? cmp : Integer.compare(id, outra.id);
+        }
     }
 }
@@ -1,21 +1,53 @@
 package br.ifma.consultasmedicas.adapters.out.repository;
 
 import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
 import br.ifma.consultasmedicas.ports.out.ExameRepository;
 
 import java.util.*;
 
 public class InMemoryExameRepository implements ExameRepository {
-    private final Map<Integer, Exame> store = new HashMap<>();
+    private final ConcurrentIntObjectMap<Exame> store = new ConcurrentIntObjectMap<>();
 
     @Override
     public Optional<Exame> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Exame> buscarPorId(int id) {
         return Optional.ofNullable(store.get(id));
     }
 
+    @Override
+    public Map<Integer, Exame> buscarPorIds(Collection<Integer> ids) {
+        Map<Integer, Exame> encontrados = new HashMap<>();
+        for (Integer id : ids) {
+            Exame exame = id == null ? null : store.get(id);
+            if (exame != null) {
+                encontrados.put(id, exame);
+            }
+        }
+        return encontrados;
+    }
+
+    @Override
+    public IntObjectMap<Exame> buscarPorIds(IntSet ids) {
+        IntObjectMap<Exame> encontrados = new IntObjectMap<>(ids.size());
+        ids.forEach(id -> {
+            Exame exame = store.get(id);
+            if (exame != null) {
+                encontrados.put(id, exame);
+            }
+        });
+        return encontrados;
+    }
+
     @Override
     public List<Exame> listarTodos() {
-        return new ArrayList<>(store.values());
+        return store.values();
     }
 
     @Override
@@ -1,21 +1,53 @@
 package br.ifma.consultasmedicas.adapters.out.repository;
 
 import br.ifma.consultasmedicas.core.domain.model.Medicamento;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
 import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
 
 import java.util.*;
 
 public class InMemoryMedicamentoRepository implements MedicamentoRepository {
-    private final Map<Integer, Medicamento> store = new HashMap<>();
+    private final ConcurrentIntObjectMap<Medicamento> store = new ConcurrentIntObjectMap<>();
 
     @Override
     public Optional<Medicamento> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Medicamento> buscarPorId(int id) {
         return Optional.ofNullable(store.get(id));
     }
 
+    @Override
+    public Map<Integer, Medicamento> buscarPorIds(Collection<Integer> ids) {
+        Map<Integer, Medicamento> encontrados = new HashMap<>();
+        for (Integer id : ids) {
+            Medicamento medicamento = id == null ? null : store.get(id);
+            if (medicamento != null) {
+                encontrados.put(id, medicamento);
+            }
+        }
+        return encontrados;
+    }
+
+    @Override
+    public IntObjectMap<Medicamento> buscarPorIds(IntSet ids) {
+        IntObjectMap<Medicamento> encontrados = new IntObjectMap<>(ids.size());
+        ids.forEach(id -> {
+            Medicamento medicamento = store.get(id);
+            if (medicamento != null) {
+                encontrados.put(id, medicamento);
+            }
+        });
+        return encontrados;
+    }
+
     @Override
     public List<Medicamento> listarTodos() {
-        return new ArrayList<>(store.values());
+        return store.values();
     }
 
     @Override
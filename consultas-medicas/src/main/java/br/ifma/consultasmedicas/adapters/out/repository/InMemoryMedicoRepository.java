@@ -0,0 +1,32 @@
+package br.ifma.consultasmedicas.adapters.out.repository;
+
+import br.ifma.consultasmedicas.core.domain.model.Medico;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.ports.out.MedicoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public class InMemoryMedicoRepository implements MedicoRepository {
+    private final ConcurrentIntObjectMap<Medico> store = new ConcurrentIntObjectMap<>();
+
+    @Override
+    public Optional<Medico> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Medico> buscarPorId(int id) {
+        return Optional.ofNullable(store.get(id));
+    }
+
+    @Override
+    public List<Medico> listarTodos() {
+        return store.values();
+    }
+
+    @Override
+    public void salvar(Medico medico) {
+        store.put(medico.getId(), medico);
+    }
+}
@@ -1,20 +1,32 @@
 package br.ifma.consultasmedicas.adapters.out.repository;
 
 import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
 import br.ifma.consultasmedicas.ports.out.PacienteRepository;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 public class InMemoryPacienteRepository implements PacienteRepository {
-    private final Map<Integer, Paciente> store = new HashMap<>();
+    private final ConcurrentIntObjectMap<Paciente> store = new ConcurrentIntObjectMap<>();
 
     @Override
     public Optional<Paciente> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Paciente> buscarPorId(int id) {
         return Optional.ofNullable(store.get(id));
     }
 
+    /**
+     * Cópia de todos os pacientes; não faz parte da porta (usado por snapshots/exportações).
+     */
+    public List<Paciente> listarTodos() {
+        return store.values();
+    }
+
     @Override
     public void salvar(Paciente paciente) {
         store.put(paciente.getId(), paciente);
@@ -1,30 +1,143 @@
 package br.ifma.consultasmedicas.adapters.out.repository;
 
 import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
 import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
 
+/**
+ * Mantém índices secundários atualizados no salvar:
+ * - consultaId -> prontuário (checagem de unicidade em O(1))
+ * - pacienteId -> prontuários ordenados por dataHora da consulta (histórico sem varrer o store)
+ * Seguro para uso concorrente; a unicidade por consulta é garantida pelo putIfAbsent do índice.
+ */
 public class InMemoryProntuarioRepository implements ProntuarioRepository {
-    private final Map<Integer, Prontuario> store = new HashMap<>();
+    private static final Comparator<Prontuario> POR_DATA_HORA =
+        Comparator.comparing((Prontuario p) -> p.getConsulta().getDataHora())
+            .thenComparing(Prontuario::getId);
+
+    private final ConcurrentIntObjectMap<Prontuario> store = new ConcurrentIntObjectMap<>();
+    private final ConcurrentIntObjectMap<Prontuario> porConsulta = new ConcurrentIntObjectMap<>();
+    private final ConcurrentIntObjectMap<NavigableSet<Prontuario>> porPaciente = new ConcurrentIntObjectMap<>();
+
+    /**
+     * Cópia de todos os prontuários; não faz parte da porta.
+     */
+    public List<Prontuario> listarTodos() {
+        return store.values();
+    }
 
     @Override
     public void salvar(Prontuario prontuario) {
-        store.put(prontuario.getId(), prontuario);
+        porConsulta.put(prontuario.getConsulta().getId(), prontuario);
+        gravar(prontuario);
+    }
+
+    @Override
+    public void salvarTodos(Collection<Prontuario> prontuarios) {
+        for (Prontuario prontuario : prontuarios) {
+            salvar(prontuario);
+        }
+    }
+
+    @Override
+    public boolean salvarSeAusente(Prontuario prontuario) {
+        Prontuario existente = porConsulta.putIfAbsent(prontuario.getConsulta().getId(), prontuario);
+        if (existente != null && !existente.getId().equals(prontuario.getId())) {
+            return false;
+        }
+        if (existente != null) {
+            porConsulta.put(prontuario.getConsulta().getId(), prontuario);
+        }
+        gravar(prontuario);
+        return true;
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(Integer id) {
+        return id == null ? Optional.empty() : buscarPorId(id.intValue());
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(int id) {
+        return Optional.ofNullable(store.get(id));
     }
 
     @Override
     public List<Prontuario> buscarPorPaciente(Integer pacienteId) {
-        return store.values().stream()
-            .filter(p -> p.getConsulta().getPaciente().getId().equals(pacienteId))
-            .sorted(Comparator.comparing(p -> p.getConsulta().getDataHora()))
-            .collect(Collectors.toList());
+        return pacienteId == null ? new ArrayList<>() : buscarPorPaciente(pacienteId.intValue());
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId) {
+        NavigableSet<Prontuario> historico = porPaciente.get(pacienteId);
+        return historico == null ? new ArrayList<>() : new ArrayList<>(historico);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId, Integer aposProntuarioId, int limite) {
+        NavigableSet<Prontuario> historico = porPaciente.get(pacienteId);
+        if (historico == null) {
+            return new ArrayList<>();
+        }
+        if (aposProntuarioId != null) {
+            // O cursor localiza a posição no índice ordenado sem percorrer as páginas anteriores
+            Prontuario cursor = store.get(aposProntuarioId);
+            if (cursor == null || cursor.getConsulta().getPaciente().getId() != pacienteId) {
+                return new ArrayList<>();
+            }
+            historico = historico.headSet(cursor, false);
+        }
+        List<Prontuario> pagina = new ArrayList<>(Math.min(limite, 64));
+        Iterator<Prontuario> maisRecentes = historico.descendingIterator();
+        while (pagina.size() < limite && maisRecentes.hasNext()) {
+            pagina.add(maisRecentes.next());
+        }
+        return pagina;
+    }
+
+    @Override
+    public Stream<Prontuario> streamPorPaciente(int pacienteId) {
+        NavigableSet<Prontuario> historico = porPaciente.get(pacienteId);
+        return historico == null ? Stream.empty() : historico.descendingSet().stream();
+    }
+
+    @Override
+    public Stream<Prontuario> streamTodos() {
+        return store.streamValues();
     }
 
     @Override
     public boolean existeParaConsulta(Integer consultaId) {
-        return store.values().stream()
-            .anyMatch(p -> p.getConsulta().getId().equals(consultaId));
+        return consultaId != null && existeParaConsulta(consultaId.intValue());
+    }
+
+    @Override
+    public boolean existeParaConsulta(int consultaId) {
+        return porConsulta.containsKey(consultaId);
+    }
+
+    private void gravar(Prontuario prontuario) {
+        store.compute(prontuario.getId(), anterior -> {
+            if (anterior != null && anterior != prontuario) {
+                removerDosIndices(anterior, prontuario);
+            }
+            porPaciente.computeIfAbsent(prontuario.getConsulta().getPaciente().getId(),
+                k -> new ConcurrentSkipListSet<>(POR_DATA_HORA)).add(prontuario);
+            return prontuario;
+        });
+    }
+
+    private void removerDosIndices(Prontuario anterior, Prontuario novo) {
+        if (!anterior.getConsulta().getId().equals(novo.getConsulta().getId())) {
+            porConsulta.remove(anterior.getConsulta().getId(), anterior);
+        }
+        NavigableSet<Prontuario> historico = porPaciente.get(anterior.getConsulta().getPaciente().getId());
+        if (historico != null) {
+            historico.remove(anterior);
+        }
     }
 }
@@ -0,0 +1,66 @@
+package br.ifma.consultasmedicas.adapters.out.repository;
+
+import br.ifma.consultasmedicas.core.domain.model.Endereco;
+import br.ifma.consultasmedicas.core.domain.model.PlanoSaude;
+import br.ifma.consultasmedicas.core.domain.model.Telefone;
+import br.ifma.consultasmedicas.core.util.Interner;
+
+/**
+ * Canoniza valores repetidos que os repositórios em memória acabam guardando: componentes de endereço (e
+ * sexo/plano), telefones e as frases de prescrição ("VO a cada 6h", "3 dias"). Os pools são fracos, então
+ * valores que saem de todos os registros podem ser coletados.
+ * <p>
+ * Quem lê texto de fora (importação, corpo HTTP, replay do journal) passa os valores por aqui antes de
+ * construir o objeto de domínio, que continua imutável: nada é trocado depois de publicado.
+ */
+public final class Internamento {
+    /**
+     * Pools do processo, usados pelos adaptadores que leem texto de fora.
+     */
+    public static final Internamento COMPARTILHADO = new Internamento(true);
+    /**
+     * Devolve os valores como vieram (medições de pegada de heap).
+     */
+    public static final Internamento DESLIGADO = new Internamento(false);
+
+    private final boolean ativo;
+    private final Interner<String> cadastro = new Interner<>();
+    private final Interner<Telefone> telefones = new Interner<>();
+    private final Interner<String> frasesPrescricao = new Interner<>();
+
+    private Internamento(boolean ativo) {
+        this.ativo = ativo;
+    }
+
+    public static Internamento novo() {
+        return new Internamento(true);
+    }
+
+    /**
+     * Sexo, componentes de endereço e nome de plano.
+     */
+    public String cadastro(String valor) {
+        return ativo ? cadastro.intern(valor) : valor;
+    }
+
+    public Telefone telefone(Telefone telefone) {
+        return ativo ? telefones.intern(telefone) : telefone;
+    }
+
+    /**
+     * Dosagem, administração e tempo de uso.
+     */
+    public String frasePrescricao(String frase) {
+        return ativo ? frasesPrescricao.intern(frase) : frase;
+    }
+
+    public Endereco endereco(String logradouro, String numero, String complemento, String bairro, String cidade,
+                             String estadoUf, String cep) {
+        return new Endereco(cadastro(logradouro), cadastro(numero), cadastro(complemento), cadastro(bairro),
+            cadastro(cidade), cadastro(estadoUf), cadastro(cep));
+    }
+
+    public PlanoSaude plano(Integer id, String nome) {
+        return new PlanoSaude(id, cadastro(nome));
+    }
+}
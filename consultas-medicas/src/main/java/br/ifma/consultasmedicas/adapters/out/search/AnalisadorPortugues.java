@@ -0,0 +1,91 @@
+package br.ifma.consultasmedicas.adapters.out.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Quebra texto clínico em termos: minúsculas, sem acentos, sem stopwords e com um radical
+ * simplificado (plural, gênero e -mente): "Tosses" e "tosse", "inchada" e "inchado" viram o
+ * mesmo termo.
+ */
+public final class AnalisadorPortugues {
+    private static final int TAMANHO_MINIMO_RADICAL = 3;
+
+    // "nao" fica de fora de propósito: negação é relevante em texto clínico
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "o", "e", "as", "os", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+        "um", "uma", "uns", "umas", "para", "pra", "por", "pelo", "pela", "pelos", "pelas", "com",
+        "que", "se", "ao", "aos", "ou", "mas", "mais", "muito", "como", "ja", "ha", "foi", "ser",
+        "esta", "estao", "tem", "sem", "seu", "sua", "seus", "suas", "ele", "ela", "eles", "elas",
+        "isso", "esse", "essa", "este", "num", "numa", "entre", "apos", "ate", "desde", "tambem");
+
+    private AnalisadorPortugues() {
+    }
+
+    public static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null || texto.isEmpty()) {
+            return termos;
+        }
+        String normalizado = dobrarAcentos(texto);
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean letraOuDigito = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (letraOuDigito && inicio < 0) {
+                inicio = i;
+            } else if (!letraOuDigito && inicio >= 0) {
+                String palavra = normalizado.substring(inicio, i);
+                if (!STOPWORDS.contains(palavra)) {
+                    termos.add(radical(palavra));
+                }
+                inicio = -1;
+            }
+        }
+        return termos;
+    }
+
+    static String dobrarAcentos(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    static String radical(String palavra) {
+        if (palavra.length() <= TAMANHO_MINIMO_RADICAL || Character.isDigit(palavra.charAt(0))) {
+            return palavra;
+        }
+        String p = palavra;
+        // Plural
+        if (p.endsWith("oes") || p.endsWith("aes")) {
+            p = p.substring(0, p.length() - 3) + "ao";
+        } else if (p.endsWith("ais")) {
+            p = p.substring(0, p.length() - 2) + "l";
+        } else if (p.endsWith("eis") && p.length() > 4) {
+            p = p.substring(0, p.length() - 3) + "el";
+        } else if (p.endsWith("ns")) {
+            p = p.substring(0, p.length() - 2) + "m";
+        } else if (p.endsWith("res") || p.endsWith("zes")) {
+            p = p.substring(0, p.length() - 2);
+        } else if (p.endsWith("s") && !p.endsWith("ss")) {
+            p = p.substring(0, p.length() - 1);
+        }
+        // Advérbio
+        if (p.endsWith("mente") && p.length() - 5 >= TAMANHO_MINIMO_RADICAL) {
+            p = p.substring(0, p.length() - 5);
+        }
+        // Gênero/vogal temática final
+        char ultima = p.charAt(p.length() - 1);
+        if ((ultima == 'a' || ultima == 'o' || ultima == 'e') && p.length() - 1 >= TAMANHO_MINIMO_RADICAL) {
+            p = p.substring(0, p.length() - 1);
+        }
+        return p;
+    }
+}
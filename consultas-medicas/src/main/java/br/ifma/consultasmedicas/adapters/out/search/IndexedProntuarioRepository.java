@@ -0,0 +1,91 @@
+package br.ifma.consultasmedicas.adapters.out.search;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Mantém o índice textual em dia: todo prontuário gravado é indexado logo após o salvar.
+ */
+public class IndexedProntuarioRepository implements ProntuarioRepository {
+    private final ProntuarioRepository delegate;
+    private final IndiceInvertidoProntuarios indice;
+
+    public IndexedProntuarioRepository(ProntuarioRepository delegate, IndiceInvertidoProntuarios indice) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.indice = Objects.requireNonNull(indice);
+    }
+
+    @Override
+    public void salvar(Prontuario prontuario) {
+        delegate.salvar(prontuario);
+        indice.indexar(prontuario);
+    }
+
+    @Override
+    public void salvarTodos(Collection<Prontuario> prontuarios) {
+        delegate.salvarTodos(prontuarios);
+        for (Prontuario prontuario : prontuarios) {
+            indice.indexar(prontuario);
+        }
+    }
+
+    @Override
+    public boolean salvarSeAusente(Prontuario prontuario) {
+        if (!delegate.salvarSeAusente(prontuario)) {
+            return false;
+        }
+        indice.indexar(prontuario);
+        return true;
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(Integer id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Prontuario> buscarPorId(int id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(Integer pacienteId) {
+        return delegate.buscarPorPaciente(pacienteId);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId) {
+        return delegate.buscarPorPaciente(pacienteId);
+    }
+
+    @Override
+    public List<Prontuario> buscarPorPaciente(int pacienteId, Integer aposProntuarioId, int limite) {
+        return delegate.buscarPorPaciente(pacienteId, aposProntuarioId, limite);
+    }
+
+    @Override
+    public Stream<Prontuario> streamPorPaciente(int pacienteId) {
+        return delegate.streamPorPaciente(pacienteId);
+    }
+
+    @Override
+    public Stream<Prontuario> streamTodos() {
+        return delegate.streamTodos();
+    }
+
+    @Override
+    public boolean existeParaConsulta(Integer consultaId) {
+        return delegate.existeParaConsulta(consultaId);
+    }
+
+    @Override
+    public boolean existeParaConsulta(int consultaId) {
+        return delegate.existeParaConsulta(consultaId);
+    }
+}
@@ -0,0 +1,294 @@
+package br.ifma.consultasmedicas.adapters.out.search;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.ports.out.IndiceTextualProntuarios;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre sintomas + observação clínica, com ranqueamento BM25.
+ * <p>
+ * Cada versão indexada de um prontuário recebe um número de documento sequencial; as listas de
+ * postings guardam (delta do documento, frequência do termo) em varint, então crescem só por
+ * anexação e ocupam ~2 bytes por ocorrência; a cada {@value #INTERVALO_SALTO} entradas um ponto de
+ * salto permite que o AND pule blocos inteiros de termos frequentes. Regravar um prontuário marca a versão antiga como
+ * removida (a frequência de documentos dos termos antigos fica levemente superestimada).
+ * Consultas usam AND entre os termos, percorrendo a lista mais curta e avançando as demais; com
+ * pacienteId, quem conduz é a lista de documentos do paciente, sem varrer os postings da clínica.
+ */
+public class IndiceInvertidoProntuarios implements IndiceTextualProntuarios {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int INTERVALO_SALTO = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final IntObjectMap<Integer> documentoPorProntuario = new IntObjectMap<>();
+    private final IntObjectMap<DocumentosPaciente> documentosPorPaciente = new IntObjectMap<>();
+    private final BitSet removidos = new BitSet();
+
+    // Por número de documento
+    private int[] prontuarioIds = new int[1024];
+    private int[] comprimentos = new int[1024];
+    private int documentos;
+
+    private int ativos;
+    private long somaComprimentos;
+
+    public void indexar(Prontuario prontuario) {
+        List<String> termos = AnalisadorPortugues.termos(prontuario.getSintomas());
+        termos.addAll(AnalisadorPortugues.termos(prontuario.getObservacaoClinica()));
+        Map<String, Integer> frequencias = new HashMap<>();
+        for (String termo : termos) {
+            frequencias.merge(termo, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer anterior = documentoPorProntuario.get(prontuario.getId());
+            if (anterior != null && !removidos.get(anterior)) {
+                removidos.set(anterior);
+                ativos--;
+                somaComprimentos -= comprimentos[anterior];
+            }
+            int documento = documentos++;
+            if (documento == prontuarioIds.length) {
+                int novoTamanho = documento * 2;
+                prontuarioIds = Arrays.copyOf(prontuarioIds, novoTamanho);
+                comprimentos = Arrays.copyOf(comprimentos, novoTamanho);
+            }
+            prontuarioIds[documento] = prontuario.getId();
+            int pacienteId = prontuario.getConsulta().getPaciente().getId();
+            DocumentosPaciente doPaciente = documentosPorPaciente.get(pacienteId);
+            if (doPaciente == null) {
+                doPaciente = new DocumentosPaciente();
+                documentosPorPaciente.put(pacienteId, doPaciente);
+            }
+            doPaciente.anexar(documento);
+            comprimentos[documento] = termos.size();
+            documentoPorProntuario.put(prontuario.getId(), documento);
+            ativos++;
+            somaComprimentos += termos.size();
+
+            frequencias.forEach((termo, frequencia) ->
+                postings.computeIfAbsent(termo, t -> new Postings()).anexar(documento, frequencia));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Resultado buscar(String consulta, Integer pacienteId, int deslocamento, int limite) {
+        List<String> termos = new ArrayList<>(new LinkedHashSet<>(AnalisadorPortugues.termos(consulta)));
+        if (termos.isEmpty() || limite <= 0) {
+            return new Resultado(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            Leitor[] leitores = new Leitor[termos.size()];
+            for (int i = 0; i < leitores.length; i++) {
+                Postings lista = postings.get(termos.get(i));
+                if (lista == null) {
+                    return new Resultado(List.of(), 0);
+                }
+                leitores[i] = new Leitor(lista, idf(lista.quantidade));
+            }
+            Arrays.sort(leitores, Comparator.comparingInt(l -> l.postings.quantidade));
+            return pontuar(leitores, pacienteId, deslocamento, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Resultado pontuar(Leitor[] leitores, Integer pacienteId, int deslocamento, int limite) {
+        int capacidade = deslocamento + limite;
+        double mediaComprimento = ativos == 0 ? 1 : Math.max(1, (double) somaComprimentos / ativos);
+        // Min-heap dos melhores: a raiz é o pior acerto mantido
+        PriorityQueue<long[]> melhores = new PriorityQueue<>(Math.min(capacidade, 1024) + 1,
+            (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        int total = 0;
+        DocumentosPaciente doPaciente = null;
+        if (pacienteId != null) {
+            doPaciente = documentosPorPaciente.get(pacienteId);
+            if (doPaciente == null) {
+                return new Resultado(List.of(), 0);
+            }
+        }
+        // Sem paciente, a lista mais curta conduz e só as demais precisam ser avançadas
+        int primeiroAvancado = doPaciente == null ? 1 : 0;
+        int candidato = 0;
+        proximo:
+        while (true) {
+            int documento;
+            if (doPaciente != null) {
+                if (candidato == doPaciente.quantidade) {
+                    break;
+                }
+                documento = doPaciente.documentos[candidato++];
+            } else {
+                if (!leitores[0].avancar()) {
+                    break;
+                }
+                documento = leitores[0].documento;
+            }
+            if (removidos.get(documento)) {
+                continue;
+            }
+            for (int i = primeiroAvancado; i < leitores.length; i++) {
+                if (!leitores[i].avancarAte(documento)) {
+                    if (leitores[i].esgotado) {
+                        break proximo;
+                    }
+                    continue proximo;
+                }
+            }
+            total++;
+            double relevancia = 0;
+            double normalizacao = K1 * (1 - B + B * comprimentos[documento] / mediaComprimento);
+            for (Leitor leitor : leitores) {
+                relevancia += leitor.idf * leitor.frequencia * (K1 + 1) / (leitor.frequencia + normalizacao);
+            }
+            // Relevância como bits do double (positivo: ordem preservada); empate favorece o mais recente
+            long bits = Double.doubleToLongBits(relevancia);
+            if (melhores.size() < capacidade) {
+                melhores.add(new long[]{bits, documento});
+            } else {
+                long[] pior = melhores.peek();
+                if (bits > pior[0] || (bits == pior[0] && documento > pior[1])) {
+                    // Reaproveita o array descartado: termos frequentes não geram lixo por acerto
+                    melhores.poll();
+                    pior[0] = bits;
+                    pior[1] = documento;
+                    melhores.add(pior);
+                }
+            }
+        }
+
+        List<Acerto> ordenados = new ArrayList<>(melhores.size());
+        while (!melhores.isEmpty()) {
+            long[] acerto = melhores.poll();
+            ordenados.add(new Acerto(prontuarioIds[(int) acerto[1]], Double.longBitsToDouble(acerto[0])));
+        }
+        Collections.reverse(ordenados);
+        List<Acerto> pagina = deslocamento >= ordenados.size()
+            ? List.of()
+            : List.copyOf(ordenados.subList(deslocamento, ordenados.size()));
+        return new Resultado(pagina, total);
+    }
+
+    private double idf(int frequenciaDocumentos) {
+        return Math.log(1 + (ativos - frequenciaDocumentos + 0.5) / (frequenciaDocumentos + 0.5));
+    }
+
+    private static final class DocumentosPaciente {
+        private int[] documentos = new int[4];
+        private int quantidade;
+
+        void anexar(int documento) {
+            if (quantidade == documentos.length) {
+                documentos = Arrays.copyOf(documentos, quantidade * 2);
+            }
+            documentos[quantidade++] = documento;
+        }
+    }
+
+    /**
+     * Lista de (delta documento, frequência) em varint, só com anexação. Cada ponto de salto guarda
+     * o documento e a posição logo após uma entrada múltipla de {@value #INTERVALO_SALTO}.
+     */
+    private static final class Postings {
+        private byte[] dados = new byte[8];
+        private int tamanho;
+        private int ultimoDocumento;
+        private int quantidade;
+        private int[] saltoDocumento = new int[0];
+        private int[] saltoPosicao = new int[0];
+
+        void anexar(int documento, int frequencia) {
+            escrever(documento - ultimoDocumento);
+            escrever(frequencia);
+            ultimoDocumento = documento;
+            quantidade++;
+            if (quantidade % INTERVALO_SALTO == 0) {
+                int saltos = quantidade / INTERVALO_SALTO;
+                if (saltos > saltoDocumento.length) {
+                    saltoDocumento = Arrays.copyOf(saltoDocumento, Math.max(4, saltos * 2));
+                    saltoPosicao = Arrays.copyOf(saltoPosicao, saltoDocumento.length);
+                }
+                saltoDocumento[saltos - 1] = documento;
+                saltoPosicao[saltos - 1] = tamanho;
+            }
+        }
+
+        private void escrever(int valor) {
+            if (tamanho + 5 > dados.length) {
+                dados = Arrays.copyOf(dados, dados.length * 2);
+            }
+            while ((valor & ~0x7F) != 0) {
+                dados[tamanho++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            dados[tamanho++] = (byte) valor;
+        }
+    }
+
+    private static final class Leitor {
+        final Postings postings;
+        final double idf;
+        int posicao;
+        int documento;
+        int frequencia;
+        int proximoSalto;
+        boolean esgotado;
+
+        Leitor(Postings postings, double idf) {
+            this.postings = postings;
+            this.idf = idf;
+        }
+
+        boolean avancar() {
+            if (posicao >= postings.tamanho) {
+                esgotado = true;
+                return false;
+            }
+            documento += ler();
+            frequencia = ler();
+            return true;
+        }
+
+        /**
+         * Avança até o primeiro documento >= alvo; true se for exatamente o alvo.
+         */
+        boolean avancarAte(int alvo) {
+            int saltos = postings.quantidade / INTERVALO_SALTO;
+            while (proximoSalto < saltos && postings.saltoDocumento[proximoSalto] < alvo) {
+                if (postings.saltoPosicao[proximoSalto] > posicao) {
+                    documento = postings.saltoDocumento[proximoSalto];
+                    posicao = postings.saltoPosicao[proximoSalto];
+                }
+                proximoSalto++;
+            }
+            while (documento < alvo || posicao == 0) {
+                if (!avancar()) {
+                    return false;
+                }
+            }
+            return documento == alvo;
+        }
+
+        private int ler() {
+            byte[] dados = postings.dados;
+            int valor = 0;
+            int deslocamento = 0;
+            byte b;
+            do {
+                b = dados[posicao++];
+                valor |= (b & 0x7F) << deslocamento;
+                deslocamento += 7;
+            } while (b < 0);
+            return valor;
+        }
+    }
+}
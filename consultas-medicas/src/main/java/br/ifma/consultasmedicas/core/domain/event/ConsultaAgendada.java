@@ -0,0 +1,14 @@
+package br.ifma.consultasmedicas.core.domain.event;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+
+import java.util.Objects;
+
+/**
+ * Consulta gravada em estado AGENDADA (nova ou remarcada).
+ */
+public record ConsultaAgendada(Consulta consulta) implements EventoDominio {
+    public ConsultaAgendada {
+        Objects.requireNonNull(consulta);
+    }
+}
@@ -0,0 +1,11 @@
+package br.ifma.consultasmedicas.core.domain.event;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+
+import java.util.Objects;
+
+public record ConsultaCancelada(Consulta consulta) implements EventoDominio {
+    public ConsultaCancelada {
+        Objects.requireNonNull(consulta);
+    }
+}
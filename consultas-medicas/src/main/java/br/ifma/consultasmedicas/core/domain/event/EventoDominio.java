@@ -0,0 +1,7 @@
+package br.ifma.consultasmedicas.core.domain.event;
+
+/**
+ * Fato ocorrido no domínio, publicado após a gravação correspondente.
+ */
+public sealed interface EventoDominio permits ConsultaAgendada, ConsultaCancelada, ProntuarioRegistrado {
+}
@@ -0,0 +1,14 @@
+package br.ifma.consultasmedicas.core.domain.event;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+import java.util.Objects;
+
+/**
+ * Prontuário salvo; a consulta dele já está REALIZADA.
+ */
+public record ProntuarioRegistrado(Prontuario prontuario) implements EventoDominio {
+    public ProntuarioRegistrado {
+        Objects.requireNonNull(prontuario);
+    }
+}
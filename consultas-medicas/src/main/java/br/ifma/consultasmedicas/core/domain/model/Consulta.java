@@ -2,6 +2,7 @@ package br.ifma.consultasmedicas.core.domain.model;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class Consulta {
     private final Integer id;
@@ -9,7 +10,7 @@ public class Consulta {
     private final Medico medico;
     private final LocalDateTime dataHora;
     private final boolean pacienteNovo;
-    private ConsultaStatus status;
+    private final AtomicReference<ConsultaStatus> status;
 
     public Consulta(Integer id, Paciente paciente, Medico medico, LocalDateTime dataHora, boolean pacienteNovo) {
         this.id = Objects.requireNonNull(id);
@@ -17,7 +18,7 @@ public class Consulta {
         this.medico = Objects.requireNonNull(medico);
         this.dataHora = Objects.requireNonNull(dataHora);
         this.pacienteNovo = pacienteNovo;
-        this.status = ConsultaStatus.AGENDADA;
+        this.status = new AtomicReference<>(ConsultaStatus.AGENDADA);
     }
 
     public Integer getId() { return id; }
@@ -25,13 +26,21 @@ public class Consulta {
     public Medico getMedico() { return medico; }
     public LocalDateTime getDataHora() { return dataHora; }
     public boolean isPacienteNovo() { return pacienteNovo; }
-    public ConsultaStatus getStatus() { return status; }
+    public ConsultaStatus getStatus() { return status.get(); }
 
     public void marcarRealizada() {
-        this.status = ConsultaStatus.REALIZADA;
+        this.status.set(ConsultaStatus.REALIZADA);
     }
 
     public void cancelar() {
-        this.status = ConsultaStatus.CANCELADA;
+        this.status.set(ConsultaStatus.CANCELADA);
+    }
+
+    /**
+     * Transição atômica (CAS): só altera o status se ele ainda for o esperado.
+     * Retorna false se outra thread mudou o status antes.
+     */
+    public boolean transicionar(ConsultaStatus esperado, ConsultaStatus novo) {
+        return this.status.compareAndSet(esperado, Objects.requireNonNull(novo));
     }
 }
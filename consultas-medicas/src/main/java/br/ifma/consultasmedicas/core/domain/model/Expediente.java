@@ -0,0 +1,86 @@
+package br.ifma.consultasmedicas.core.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Grade de atendimento da clínica: horário de abertura e fechamento, duração fixa da consulta e dias da semana.
+ * O dia é dividido em horários (slots) consecutivos a partir da abertura; uma consulta ocupa exatamente um.
+ */
+public final class Expediente {
+    public static final Expediente PADRAO = new Expediente(LocalTime.of(8, 0), LocalTime.of(18, 0),
+        Duration.ofMinutes(30), EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+    private final LocalTime abertura;
+    private final Duration duracaoConsulta;
+    private final Set<DayOfWeek> diasAtendimento;
+    private final long segundosPorHorario;
+    private final int horariosPorDia;
+
+    public Expediente(LocalTime abertura, LocalTime fechamento, Duration duracaoConsulta, Set<DayOfWeek> diasAtendimento) {
+        this.abertura = Objects.requireNonNull(abertura);
+        Objects.requireNonNull(fechamento);
+        this.duracaoConsulta = Objects.requireNonNull(duracaoConsulta);
+        this.diasAtendimento = Set.copyOf(diasAtendimento);
+        this.segundosPorHorario = duracaoConsulta.toSeconds();
+        if (segundosPorHorario <= 0 || !fechamento.isAfter(abertura)) {
+            throw new IllegalArgumentException("Expediente inválido: " + abertura + "-" + fechamento + " / " + duracaoConsulta);
+        }
+        this.horariosPorDia = (int) (Duration.between(abertura, fechamento).toSeconds() / segundosPorHorario);
+        if (horariosPorDia == 0) {
+            throw new IllegalArgumentException("A consulta não cabe no expediente: " + duracaoConsulta);
+        }
+    }
+
+    public Duration getDuracaoConsulta() { return duracaoConsulta; }
+    public int getHorariosPorDia() { return horariosPorDia; }
+
+    public boolean atendeEm(LocalDate dia) {
+        return diasAtendimento.contains(dia.getDayOfWeek());
+    }
+
+    /**
+     * Índice do horário que começa exatamente em {@code hora}, ou -1 se ela está fora da grade.
+     */
+    public int horarioExato(LocalTime hora) {
+        long segundos = Duration.between(abertura, hora).toSeconds();
+        if (segundos < 0 || segundos % segundosPorHorario != 0 || hora.getNano() != 0) {
+            return -1;
+        }
+        long indice = segundos / segundosPorHorario;
+        return indice < horariosPorDia ? (int) indice : -1;
+    }
+
+    /**
+     * Índice do horário que contém {@code hora} (consultas gravadas fora da grade), ou -1 fora do expediente.
+     */
+    public int horarioContendo(LocalTime hora) {
+        long segundos = Duration.between(abertura, hora).toSeconds();
+        if (segundos < 0) {
+            return -1;
+        }
+        long indice = segundos / segundosPorHorario;
+        return indice < horariosPorDia ? (int) indice : -1;
+    }
+
+    /**
+     * Primeiro horário que começa em {@code hora} ou depois dela; {@link #getHorariosPorDia()} se não houver.
+     */
+    public int primeiroHorarioApos(LocalTime hora) {
+        long nanos = Duration.between(abertura, hora).toNanos();
+        if (nanos <= 0) {
+            return 0;
+        }
+        long porHorario = segundosPorHorario * 1_000_000_000L;
+        return (int) Math.min(horariosPorDia, (nanos + porHorario - 1) / porHorario);
+    }
+
+    public LocalTime inicio(int horario) {
+        return abertura.plusSeconds(horario * segundosPorHorario);
+    }
+}
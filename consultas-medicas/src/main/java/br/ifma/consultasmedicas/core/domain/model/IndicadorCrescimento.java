@@ -0,0 +1,8 @@
+package br.ifma.consultasmedicas.core.domain.model;
+
+/**
+ * Medidas antropométricas acompanhadas na curva de crescimento (peso em kg, altura em cm, IMC em kg/m²).
+ */
+public enum IndicadorCrescimento {
+    PESO, ALTURA, IMC
+}
@@ -1,10 +1,14 @@
 package br.ifma.consultasmedicas.core.domain.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import br.ifma.consultasmedicas.core.util.ListaImutavel;
+
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Registro clínico imutável. As listas recebidas são guardadas como estão quando já são imutáveis
+ * ({@link ListaImutavel}, {@code List.of}); as demais são copiadas uma única vez.
+ */
 public class Prontuario {
     private final Integer id;
     private final Consulta consulta;
@@ -29,8 +33,8 @@ public class Prontuario {
         this.altura = altura;
         this.sintomas = Objects.requireNonNullElse(sintomas, "");
         this.observacaoClinica = Objects.requireNonNullElse(observacaoClinica, "");
-        this.prescricoes = prescricoes == null ? new ArrayList<>() : new ArrayList<>(prescricoes);
-        this.exames = exames == null ? new ArrayList<>() : new ArrayList<>(exames);
+        this.prescricoes = ListaImutavel.de(prescricoes);
+        this.exames = ListaImutavel.de(exames);
     }
 
     public Integer getId() { return id; }
@@ -39,6 +43,6 @@ public class Prontuario {
     public double getAltura() { return altura; }
     public String getSintomas() { return sintomas; }
     public String getObservacaoClinica() { return observacaoClinica; }
-    public List<Prescricao> getPrescricoes() { return Collections.unmodifiableList(prescricoes); }
-    public List<Exame> getExames() { return Collections.unmodifiableList(exames); }
+    public List<Prescricao> getPrescricoes() { return prescricoes; }
+    public List<Exame> getExames() { return exames; }
 }
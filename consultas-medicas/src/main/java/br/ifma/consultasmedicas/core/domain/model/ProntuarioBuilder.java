@@ -1,25 +1,43 @@
 package br.ifma.consultasmedicas.core.domain.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import br.ifma.consultasmedicas.core.util.ListaImutavel;
+
+import java.util.Arrays;
 
 /**
  * Builder para construção de Prontuário (padrão sugerido no enunciado).
+ * Acumula prescrições e exames em arrays que o prontuário adota em {@link #build()}, sem cópia;
+ * com {@link #builder(int, int)} dimensionado pelo chamador, nenhum array é realocado.
  */
 public class ProntuarioBuilder {
+    private static final Prescricao[] SEM_PRESCRICOES = new Prescricao[0];
+    private static final Exame[] SEM_EXAMES = new Exame[0];
+
     private Integer id;
     private Consulta consulta;
     private double peso;
     private double altura;
     private String sintomas;
     private String observacaoClinica;
-    private final List<Prescricao> prescricoes = new ArrayList<>();
-    private final List<Exame> exames = new ArrayList<>();
+    private Prescricao[] prescricoes;
+    private int qtdPrescricoes;
+    private Exame[] exames;
+    private int qtdExames;
 
-    private ProntuarioBuilder() {}
+    private ProntuarioBuilder(int prescricoes, int exames) {
+        this.prescricoes = prescricoes == 0 ? SEM_PRESCRICOES : new Prescricao[prescricoes];
+        this.exames = exames == 0 ? SEM_EXAMES : new Exame[exames];
+    }
 
     public static ProntuarioBuilder builder() {
-        return new ProntuarioBuilder();
+        return new ProntuarioBuilder(0, 0);
+    }
+
+    /**
+     * Builder já dimensionado para a quantidade esperada de prescrições e exames.
+     */
+    public static ProntuarioBuilder builder(int prescricoes, int exames) {
+        return new ProntuarioBuilder(prescricoes, exames);
     }
 
     public ProntuarioBuilder id(Integer id) {
@@ -53,16 +71,24 @@ public class ProntuarioBuilder {
     }
 
     public ProntuarioBuilder addPrescricao(Prescricao prescricao) {
-        this.prescricoes.add(prescricao);
+        if (qtdPrescricoes == prescricoes.length) {
+            prescricoes = Arrays.copyOf(prescricoes, Math.max(4, qtdPrescricoes * 2));
+        }
+        prescricoes[qtdPrescricoes++] = prescricao;
         return this;
     }
 
     public ProntuarioBuilder addExame(Exame exame) {
-        this.exames.add(exame);
+        if (qtdExames == exames.length) {
+            exames = Arrays.copyOf(exames, Math.max(4, qtdExames * 2));
+        }
+        exames[qtdExames++] = exame;
         return this;
     }
 
     public Prontuario build() {
-        return new Prontuario(id, consulta, peso, altura, sintomas, observacaoClinica, prescricoes, exames);
+        // Os adds posteriores só escrevem após o prefixo adotado, então o builder continua reutilizável
+        return new Prontuario(id, consulta, peso, altura, sintomas, observacaoClinica,
+            ListaImutavel.adotar(prescricoes, qtdPrescricoes), ListaImutavel.adotar(exames, qtdExames));
     }
 }
@@ -24,4 +24,15 @@ public class Telefone {
     public String getResponsavel() {
         return responsavel;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Telefone outro && numero.equals(outro.numero) && tipo == outro.tipo
+            && Objects.equals(responsavel, outro.responsavel);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numero, tipo, responsavel);
+    }
 }
@@ -0,0 +1,217 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaCancelada;
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.ports.in.ListarConsultasDoDiaUseCase;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Visão materializada das consultas por dia e por médico, mantida pelos eventos de domínio.
+ * Um dia é carregado do repositório na primeira leitura; depois disso só os eventos o alteram e
+ * a leitura devolve o snapshot imutável corrente, sem consulta ao repositório.
+ * Só os dias dentro da janela em torno de hoje ficam materializados; datas fora dela são lidas direto
+ * do repositório, e dias que saem da janela são descartados na próxima carga. Se um evento falhar ao
+ * atualizar um dia, o dia é descartado e a próxima leitura o recarrega.
+ * O status exibido é o da própria Consulta, então transições posteriores aparecem na hora.
+ */
+public class AgendaDoDiaProjecao implements ListarConsultasDoDiaUseCase {
+    public static final int DIAS_ANTES_PADRAO = 7;
+    public static final int DIAS_DEPOIS_PADRAO = 60;
+
+    private static final Comparator<Consulta> POR_HORARIO =
+        Comparator.comparing(Consulta::getDataHora).thenComparing(Consulta::getId);
+
+    private final ConsultaRepository consultaRepository;
+    private final Clock relogio;
+    private final int diasAntes;
+    private final int diasDepois;
+    private final ConcurrentHashMap<LocalDate, AgendaDia> dias = new ConcurrentHashMap<>();
+    // Dia em que cada consulta materializada aparece; detecta remarcações. Protegido pelo monitor
+    private final Map<Integer, LocalDate> diaDaConsulta = new HashMap<>();
+    // Dia da última varredura da janela; protegido pelo monitor
+    private LocalDate varridoEm;
+
+    public AgendaDoDiaProjecao(ConsultaRepository consultaRepository) {
+        this(consultaRepository, Clock.systemDefaultZone(), DIAS_ANTES_PADRAO, DIAS_DEPOIS_PADRAO);
+    }
+
+    public AgendaDoDiaProjecao(ConsultaRepository consultaRepository, Clock relogio, int diasAntes, int diasDepois) {
+        this.consultaRepository = Objects.requireNonNull(consultaRepository);
+        this.relogio = Objects.requireNonNull(relogio);
+        this.diasAntes = diasAntes;
+        this.diasDepois = diasDepois;
+    }
+
+    @Override
+    public List<Consulta> listar(LocalDate data) {
+        return agenda(data).consultas();
+    }
+
+    @Override
+    public List<Consulta> listarPorMedico(LocalDate data, Integer medicoId) {
+        return agenda(data).porMedico().getOrDefault(medicoId, List.of());
+    }
+
+    public void aplicar(EventoDominio evento) {
+        switch (evento) {
+            case ConsultaAgendada agendada -> atualizar(agendada.consulta());
+            case ConsultaCancelada cancelada -> atualizar(cancelada.consulta());
+            case ProntuarioRegistrado registrado -> atualizar(registrado.prontuario().getConsulta());
+        }
+    }
+
+    private AgendaDia agenda(LocalDate data) {
+        AgendaDia agenda = dias.get(data);
+        if (agenda != null) {
+            return agenda;
+        }
+        LocalDate hoje = LocalDate.now(relogio);
+        if (!naJanela(data, hoje)) {
+            return AgendaDia.de(consultaRepository.buscarPorData(data));
+        }
+        return materializar(data, hoje);
+    }
+
+    private boolean naJanela(LocalDate data, LocalDate hoje) {
+        return !data.isBefore(hoje.minusDays(diasAntes)) && !data.isAfter(hoje.plusDays(diasDepois));
+    }
+
+    private synchronized AgendaDia materializar(LocalDate data, LocalDate hoje) {
+        AgendaDia agenda = dias.get(data);
+        if (agenda == null) {
+            // A janela anda com o relógio: uma vez por dia, os dias que saíram dela são descartados
+            if (!hoje.equals(varridoEm)) {
+                for (LocalDate dia : new ArrayList<>(dias.keySet())) {
+                    if (!naJanela(dia, hoje)) {
+                        descartar(dia);
+                    }
+                }
+                varridoEm = hoje;
+            }
+            agenda = AgendaDia.de(consultaRepository.buscarPorData(data));
+            for (Consulta consulta : agenda.consultas()) {
+                diaDaConsulta.put(consulta.getId(), data);
+            }
+            dias.put(data, agenda);
+        }
+        return agenda;
+    }
+
+    /**
+     * Dias ainda não materializados são ignorados: a carga inicial já trará a consulta gravada.
+     */
+    private synchronized void atualizar(Consulta consulta) {
+        LocalDate dia = consulta.getDataHora().toLocalDate();
+        LocalDate anterior = diaDaConsulta.get(consulta.getId());
+        try {
+            if (anterior != null && !anterior.equals(dia)) {
+                dias.computeIfPresent(anterior, (d, agenda) -> agenda.sem(consulta.getId()));
+                diaDaConsulta.remove(consulta.getId());
+            }
+            AgendaDia agenda = dias.get(dia);
+            if (agenda != null) {
+                dias.put(dia, agenda.com(consulta));
+                diaDaConsulta.put(consulta.getId(), dia);
+            }
+        } catch (RuntimeException e) {
+            descartar(dia);
+            if (anterior != null) {
+                descartar(anterior);
+            }
+            throw e;
+        }
+    }
+
+    private void descartar(LocalDate data) {
+        AgendaDia agenda = dias.remove(data);
+        if (agenda != null) {
+            for (Consulta consulta : agenda.consultas()) {
+                diaDaConsulta.remove(consulta.getId(), data);
+            }
+        }
+    }
+
+    private record AgendaDia(List<Consulta> consultas, Map<Integer, List<Consulta>> porMedico) {
+        static AgendaDia de(Collection<Consulta> consultas) {
+            List<Consulta> ordenadas = new ArrayList<>(consultas);
+            ordenadas.sort(POR_HORARIO);
+            Map<Integer, List<Consulta>> porMedico = new HashMap<>();
+            for (Consulta consulta : ordenadas) {
+                porMedico.computeIfAbsent(consulta.getMedico().getId(), k -> new ArrayList<>()).add(consulta);
+            }
+            porMedico.replaceAll((medicoId, lista) -> Collections.unmodifiableList(lista));
+            return new AgendaDia(Collections.unmodifiableList(ordenadas), Collections.unmodifiableMap(porMedico));
+        }
+
+        /**
+         * Substitui a versão anterior da consulta (se houver) inserindo-a na posição ordenada; só a lista
+         * do médico afetado é copiada, as demais são compartilhadas com o snapshot anterior.
+         */
+        AgendaDia com(Consulta consulta) {
+            AgendaDia base = sem(consulta.getId());
+            Integer medicoId = consulta.getMedico().getId();
+            Map<Integer, List<Consulta>> porMedico = new HashMap<>(base.porMedico);
+            porMedico.put(medicoId, inserir(porMedico.getOrDefault(medicoId, List.of()), consulta));
+            return new AgendaDia(inserir(base.consultas, consulta), Collections.unmodifiableMap(porMedico));
+        }
+
+        AgendaDia sem(Integer consultaId) {
+            int indice = indiceDe(consultas, consultaId);
+            if (indice < 0) {
+                return this;
+            }
+            Consulta removida = consultas.get(indice);
+            Integer medicoId = removida.getMedico().getId();
+            Map<Integer, List<Consulta>> porMedico = new HashMap<>(this.porMedico);
+            List<Consulta> doMedico = porMedico.get(medicoId);
+            if (doMedico != null) {
+                List<Consulta> restantesDoMedico = remover(doMedico, indiceDe(doMedico, consultaId));
+                if (restantesDoMedico.isEmpty()) {
+                    porMedico.remove(medicoId);
+                } else {
+                    porMedico.put(medicoId, restantesDoMedico);
+                }
+            }
+            return new AgendaDia(remover(consultas, indice), Collections.unmodifiableMap(porMedico));
+        }
+
+        private static int indiceDe(List<Consulta> lista, Integer consultaId) {
+            for (int i = 0; i < lista.size(); i++) {
+                if (lista.get(i).getId().equals(consultaId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static List<Consulta> inserir(List<Consulta> lista, Consulta consulta) {
+            int posicao = Collections.binarySearch(lista, consulta, POR_HORARIO);
+            if (posicao < 0) {
+                posicao = -posicao - 1;
+            }
+            List<Consulta> nova = new ArrayList<>(lista.size() + 1);
+            nova.addAll(lista.subList(0, posicao));
+            nova.add(consulta);
+            nova.addAll(lista.subList(posicao, lista.size()));
+            return Collections.unmodifiableList(nova);
+        }
+
+        private static List<Consulta> remover(List<Consulta> lista, int indice) {
+            if (indice < 0) {
+                return lista;
+            }
+            List<Consulta> nova = new ArrayList<>(lista.size() - 1);
+            nova.addAll(lista.subList(0, indice));
+            nova.addAll(lista.subList(indice + 1, lista.size()));
+            return Collections.unmodifiableList(nova);
+        }
+    }
+}
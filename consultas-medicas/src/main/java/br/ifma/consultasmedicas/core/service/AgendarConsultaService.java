@@ -0,0 +1,135 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaCancelada;
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaCommand;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaUseCase;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+import br.ifma.consultasmedicas.ports.out.MedicoRepository;
+import br.ifma.consultasmedicas.ports.out.PacienteRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Caso de uso: Agendamento de Consulta.
+ * - Um médico não tem duas consultas no mesmo horário da grade do {@link Expediente}
+ * - O horário é reservado antes da gravação; se ela falhar, a reserva é desfeita
+ * Consultas gravadas por outros caminhos (importação, remarcação) chegam pelos eventos em {@link #aplicar}.
+ */
+public class AgendarConsultaService implements AgendarConsultaUseCase {
+    private static final int MAXIMO_HORARIOS_LIVRES = 1000;
+
+    private final ConsultaRepository consultaRepository;
+    private final PacienteRepository pacienteRepository;
+    private final MedicoRepository medicoRepository;
+    private final IdGenerator idGenerator;
+    private final Expediente expediente;
+    private final Clock relogio;
+    private final GradeHorarios grade;
+
+    public AgendarConsultaService(ConsultaRepository consultaRepository,
+                                  PacienteRepository pacienteRepository,
+                                  MedicoRepository medicoRepository,
+                                  IdGenerator idGenerator) {
+        this(consultaRepository, pacienteRepository, medicoRepository, idGenerator, Expediente.PADRAO,
+            Clock.systemDefaultZone());
+    }
+
+    public AgendarConsultaService(ConsultaRepository consultaRepository,
+                                  PacienteRepository pacienteRepository,
+                                  MedicoRepository medicoRepository,
+                                  IdGenerator idGenerator,
+                                  Expediente expediente,
+                                  Clock relogio) {
+        this.consultaRepository = Objects.requireNonNull(consultaRepository);
+        this.pacienteRepository = Objects.requireNonNull(pacienteRepository);
+        this.medicoRepository = Objects.requireNonNull(medicoRepository);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.expediente = Objects.requireNonNull(expediente);
+        this.relogio = Objects.requireNonNull(relogio);
+        this.grade = new GradeHorarios(expediente, consultaRepository, relogio);
+    }
+
+    @Override
+    public Integer agendar(AgendarConsultaCommand command) {
+        Paciente paciente = pacienteRepository.buscarPorId(command.getPacienteId())
+            .orElseThrow(() -> new DomainException("Paciente não encontrado: " + command.getPacienteId()));
+        Medico medico = buscarMedico(command.getMedicoId());
+
+        LocalDateTime dataHora = command.getDataHora();
+        if (dataHora == null) {
+            throw new DomainException("Data e hora da consulta são obrigatórias.");
+        }
+        int horario = expediente.horarioExato(dataHora.toLocalTime());
+        if (horario < 0 || !expediente.atendeEm(dataHora.toLocalDate())) {
+            throw new DomainException("Horário fora da grade de atendimento: " + dataHora);
+        }
+        if (dataHora.isBefore(LocalDateTime.now(relogio))) {
+            throw new DomainException("Horário já passou: " + dataHora);
+        }
+
+        int id = idGenerator.proximoId(IdGenerator.Sequencia.CONSULTA);
+        if (!grade.reservar(medico.getId(), dataHora.toLocalDate(), horario, id)) {
+            throw new DomainException("O médico " + medico.getNome() + " já tem consulta em " + dataHora);
+        }
+        try {
+            consultaRepository.salvar(new Consulta(id, paciente, medico, dataHora, command.isPacienteNovo()));
+        } catch (RuntimeException e) {
+            grade.liberar(id);
+            throw e;
+        }
+        return id;
+    }
+
+    @Override
+    public void cancelar(Integer consultaId) {
+        if (consultaId == null) {
+            throw new DomainException("Consulta não encontrada: null");
+        }
+        Consulta consulta = consultaRepository.buscarPorId(consultaId.intValue())
+            .orElseThrow(() -> new DomainException("Consulta não encontrada: " + consultaId));
+        if (!consulta.transicionar(ConsultaStatus.AGENDADA, ConsultaStatus.CANCELADA)) {
+            throw new DomainException("A consulta não está em estado AGENDADA.");
+        }
+        consultaRepository.salvar(consulta);
+        grade.liberar(consulta.getId());
+    }
+
+    @Override
+    public List<LocalDateTime> horariosLivres(Integer medicoId, LocalDateTime aPartirDe, LocalDateTime ate, int quantidade) {
+        buscarMedico(medicoId);
+        Objects.requireNonNull(aPartirDe);
+        Objects.requireNonNull(ate);
+        if (quantidade < 1 || quantidade > MAXIMO_HORARIOS_LIVRES) {
+            throw new DomainException("Quantidade deve estar entre 1 e " + MAXIMO_HORARIOS_LIVRES);
+        }
+        List<LocalDateTime> livres = new ArrayList<>(Math.min(quantidade, expediente.getHorariosPorDia()));
+        if (aPartirDe.isBefore(ate)) {
+            grade.livres(medicoId, aPartirDe, ate, quantidade, livres);
+        }
+        return livres;
+    }
+
+    public void aplicar(EventoDominio evento) {
+        switch (evento) {
+            case ConsultaAgendada agendada -> grade.registrar(agendada.consulta());
+            case ConsultaCancelada cancelada -> grade.liberar(cancelada.consulta().getId());
+            // REALIZADA continua ocupando o horário
+            case ProntuarioRegistrado registrado -> { }
+        }
+    }
+
+    private Medico buscarMedico(Integer medicoId) {
+        return medicoRepository.buscarPorId(medicoId)
+            .orElseThrow(() -> new DomainException("Médico não encontrado: " + medicoId));
+    }
+}
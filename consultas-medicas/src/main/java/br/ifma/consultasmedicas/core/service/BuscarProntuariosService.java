@@ -0,0 +1,49 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.in.BuscarProntuariosUseCase;
+import br.ifma.consultasmedicas.ports.in.ResultadoBuscaProntuarios;
+import br.ifma.consultasmedicas.ports.out.IndiceTextualProntuarios;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * O índice devolve só ids e relevância; os prontuários da página são lidos do repositório.
+ */
+public class BuscarProntuariosService implements BuscarProntuariosUseCase {
+    public static final int TAMANHO_PAGINA_MAXIMO = 100;
+
+    private final IndiceTextualProntuarios indice;
+    private final ProntuarioRepository prontuarioRepository;
+
+    public BuscarProntuariosService(IndiceTextualProntuarios indice, ProntuarioRepository prontuarioRepository) {
+        this.indice = Objects.requireNonNull(indice);
+        this.prontuarioRepository = Objects.requireNonNull(prontuarioRepository);
+    }
+
+    @Override
+    public ResultadoBuscaProntuarios buscar(String termos, Integer pacienteId, int pagina, int tamanhoPagina) {
+        if (termos == null || termos.isBlank()) {
+            throw new DomainException("Informe ao menos um termo de busca.");
+        }
+        if (tamanhoPagina < 1 || tamanhoPagina > TAMANHO_PAGINA_MAXIMO) {
+            throw new DomainException("Tamanho da página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO + ".");
+        }
+        if (pagina < 0) {
+            throw new DomainException("Página inválida: " + pagina);
+        }
+        int deslocamento = Math.multiplyExact(pagina, tamanhoPagina);
+        IndiceTextualProntuarios.Resultado resultado = indice.buscar(termos, pacienteId, deslocamento, tamanhoPagina);
+
+        List<Prontuario> itens = new ArrayList<>(resultado.acertos().size());
+        for (IndiceTextualProntuarios.Acerto acerto : resultado.acertos()) {
+            prontuarioRepository.buscarPorId(acerto.prontuarioId()).ifPresent(itens::add);
+        }
+        return new ResultadoBuscaProntuarios(itens, resultado.total(),
+            deslocamento + resultado.acertos().size() < resultado.total());
+    }
+}
@@ -0,0 +1,156 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.ports.in.RegistroProntuario;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Resultados recentes do registro de prontuário por chave de idempotência, para absorver reenvios
+ * (tablets em Wi-Fi instável). Um reenvio é respondido por um lookup no mapa, sem repositórios, com o
+ * mesmo id e os mesmos alertas do primeiro envio.
+ * <p>
+ * Limitado em quantidade e com TTL único: a ordem de inserção é a ordem de expiração, então a limpeza
+ * só olha o início da fila. A capacidade conta a fila, não o mapa, porque as entradas de falhas saem do
+ * mapa na hora mas só saem da fila quando chegam ao início dela. Entradas em andamento nunca são
+ * descartadas (nem por capacidade nem por TTL): com uma delas no início, a limpeza espera que termine.
+ * Reenvios concorrentes de uma chave em andamento esperam o primeiro envio e recebem o mesmo id (ou o
+ * mesmo erro). Falhas não ficam guardadas: a chave pode ser reenviada.
+ */
+public class CacheIdempotencia {
+    public static final int CAPACIDADE_PADRAO = 100_000;
+    public static final Duration TTL_PADRAO = Duration.ofHours(1);
+
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entrada> ordem = new ConcurrentLinkedQueue<>();
+    // size() da fila é O(n)
+    private final AtomicInteger naFila = new AtomicInteger();
+    private final int capacidade;
+    private final long ttlMillis;
+    private final Clock relogio;
+
+    public CacheIdempotencia() {
+        this(CAPACIDADE_PADRAO, TTL_PADRAO, Clock.systemUTC());
+    }
+
+    public CacheIdempotencia(int capacidade, Duration ttl, Clock relogio) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("capacidade deve ser positiva");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl deve ser positivo");
+        }
+        this.capacidade = capacidade;
+        this.ttlMillis = ttl.toMillis();
+        this.relogio = Objects.requireNonNull(relogio);
+    }
+
+    /**
+     * Devolve o registro já feito com a chave ou executa o registro, guardando o resultado.
+     * Se a chave estiver em andamento em outra thread, espera por ela.
+     *
+     * @throws DomainException se a chave já foi usada para outra consulta, ou o erro do registro
+     */
+    RegistroProntuario executar(String chave, Integer consultaId, Supplier<RegistroProntuario> registro) {
+        while (true) {
+            long agora = relogio.millis();
+            Entrada existente = valida(chave, agora);
+            if (existente != null) {
+                return aguardar(existente, consultaId);
+            }
+            Entrada nova = new Entrada(chave, consultaId, agora + ttlMillis);
+            if (entradas.putIfAbsent(chave, nova) != null) {
+                continue;
+            }
+            enfileirar(nova, agora);
+            try {
+                RegistroProntuario resultado = registro.get();
+                nova.resultado.complete(resultado);
+                return resultado;
+            } catch (RuntimeException e) {
+                entradas.remove(chave, nova);
+                nova.resultado.completeExceptionally(e);
+                throw e;
+            } finally {
+                // A limpeza pode ter parado nesta entrada enquanto estava em andamento
+                limpar(relogio.millis());
+            }
+        }
+    }
+
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    /**
+     * Entradas na fila de expiração, inclusive as que já saíram do mapa e esperam a limpeza.
+     */
+    public int ocupacao() {
+        return naFila.get();
+    }
+
+    private Entrada valida(String chave, long agora) {
+        Entrada entrada = entradas.get(chave);
+        if (entrada != null && entrada.expiraEm <= agora && entrada.resultado.isDone()) {
+            entradas.remove(chave, entrada);
+            return null;
+        }
+        return entrada;
+    }
+
+    private static RegistroProntuario aguardar(Entrada entrada, Integer consultaId) {
+        if (!Objects.equals(entrada.consultaId, consultaId)) {
+            throw new DomainException("Chave de idempotência já usada para a consulta " + entrada.consultaId);
+        }
+        try {
+            return entrada.resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private void enfileirar(Entrada entrada, long agora) {
+        ordem.add(entrada);
+        naFila.incrementAndGet();
+        limpar(agora);
+    }
+
+    /**
+     * Remove do início da fila as entradas concluídas que expiraram ou passam da capacidade.
+     * Entradas já removidas do mapa (falhas, expiradas no lookup) só saem da fila aqui.
+     */
+    private void limpar(long agora) {
+        Entrada primeira;
+        while ((primeira = ordem.peek()) != null && primeira.resultado.isDone()
+            && (primeira.expiraEm <= agora || naFila.get() > capacidade)) {
+            if (ordem.remove(primeira)) {
+                naFila.decrementAndGet();
+                entradas.remove(primeira.chave, primeira);
+            }
+        }
+    }
+
+    private static final class Entrada {
+        final String chave;
+        final Integer consultaId;
+        final long expiraEm;
+        final CompletableFuture<RegistroProntuario> resultado = new CompletableFuture<>();
+
+        Entrada(String chave, Integer consultaId, long expiraEm) {
+            this.chave = chave;
+            this.consultaId = consultaId;
+            this.expiraEm = expiraEm;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.in.ConsultarHistoricoProntuarioAsyncUseCase;
+import br.ifma.consultasmedicas.ports.in.ConsultarHistoricoProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class ConsultarHistoricoProntuarioAsyncService implements ConsultarHistoricoProntuarioAsyncUseCase {
+    private final ConsultarHistoricoProntuarioUseCase consultarHistoricoProntuarioUseCase;
+    private final ExecucaoAssincrona execucao;
+
+    public ConsultarHistoricoProntuarioAsyncService(ConsultarHistoricoProntuarioUseCase consultarHistoricoProntuarioUseCase,
+                                                    ExecucaoAssincrona execucao) {
+        this.consultarHistoricoProntuarioUseCase = Objects.requireNonNull(consultarHistoricoProntuarioUseCase);
+        this.execucao = Objects.requireNonNull(execucao);
+    }
+
+    @Override
+    public CompletableFuture<List<Prontuario>> consultarPorPaciente(Integer pacienteId) {
+        return execucao.executar(() -> consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId));
+    }
+
+    @Override
+    public CompletableFuture<PaginaHistorico> consultarPorPaciente(Integer pacienteId, Integer cursor, int limite) {
+        return execucao.executar(() -> consultarHistoricoProntuarioUseCase.consultarPorPaciente(pacienteId, cursor, limite));
+    }
+}
@@ -1,13 +1,17 @@
 package br.ifma.consultasmedicas.core.service;
 
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
 import br.ifma.consultasmedicas.core.domain.model.Prontuario;
 import br.ifma.consultasmedicas.ports.in.ConsultarHistoricoProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
 import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
 
 import java.util.List;
 import java.util.Objects;
 
 public class ConsultarHistoricoProntuarioService implements ConsultarHistoricoProntuarioUseCase {
+    public static final int LIMITE_MAXIMO = 1000;
+
     private final ProntuarioRepository prontuarioRepository;
 
     public ConsultarHistoricoProntuarioService(ProntuarioRepository prontuarioRepository) {
@@ -18,4 +22,21 @@ public class ConsultarHistoricoProntuarioService implements ConsultarHistoricoPr
     public List<Prontuario> consultarPorPaciente(Integer pacienteId) {
         return prontuarioRepository.buscarPorPaciente(pacienteId);
     }
+
+    @Override
+    public PaginaHistorico consultarPorPaciente(Integer pacienteId, Integer cursor, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new DomainException("Limite deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+        if (pacienteId == null) {
+            return new PaginaHistorico(List.of(), null);
+        }
+        // Um item a mais indica se existe próxima página sem uma segunda consulta
+        List<Prontuario> itens = prontuarioRepository.buscarPorPaciente(pacienteId.intValue(), cursor, limite + 1);
+        if (itens.size() <= limite) {
+            return new PaginaHistorico(itens, null);
+        }
+        List<Prontuario> pagina = itens.subList(0, limite);
+        return new PaginaHistorico(pagina, pagina.get(limite - 1).getId());
+    }
 }
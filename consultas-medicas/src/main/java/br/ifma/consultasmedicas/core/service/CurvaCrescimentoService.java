@@ -0,0 +1,152 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaCancelada;
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.model.IndicadorCrescimento;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.ports.in.ConsultarCurvaCrescimentoUseCase;
+import br.ifma.consultasmedicas.ports.in.CurvaCrescimento;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+import br.ifma.consultasmedicas.ports.out.ReferenciaCrescimento;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Curvas de crescimento mantidas à parte dos prontuários: por paciente, arrays primitivos com dia, peso,
+ * altura e IMC, anexados a cada ProntuarioRegistrado. Consultar (inclusive painéis grandes) só copia os
+ * arrays e calcula os escores z contra a {@link ReferenciaCrescimento}; nenhum Prontuario é carregado.
+ * {@link #reconstruir()} refaz as séries do repositório e deve rodar antes de assinar os eventos.
+ */
+public class CurvaCrescimentoService implements ConsultarCurvaCrescimentoUseCase {
+    // Dias por mês na convenção da OMS
+    private static final double DIAS_POR_MES = 30.4375;
+
+    private final ProntuarioRepository prontuarioRepository;
+    private final ReferenciaCrescimento referencia;
+    private final ConcurrentIntObjectMap<Serie> series = new ConcurrentIntObjectMap<>();
+
+    public CurvaCrescimentoService(ProntuarioRepository prontuarioRepository, ReferenciaCrescimento referencia) {
+        this.prontuarioRepository = Objects.requireNonNull(prontuarioRepository);
+        this.referencia = Objects.requireNonNull(referencia);
+    }
+
+    public void reconstruir() {
+        prontuarioRepository.streamTodos().forEach(this::anexar);
+    }
+
+    public void aplicar(EventoDominio evento) {
+        switch (evento) {
+            case ProntuarioRegistrado registrado -> anexar(registrado.prontuario());
+            case ConsultaAgendada agendada -> { }
+            case ConsultaCancelada cancelada -> { }
+        }
+    }
+
+    @Override
+    public CurvaCrescimento consultar(Integer pacienteId) {
+        Serie serie = series.get(Objects.requireNonNull(pacienteId));
+        return serie == null ? CurvaCrescimento.vazia(pacienteId) : serie.curva(pacienteId, referencia);
+    }
+
+    @Override
+    public List<CurvaCrescimento> consultarPainel(Collection<Integer> pacienteIds) {
+        List<CurvaCrescimento> curvas = new ArrayList<>(pacienteIds.size());
+        for (Integer pacienteId : pacienteIds) {
+            curvas.add(consultar(pacienteId));
+        }
+        return curvas;
+    }
+
+    private void anexar(Prontuario prontuario) {
+        Paciente paciente = prontuario.getConsulta().getPaciente();
+        Serie serie = series.computeIfAbsent(paciente.getId(), id -> new Serie(paciente));
+        double peso = prontuario.getPeso() > 0 ? prontuario.getPeso() : Double.NaN;
+        double alturaMetros = prontuario.getAltura() > 0 ? prontuario.getAltura() : Double.NaN;
+        serie.anexar(prontuario.getId(), (int) prontuario.getConsulta().getDataHora().toLocalDate().toEpochDay(),
+            peso, alturaMetros * 100, peso / (alturaMetros * alturaMetros));
+    }
+
+    /**
+     * Medidas de um paciente ordenadas por dia. Protegida pelo próprio monitor.
+     */
+    private static final class Serie {
+        private final String sexo;
+        private final LocalDate nascimento;
+        private int tamanho;
+        private int[] prontuarios = new int[4];
+        private int[] dias = new int[4];
+        private double[] peso = new double[4];
+        private double[] altura = new double[4];
+        private double[] imc = new double[4];
+
+        Serie(Paciente paciente) {
+            this.sexo = paciente.getSexo();
+            this.nascimento = paciente.getDataNascimento();
+        }
+
+        synchronized void anexar(int prontuarioId, int dia, double pesoKg, double alturaCm, double indiceMassa) {
+            // Quase sempre a medida mais recente: a busca pela posição começa do fim
+            int posicao = tamanho;
+            while (posicao > 0 && dias[posicao - 1] > dia) {
+                posicao--;
+            }
+            for (int i = posicao - 1; i >= 0 && dias[i] == dia; i--) {
+                if (prontuarios[i] == prontuarioId) {
+                    return;
+                }
+            }
+            if (tamanho == dias.length) {
+                int capacidade = tamanho * 2;
+                prontuarios = Arrays.copyOf(prontuarios, capacidade);
+                dias = Arrays.copyOf(dias, capacidade);
+                peso = Arrays.copyOf(peso, capacidade);
+                altura = Arrays.copyOf(altura, capacidade);
+                imc = Arrays.copyOf(imc, capacidade);
+            }
+            int deslocar = tamanho - posicao;
+            System.arraycopy(prontuarios, posicao, prontuarios, posicao + 1, deslocar);
+            System.arraycopy(dias, posicao, dias, posicao + 1, deslocar);
+            System.arraycopy(peso, posicao, peso, posicao + 1, deslocar);
+            System.arraycopy(altura, posicao, altura, posicao + 1, deslocar);
+            System.arraycopy(imc, posicao, imc, posicao + 1, deslocar);
+            prontuarios[posicao] = prontuarioId;
+            dias[posicao] = dia;
+            peso[posicao] = pesoKg;
+            altura[posicao] = alturaCm;
+            imc[posicao] = indiceMassa;
+            tamanho++;
+        }
+
+        CurvaCrescimento curva(Integer pacienteId, ReferenciaCrescimento referencia) {
+            int[] d;
+            double[] p;
+            double[] a;
+            double[] b;
+            synchronized (this) {
+                d = Arrays.copyOf(dias, tamanho);
+                p = Arrays.copyOf(peso, tamanho);
+                a = Arrays.copyOf(altura, tamanho);
+                b = Arrays.copyOf(imc, tamanho);
+            }
+            int n = d.length;
+            double[] idade = new double[n];
+            long nascido = nascimento == null ? 0 : nascimento.toEpochDay();
+            for (int i = 0; i < n; i++) {
+                idade[i] = nascimento == null ? Double.NaN : (d[i] - nascido) / DIAS_POR_MES;
+            }
+            return new CurvaCrescimento(pacienteId, d, idade, p, a, b,
+                referencia.escoresZ(IndicadorCrescimento.PESO, sexo, idade, p),
+                referencia.escoresZ(IndicadorCrescimento.ALTURA, sexo, idade, a),
+                referencia.escoresZ(IndicadorCrescimento.IMC, sexo, idade, b));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package br.ifma.consultasmedicas.core.service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Executa casos de uso síncronos fora da thread chamadora, com limite de operações simultâneas
+ * e timeout.
+ * <p>
+ * Operações acima do limite aguardam vaga na thread de execução (barata com virtual threads),
+ * nunca no chamador. Essa espera também é limitada: com {@code maxNaFila} operações já aguardando,
+ * a submissão seguinte falha na hora com {@link RejectedExecutionException}, sem criar thread. O timeout conta desde a submissão: se vencer antes de a operação começar, ela
+ * não é executada; se vencer durante a execução, o futuro falha com TimeoutException mas a operação
+ * segue até o fim (um registro pode ter sido concluído).
+ */
+public class ExecucaoAssincrona implements AutoCloseable {
+    public static final int MAX_EM_VOO_PADRAO = 1024;
+    public static final int MAX_NA_FILA_PADRAO = 4096;
+    public static final Duration TIMEOUT_PADRAO = Duration.ofSeconds(30);
+
+    private final Executor executor;
+    private final ExecutorService executorProprio;
+    private final int maxEmVoo;
+    private final int maxNaFila;
+    private final Semaphore vagas;
+    // Vagas de admissão: executando + aguardando, devolvidas quando a operação sai
+    private final Semaphore admissoes;
+    private final long timeoutNanos;
+
+    /**
+     * Uma virtual thread por operação, com os limites padrão.
+     */
+    public ExecucaoAssincrona() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), true, MAX_EM_VOO_PADRAO, MAX_NA_FILA_PADRAO, TIMEOUT_PADRAO);
+    }
+
+    public ExecucaoAssincrona(Executor executor, int maxEmVoo, Duration timeout) {
+        this(executor, false, maxEmVoo, MAX_NA_FILA_PADRAO, timeout);
+    }
+
+    public ExecucaoAssincrona(Executor executor, int maxEmVoo, int maxNaFila, Duration timeout) {
+        this(executor, false, maxEmVoo, maxNaFila, timeout);
+    }
+
+    private ExecucaoAssincrona(Executor executor, boolean proprio, int maxEmVoo, int maxNaFila, Duration timeout) {
+        if (maxEmVoo < 1) {
+            throw new IllegalArgumentException("maxEmVoo deve ser positivo");
+        }
+        if (maxNaFila < 0) {
+            throw new IllegalArgumentException("maxNaFila não pode ser negativo");
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.executorProprio = proprio ? (ExecutorService) executor : null;
+        this.maxEmVoo = maxEmVoo;
+        this.maxNaFila = maxNaFila;
+        this.vagas = new Semaphore(maxEmVoo);
+        this.admissoes = new Semaphore(maxEmVoo + maxNaFila);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public <T> CompletableFuture<T> executar(Supplier<T> operacao) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        if (!admissoes.tryAcquire()) {
+            futuro.completeExceptionally(new RejectedExecutionException("Fila de execução cheia"));
+            return futuro;
+        }
+        long prazo = System.nanoTime() + timeoutNanos;
+        futuro.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS);
+        try {
+            executor.execute(() -> {
+                try {
+                    executarComVaga(operacao, futuro, prazo);
+                } finally {
+                    admissoes.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admissoes.release();
+            futuro.completeExceptionally(e);
+        }
+        return futuro;
+    }
+
+    /**
+     * Operações executando agora; as que aguardam vaga não contam.
+     */
+    public int emExecucao() {
+        return maxEmVoo - vagas.availablePermits();
+    }
+
+    /**
+     * Operações admitidas que ainda não saíram (executando ou aguardando vaga).
+     */
+    public int admitidas() {
+        return maxEmVoo + maxNaFila - admissoes.availablePermits();
+    }
+
+    private <T> void executarComVaga(Supplier<T> operacao, CompletableFuture<T> futuro, long prazo) {
+        try {
+            if (!vagas.tryAcquire(prazo - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                futuro.completeExceptionally(new TimeoutException("Sem vaga para executar dentro do timeout"));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.completeExceptionally(e);
+            return;
+        }
+        try {
+            if (futuro.isDone()) {
+                return;
+            }
+            futuro.complete(operacao.get());
+        } catch (RuntimeException | Error e) {
+            futuro.completeExceptionally(e);
+        } finally {
+            vagas.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executorProprio != null) {
+            executorProprio.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.ports.in.ExportarProntuariosUseCase;
+import br.ifma.consultasmedicas.ports.in.FiltroExportacao;
+import br.ifma.consultasmedicas.ports.out.DestinoExportacao;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Os prontuários saem do repositório como stream e vão direto ao destino; nenhuma lista é montada.
+ */
+public class ExportarProntuariosService implements ExportarProntuariosUseCase {
+
+    private final ProntuarioRepository prontuarioRepository;
+
+    public ExportarProntuariosService(ProntuarioRepository prontuarioRepository) {
+        this.prontuarioRepository = Objects.requireNonNull(prontuarioRepository);
+    }
+
+    @Override
+    public long exportar(FiltroExportacao filtro, DestinoExportacao destino) {
+        Objects.requireNonNull(filtro);
+        Objects.requireNonNull(destino);
+        if (filtro.getInicio() != null && filtro.getFim() != null && filtro.getFim().isBefore(filtro.getInicio())) {
+            throw new DomainException("Período inválido: fim antes do início.");
+        }
+        long exportados = 0;
+        try (Stream<Prontuario> prontuarios = prontuarioRepository.streamTodos()) {
+            Iterator<Prontuario> it = prontuarios.iterator();
+            while (it.hasNext()) {
+                Prontuario prontuario = it.next();
+                if (aceita(filtro, prontuario.getConsulta())) {
+                    destino.escrever(prontuario);
+                    exportados++;
+                }
+            }
+        }
+        destino.descarregar();
+        return exportados;
+    }
+
+    private static boolean aceita(FiltroExportacao filtro, Consulta consulta) {
+        if (filtro.getMedicoId() != null && !filtro.getMedicoId().equals(consulta.getMedico().getId())) {
+            return false;
+        }
+        LocalDate dia = consulta.getDataHora().toLocalDate();
+        return (filtro.getInicio() == null || !dia.isBefore(filtro.getInicio()))
+            && (filtro.getFim() == null || !dia.isAfter(filtro.getFim()));
+    }
+}
@@ -0,0 +1,229 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.core.domain.model.Expediente;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Ocupação dos horários de cada médico: por (médico, dia) um bitmap com um bit por horário do expediente
+ * e o id da consulta dona de cada bit. Conflito e marcação custam O(1) depois de achar o dia; os horários
+ * livres saem de {@link BitSet#nextClearBit}. Cada médico tem o próprio monitor, então secretárias
+ * agendando médicos diferentes não disputam lock. O dia de um médico é carregado do repositório no
+ * primeiro acesso; a partir daí só reservas, liberações e eventos o alteram.
+ * Só ficam guardados dias de hoje em diante: os que passaram saem na primeira carga de cada dia. Buscas de
+ * horários livres em dias passados ou além de {@link #HORIZONTE_DIAS} usam um dia carregado só para a busca.
+ */
+final class GradeHorarios {
+    static final int HORIZONTE_DIAS = 120;
+
+    private final Expediente expediente;
+    private final ConsultaRepository consultaRepository;
+    private final Clock relogio;
+    private final ConcurrentIntObjectMap<AgendaMedico> medicos = new ConcurrentIntObjectMap<>();
+    // Horário marcado por consulta; permite liberar pelo id e detectar remarcações
+    private final ConcurrentIntObjectMap<Ocupacao> ocupacoes = new ConcurrentIntObjectMap<>();
+
+    GradeHorarios(Expediente expediente, ConsultaRepository consultaRepository, Clock relogio) {
+        this.expediente = Objects.requireNonNull(expediente);
+        this.consultaRepository = Objects.requireNonNull(consultaRepository);
+        this.relogio = Objects.requireNonNull(relogio);
+    }
+
+    /**
+     * Marca o horário para a consulta se ele estiver livre.
+     */
+    boolean reservar(int medicoId, LocalDate dia, int horario, int consultaId) {
+        return agenda(medicoId).reservar(new Ocupacao(medicoId, dia, horario), consultaId);
+    }
+
+    void liberar(int consultaId) {
+        Ocupacao ocupacao = ocupacoes.get(consultaId);
+        if (ocupacao != null) {
+            agenda(ocupacao.medicoId()).liberar(ocupacao, consultaId);
+        }
+    }
+
+    /**
+     * Consulta AGENDADA gravada por qualquer caminho: libera o horário anterior se ela foi remarcada e marca o
+     * novo se o dia já estiver carregado (senão a carga do dia a encontrará no repositório).
+     */
+    void registrar(Consulta consulta) {
+        int consultaId = consulta.getId();
+        Ocupacao atual = ocupacaoDe(consulta);
+        Ocupacao anterior = ocupacoes.get(consultaId);
+        if (anterior != null && !anterior.equals(atual)) {
+            agenda(anterior.medicoId()).liberar(anterior, consultaId);
+        }
+        if (atual != null) {
+            agenda(atual.medicoId()).marcarSeCarregado(atual, consultaId);
+        }
+    }
+
+    /**
+     * Acrescenta a {@code destino} até {@code quantidade} horários livres do médico em [inicio, fim).
+     */
+    void livres(int medicoId, LocalDateTime inicio, LocalDateTime fim, int quantidade, List<LocalDateTime> destino) {
+        AgendaMedico agenda = agenda(medicoId);
+        LocalDate primeiroDia = inicio.toLocalDate();
+        LocalDate ultimoDia = fim.toLocalDate();
+        for (LocalDate dia = primeiroDia; !dia.isAfter(ultimoDia) && destino.size() < quantidade; dia = dia.plusDays(1)) {
+            if (!expediente.atendeEm(dia)) {
+                continue;
+            }
+            int de = dia.equals(primeiroDia) ? expediente.primeiroHorarioApos(inicio.toLocalTime()) : 0;
+            int ate = dia.equals(ultimoDia) ? expediente.primeiroHorarioApos(fim.toLocalTime()) : expediente.getHorariosPorDia();
+            if (de < ate) {
+                agenda.livres(dia, de, ate, quantidade, destino);
+            }
+        }
+    }
+
+    private AgendaMedico agenda(int medicoId) {
+        AgendaMedico agenda = medicos.get(medicoId);
+        return agenda != null ? agenda : medicos.computeIfAbsent(medicoId, AgendaMedico::new);
+    }
+
+    private Ocupacao ocupacaoDe(Consulta consulta) {
+        LocalDateTime dataHora = consulta.getDataHora();
+        int horario = expediente.horarioContendo(dataHora.toLocalTime());
+        return horario < 0 ? null : new Ocupacao(consulta.getMedico().getId(), dataHora.toLocalDate(), horario);
+    }
+
+    private record Ocupacao(int medicoId, LocalDate dia, int horario) {
+    }
+
+    private static final class Dia {
+        final BitSet ocupados;
+        final int[] consultas;
+
+        Dia(int horarios) {
+            this.ocupados = new BitSet(horarios);
+            this.consultas = new int[horarios];
+        }
+    }
+
+    private final class AgendaMedico {
+        private final int medicoId;
+        private final Map<LocalDate, Dia> dias = new HashMap<>();
+        private LocalDate varridoEm;
+
+        AgendaMedico(int medicoId) {
+            this.medicoId = medicoId;
+        }
+
+        synchronized boolean reservar(Ocupacao ocupacao, int consultaId) {
+            Dia dia = dia(ocupacao.dia());
+            if (dia.ocupados.get(ocupacao.horario())) {
+                return false;
+            }
+            ocupar(dia, ocupacao, consultaId);
+            return true;
+        }
+
+        synchronized void marcarSeCarregado(Ocupacao ocupacao, int consultaId) {
+            Dia dia = dias.get(ocupacao.dia());
+            // Legado com dois atendimentos no mesmo horário: o primeiro fica como dono
+            if (dia != null && !dia.ocupados.get(ocupacao.horario())) {
+                ocupar(dia, ocupacao, consultaId);
+            }
+        }
+
+        synchronized void liberar(Ocupacao ocupacao, int consultaId) {
+            if (!ocupacoes.remove(consultaId, ocupacao)) {
+                return;
+            }
+            Dia dia = dias.get(ocupacao.dia());
+            if (dia != null && dia.consultas[ocupacao.horario()] == consultaId) {
+                dia.ocupados.clear(ocupacao.horario());
+                dia.consultas[ocupacao.horario()] = 0;
+            }
+        }
+
+        synchronized void livres(LocalDate data, int de, int ate, int quantidade, List<LocalDateTime> destino) {
+            BitSet ocupados = diaParaLeitura(data).ocupados;
+            for (int h = ocupados.nextClearBit(de); h < ate && destino.size() < quantidade; h = ocupados.nextClearBit(h + 1)) {
+                destino.add(LocalDateTime.of(data, expediente.inicio(h)));
+            }
+        }
+
+        private void ocupar(Dia dia, Ocupacao ocupacao, int consultaId) {
+            dia.ocupados.set(ocupacao.horario());
+            dia.consultas[ocupacao.horario()] = consultaId;
+            ocupacoes.put(consultaId, ocupacao);
+        }
+
+        private Dia dia(LocalDate data) {
+            Dia dia = dias.get(data);
+            if (dia == null) {
+                descartarPassados();
+                dia = carregar(data, true);
+                dias.put(data, dia);
+            }
+            return dia;
+        }
+
+        private Dia diaParaLeitura(LocalDate data) {
+            Dia dia = dias.get(data);
+            if (dia != null) {
+                return dia;
+            }
+            LocalDate hoje = LocalDate.now(relogio);
+            if (data.isBefore(hoje) || data.isAfter(hoje.plusDays(HORIZONTE_DIAS))) {
+                return carregar(data, false);
+            }
+            return dia(data);
+        }
+
+        /**
+         * Monta o dia a partir do repositório; só um dia que será guardado registra as ocupações por consulta.
+         */
+        private Dia carregar(LocalDate data, boolean guardar) {
+            Dia dia = new Dia(expediente.getHorariosPorDia());
+            for (Consulta consulta : consultaRepository.buscarPorMedicoEPeriodo(
+                    medicoId, data.atStartOfDay(), data.plusDays(1).atStartOfDay())) {
+                if (consulta.getStatus() != ConsultaStatus.CANCELADA) {
+                    Ocupacao ocupacao = ocupacaoDe(consulta);
+                    if (ocupacao != null && !dia.ocupados.get(ocupacao.horario())) {
+                        if (guardar) {
+                            ocupar(dia, ocupacao, consulta.getId());
+                        } else {
+                            dia.ocupados.set(ocupacao.horario());
+                        }
+                    }
+                }
+            }
+            return dia;
+        }
+
+        private void descartarPassados() {
+            LocalDate hoje = LocalDate.now(relogio);
+            if (hoje.equals(varridoEm)) {
+                return;
+            }
+            Iterator<Map.Entry<LocalDate, Dia>> entradas = dias.entrySet().iterator();
+            while (entradas.hasNext()) {
+                Map.Entry<LocalDate, Dia> entrada = entradas.next();
+                if (entrada.getKey().isBefore(hoje)) {
+                    Dia dia = entrada.getValue();
+                    for (int h = dia.ocupados.nextSetBit(0); h >= 0; h = dia.ocupados.nextSetBit(h + 1)) {
+                        ocupacoes.remove(dia.consultas[h], new Ocupacao(medicoId, entrada.getKey(), h));
+                    }
+                    entradas.remove();
+                }
+            }
+            varridoEm = hoje;
+        }
+    }
+}
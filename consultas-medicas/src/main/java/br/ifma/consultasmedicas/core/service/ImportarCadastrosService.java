@@ -0,0 +1,117 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.ports.in.ImportarCadastrosUseCase;
+import br.ifma.consultasmedicas.ports.in.ImportarConsultaCommand;
+import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
+import br.ifma.consultasmedicas.ports.out.ExameRepository;
+import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
+import br.ifma.consultasmedicas.ports.out.MedicoRepository;
+import br.ifma.consultasmedicas.ports.out.PacienteRepository;
+
+import java.util.*;
+
+/**
+ * Importação em lote: valida as referências e grava cada lote com um único salvarTodos.
+ * Consultas exigem que o paciente já tenha sido importado; o médico de cada consulta vem na própria
+ * linha e é cadastrado no {@link MedicoRepository} se ainda não existir (do contrário, a consulta usa
+ * o já cadastrado), então médicos importados podem receber agendamentos. Médicos repetidos no lote
+ * compartilham a mesma instância.
+ */
+public class ImportarCadastrosService implements ImportarCadastrosUseCase {
+
+    private final PacienteRepository pacienteRepository;
+    private final ConsultaRepository consultaRepository;
+    private final MedicamentoRepository medicamentoRepository;
+    private final ExameRepository exameRepository;
+    private final MedicoRepository medicoRepository;
+
+    public ImportarCadastrosService(PacienteRepository pacienteRepository,
+                                    ConsultaRepository consultaRepository,
+                                    MedicamentoRepository medicamentoRepository,
+                                    ExameRepository exameRepository,
+                                    MedicoRepository medicoRepository) {
+        this.pacienteRepository = Objects.requireNonNull(pacienteRepository);
+        this.consultaRepository = Objects.requireNonNull(consultaRepository);
+        this.medicamentoRepository = Objects.requireNonNull(medicamentoRepository);
+        this.exameRepository = Objects.requireNonNull(exameRepository);
+        this.medicoRepository = Objects.requireNonNull(medicoRepository);
+    }
+
+    @Override
+    public void importarPacientes(List<Paciente> pacientes) {
+        pacienteRepository.salvarTodos(pacientes);
+    }
+
+    @Override
+    public void importarMedicamentos(List<Medicamento> medicamentos) {
+        medicamentoRepository.salvarTodos(medicamentos);
+    }
+
+    @Override
+    public void importarExames(List<Exame> exames) {
+        exameRepository.salvarTodos(exames);
+    }
+
+    @Override
+    public Map<Integer, String> importarConsultas(List<ImportarConsultaCommand> commands) {
+        Map<Integer, String> rejeitadas = new HashMap<>();
+        IntObjectMap<Paciente> pacientes = new IntObjectMap<>();
+        IntObjectMap<Medico> medicos = new IntObjectMap<>();
+        List<Medico> medicosNovos = new ArrayList<>();
+        List<Consulta> consultas = new ArrayList<>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                consultas.add(montarConsulta(commands.get(i), pacientes, medicos, medicosNovos));
+            } catch (DomainException e) {
+                rejeitadas.put(i, e.getMessage());
+            }
+        }
+        // Médicos antes das consultas: quem enxergar a consulta encontra o médico no repositório
+        medicosNovos.forEach(medicoRepository::salvar);
+        consultaRepository.salvarTodos(consultas);
+        return rejeitadas;
+    }
+
+    private Consulta montarConsulta(ImportarConsultaCommand command,
+                                    IntObjectMap<Paciente> pacientes,
+                                    IntObjectMap<Medico> medicos,
+                                    List<Medico> medicosNovos) {
+        if (command.getId() == null || command.getDataHora() == null) {
+            throw new DomainException("Consulta sem id ou data/hora.");
+        }
+        Integer pacienteId = command.getPacienteId();
+        Paciente paciente = pacienteId == null ? null : pacientes.get(pacienteId);
+        if (paciente == null) {
+            paciente = pacienteId == null ? null : pacienteRepository.buscarPorId(pacienteId.intValue()).orElse(null);
+            if (paciente == null) {
+                throw new DomainException("Paciente não encontrado: " + pacienteId);
+            }
+            pacientes.put(pacienteId, paciente);
+        }
+        Integer medicoId = command.getMedicoId();
+        if (medicoId == null || command.getMedicoNome() == null || command.getMedicoCrm() == null) {
+            throw new DomainException("Médico incompleto na consulta " + command.getId());
+        }
+        Medico medico = medicos.get(medicoId);
+        if (medico == null) {
+            medico = medicoRepository.buscarPorId(medicoId.intValue()).orElse(null);
+            if (medico == null) {
+                medico = new Medico(medicoId, command.getMedicoNome(), command.getMedicoCrm());
+                medicosNovos.add(medico);
+            }
+            medicos.put(medicoId, medico);
+        }
+
+        Consulta consulta = new Consulta(command.getId(), paciente, medico, command.getDataHora(), command.isPacienteNovo());
+        if (command.getStatus() == ConsultaStatus.REALIZADA) {
+            consulta.marcarRealizada();
+        } else if (command.getStatus() == ConsultaStatus.CANCELADA) {
+            consulta.cancelar();
+        }
+        return consulta;
+    }
+}
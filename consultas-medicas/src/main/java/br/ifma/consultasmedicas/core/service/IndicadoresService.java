@@ -0,0 +1,235 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaCancelada;
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.domain.model.Prescricao;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntLongMap;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.ports.in.ConsultarIndicadoresUseCase;
+import br.ifma.consultasmedicas.ports.in.ContagemIndicador;
+import br.ifma.consultasmedicas.ports.in.ProporcaoPacientesNovos;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indicadores pré-agregados: por mês, prescrições por medicamento, exames por médico e pacientes novos x
+ * retornos; por dia, só pacientes novos x retornos (períodos arbitrários). Cada ProntuarioRegistrado soma nos
+ * agregados do seu dia e mês, então as consultas nunca percorrem os prontuários. {@link #reconstruir()} recalcula tudo do repositório com um
+ * stream paralelo (fork-join) e deve rodar antes de assinar os eventos.
+ */
+public class IndicadoresService implements ConsultarIndicadoresUseCase {
+    private final ProntuarioRepository prontuarioRepository;
+    private final ConcurrentHashMap<LocalDate, Pacientes> dias = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<YearMonth, Agregado> meses = new ConcurrentHashMap<>();
+    private final ConcurrentIntObjectMap<String> nomesMedicamentos = new ConcurrentIntObjectMap<>();
+    private final ConcurrentIntObjectMap<String> nomesExames = new ConcurrentIntObjectMap<>();
+
+    public IndicadoresService(ProntuarioRepository prontuarioRepository) {
+        this.prontuarioRepository = Objects.requireNonNull(prontuarioRepository);
+    }
+
+    public void reconstruir() {
+        Parcial total = prontuarioRepository.streamTodos().parallel()
+            .collect(Parcial::new, Parcial::acumular, Parcial::somar);
+        dias.clear();
+        meses.clear();
+        dias.putAll(total.porDia);
+        meses.putAll(total.porMes);
+        total.nomesMedicamentos.forEach(nomesMedicamentos::putIfAbsent);
+        total.nomesExames.forEach(nomesExames::putIfAbsent);
+    }
+
+    public void aplicar(EventoDominio evento) {
+        switch (evento) {
+            case ProntuarioRegistrado registrado -> registrar(registrado.prontuario());
+            case ConsultaAgendada agendada -> { }
+            case ConsultaCancelada cancelada -> { }
+        }
+    }
+
+    @Override
+    public List<ContagemIndicador> medicamentosMaisPrescritos(YearMonth mes, int limite) {
+        if (limite < 1) {
+            throw new DomainException("Limite deve ser positivo");
+        }
+        Agregado agregado = meses.get(Objects.requireNonNull(mes));
+        if (agregado == null) {
+            return List.of();
+        }
+        List<ContagemIndicador> contagens;
+        synchronized (agregado) {
+            contagens = contagens(agregado.prescricoesPorMedicamento, nomesMedicamentos);
+        }
+        return contagens.size() > limite ? contagens.subList(0, limite) : contagens;
+    }
+
+    @Override
+    public List<ContagemIndicador> examesPorMedico(YearMonth mes, Integer medicoId) {
+        Objects.requireNonNull(medicoId);
+        Agregado agregado = meses.get(Objects.requireNonNull(mes));
+        if (agregado == null) {
+            return List.of();
+        }
+        synchronized (agregado) {
+            IntLongMap exames = agregado.examesPorMedico.get(medicoId);
+            return exames == null ? List.of() : contagens(exames, nomesExames);
+        }
+    }
+
+    /**
+     * Soma os agregados diários; meses inteiros dentro do intervalo usam o agregado mensal.
+     */
+    @Override
+    public ProporcaoPacientesNovos proporcaoPacientesNovos(LocalDate inicio, LocalDate fim) {
+        long novos = 0;
+        long retornos = 0;
+        LocalDate dia = Objects.requireNonNull(inicio);
+        while (!dia.isAfter(Objects.requireNonNull(fim))) {
+            YearMonth mes = YearMonth.from(dia);
+            boolean mesInteiro = dia.getDayOfMonth() == 1 && !mes.atEndOfMonth().isAfter(fim);
+            Pacientes pacientes = mesInteiro ? meses.get(mes) : dias.get(dia);
+            if (pacientes != null) {
+                synchronized (pacientes) {
+                    novos += pacientes.novos;
+                    retornos += pacientes.retornos;
+                }
+            }
+            dia = mesInteiro ? mes.plusMonths(1).atDay(1) : dia.plusDays(1);
+        }
+        return new ProporcaoPacientesNovos(novos, retornos);
+    }
+
+    private void registrar(Prontuario prontuario) {
+        LocalDate dia = prontuario.getConsulta().getDataHora().toLocalDate();
+        dias.computeIfAbsent(dia, d -> new Pacientes()).contarSincronizado(prontuario);
+        meses.computeIfAbsent(YearMonth.from(dia), m -> new Agregado()).acumularSincronizado(prontuario);
+        for (Prescricao prescricao : prontuario.getPrescricoes()) {
+            nomesMedicamentos.putIfAbsent(prescricao.getMedicamento().getId(), prescricao.getMedicamento().getNome());
+        }
+        for (Exame exame : prontuario.getExames()) {
+            nomesExames.putIfAbsent(exame.getId(), exame.getNome());
+        }
+    }
+
+    private static List<ContagemIndicador> contagens(IntLongMap contadores, ConcurrentIntObjectMap<String> nomes) {
+        List<ContagemIndicador> contagens = new ArrayList<>(contadores.size());
+        contadores.forEach((id, quantidade) -> contagens.add(new ContagemIndicador(id, nomes.get(id), quantidade)));
+        contagens.sort(Comparator.comparingLong(ContagemIndicador::getQuantidade).reversed()
+            .thenComparing(ContagemIndicador::getId));
+        return contagens;
+    }
+
+    /**
+     * Consultas realizadas de pacientes novos e de retorno. Protegido pelo próprio monitor depois de publicado.
+     */
+    private static class Pacientes {
+        long novos;
+        long retornos;
+
+        synchronized void contarSincronizado(Prontuario prontuario) {
+            contar(prontuario);
+        }
+
+        void contar(Prontuario prontuario) {
+            if (prontuario.getConsulta().isPacienteNovo()) {
+                novos++;
+            } else {
+                retornos++;
+            }
+        }
+
+        void somar(Pacientes outro) {
+            novos += outro.novos;
+            retornos += outro.retornos;
+        }
+    }
+
+    /**
+     * Contadores primitivos de um mês. Protegido pelo próprio monitor depois de publicado.
+     */
+    private static final class Agregado extends Pacientes {
+        final IntLongMap prescricoesPorMedicamento = new IntLongMap();
+        final IntObjectMap<IntLongMap> examesPorMedico = new IntObjectMap<>();
+
+        synchronized void acumularSincronizado(Prontuario prontuario) {
+            acumular(prontuario);
+        }
+
+        void somar(Agregado outro) {
+            super.somar(outro);
+            prescricoesPorMedicamento.somarTodos(outro.prescricoesPorMedicamento);
+            outro.examesPorMedico.forEachEntry((medicoId, exames) -> examesDoMedico(medicoId).somarTodos(exames));
+        }
+
+        void acumular(Prontuario prontuario) {
+            contar(prontuario);
+            for (Prescricao prescricao : prontuario.getPrescricoes()) {
+                prescricoesPorMedicamento.somar(prescricao.getMedicamento().getId(), 1);
+            }
+            if (!prontuario.getExames().isEmpty()) {
+                IntLongMap exames = examesDoMedico(prontuario.getConsulta().getMedico().getId());
+                for (Exame exame : prontuario.getExames()) {
+                    exames.somar(exame.getId(), 1);
+                }
+            }
+        }
+
+        private IntLongMap examesDoMedico(int medicoId) {
+            IntLongMap exames = examesPorMedico.get(medicoId);
+            if (exames == null) {
+                exames = new IntLongMap();
+                examesPorMedico.put(medicoId, exames);
+            }
+            return exames;
+        }
+    }
+
+    /**
+     * Resultado parcial de uma fatia do stream paralelo; as fatias são somadas no combiner.
+     */
+    private static final class Parcial {
+        final Map<LocalDate, Pacientes> porDia = new HashMap<>();
+        final Map<YearMonth, Agregado> porMes = new HashMap<>();
+        final Map<Integer, String> nomesMedicamentos = new HashMap<>();
+        final Map<Integer, String> nomesExames = new HashMap<>();
+
+        void acumular(Prontuario prontuario) {
+            LocalDate dia = prontuario.getConsulta().getDataHora().toLocalDate();
+            porDia.computeIfAbsent(dia, d -> new Pacientes()).contar(prontuario);
+            porMes.computeIfAbsent(YearMonth.from(dia), m -> new Agregado()).acumular(prontuario);
+            for (Prescricao prescricao : prontuario.getPrescricoes()) {
+                nomesMedicamentos.putIfAbsent(prescricao.getMedicamento().getId(), prescricao.getMedicamento().getNome());
+            }
+            for (Exame exame : prontuario.getExames()) {
+                nomesExames.putIfAbsent(exame.getId(), exame.getNome());
+            }
+        }
+
+        void somar(Parcial outra) {
+            outra.porDia.forEach((dia, pacientes) -> {
+                Pacientes atual = porDia.putIfAbsent(dia, pacientes);
+                if (atual != null) {
+                    atual.somar(pacientes);
+                }
+            });
+            outra.porMes.forEach((mes, agregado) -> {
+                Agregado atual = porMes.putIfAbsent(mes, agregado);
+                if (atual != null) {
+                    atual.somar(agregado);
+                }
+            });
+            outra.nomesMedicamentos.forEach(nomesMedicamentos::putIfAbsent);
+            outra.nomesExames.forEach(nomesExames::putIfAbsent);
+        }
+    }
+}
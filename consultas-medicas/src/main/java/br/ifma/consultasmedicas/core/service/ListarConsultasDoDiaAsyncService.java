@@ -0,0 +1,31 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.ports.in.ListarConsultasDoDiaAsyncUseCase;
+import br.ifma.consultasmedicas.ports.in.ListarConsultasDoDiaUseCase;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class ListarConsultasDoDiaAsyncService implements ListarConsultasDoDiaAsyncUseCase {
+    private final ListarConsultasDoDiaUseCase listarConsultasDoDiaUseCase;
+    private final ExecucaoAssincrona execucao;
+
+    public ListarConsultasDoDiaAsyncService(ListarConsultasDoDiaUseCase listarConsultasDoDiaUseCase,
+                                            ExecucaoAssincrona execucao) {
+        this.listarConsultasDoDiaUseCase = Objects.requireNonNull(listarConsultasDoDiaUseCase);
+        this.execucao = Objects.requireNonNull(execucao);
+    }
+
+    @Override
+    public CompletableFuture<List<Consulta>> listar(LocalDate data) {
+        return execucao.executar(() -> listarConsultasDoDiaUseCase.listar(data));
+    }
+
+    @Override
+    public CompletableFuture<List<Consulta>> listarPorMedico(LocalDate data, Integer medicoId) {
+        return execucao.executar(() -> listarConsultasDoDiaUseCase.listarPorMedico(data, medicoId));
+    }
+}
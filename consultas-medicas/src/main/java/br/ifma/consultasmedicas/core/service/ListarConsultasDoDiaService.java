@@ -5,6 +5,7 @@ import br.ifma.consultasmedicas.ports.in.ListarConsultasDoDiaUseCase;
 import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -19,4 +20,12 @@ public class ListarConsultasDoDiaService implements ListarConsultasDoDiaUseCase
     public List<Consulta> listar(LocalDate data) {
         return consultaRepository.buscarPorData(data);
     }
+
+    @Override
+    public List<Consulta> listarPorMedico(LocalDate data, Integer medicoId) {
+        if (medicoId == null) {
+            return new ArrayList<>();
+        }
+        return consultaRepository.buscarPorMedicoEPeriodo(medicoId, data.atStartOfDay(), data.plusDays(1).atStartOfDay());
+    }
 }
@@ -0,0 +1,31 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioAsyncUseCase;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.ResultadoRegistroProntuario;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class RegistrarProntuarioAsyncService implements RegistrarProntuarioAsyncUseCase {
+    private final RegistrarProntuarioUseCase registrarProntuarioUseCase;
+    private final ExecucaoAssincrona execucao;
+
+    public RegistrarProntuarioAsyncService(RegistrarProntuarioUseCase registrarProntuarioUseCase,
+                                           ExecucaoAssincrona execucao) {
+        this.registrarProntuarioUseCase = Objects.requireNonNull(registrarProntuarioUseCase);
+        this.execucao = Objects.requireNonNull(execucao);
+    }
+
+    @Override
+    public CompletableFuture<Integer> registrar(RegistrarProntuarioCommand command) {
+        return execucao.executar(() -> registrarProntuarioUseCase.registrar(command));
+    }
+
+    @Override
+    public CompletableFuture<List<ResultadoRegistroProntuario>> registrarEmLote(List<RegistrarProntuarioCommand> commands) {
+        return execucao.executar(() -> registrarProntuarioUseCase.registrarEmLote(commands));
+    }
+}
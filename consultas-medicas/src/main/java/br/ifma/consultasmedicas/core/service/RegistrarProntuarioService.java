@@ -1,24 +1,34 @@
 package br.ifma.consultasmedicas.core.service;
 
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
 import br.ifma.consultasmedicas.core.domain.exception.DomainException;
 import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
+import br.ifma.consultasmedicas.ports.in.AlertaPrescricao;
 import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
 import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.RegistroProntuario;
+import br.ifma.consultasmedicas.ports.in.ResultadoRegistroProntuario;
 import br.ifma.consultasmedicas.ports.out.ConsultaRepository;
 import br.ifma.consultasmedicas.ports.out.ExameRepository;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
 import br.ifma.consultasmedicas.ports.out.MedicamentoRepository;
 import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+import br.ifma.consultasmedicas.ports.out.PublicadorEventos;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.*;
+import java.util.function.IntFunction;
 
 /**
  * Caso de uso: Registro de Prontuário.
  * Regras obrigatórias do enunciado:
  * - Uma consulta gera exatamente um prontuário
  * - Um prontuário pode conter 0+ exames e 0+ prescrições
+ * Seguro para chamadas concorrentes: a regra de unicidade vale mesmo sob carga.
+ * Comandos com chave de idempotência passam pelo {@link CacheIdempotencia}: reenvios devolvem o id
+ * do primeiro registro sem repetir o fluxo. As prescrições gravadas passam pelo {@link VerificadorInteracoes},
+ * que devolve alertas junto com o id sem bloquear o registro.
  */
 public class RegistrarProntuarioService implements RegistrarProntuarioUseCase {
 
@@ -26,86 +36,266 @@ public class RegistrarProntuarioService implements RegistrarProntuarioUseCase {
     private final ProntuarioRepository prontuarioRepository;
     private final MedicamentoRepository medicamentoRepository;
     private final ExameRepository exameRepository;
+    private final IdGenerator idGenerator;
+    private final PublicadorEventos publicadorEventos;
+    private final CacheIdempotencia idempotencia;
+    private final VerificadorInteracoes verificadorInteracoes;
+    // Criadas uma vez: lambdas que capturam o serviço seriam alocadas a cada registro
+    private final IntFunction<Medicamento> buscarMedicamento;
+    private final IntFunction<Exame> buscarExame;
 
-    private final AtomicInteger prontuarioIdSeq = new AtomicInteger(1);
-    private final AtomicInteger prescricaoIdSeq = new AtomicInteger(1);
-
+    /**
+     * Ids gerados em memória ({@link IdGenerator#emMemoria()}).
+     */
     public RegistrarProntuarioService(ConsultaRepository consultaRepository,
                                      ProntuarioRepository prontuarioRepository,
                                      MedicamentoRepository medicamentoRepository,
                                      ExameRepository exameRepository) {
+        this(consultaRepository, prontuarioRepository, medicamentoRepository, exameRepository, IdGenerator.emMemoria());
+    }
+
+    public RegistrarProntuarioService(ConsultaRepository consultaRepository,
+                                     ProntuarioRepository prontuarioRepository,
+                                     MedicamentoRepository medicamentoRepository,
+                                     ExameRepository exameRepository,
+                                     IdGenerator idGenerator) {
+        this(consultaRepository, prontuarioRepository, medicamentoRepository, exameRepository, idGenerator,
+            PublicadorEventos.NENHUM);
+    }
+
+    public RegistrarProntuarioService(ConsultaRepository consultaRepository,
+                                     ProntuarioRepository prontuarioRepository,
+                                     MedicamentoRepository medicamentoRepository,
+                                     ExameRepository exameRepository,
+                                     IdGenerator idGenerator,
+                                     PublicadorEventos publicadorEventos) {
+        this(consultaRepository, prontuarioRepository, medicamentoRepository, exameRepository, idGenerator,
+            publicadorEventos, new CacheIdempotencia(), VerificadorInteracoes.DESLIGADO);
+    }
+
+    public RegistrarProntuarioService(ConsultaRepository consultaRepository,
+                                     ProntuarioRepository prontuarioRepository,
+                                     MedicamentoRepository medicamentoRepository,
+                                     ExameRepository exameRepository,
+                                     IdGenerator idGenerator,
+                                     PublicadorEventos publicadorEventos,
+                                     CacheIdempotencia idempotencia,
+                                     VerificadorInteracoes verificadorInteracoes) {
         this.consultaRepository = Objects.requireNonNull(consultaRepository);
         this.prontuarioRepository = Objects.requireNonNull(prontuarioRepository);
         this.medicamentoRepository = Objects.requireNonNull(medicamentoRepository);
         this.exameRepository = Objects.requireNonNull(exameRepository);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        this.publicadorEventos = Objects.requireNonNull(publicadorEventos);
+        this.idempotencia = Objects.requireNonNull(idempotencia);
+        this.verificadorInteracoes = Objects.requireNonNull(verificadorInteracoes);
+        this.buscarMedicamento = id -> medicamentoRepository.buscarPorId(id).orElse(null);
+        this.buscarExame = id -> exameRepository.buscarPorId(id).orElse(null);
     }
 
     @Override
     public Integer registrar(RegistrarProntuarioCommand command) {
-        Consulta consulta = consultaRepository.buscarPorId(command.getConsultaId())
-            .orElseThrow(() -> new DomainException("Consulta não encontrada: " + command.getConsultaId()));
+        return registrarComAlertas(command).getProntuarioId();
+    }
+
+    @Override
+    public RegistroProntuario registrarComAlertas(RegistrarProntuarioCommand command) {
+        String chave = command.getChaveIdempotencia();
+        if (chave == null) {
+            return registrarNovo(command);
+        }
+        return idempotencia.executar(chave, command.getConsultaId(), () -> registrarNovo(command));
+    }
+
+    private RegistroProntuario registrarNovo(RegistrarProntuarioCommand command) {
+        Consulta consulta = buscarConsultaAgendada(command.getConsultaId());
+
+        Prontuario prontuario = montarProntuario(command, consulta, buscarMedicamento, buscarExame);
+
+        // Transição AGENDADA -> REALIZADA via CAS: só uma requisição concorrente vence
+        if (!consulta.transicionar(ConsultaStatus.AGENDADA, ConsultaStatus.REALIZADA)) {
+            throw new DomainException("A consulta não está em estado AGENDADA.");
+        }
+
+        persistir(consulta, prontuario);
+        consultaRepository.salvar(consulta);
+        // Antes do evento: o verificador anota o prontuário ao recebê-lo e não deve compará-lo consigo mesmo
+        List<AlertaPrescricao> alertas = verificadorInteracoes.verificar(prontuario);
+        publicadorEventos.publicar(new ProntuarioRegistrado(prontuario));
+
+        return new RegistroProntuario(prontuario.getId(), alertas);
+    }
+
+    /**
+     * Registra vários prontuários de uma vez (sincronização de fim de turno).
+     * O catálogo de medicamentos/exames é resolvido uma única vez para o lote; cada prontuário é
+     * gravado com a mesma checagem atômica de unicidade do registro individual. Falhas são reportadas item a item.
+     * Itens com chave de idempotência reservam a chave como o registro individual, então a mesma chave
+     * repetida no lote, ou em andamento em outra chamada, devolve o id do primeiro registro.
+     * Uma falha inesperada de um item (ex.: gravação) também vira falha daquele item, com a consulta de volta
+     * em AGENDADA: a lista devolvida sempre tem um resultado por comando.
+     */
+    @Override
+    public List<ResultadoRegistroProntuario> registrarEmLote(List<RegistrarProntuarioCommand> commands) {
+        IntSet medicamentosIds = new IntSet();
+        IntSet examesIds = new IntSet();
+        for (RegistrarProntuarioCommand command : commands) {
+            if (command.getPrescricoes() != null) {
+                for (RegistrarProntuarioCommand.PrescricaoItemCommand item : command.getPrescricoes()) {
+                    if (item.getMedicamentoId() != null) {
+                        medicamentosIds.add(item.getMedicamentoId());
+                    }
+                }
+            }
+            if (command.getExamesIds() != null) {
+                for (Integer exameId : command.getExamesIds()) {
+                    if (exameId != null) {
+                        examesIds.add(exameId);
+                    }
+                }
+            }
+        }
+        IntObjectMap<Medicamento> medicamentos = medicamentoRepository.buscarPorIds(medicamentosIds);
+        IntObjectMap<Exame> exames = exameRepository.buscarPorIds(examesIds);
+
+        List<ResultadoRegistroProntuario> resultados = new ArrayList<>(commands.size());
+        List<Prontuario> prontuarios = new ArrayList<>();
+        List<Consulta> consultas = new ArrayList<>();
+
+        for (RegistrarProntuarioCommand command : commands) {
+            try {
+                String chave = command.getChaveIdempotencia();
+                // A entrada da chave é concluída logo após a gravação do item, antes do próximo:
+                // duplicatas no lote a encontram pronta em vez de esperar pelo próprio lote
+                RegistroProntuario registro = chave == null
+                    ? registrarItemDoLote(command, medicamentos, exames, prontuarios, consultas)
+                    : idempotencia.executar(chave, command.getConsultaId(),
+                        () -> registrarItemDoLote(command, medicamentos, exames, prontuarios, consultas));
+                resultados.add(ResultadoRegistroProntuario.sucesso(command.getConsultaId(), registro.getProntuarioId(),
+                    registro.getAlertas()));
+            } catch (DomainException e) {
+                resultados.add(ResultadoRegistroProntuario.falha(command.getConsultaId(), e.getMessage()));
+            } catch (RuntimeException e) {
+                // persistir já devolveu a consulta para AGENDADA; os demais itens seguem
+                resultados.add(ResultadoRegistroProntuario.falha(command.getConsultaId(),
+                    "Falha ao registrar: " + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName())));
+            }
+        }
+
+        consultaRepository.salvarTodos(consultas);
+        for (Prontuario prontuario : prontuarios) {
+            publicadorEventos.publicar(new ProntuarioRegistrado(prontuario));
+        }
+        return resultados;
+    }
+
+    private RegistroProntuario registrarItemDoLote(RegistrarProntuarioCommand command,
+                                                   IntObjectMap<Medicamento> medicamentos,
+                                                   IntObjectMap<Exame> exames,
+                                                   List<Prontuario> prontuarios,
+                                                   List<Consulta> consultas) {
+        Consulta consulta = buscarConsultaAgendada(command.getConsultaId());
+        Prontuario prontuario = montarProntuario(command, consulta, medicamentos::get, exames::get);
+
+        // Antes da gravação: depois dela nada pode falhar sem deixar o item gravado e reportado como falha
+        List<AlertaPrescricao> alertas = verificadorInteracoes.verificar(prontuario);
+
+        // O CAS reserva a consulta; duplicatas dentro do próprio lote falham aqui
+        if (!consulta.transicionar(ConsultaStatus.AGENDADA, ConsultaStatus.REALIZADA)) {
+            throw new DomainException("A consulta não está em estado AGENDADA.");
+        }
+        persistir(consulta, prontuario);
+        prontuarios.add(prontuario);
+        consultas.add(consulta);
+        return new RegistroProntuario(prontuario.getId(), alertas);
+    }
+
+    /**
+     * Grava o prontuário de uma consulta já reservada pelo CAS. Se a gravação falhar, a consulta volta
+     * para AGENDADA; se outro caminho já gravou prontuário para ela, o status fica como está.
+     */
+    private void persistir(Consulta consulta, Prontuario prontuario) {
+        boolean salvo;
+        try {
+            salvo = prontuarioRepository.salvarSeAusente(prontuario);
+        } catch (RuntimeException e) {
+            consulta.transicionar(ConsultaStatus.REALIZADA, ConsultaStatus.AGENDADA);
+            throw e;
+        }
+        if (!salvo) {
+            throw new DomainException("Já existe prontuário registrado para a consulta " + consulta.getId());
+        }
+    }
+
+    private Consulta buscarConsultaAgendada(Integer consultaId) {
+        if (consultaId == null) {
+            throw new DomainException("Consulta não encontrada: null");
+        }
+        Consulta consulta = consultaRepository.buscarPorId(consultaId.intValue()).orElse(null);
+        if (consulta == null) {
+            throw new DomainException("Consulta não encontrada: " + consultaId);
+        }
 
         if (consulta.getStatus() != ConsultaStatus.AGENDADA) {
             throw new DomainException("A consulta não está em estado AGENDADA.");
         }
 
-        if (prontuarioRepository.existeParaConsulta(consulta.getId())) {
+        if (prontuarioRepository.existeParaConsulta(consulta.getId().intValue())) {
             throw new DomainException("Já existe prontuário registrado para a consulta " + consulta.getId());
         }
+        return consulta;
+    }
+
+    /**
+     * Monta o prontuário num único builder dimensionado pelo comando: as listas que o prontuário
+     * guarda são os próprios arrays do builder, sem cópias intermediárias.
+     */
+    private Prontuario montarProntuario(RegistrarProntuarioCommand command,
+                                        Consulta consulta,
+                                        IntFunction<Medicamento> buscarMedicamento,
+                                        IntFunction<Exame> buscarExame) {
+        List<RegistrarProntuarioCommand.PrescricaoItemCommand> itens = command.getPrescricoes();
+        List<Integer> examesIds = command.getExamesIds();
+        ProntuarioBuilder builder = ProntuarioBuilder.builder(
+            itens == null ? 0 : itens.size(), examesIds == null ? 0 : examesIds.size());
 
-        List<Prescricao> prescricoes = new ArrayList<>();
-        if (command.getPrescricoes() != null) {
-            for (RegistrarProntuarioCommand.PrescricaoItemCommand item : command.getPrescricoes()) {
-                Medicamento medicamento = medicamentoRepository.buscarPorId(item.getMedicamentoId())
-                    .orElseThrow(() -> new DomainException("Medicamento não encontrado: " + item.getMedicamentoId()));
+        if (itens != null) {
+            for (int i = 0, n = itens.size(); i < n; i++) {
+                RegistrarProntuarioCommand.PrescricaoItemCommand item = itens.get(i);
+                Integer medicamentoId = item.getMedicamentoId();
+                Medicamento medicamento = medicamentoId == null ? null : buscarMedicamento.apply(medicamentoId);
+                if (medicamento == null) {
+                    throw new DomainException("Medicamento não encontrado: " + medicamentoId);
+                }
 
-                Prescricao prescricao = new Prescricao(
-                    prescricaoIdSeq.getAndIncrement(),
+                builder.addPrescricao(new Prescricao(
+                    idGenerator.proximoId(IdGenerator.Sequencia.PRESCRICAO),
                     medicamento,
                     item.getDosagem(),
                     item.getAdministracao(),
                     item.getTempoUso()
-                );
-                prescricoes.add(prescricao);
+                ));
             }
         }
 
-        List<Exame> exames = new ArrayList<>();
-        if (command.getExamesIds() != null) {
-            for (Integer exameId : command.getExamesIds()) {
-                Exame exame = exameRepository.buscarPorId(exameId)
-                    .orElseThrow(() -> new DomainException("Exame não encontrado: " + exameId));
-                exames.add(exame);
+        if (examesIds != null) {
+            for (int i = 0, n = examesIds.size(); i < n; i++) {
+                Integer exameId = examesIds.get(i);
+                Exame exame = exameId == null ? null : buscarExame.apply(exameId);
+                if (exame == null) {
+                    throw new DomainException("Exame não encontrado: " + exameId);
+                }
+                builder.addExame(exame);
             }
         }
 
-        Prontuario prontuario = ProntuarioBuilder.builder()
-            .id(prontuarioIdSeq.getAndIncrement())
+        return builder
+            .id(idGenerator.proximoId(IdGenerator.Sequencia.PRONTUARIO))
             .consulta(consulta)
             .peso(command.getPeso())
             .altura(command.getAltura())
             .sintomas(command.getSintomas())
             .observacao(command.getObservacaoClinica())
             .build();
-
-        // Recria prontuário incluindo listas (mantendo builder simples)
-        prontuario = new Prontuario(
-            prontuario.getId(),
-            prontuario.getConsulta(),
-            prontuario.getPeso(),
-            prontuario.getAltura(),
-            prontuario.getSintomas(),
-            prontuario.getObservacaoClinica(),
-            prescricoes,
-            exames
-        );
-
-        prontuarioRepository.salvar(prontuario);
-
-        // Atualiza status da consulta
-        consulta.marcarRealizada();
-        consultaRepository.salvar(consulta);
-
-        return prontuario.getId();
     }
 }
@@ -0,0 +1,208 @@
+package br.ifma.consultasmedicas.core.service;
+
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaCancelada;
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.model.Prescricao;
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+import br.ifma.consultasmedicas.core.util.ConcurrentIntObjectMap;
+import br.ifma.consultasmedicas.ports.in.AlertaPrescricao;
+import br.ifma.consultasmedicas.ports.out.InteracoesMedicamentosas;
+import br.ifma.consultasmedicas.ports.out.ProntuarioRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Checagem de interações medicamentosas no registro do prontuário. Cada par de medicamentos do prontuário, e
+ * cada medicamento contra os que o paciente recebeu na janela anterior à consulta, custa uma consulta à
+ * {@link InteracoesMedicamentosas} (matriz de bits); nenhum prontuário é carregado.
+ * <p>
+ * Os medicamentos em uso ficam por paciente em arrays primitivos (id e dia de cada prescrição), anotados a
+ * cada ProntuarioRegistrado e podados pela janela do prontuário mais recente: um prontuário retroativo enxerga
+ * o que foi prescrito antes dele dentro dessa janela, não além. {@link #reconstruir()} deve rodar antes de
+ * assinar os eventos.
+ */
+public class VerificadorInteracoes {
+    public static final Duration JANELA_PADRAO = Duration.ofDays(30);
+
+    /**
+     * Verificador sem tabela nem histórico: nunca gera alertas.
+     */
+    public static final VerificadorInteracoes DESLIGADO = new VerificadorInteracoes();
+
+    /** Dia de uso ausente: par dentro do próprio prontuário. */
+    private static final int MESMO_PRONTUARIO = Integer.MIN_VALUE;
+
+    private final ProntuarioRepository prontuarioRepository;
+    private final InteracoesMedicamentosas interacoes;
+    private final int janelaDias;
+    private final ConcurrentIntObjectMap<EmUso> emUso = new ConcurrentIntObjectMap<>();
+
+    public VerificadorInteracoes(ProntuarioRepository prontuarioRepository, InteracoesMedicamentosas interacoes) {
+        this(prontuarioRepository, interacoes, JANELA_PADRAO);
+    }
+
+    public VerificadorInteracoes(ProntuarioRepository prontuarioRepository, InteracoesMedicamentosas interacoes,
+                                 Duration janela) {
+        this.prontuarioRepository = Objects.requireNonNull(prontuarioRepository);
+        this.interacoes = Objects.requireNonNull(interacoes);
+        this.janelaDias = (int) janela.toDays();
+        if (janelaDias < 0) {
+            throw new IllegalArgumentException("janela não pode ser negativa");
+        }
+    }
+
+    private VerificadorInteracoes() {
+        this.prontuarioRepository = null;
+        this.interacoes = InteracoesMedicamentosas.NENHUMA;
+        this.janelaDias = 0;
+    }
+
+    public void reconstruir() {
+        if (prontuarioRepository != null) {
+            prontuarioRepository.streamTodos().forEach(this::anotar);
+        }
+    }
+
+    public void aplicar(EventoDominio evento) {
+        switch (evento) {
+            case ProntuarioRegistrado registrado -> anotar(registrado.prontuario());
+            case ConsultaAgendada agendada -> { }
+            case ConsultaCancelada cancelada -> { }
+        }
+    }
+
+    /**
+     * Alertas das prescrições do prontuário, entre si e contra o que o paciente recebeu nos {@code janela}
+     * dias até a consulta. Não anota o prontuário: isso vem pelo evento.
+     */
+    public List<AlertaPrescricao> verificar(Prontuario prontuario) {
+        List<Prescricao> prescricoes = prontuario.getPrescricoes();
+        if (prontuarioRepository == null || prescricoes.isEmpty()) {
+            return List.of();
+        }
+        int n = prescricoes.size();
+        List<AlertaPrescricao> alertas = null;
+        for (int i = 0; i < n; i++) {
+            int a = prescricoes.get(i).getMedicamento().getId();
+            for (int j = i + 1; j < n; j++) {
+                alertas = verificarPar(alertas, a, prescricoes.get(j).getMedicamento().getId(), MESMO_PRONTUARIO);
+            }
+        }
+
+        EmUso uso = emUso.get(prontuario.getConsulta().getPaciente().getId());
+        if (uso != null) {
+            int dia = (int) prontuario.getConsulta().getDataHora().toLocalDate().toEpochDay();
+            synchronized (uso) {
+                for (int k = 0; k < uso.tamanho; k++) {
+                    int diaUso = uso.dias[k];
+                    if (diaUso > dia || diaUso < dia - janelaDias || uso.temUsoPosterior(k, dia)) {
+                        continue;
+                    }
+                    for (int i = 0; i < n; i++) {
+                        alertas = verificarPar(alertas, prescricoes.get(i).getMedicamento().getId(),
+                            uso.medicamentos[k], diaUso);
+                    }
+                }
+            }
+        }
+        return alertas == null ? List.of() : alertas;
+    }
+
+    private List<AlertaPrescricao> verificarPar(List<AlertaPrescricao> alertas, int a, int b, int diaUso) {
+        AlertaPrescricao alerta;
+        if (a == b) {
+            LocalDate prescritoEm = diaUso == MESMO_PRONTUARIO ? null : LocalDate.ofEpochDay(diaUso);
+            alerta = new AlertaPrescricao(AlertaPrescricao.Tipo.REPETICAO, a, b, null,
+                prescritoEm == null ? "Medicamento prescrito mais de uma vez no prontuário"
+                    : "Medicamento já prescrito em " + prescritoEm, prescritoEm);
+        } else {
+            InteracoesMedicamentosas.Interacao interacao = interacoes.buscar(a, b);
+            if (interacao == null) {
+                return alertas;
+            }
+            alerta = diaUso == MESMO_PRONTUARIO
+                ? new AlertaPrescricao(AlertaPrescricao.Tipo.INTERACAO, a, b, interacao.gravidade(),
+                    interacao.descricao(), null)
+                : new AlertaPrescricao(AlertaPrescricao.Tipo.INTERACAO_EM_USO, a, b, interacao.gravidade(),
+                    interacao.descricao(), LocalDate.ofEpochDay(diaUso));
+        }
+        if (alertas == null) {
+            alertas = new ArrayList<>(2);
+        }
+        alertas.add(alerta);
+        return alertas;
+    }
+
+    private void anotar(Prontuario prontuario) {
+        List<Prescricao> prescricoes = prontuario.getPrescricoes();
+        if (prontuarioRepository == null || prescricoes.isEmpty()) {
+            return;
+        }
+        int dia = (int) prontuario.getConsulta().getDataHora().toLocalDate().toEpochDay();
+        EmUso uso = emUso.computeIfAbsent(prontuario.getConsulta().getPaciente().getId(), id -> new EmUso());
+        synchronized (uso) {
+            for (int i = 0, n = prescricoes.size(); i < n; i++) {
+                uso.anotar(prescricoes.get(i).getMedicamento().getId(), dia);
+            }
+            uso.podar(uso.maisRecente - janelaDias);
+        }
+    }
+
+    /**
+     * Prescrições de um paciente, uma entrada por medicamento e dia, ordenadas por medicamento e dia.
+     * Protegido pelo próprio monitor.
+     */
+    private static final class EmUso {
+        int[] medicamentos = new int[4];
+        int[] dias = new int[4];
+        int tamanho;
+        int maisRecente = Integer.MIN_VALUE;
+
+        void anotar(int medicamentoId, int dia) {
+            maisRecente = Math.max(maisRecente, dia);
+            int k = tamanho;
+            while (k > 0 && (medicamentos[k - 1] > medicamentoId
+                || medicamentos[k - 1] == medicamentoId && dias[k - 1] > dia)) {
+                k--;
+            }
+            if (k > 0 && medicamentos[k - 1] == medicamentoId && dias[k - 1] == dia) {
+                return;
+            }
+            if (tamanho == medicamentos.length) {
+                medicamentos = Arrays.copyOf(medicamentos, tamanho * 2);
+                dias = Arrays.copyOf(dias, tamanho * 2);
+            }
+            System.arraycopy(medicamentos, k, medicamentos, k + 1, tamanho - k);
+            System.arraycopy(dias, k, dias, k + 1, tamanho - k);
+            medicamentos[k] = medicamentoId;
+            dias[k] = dia;
+            tamanho++;
+        }
+
+        /**
+         * Se o mesmo medicamento tem outra entrada depois de k até o dia: só a mais recente gera alerta.
+         */
+        boolean temUsoPosterior(int k, int ate) {
+            return k + 1 < tamanho && medicamentos[k + 1] == medicamentos[k] && dias[k + 1] <= ate;
+        }
+
+        /** Descarta o que foi prescrito antes do dia. */
+        void podar(int desde) {
+            int mantidos = 0;
+            for (int k = 0; k < tamanho; k++) {
+                if (dias[k] >= desde) {
+                    medicamentos[mantidos] = medicamentos[k];
+                    dias[mantidos++] = dias[k];
+                }
+            }
+            tamanho = mantidos;
+        }
+    }
+}
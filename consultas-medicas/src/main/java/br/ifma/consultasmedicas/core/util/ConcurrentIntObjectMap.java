@@ -0,0 +1,181 @@
+package br.ifma.consultasmedicas.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link IntObjectMap} particionado em faixas, cada uma com seu StampedLock.
+ * Leituras usam leitura otimista (sem escrita em memória compartilhada e sem alocação) e só
+ * caem para o lock de leitura se uma escrita concorrente invalidar o carimbo.
+ */
+public class ConcurrentIntObjectMap<V> {
+    private static final int FAIXAS = 16;
+
+    private final IntObjectMap<V>[] mapas;
+    private final StampedLock[] locks;
+
+    public ConcurrentIntObjectMap() {
+        this(16 * FAIXAS);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentIntObjectMap(int capacidadeEsperada) {
+        this.mapas = new IntObjectMap[FAIXAS];
+        this.locks = new StampedLock[FAIXAS];
+        for (int i = 0; i < FAIXAS; i++) {
+            mapas[i] = new IntObjectMap<>(Math.max(1, capacidadeEsperada / FAIXAS));
+            locks[i] = new StampedLock();
+        }
+    }
+
+    public V get(int chave) {
+        int f = faixa(chave);
+        StampedLock lock = locks[f];
+        long carimbo = lock.tryOptimisticRead();
+        if (carimbo != 0) {
+            V valor = mapas[f].tabela.get(chave);
+            if (lock.validate(carimbo)) {
+                return valor;
+            }
+        }
+        carimbo = lock.readLock();
+        try {
+            return mapas[f].get(chave);
+        } finally {
+            lock.unlockRead(carimbo);
+        }
+    }
+
+    public boolean containsKey(int chave) {
+        return get(chave) != null;
+    }
+
+    public V put(int chave, V valor) {
+        int f = faixa(chave);
+        long carimbo = locks[f].writeLock();
+        try {
+            return mapas[f].put(chave, valor);
+        } finally {
+            locks[f].unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Insere só se a chave estiver ausente; retorna o valor existente ou null se inseriu.
+     */
+    public V putIfAbsent(int chave, V valor) {
+        int f = faixa(chave);
+        long carimbo = locks[f].writeLock();
+        try {
+            return mapas[f].putIfAbsent(chave, valor);
+        } finally {
+            locks[f].unlockWrite(carimbo);
+        }
+    }
+
+    public V remove(int chave) {
+        int f = faixa(chave);
+        long carimbo = locks[f].writeLock();
+        try {
+            return mapas[f].remove(chave);
+        } finally {
+            locks[f].unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Remove só se o valor atual for o mesmo objeto informado.
+     */
+    public boolean remove(int chave, V esperado) {
+        int f = faixa(chave);
+        long carimbo = locks[f].writeLock();
+        try {
+            if (mapas[f].get(chave) != esperado) {
+                return false;
+            }
+            mapas[f].remove(chave);
+            return true;
+        } finally {
+            locks[f].unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Atualização atômica da chave: a função recebe o valor atual (ou null) e devolve o novo
+     * (null remove). Executada com o lock de escrita da faixa.
+     */
+    public V compute(int chave, UnaryOperator<V> funcao) {
+        int f = faixa(chave);
+        long carimbo = locks[f].writeLock();
+        try {
+            V novo = funcao.apply(mapas[f].get(chave));
+            if (novo == null) {
+                mapas[f].remove(chave);
+            } else {
+                mapas[f].put(chave, novo);
+            }
+            return novo;
+        } finally {
+            locks[f].unlockWrite(carimbo);
+        }
+    }
+
+    public V computeIfAbsent(int chave, IntFunction<V> criar) {
+        V atual = get(chave);
+        if (atual != null) {
+            return atual;
+        }
+        return compute(chave, v -> v != null ? v : criar.apply(chave));
+    }
+
+    public int size() {
+        int total = 0;
+        for (int f = 0; f < FAIXAS; f++) {
+            long carimbo = locks[f].readLock();
+            try {
+                total += mapas[f].size();
+            } finally {
+                locks[f].unlockRead(carimbo);
+            }
+        }
+        return total;
+    }
+
+    public List<V> values() {
+        List<V> valores = new ArrayList<>();
+        for (int f = 0; f < FAIXAS; f++) {
+            long carimbo = locks[f].readLock();
+            try {
+                mapas[f].forEachValue(valores::add);
+            } finally {
+                locks[f].unlockRead(carimbo);
+            }
+        }
+        return valores;
+    }
+
+    /**
+     * Valores lidos faixa a faixa sob demanda: só uma faixa é copiada por vez.
+     */
+    public Stream<V> streamValues() {
+        return IntStream.range(0, FAIXAS).boxed().flatMap(f -> {
+            List<V> valores = new ArrayList<>();
+            long carimbo = locks[f].readLock();
+            try {
+                mapas[f].forEachValue(valores::add);
+            } finally {
+                locks[f].unlockRead(carimbo);
+            }
+            return valores.stream();
+        });
+    }
+
+    private static int faixa(int chave) {
+        return (chave ^ (chave >>> 7)) & (FAIXAS - 1);
+    }
+}
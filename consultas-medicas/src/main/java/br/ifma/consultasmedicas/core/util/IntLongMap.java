@@ -0,0 +1,158 @@
+package br.ifma.consultasmedicas.core.util;
+
+/**
+ * Mapa int -> long com endereçamento aberto (sondagem linear), sem boxing de chave nem de valor.
+ * Serve de contador ({@link #somar}) ou de índice ({@link #put}/{@link #remove}). Não é thread-safe.
+ */
+public class IntLongMap {
+    private static final float CARGA_MAXIMA = 0.6f;
+
+    private int[] chaves;
+    private long[] valores;
+    private boolean[] usadas;
+    private int tamanho;
+
+    public IntLongMap() {
+        this(16);
+    }
+
+    public IntLongMap(int capacidadeEsperada) {
+        int capacidade = Integer.highestOneBit(Math.max(4, (int) (capacidadeEsperada / CARGA_MAXIMA)) - 1) << 1;
+        alocar(Math.max(capacidade, 4));
+    }
+
+    public long get(int chave) {
+        return getOrDefault(chave, 0);
+    }
+
+    public long getOrDefault(int chave, long padrao) {
+        int i = indice(chave);
+        return i < 0 ? padrao : valores[i];
+    }
+
+    public boolean containsKey(int chave) {
+        return indice(chave) >= 0;
+    }
+
+    public void put(int chave, long valor) {
+        int mascara = chaves.length - 1;
+        int i = IntObjectMap.Tabela.espalhar(chave) & mascara;
+        while (usadas[i]) {
+            if (chaves[i] == chave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        usadas[i] = true;
+        chaves[i] = chave;
+        valores[i] = valor;
+        if (++tamanho > chaves.length * CARGA_MAXIMA) {
+            redimensionar();
+        }
+    }
+
+    public boolean remove(int chave) {
+        int i = indice(chave);
+        if (i < 0) {
+            return false;
+        }
+        int mascara = chaves.length - 1;
+        // Remoção com deslocamento para trás, como em IntObjectMap: sem lápides
+        int vazio = i;
+        for (int j = (i + 1) & mascara; usadas[j]; j = (j + 1) & mascara) {
+            int ideal = IntObjectMap.Tabela.espalhar(chaves[j]) & mascara;
+            if (((j - ideal) & mascara) >= ((j - vazio) & mascara)) {
+                chaves[vazio] = chaves[j];
+                valores[vazio] = valores[j];
+                vazio = j;
+            }
+        }
+        usadas[vazio] = false;
+        chaves[vazio] = 0;
+        valores[vazio] = 0;
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * Soma {@code delta} ao valor da chave (ausente vale 0) e devolve o novo valor.
+     */
+    public long somar(int chave, long delta) {
+        int mascara = chaves.length - 1;
+        int i = IntObjectMap.Tabela.espalhar(chave) & mascara;
+        while (usadas[i]) {
+            if (chaves[i] == chave) {
+                return valores[i] += delta;
+            }
+            i = (i + 1) & mascara;
+        }
+        usadas[i] = true;
+        chaves[i] = chave;
+        valores[i] = delta;
+        if (++tamanho > chaves.length * CARGA_MAXIMA) {
+            redimensionar();
+        }
+        return delta;
+    }
+
+    public void somarTodos(IntLongMap outro) {
+        outro.forEach(this::somar);
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public void forEach(Visitante visitante) {
+        for (int i = 0; i < chaves.length; i++) {
+            if (usadas[i]) {
+                visitante.visitar(chaves[i], valores[i]);
+            }
+        }
+    }
+
+    private int indice(int chave) {
+        int mascara = chaves.length - 1;
+        for (int i = IntObjectMap.Tabela.espalhar(chave) & mascara; usadas[i]; i = (i + 1) & mascara) {
+            if (chaves[i] == chave) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void redimensionar() {
+        int[] antigasChaves = chaves;
+        long[] antigosValores = valores;
+        boolean[] antigasUsadas = usadas;
+        alocar(antigasChaves.length * 2);
+        int mascara = chaves.length - 1;
+        for (int k = 0; k < antigasChaves.length; k++) {
+            if (antigasUsadas[k]) {
+                int i = IntObjectMap.Tabela.espalhar(antigasChaves[k]) & mascara;
+                while (usadas[i]) {
+                    i = (i + 1) & mascara;
+                }
+                usadas[i] = true;
+                chaves[i] = antigasChaves[k];
+                valores[i] = antigosValores[k];
+            }
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new int[capacidade];
+        valores = new long[capacidade];
+        usadas = new boolean[capacidade];
+    }
+
+    @FunctionalInterface
+    public interface Visitante {
+        void visitar(int chave, long valor);
+    }
+}
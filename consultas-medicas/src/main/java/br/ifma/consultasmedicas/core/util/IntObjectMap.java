@@ -0,0 +1,183 @@
+package br.ifma.consultasmedicas.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Mapa int -> objeto com endereçamento aberto (sondagem linear), sem boxing da chave.
+ * Leituras não alocam. Não é thread-safe; veja {@link ConcurrentIntObjectMap}.
+ */
+public class IntObjectMap<V> {
+    private static final float CARGA_MAXIMA = 0.6f;
+
+    // Chave e valor ficam no mesmo objeto para que um leitor otimista veja sempre um par consistente
+    Tabela<V> tabela;
+    private int tamanho;
+
+    public IntObjectMap() {
+        this(16);
+    }
+
+    public IntObjectMap(int capacidadeEsperada) {
+        this.tabela = new Tabela<>(capacidadePara(capacidadeEsperada));
+    }
+
+    public V get(int chave) {
+        return tabela.get(chave);
+    }
+
+    public boolean containsKey(int chave) {
+        return tabela.indice(chave) >= 0;
+    }
+
+    public V put(int chave, V valor) {
+        if (valor == null) {
+            throw new NullPointerException("valor");
+        }
+        Tabela<V> t = tabela;
+        int mascara = t.chaves.length - 1;
+        for (int i = Tabela.espalhar(chave) & mascara; ; i = (i + 1) & mascara) {
+            V atual = t.valores[i];
+            if (atual == null) {
+                t.chaves[i] = chave;
+                t.valores[i] = valor;
+                if (++tamanho > t.chaves.length * CARGA_MAXIMA) {
+                    redimensionar();
+                }
+                return null;
+            }
+            if (t.chaves[i] == chave) {
+                t.valores[i] = valor;
+                return atual;
+            }
+        }
+    }
+
+    public V putIfAbsent(int chave, V valor) {
+        V atual = get(chave);
+        return atual != null ? atual : put(chave, valor);
+    }
+
+    public V remove(int chave) {
+        Tabela<V> t = tabela;
+        int i = t.indice(chave);
+        if (i < 0) {
+            return null;
+        }
+        V removido = t.valores[i];
+        int mascara = t.chaves.length - 1;
+        // Remoção com deslocamento para trás: mantém as cadeias de sondagem sem lápides
+        int vazio = i;
+        for (int j = (i + 1) & mascara; t.valores[j] != null; j = (j + 1) & mascara) {
+            int ideal = Tabela.espalhar(t.chaves[j]) & mascara;
+            if (((j - ideal) & mascara) >= ((j - vazio) & mascara)) {
+                t.chaves[vazio] = t.chaves[j];
+                t.valores[vazio] = t.valores[j];
+                vazio = j;
+            }
+        }
+        t.valores[vazio] = null;
+        t.chaves[vazio] = 0;
+        tamanho--;
+        return removido;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public void forEachValue(Consumer<? super V> acao) {
+        for (V valor : tabela.valores) {
+            if (valor != null) {
+                acao.accept(valor);
+            }
+        }
+    }
+
+    public void forEachEntry(Entrada<? super V> acao) {
+        Tabela<V> t = tabela;
+        for (int i = 0; i < t.chaves.length; i++) {
+            if (t.valores[i] != null) {
+                acao.aceitar(t.chaves[i], t.valores[i]);
+            }
+        }
+    }
+
+    public List<V> values() {
+        List<V> valores = new ArrayList<>(tamanho);
+        forEachValue(valores::add);
+        return valores;
+    }
+
+    private void redimensionar() {
+        Tabela<V> antiga = tabela;
+        Tabela<V> nova = new Tabela<>(antiga.chaves.length * 2);
+        int mascara = nova.chaves.length - 1;
+        for (int k = 0; k < antiga.chaves.length; k++) {
+            V valor = antiga.valores[k];
+            if (valor != null) {
+                int i = Tabela.espalhar(antiga.chaves[k]) & mascara;
+                while (nova.valores[i] != null) {
+                    i = (i + 1) & mascara;
+                }
+                nova.chaves[i] = antiga.chaves[k];
+                nova.valores[i] = valor;
+            }
+        }
+        tabela = nova;
+    }
+
+    private static int capacidadePara(int esperado) {
+        int capacidade = Integer.highestOneBit(Math.max(4, (int) (esperado / CARGA_MAXIMA)) - 1) << 1;
+        return Math.max(capacidade, 4);
+    }
+
+    @FunctionalInterface
+    public interface Entrada<V> {
+        void aceitar(int chave, V valor);
+    }
+
+    static final class Tabela<V> {
+        final int[] chaves;
+        final V[] valores;
+
+        @SuppressWarnings("unchecked")
+        Tabela(int capacidade) {
+            this.chaves = new int[capacidade];
+            this.valores = (V[]) new Object[capacidade];
+        }
+
+        V get(int chave) {
+            int i = indice(chave);
+            return i < 0 ? null : valores[i];
+        }
+
+        /**
+         * Posição da chave ou -1. O laço é limitado pela capacidade para terminar mesmo se a
+         * tabela for alterada durante uma leitura otimista.
+         */
+        int indice(int chave) {
+            int mascara = chaves.length - 1;
+            int i = espalhar(chave) & mascara;
+            for (int passos = 0; passos < chaves.length; passos++, i = (i + 1) & mascara) {
+                if (valores[i] == null) {
+                    return -1;
+                }
+                if (chaves[i] == chave) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        static int espalhar(int chave) {
+            int h = chave * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.ifma.consultasmedicas.core.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Conjunto de ints com endereçamento aberto, sem boxing. Não é thread-safe.
+ */
+public class IntSet {
+    private static final float CARGA_MAXIMA = 0.6f;
+
+    private int[] chaves;
+    private boolean[] ocupado;
+    private int tamanho;
+
+    public IntSet() {
+        this(8);
+    }
+
+    public IntSet(int capacidadeEsperada) {
+        int capacidade = Integer.highestOneBit(Math.max(4, (int) (capacidadeEsperada / CARGA_MAXIMA)) - 1) << 1;
+        this.chaves = new int[capacidade];
+        this.ocupado = new boolean[capacidade];
+    }
+
+    public boolean add(int valor) {
+        int mascara = chaves.length - 1;
+        int i = IntObjectMap.Tabela.espalhar(valor) & mascara;
+        while (ocupado[i]) {
+            if (chaves[i] == valor) {
+                return false;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = valor;
+        ocupado[i] = true;
+        if (++tamanho > chaves.length * CARGA_MAXIMA) {
+            redimensionar();
+        }
+        return true;
+    }
+
+    public boolean contains(int valor) {
+        int mascara = chaves.length - 1;
+        for (int i = IntObjectMap.Tabela.espalhar(valor) & mascara; ocupado[i]; i = (i + 1) & mascara) {
+            if (chaves[i] == valor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public void forEach(IntConsumer acao) {
+        for (int i = 0; i < chaves.length; i++) {
+            if (ocupado[i]) {
+                acao.accept(chaves[i]);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] resultado = new int[tamanho];
+        int n = 0;
+        for (int i = 0; i < chaves.length; i++) {
+            if (ocupado[i]) {
+                resultado[n++] = chaves[i];
+            }
+        }
+        return resultado;
+    }
+
+    private void redimensionar() {
+        int[] antigas = toArray();
+        chaves = new int[chaves.length * 2];
+        ocupado = new boolean[chaves.length];
+        tamanho = 0;
+        for (int valor : antigas) {
+            add(valor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        int[] valores = toArray();
+        Arrays.sort(valores);
+        return Arrays.toString(valores);
+    }
+}
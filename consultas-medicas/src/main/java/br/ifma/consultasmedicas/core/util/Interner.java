@@ -0,0 +1,52 @@
+package br.ifma.consultasmedicas.core.util;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Pool canonizador fraco: {@link #intern} devolve uma instância única por valor igual (equals/hashCode), e o
+ * pool não impede a coleta de valores que ninguém mais referencia. Dividido em faixas com lock próprio.
+ */
+public class Interner<T> {
+    private static final int FAIXAS = 16;
+
+    private final WeakHashMap<T, WeakReference<T>>[] faixas;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Interner() {
+        faixas = new WeakHashMap[FAIXAS];
+        for (int i = 0; i < FAIXAS; i++) {
+            faixas[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Instância canônica igual a {@code valor}; null devolve null.
+     */
+    public T intern(T valor) {
+        if (valor == null) {
+            return null;
+        }
+        int h = valor.hashCode();
+        WeakHashMap<T, WeakReference<T>> faixa = faixas[(h ^ (h >>> 16)) & (FAIXAS - 1)];
+        synchronized (faixa) {
+            WeakReference<T> referencia = faixa.get(valor);
+            T canonico = referencia == null ? null : referencia.get();
+            if (canonico != null) {
+                return canonico;
+            }
+            faixa.put(valor, new WeakReference<>(valor));
+            return valor;
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (WeakHashMap<T, WeakReference<T>> faixa : faixas) {
+            synchronized (faixa) {
+                total += faixa.size();
+            }
+        }
+        return total;
+    }
+}
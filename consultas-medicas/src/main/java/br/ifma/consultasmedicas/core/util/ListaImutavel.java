@@ -0,0 +1,78 @@
+package br.ifma.consultasmedicas.core.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Lista imutável sobre um array, sem cópia quando o array é entregue por quem o montou ({@link #adotar}).
+ * {@code List.of(array)} e {@code List.copyOf} sempre copiam; aqui quem monta a lista (builder, decodificador)
+ * passa a posse do array e a lista vira a única dona. Só o prefixo {@code [0, tamanho)} é visível, então quem
+ * apenas acrescenta depois da adoção (como o {@code ProntuarioBuilder} reutilizado) não altera listas já entregues.
+ */
+public final class ListaImutavel<E> extends AbstractList<E> implements RandomAccess {
+    private static final ListaImutavel<?> VAZIA = new ListaImutavel<>(new Object[0], 0);
+
+    private final Object[] elementos;
+    private final int tamanho;
+
+    private ListaImutavel(Object[] elementos, int tamanho) {
+        this.elementos = elementos;
+        this.tamanho = tamanho;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> vazia() {
+        return (List<E>) VAZIA;
+    }
+
+    /**
+     * Adota os {@code tamanho} primeiros elementos do array, sem copiar. O chamador não pode mais
+     * alterar essas posições.
+     */
+    public static <E> List<E> adotar(E[] elementos, int tamanho) {
+        Objects.checkFromIndexSize(0, tamanho, elementos.length);
+        return tamanho == 0 ? vazia() : new ListaImutavel<>(elementos, tamanho);
+    }
+
+    public static <E> List<E> adotar(E[] elementos) {
+        return adotar(elementos, elementos.length);
+    }
+
+    /**
+     * Devolve a própria lista se já for imutável (desta classe ou do JDK); senão, uma cópia.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> de(List<? extends E> lista) {
+        if (lista == null || lista.isEmpty()) {
+            return vazia();
+        }
+        if (lista instanceof ListaImutavel<?>) {
+            return (List<E>) lista;
+        }
+        // List.copyOf não copia listas imutáveis do JDK (List.of, Stream.toList)
+        return List.copyOf(lista);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return (E) elementos[indice];
+    }
+
+    @Override
+    public int size() {
+        return tamanho;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> acao) {
+        for (int i = 0; i < tamanho; i++) {
+            acao.accept((E) elementos[i]);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.time.LocalDateTime;
+
+public class AgendarConsultaCommand {
+    private final Integer pacienteId;
+    private final Integer medicoId;
+    private final LocalDateTime dataHora;
+    private final boolean pacienteNovo;
+
+    public AgendarConsultaCommand(Integer pacienteId, Integer medicoId, LocalDateTime dataHora, boolean pacienteNovo) {
+        this.pacienteId = pacienteId;
+        this.medicoId = medicoId;
+        this.dataHora = dataHora;
+        this.pacienteNovo = pacienteNovo;
+    }
+
+    public Integer getPacienteId() { return pacienteId; }
+    public Integer getMedicoId() { return medicoId; }
+    public LocalDateTime getDataHora() { return dataHora; }
+    public boolean isPacienteNovo() { return pacienteNovo; }
+}
@@ -0,0 +1,25 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Agenda da secretária: marcação sem conflito de horário por médico e busca de horários livres.
+ */
+public interface AgendarConsultaUseCase {
+    /**
+     * Agenda a consulta no horário pedido (que deve estar na grade do expediente) e devolve o id dela.
+     * Falha com DomainException se o médico já tiver consulta nesse horário.
+     */
+    Integer agendar(AgendarConsultaCommand command);
+
+    /**
+     * Cancela uma consulta AGENDADA e libera o horário.
+     */
+    void cancelar(Integer consultaId);
+
+    /**
+     * Até {@code quantidade} horários livres do médico em [aPartirDe, ate), em ordem cronológica.
+     */
+    List<LocalDateTime> horariosLivres(Integer medicoId, LocalDateTime aPartirDe, LocalDateTime ate, int quantidade);
+}
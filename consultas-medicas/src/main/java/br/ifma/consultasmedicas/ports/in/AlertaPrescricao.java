@@ -0,0 +1,49 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.time.LocalDate;
+
+/**
+ * Aviso sobre uma prescrição do prontuário registrado; não impede o registro.
+ */
+public class AlertaPrescricao {
+    public enum Tipo {
+        /** Dois medicamentos do mesmo prontuário interagem. */
+        INTERACAO,
+        /** O medicamento interage com outro prescrito numa visita recente. */
+        INTERACAO_EM_USO,
+        /** O medicamento já foi prescrito numa visita recente. */
+        REPETICAO
+    }
+
+    private final Tipo tipo;
+    private final Integer medicamentoId;
+    private final Integer outroMedicamentoId;
+    private final String gravidade;
+    private final String descricao;
+    private final LocalDate prescritoEm;
+
+    public AlertaPrescricao(Tipo tipo, Integer medicamentoId, Integer outroMedicamentoId,
+                            String gravidade, String descricao, LocalDate prescritoEm) {
+        this.tipo = tipo;
+        this.medicamentoId = medicamentoId;
+        this.outroMedicamentoId = outroMedicamentoId;
+        this.gravidade = gravidade;
+        this.descricao = descricao;
+        this.prescritoEm = prescritoEm;
+    }
+
+    public Tipo getTipo() { return tipo; }
+    public Integer getMedicamentoId() { return medicamentoId; }
+    /** Medicamento com que interage (ou o próprio, na repetição). */
+    public Integer getOutroMedicamentoId() { return outroMedicamentoId; }
+    /** Gravidade da tabela de interações; null na repetição. */
+    public String getGravidade() { return gravidade; }
+    public String getDescricao() { return descricao; }
+    /** Data da visita anterior; null quando os dois medicamentos são do mesmo prontuário. */
+    public LocalDate getPrescritoEm() { return prescritoEm; }
+
+    @Override
+    public String toString() {
+        return tipo + " " + medicamentoId + "/" + outroMedicamentoId + ": " + descricao;
+    }
+}
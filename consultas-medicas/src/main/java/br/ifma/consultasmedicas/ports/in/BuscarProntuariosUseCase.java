@@ -0,0 +1,10 @@
+package br.ifma.consultasmedicas.ports.in;
+
+public interface BuscarProntuariosUseCase {
+
+    /**
+     * Busca textual em sintomas e observação clínica, do mais para o menos relevante.
+     * pacienteId null busca em toda a clínica; pagina começa em 0.
+     */
+    ResultadoBuscaProntuarios buscar(String termos, Integer pacienteId, int pagina, int tamanhoPagina);
+}
@@ -0,0 +1,16 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ConsultarCurvaCrescimentoUseCase {
+    /**
+     * Curva do paciente com escores z; vazia se ele não tem prontuários.
+     */
+    CurvaCrescimento consultar(Integer pacienteId);
+
+    /**
+     * Curvas de vários pacientes (painel), na ordem dos ids informados.
+     */
+    List<CurvaCrescimento> consultarPainel(Collection<Integer> pacienteIds);
+}
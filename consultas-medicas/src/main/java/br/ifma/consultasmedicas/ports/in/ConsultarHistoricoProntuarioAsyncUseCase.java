@@ -0,0 +1,11 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface ConsultarHistoricoProntuarioAsyncUseCase {
+    CompletableFuture<List<Prontuario>> consultarPorPaciente(Integer pacienteId);
+    CompletableFuture<PaginaHistorico> consultarPorPaciente(Integer pacienteId, Integer cursor, int limite);
+}
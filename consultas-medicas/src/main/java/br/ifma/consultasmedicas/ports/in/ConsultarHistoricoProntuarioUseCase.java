@@ -6,4 +6,10 @@ import java.util.List;
 
 public interface ConsultarHistoricoProntuarioUseCase {
     List<Prontuario> consultarPorPaciente(Integer pacienteId);
+
+    /**
+     * Histórico paginado, do mais recente para o mais antigo.
+     * cursor é o proximoCursor da página anterior (null para a primeira página).
+     */
+    PaginaHistorico consultarPorPaciente(Integer pacienteId, Integer cursor, int limite);
 }
@@ -0,0 +1,25 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Indicadores gerenciais sobre as consultas realizadas (prontuários registrados).
+ */
+public interface ConsultarIndicadoresUseCase {
+    /**
+     * Medicamentos mais prescritos no mês, do mais para o menos prescrito.
+     */
+    List<ContagemIndicador> medicamentosMaisPrescritos(YearMonth mes, int limite);
+
+    /**
+     * Exames pedidos pelo médico no mês, do mais para o menos pedido.
+     */
+    List<ContagemIndicador> examesPorMedico(YearMonth mes, Integer medicoId);
+
+    /**
+     * Pacientes novos x retornos entre {@code inicio} e {@code fim}, inclusive.
+     */
+    ProporcaoPacientesNovos proporcaoPacientesNovos(LocalDate inicio, LocalDate fim);
+}
@@ -0,0 +1,25 @@
+package br.ifma.consultasmedicas.ports.in;
+
+/**
+ * Quantidade agregada de um item (medicamento ou exame) num período.
+ */
+public class ContagemIndicador {
+    private final Integer id;
+    private final String nome;
+    private final long quantidade;
+
+    public ContagemIndicador(Integer id, String nome, long quantidade) {
+        this.id = id;
+        this.nome = nome;
+        this.quantidade = quantidade;
+    }
+
+    public Integer getId() { return id; }
+    public String getNome() { return nome; }
+    public long getQuantidade() { return quantidade; }
+
+    @Override
+    public String toString() {
+        return nome + " (" + id + "): " + quantidade;
+    }
+}
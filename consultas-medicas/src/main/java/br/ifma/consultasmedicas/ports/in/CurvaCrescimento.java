@@ -0,0 +1,64 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.time.LocalDate;
+
+/**
+ * Série de medidas de um paciente em ordem cronológica, em arrays primitivos paralelos (índice 0 = mais antiga).
+ * Medidas ausentes (peso ou altura zerados no prontuário) e escores sem referência valem NaN.
+ * Altura em centímetros.
+ */
+public class CurvaCrescimento {
+    private final Integer pacienteId;
+    private final int[] dias;
+    private final double[] idadeMeses;
+    private final double[] peso;
+    private final double[] altura;
+    private final double[] imc;
+    private final double[] zPeso;
+    private final double[] zAltura;
+    private final double[] zImc;
+
+    public CurvaCrescimento(Integer pacienteId, int[] dias, double[] idadeMeses, double[] peso, double[] altura,
+                            double[] imc, double[] zPeso, double[] zAltura, double[] zImc) {
+        this.pacienteId = pacienteId;
+        this.dias = dias;
+        this.idadeMeses = idadeMeses;
+        this.peso = peso;
+        this.altura = altura;
+        this.imc = imc;
+        this.zPeso = zPeso;
+        this.zAltura = zAltura;
+        this.zImc = zImc;
+    }
+
+    public static CurvaCrescimento vazia(Integer pacienteId) {
+        double[] nada = new double[0];
+        return new CurvaCrescimento(pacienteId, new int[0], nada, nada, nada, nada, nada, nada, nada);
+    }
+
+    public Integer getPacienteId() { return pacienteId; }
+    public int getTamanho() { return dias.length; }
+    public LocalDate getData(int i) { return LocalDate.ofEpochDay(dias[i]); }
+    public double getIdadeMeses(int i) { return idadeMeses[i]; }
+    public double getPeso(int i) { return peso[i]; }
+    public double getAltura(int i) { return altura[i]; }
+    public double getImc(int i) { return imc[i]; }
+    public double getZPeso(int i) { return zPeso[i]; }
+    public double getZAltura(int i) { return zAltura[i]; }
+    public double getZImc(int i) { return zImc[i]; }
+
+    /**
+     * Percentil (0 a 100) correspondente ao escore z pela normal padrão.
+     */
+    public static double percentil(double z) {
+        if (Double.isNaN(z)) {
+            return Double.NaN;
+        }
+        // Abramowitz & Stegun 7.1.26 (erro < 1.5e-7)
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))))
+            * Math.exp(-x * x);
+        return 50 * (1 + Math.copySign(erf, z));
+    }
+}
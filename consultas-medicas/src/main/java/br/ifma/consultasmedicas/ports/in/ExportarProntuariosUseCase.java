@@ -0,0 +1,12 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.ports.out.DestinoExportacao;
+
+public interface ExportarProntuariosUseCase {
+
+    /**
+     * Envia ao destino cada prontuário que passa no filtro, um por vez; devolve quantos foram exportados.
+     * O destino é descarregado ao final, mas quem o abriu continua responsável por fechá-lo.
+     */
+    long exportar(FiltroExportacao filtro, DestinoExportacao destino);
+}
@@ -0,0 +1,26 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.time.LocalDate;
+
+/**
+ * Recorte de uma exportação: período da consulta (datas inclusivas) e médico; null não restringe.
+ */
+public class FiltroExportacao {
+    private final LocalDate inicio;
+    private final LocalDate fim;
+    private final Integer medicoId;
+
+    public FiltroExportacao(LocalDate inicio, LocalDate fim, Integer medicoId) {
+        this.inicio = inicio;
+        this.fim = fim;
+        this.medicoId = medicoId;
+    }
+
+    public static FiltroExportacao todos() {
+        return new FiltroExportacao(null, null, null);
+    }
+
+    public LocalDate getInicio() { return inicio; }
+    public LocalDate getFim() { return fim; }
+    public Integer getMedicoId() { return medicoId; }
+}
@@ -0,0 +1,23 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.domain.model.Medicamento;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carga inicial de uma clínica a partir do sistema anterior, em lotes.
+ * Cada chamada grava o lote de uma vez; chamadas concorrentes com lotes diferentes são permitidas.
+ */
+public interface ImportarCadastrosUseCase {
+    void importarPacientes(List<Paciente> pacientes);
+    void importarMedicamentos(List<Medicamento> medicamentos);
+    void importarExames(List<Exame> exames);
+
+    /**
+     * Grava as consultas válidas do lote; devolve as rejeitadas (posição no lote -> motivo).
+     */
+    Map<Integer, String> importarConsultas(List<ImportarConsultaCommand> consultas);
+}
@@ -0,0 +1,47 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consulta vinda do sistema anterior da clínica: o paciente é referenciado pelo id já importado
+ * e o médico vem por extenso (não há cadastro de médicos). status null equivale a AGENDADA.
+ */
+public class ImportarConsultaCommand {
+    private final Integer id;
+    private final Integer pacienteId;
+    private final Integer medicoId;
+    private final String medicoNome;
+    private final String medicoCrm;
+    private final LocalDateTime dataHora;
+    private final boolean pacienteNovo;
+    private final ConsultaStatus status;
+
+    public ImportarConsultaCommand(Integer id,
+                                   Integer pacienteId,
+                                   Integer medicoId,
+                                   String medicoNome,
+                                   String medicoCrm,
+                                   LocalDateTime dataHora,
+                                   boolean pacienteNovo,
+                                   ConsultaStatus status) {
+        this.id = id;
+        this.pacienteId = pacienteId;
+        this.medicoId = medicoId;
+        this.medicoNome = medicoNome;
+        this.medicoCrm = medicoCrm;
+        this.dataHora = dataHora;
+        this.pacienteNovo = pacienteNovo;
+        this.status = status;
+    }
+
+    public Integer getId() { return id; }
+    public Integer getPacienteId() { return pacienteId; }
+    public Integer getMedicoId() { return medicoId; }
+    public String getMedicoNome() { return medicoNome; }
+    public String getMedicoCrm() { return medicoCrm; }
+    public LocalDateTime getDataHora() { return dataHora; }
+    public boolean isPacienteNovo() { return pacienteNovo; }
+    public ConsultaStatus getStatus() { return status; }
+}
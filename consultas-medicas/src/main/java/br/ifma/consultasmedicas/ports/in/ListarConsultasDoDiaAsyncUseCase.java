@@ -0,0 +1,12 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.core.domain.model.Consulta;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface ListarConsultasDoDiaAsyncUseCase {
+    CompletableFuture<List<Consulta>> listar(LocalDate data);
+    CompletableFuture<List<Consulta>> listarPorMedico(LocalDate data, Integer medicoId);
+}
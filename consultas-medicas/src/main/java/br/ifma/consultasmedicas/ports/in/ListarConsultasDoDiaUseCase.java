@@ -7,4 +7,5 @@ import java.util.List;
 
 public interface ListarConsultasDoDiaUseCase {
     List<Consulta> listar(LocalDate data);
+    List<Consulta> listarPorMedico(LocalDate data, Integer medicoId);
 }
@@ -0,0 +1,26 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+import java.util.List;
+
+/**
+ * Página do histórico de prontuários, do mais recente para o mais antigo.
+ * proximoCursor é null quando não há mais páginas.
+ */
+public class PaginaHistorico {
+    private final List<Prontuario> itens;
+    private final Integer proximoCursor;
+
+    public PaginaHistorico(List<Prontuario> itens, Integer proximoCursor) {
+        this.itens = List.copyOf(itens);
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<Prontuario> getItens() { return itens; }
+    public Integer getProximoCursor() { return proximoCursor; }
+
+    public boolean temProxima() {
+        return proximoCursor != null;
+    }
+}
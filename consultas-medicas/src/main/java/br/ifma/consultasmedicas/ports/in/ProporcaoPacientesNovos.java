@@ -0,0 +1,30 @@
+package br.ifma.consultasmedicas.ports.in;
+
+/**
+ * Consultas realizadas de pacientes novos e de retorno num período.
+ */
+public class ProporcaoPacientesNovos {
+    private final long novos;
+    private final long retornos;
+
+    public ProporcaoPacientesNovos(long novos, long retornos) {
+        this.novos = novos;
+        this.retornos = retornos;
+    }
+
+    public long getNovos() { return novos; }
+    public long getRetornos() { return retornos; }
+
+    /**
+     * Fração de pacientes novos entre 0 e 1; 0 sem consultas no período.
+     */
+    public double getProporcaoNovos() {
+        long total = novos + retornos;
+        return total == 0 ? 0 : (double) novos / total;
+    }
+
+    @Override
+    public String toString() {
+        return novos + " novos / " + retornos + " retornos";
+    }
+}
@@ -0,0 +1,13 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Variante não bloqueante de {@link RegistrarProntuarioUseCase}; erros de domínio completam o
+ * futuro excepcionalmente com a própria DomainException.
+ */
+public interface RegistrarProntuarioAsyncUseCase {
+    CompletableFuture<Integer> registrar(RegistrarProntuarioCommand command);
+    CompletableFuture<List<ResultadoRegistroProntuario>> registrarEmLote(List<RegistrarProntuarioCommand> commands);
+}
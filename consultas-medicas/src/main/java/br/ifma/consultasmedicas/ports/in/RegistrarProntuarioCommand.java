@@ -10,6 +10,7 @@ public class RegistrarProntuarioCommand {
     private final String observacaoClinica;
     private final List<PrescricaoItemCommand> prescricoes;
     private final List<Integer> examesIds;
+    private final String chaveIdempotencia;
 
     public RegistrarProntuarioCommand(Integer consultaId,
                                       double peso,
@@ -18,6 +19,20 @@ public class RegistrarProntuarioCommand {
                                       String observacaoClinica,
                                       List<PrescricaoItemCommand> prescricoes,
                                       List<Integer> examesIds) {
+        this(consultaId, peso, altura, sintomas, observacaoClinica, prescricoes, examesIds, null);
+    }
+
+    /**
+     * @param chaveIdempotencia opcional; reenvios com a mesma chave devolvem o prontuário do primeiro envio
+     */
+    public RegistrarProntuarioCommand(Integer consultaId,
+                                      double peso,
+                                      double altura,
+                                      String sintomas,
+                                      String observacaoClinica,
+                                      List<PrescricaoItemCommand> prescricoes,
+                                      List<Integer> examesIds,
+                                      String chaveIdempotencia) {
         this.consultaId = consultaId;
         this.peso = peso;
         this.altura = altura;
@@ -25,6 +40,7 @@ public class RegistrarProntuarioCommand {
         this.observacaoClinica = observacaoClinica;
         this.prescricoes = prescricoes;
         this.examesIds = examesIds;
+        this.chaveIdempotencia = chaveIdempotencia;
     }
 
     public Integer getConsultaId() { return consultaId; }
@@ -34,6 +50,7 @@ public class RegistrarProntuarioCommand {
     public String getObservacaoClinica() { return observacaoClinica; }
     public List<PrescricaoItemCommand> getPrescricoes() { return prescricoes; }
     public List<Integer> getExamesIds() { return examesIds; }
+    public String getChaveIdempotencia() { return chaveIdempotencia; }
 
     public static class PrescricaoItemCommand {
         private final Integer medicamentoId;
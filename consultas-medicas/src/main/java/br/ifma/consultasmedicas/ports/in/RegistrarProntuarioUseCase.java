@@ -1,5 +1,17 @@
 package br.ifma.consultasmedicas.ports.in;
 
+import java.util.List;
+
 public interface RegistrarProntuarioUseCase {
     Integer registrar(RegistrarProntuarioCommand command);
+
+    /**
+     * Registra e devolve, junto com o id, os alertas de interação e repetição das prescrições.
+     * Implementações sem verificação de interações devolvem a lista vazia.
+     */
+    default RegistroProntuario registrarComAlertas(RegistrarProntuarioCommand command) {
+        return new RegistroProntuario(registrar(command), List.of());
+    }
+
+    List<ResultadoRegistroProntuario> registrarEmLote(List<RegistrarProntuarioCommand> commands);
 }
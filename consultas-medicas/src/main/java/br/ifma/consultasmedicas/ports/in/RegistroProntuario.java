@@ -0,0 +1,19 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.util.List;
+
+/**
+ * Prontuário registrado e os avisos sobre suas prescrições.
+ */
+public class RegistroProntuario {
+    private final Integer prontuarioId;
+    private final List<AlertaPrescricao> alertas;
+
+    public RegistroProntuario(Integer prontuarioId, List<AlertaPrescricao> alertas) {
+        this.prontuarioId = prontuarioId;
+        this.alertas = alertas == null ? List.of() : alertas;
+    }
+
+    public Integer getProntuarioId() { return prontuarioId; }
+    public List<AlertaPrescricao> getAlertas() { return alertas; }
+}
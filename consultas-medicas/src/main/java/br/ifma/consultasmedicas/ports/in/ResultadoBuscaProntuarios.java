@@ -0,0 +1,27 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+import java.util.List;
+
+/**
+ * Página de uma busca textual e o total de prontuários que casaram com os termos.
+ */
+public class ResultadoBuscaProntuarios {
+    private final List<Prontuario> itens;
+    private final int total;
+    private final boolean temProxima;
+
+    public ResultadoBuscaProntuarios(List<Prontuario> itens, int total, boolean temProxima) {
+        this.itens = List.copyOf(itens);
+        this.total = total;
+        this.temProxima = temProxima;
+    }
+
+    public List<Prontuario> getItens() { return itens; }
+    public int getTotal() { return total; }
+
+    public boolean temProxima() {
+        return temProxima;
+    }
+}
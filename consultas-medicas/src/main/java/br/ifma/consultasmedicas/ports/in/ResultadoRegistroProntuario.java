@@ -0,0 +1,44 @@
+package br.ifma.consultasmedicas.ports.in;
+
+import java.util.List;
+
+/**
+ * Resultado de um item do registro em lote: id do prontuário gerado (com os alertas das prescrições)
+ * ou mensagem de erro.
+ */
+public class ResultadoRegistroProntuario {
+    private final Integer consultaId;
+    private final Integer prontuarioId;
+    private final String erro;
+    private final List<AlertaPrescricao> alertas;
+
+    private ResultadoRegistroProntuario(Integer consultaId, Integer prontuarioId, String erro,
+                                        List<AlertaPrescricao> alertas) {
+        this.consultaId = consultaId;
+        this.prontuarioId = prontuarioId;
+        this.erro = erro;
+        this.alertas = alertas;
+    }
+
+    public static ResultadoRegistroProntuario sucesso(Integer consultaId, Integer prontuarioId) {
+        return sucesso(consultaId, prontuarioId, List.of());
+    }
+
+    public static ResultadoRegistroProntuario sucesso(Integer consultaId, Integer prontuarioId,
+                                                      List<AlertaPrescricao> alertas) {
+        return new ResultadoRegistroProntuario(consultaId, prontuarioId, null, alertas);
+    }
+
+    public static ResultadoRegistroProntuario falha(Integer consultaId, String erro) {
+        return new ResultadoRegistroProntuario(consultaId, null, erro, List.of());
+    }
+
+    public Integer getConsultaId() { return consultaId; }
+    public Integer getProntuarioId() { return prontuarioId; }
+    public String getErro() { return erro; }
+    public List<AlertaPrescricao> getAlertas() { return alertas; }
+
+    public boolean isSucesso() {
+        return erro == null;
+    }
+}
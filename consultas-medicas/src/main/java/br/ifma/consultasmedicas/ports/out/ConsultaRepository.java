@@ -1,13 +1,76 @@
 package br.ifma.consultasmedicas.ports.out;
 
 import br.ifma.consultasmedicas.core.domain.model.Consulta;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.core.domain.model.PlanoSaude;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 public interface ConsultaRepository {
     Optional<Consulta> buscarPorId(Integer id);
+
+    /**
+     * Variante sem boxing do id; adaptadores com índice primitivo a sobrescrevem.
+     */
+    default Optional<Consulta> buscarPorId(int id) {
+        return buscarPorId(Integer.valueOf(id));
+    }
+
     List<Consulta> buscarPorData(LocalDate data);
+
+    /**
+     * Consultas com dataHora em [inicio, fim), ordenadas por dataHora.
+     */
+    List<Consulta> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim);
+
+    /**
+     * Consultas do médico com dataHora em [inicio, fim), ordenadas por dataHora.
+     * Como as demais buscas por grupo, filtra {@link #buscarPorPeriodo}; adaptadores com índice a sobrescrevem.
+     */
+    default List<Consulta> buscarPorMedicoEPeriodo(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        List<Consulta> consultas = buscarPorPeriodo(inicio, fim);
+        consultas.removeIf(c -> c.getMedico().getId() != medicoId);
+        return consultas;
+    }
+
+    /**
+     * Consultas do paciente com dataHora em [inicio, fim), ordenadas por dataHora.
+     */
+    default List<Consulta> buscarPorPacienteEPeriodo(int pacienteId, LocalDateTime inicio, LocalDateTime fim) {
+        List<Consulta> consultas = buscarPorPeriodo(inicio, fim);
+        consultas.removeIf(c -> c.getPaciente().getId() != pacienteId);
+        return consultas;
+    }
+
+    /**
+     * Consultas de pacientes do plano com dataHora em [inicio, fim), ordenadas por dataHora.
+     * Vale o plano do paciente gravado na consulta.
+     */
+    default List<Consulta> buscarPorPlanoEPeriodo(int planoId, LocalDateTime inicio, LocalDateTime fim) {
+        List<Consulta> consultas = buscarPorPeriodo(inicio, fim);
+        consultas.removeIf(c -> {
+            PlanoSaude plano = c.getPaciente().getPlanoSaude();
+            return plano == null || plano.getId() != planoId;
+        });
+        return consultas;
+    }
+
+    /**
+     * Quantidade de consultas do médico em [inicio, fim) por status atual; todos os status presentes.
+     */
+    default Map<ConsultaStatus, Integer> contarPorStatus(int medicoId, LocalDateTime inicio, LocalDateTime fim) {
+        Map<ConsultaStatus, Integer> contagem = new EnumMap<>(ConsultaStatus.class);
+        for (ConsultaStatus status : ConsultaStatus.values()) {
+            contagem.put(status, 0);
+        }
+        for (Consulta consulta : buscarPorMedicoEPeriodo(medicoId, inicio, fim)) {
+            contagem.merge(consulta.getStatus(), 1, Integer::sum);
+        }
+        return contagem;
+    }
+
     void salvar(Consulta consulta);
+    void salvarTodos(Collection<Consulta> consultas);
 }
@@ -0,0 +1,16 @@
+package br.ifma.consultasmedicas.ports.out;
+
+import br.ifma.consultasmedicas.core.domain.model.Prontuario;
+
+/**
+ * Para onde vão os prontuários exportados (arquivo NDJSON, binário...).
+ * Falhas de E/S são lançadas como UncheckedIOException.
+ */
+public interface DestinoExportacao {
+    void escrever(Prontuario prontuario);
+
+    /**
+     * Grava o que ainda estiver em buffer.
+     */
+    void descarregar();
+}
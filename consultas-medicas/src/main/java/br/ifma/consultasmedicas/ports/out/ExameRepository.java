@@ -1,12 +1,38 @@
 package br.ifma.consultasmedicas.ports.out;
 
 import br.ifma.consultasmedicas.core.domain.model.Exame;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ExameRepository {
     Optional<Exame> buscarPorId(Integer id);
+
+    default Optional<Exame> buscarPorId(int id) {
+        return buscarPorId(Integer.valueOf(id));
+    }
+
+    /**
+     * Busca vários ids de uma vez; ids inexistentes ficam fora do mapa.
+     */
+    Map<Integer, Exame> buscarPorIds(Collection<Integer> ids);
+
+    default IntObjectMap<Exame> buscarPorIds(IntSet ids) {
+        IntObjectMap<Exame> encontrados = new IntObjectMap<>(ids.size());
+        ids.forEach(id -> buscarPorId(id).ifPresent(item -> encontrados.put(id, item)));
+        return encontrados;
+    }
+
     List<Exame> listarTodos();
     void salvar(Exame exame);
+
+    default void salvarTodos(Collection<Exame> exames) {
+        for (Exame exame : exames) {
+            salvar(exame);
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package br.ifma.consultasmedicas.ports.out;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Geração de ids das entidades criadas pelo sistema.
+ * Implementações persistentes garantem que um id não se repete entre reinícios.
+ */
+public interface IdGenerator {
+    int proximoId(Sequencia sequencia);
+
+    /**
+     * Contadores em memória, começando em 1; não sobrevivem a reinícios.
+     */
+    static IdGenerator emMemoria() {
+        AtomicIntegerArray ultimos = new AtomicIntegerArray(Sequencia.values().length);
+        return sequencia -> ultimos.incrementAndGet(sequencia.ordinal());
+    }
+
+    enum Sequencia {
+        CONSULTA, PACIENTE, PRONTUARIO, PRESCRICAO
+    }
+}
@@ -0,0 +1,24 @@
+package br.ifma.consultasmedicas.ports.out;
+
+import java.util.List;
+
+/**
+ * Busca textual sobre sintomas e observação clínica dos prontuários.
+ */
+public interface IndiceTextualProntuarios {
+
+    /**
+     * Prontuários que contêm todos os termos da consulta, do mais para o menos relevante.
+     * pacienteId null busca em toda a clínica.
+     */
+    Resultado buscar(String consulta, Integer pacienteId, int deslocamento, int limite);
+
+    record Acerto(int prontuarioId, double relevancia) {
+    }
+
+    /**
+     * Página de acertos e o total de prontuários que casaram.
+     */
+    record Resultado(List<Acerto> acertos, int total) {
+    }
+}
@@ -0,0 +1,19 @@
+package br.ifma.consultasmedicas.ports.out;
+
+/**
+ * Tabela de interações entre medicamentos do catálogo, por id.
+ */
+public interface InteracoesMedicamentosas {
+    /**
+     * Tabela vazia: nenhum par interage.
+     */
+    InteracoesMedicamentosas NENHUMA = (medicamentoA, medicamentoB) -> null;
+
+    /**
+     * Interação entre os dois medicamentos (em qualquer ordem), ou null. Chamado para cada par de
+     * medicamentos de um registro, então deve responder em O(1) e sem alocar quando não há interação.
+     */
+    Interacao buscar(int medicamentoA, int medicamentoB);
+
+    record Interacao(String gravidade, String descricao) { }
+}
@@ -1,12 +1,38 @@
 package br.ifma.consultasmedicas.ports.out;
 
 import br.ifma.consultasmedicas.core.domain.model.Medicamento;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MedicamentoRepository {
     Optional<Medicamento> buscarPorId(Integer id);
+
+    default Optional<Medicamento> buscarPorId(int id) {
+        return buscarPorId(Integer.valueOf(id));
+    }
+
+    /**
+     * Busca vários ids de uma vez; ids inexistentes ficam fora do mapa.
+     */
+    Map<Integer, Medicamento> buscarPorIds(Collection<Integer> ids);
+
+    default IntObjectMap<Medicamento> buscarPorIds(IntSet ids) {
+        IntObjectMap<Medicamento> encontrados = new IntObjectMap<>(ids.size());
+        ids.forEach(id -> buscarPorId(id).ifPresent(item -> encontrados.put(id, item)));
+        return encontrados;
+    }
+
     List<Medicamento> listarTodos();
     void salvar(Medicamento medicamento);
+
+    default void salvarTodos(Collection<Medicamento> medicamentos) {
+        for (Medicamento medicamento : medicamentos) {
+            salvar(medicamento);
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package br.ifma.consultasmedicas.ports.out;
+
+import br.ifma.consultasmedicas.core.domain.model.Medico;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MedicoRepository {
+    Optional<Medico> buscarPorId(Integer id);
+
+    default Optional<Medico> buscarPorId(int id) {
+        return buscarPorId(Integer.valueOf(id));
+    }
+
+    List<Medico> listarTodos();
+    void salvar(Medico medico);
+}
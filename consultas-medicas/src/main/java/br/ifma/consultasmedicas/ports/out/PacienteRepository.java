@@ -2,9 +2,24 @@ package br.ifma.consultasmedicas.ports.out;
 
 import br.ifma.consultasmedicas.core.domain.model.Paciente;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface PacienteRepository {
     Optional<Paciente> buscarPorId(Integer id);
+
+    default Optional<Paciente> buscarPorId(int id) {
+        return buscarPorId(Integer.valueOf(id));
+    }
+
     void salvar(Paciente paciente);
+
+    /**
+     * Gravação em lote (importações); adaptadores persistentes a sobrescrevem para gravar de uma vez.
+     */
+    default void salvarTodos(Collection<Paciente> pacientes) {
+        for (Paciente paciente : pacientes) {
+            salvar(paciente);
+        }
+    }
 }
@@ -2,10 +2,62 @@ package br.ifma.consultasmedicas.ports.out;
 
 import br.ifma.consultasmedicas.core.domain.model.Prontuario;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface ProntuarioRepository {
     void salvar(Prontuario prontuario);
+    void salvarTodos(Collection<Prontuario> prontuarios);
+
+    /**
+     * Salva somente se ainda não houver prontuário para a mesma consulta.
+     * A checagem e a gravação são atômicas; retorna false se já existia.
+     */
+    boolean salvarSeAusente(Prontuario prontuario);
+
+    Optional<Prontuario> buscarPorId(Integer id);
     List<Prontuario> buscarPorPaciente(Integer pacienteId);
     boolean existeParaConsulta(Integer consultaId);
+
+    /**
+     * Todos os prontuários, sem ordem definida, lidos sob demanda (exportações).
+     */
+    Stream<Prontuario> streamTodos();
+
+    default Optional<Prontuario> buscarPorId(int id) {
+        return buscarPorId(Integer.valueOf(id));
+    }
+
+    default List<Prontuario> buscarPorPaciente(int pacienteId) {
+        return buscarPorPaciente(Integer.valueOf(pacienteId));
+    }
+
+    default boolean existeParaConsulta(int consultaId) {
+        return existeParaConsulta(Integer.valueOf(consultaId));
+    }
+
+    /**
+     * Página do histórico do paciente, do mais recente para o mais antigo.
+     * aposProntuarioId é o último id da página anterior (null na primeira página); um id
+     * desconhecido ou de outro paciente resulta em página vazia.
+     */
+    default List<Prontuario> buscarPorPaciente(int pacienteId, Integer aposProntuarioId, int limite) {
+        try (Stream<Prontuario> historico = streamPorPaciente(pacienteId)) {
+            Stream<Prontuario> restantes = aposProntuarioId == null
+                ? historico
+                : historico.dropWhile(p -> !p.getId().equals(aposProntuarioId)).skip(1);
+            return restantes.limit(limite).collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    /**
+     * Histórico do paciente do mais recente para o mais antigo, lido sob demanda.
+     */
+    default Stream<Prontuario> streamPorPaciente(int pacienteId) {
+        return buscarPorPaciente(pacienteId).reversed().stream();
+    }
 }
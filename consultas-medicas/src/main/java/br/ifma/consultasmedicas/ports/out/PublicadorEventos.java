@@ -0,0 +1,12 @@
+package br.ifma.consultasmedicas.ports.out;
+
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+
+public interface PublicadorEventos {
+    /**
+     * Publicador que descarta os eventos (quando nada assina).
+     */
+    PublicadorEventos NENHUM = evento -> { };
+
+    void publicar(EventoDominio evento);
+}
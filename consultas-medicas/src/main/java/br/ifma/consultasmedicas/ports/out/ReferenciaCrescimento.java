@@ -0,0 +1,30 @@
+package br.ifma.consultasmedicas.ports.out;
+
+import br.ifma.consultasmedicas.core.domain.model.IndicadorCrescimento;
+
+/**
+ * Tabelas de referência de crescimento infantil (curvas por sexo e idade).
+ */
+public interface ReferenciaCrescimento {
+    /**
+     * Referência vazia: todo escore é NaN.
+     */
+    ReferenciaCrescimento NENHUMA = (indicador, sexo, idadeMeses, valor) -> Double.NaN;
+
+    /**
+     * Escore z da medida para o sexo ("M"/"F") e a idade; NaN se a idade ou o sexo estiverem fora da tabela.
+     * Altura em centímetros.
+     */
+    double escoreZ(IndicadorCrescimento indicador, String sexo, double idadeMeses, double valor);
+
+    /**
+     * Escores de uma série inteira; implementações resolvem a curva do indicador e sexo uma única vez.
+     */
+    default double[] escoresZ(IndicadorCrescimento indicador, String sexo, double[] idadesMeses, double[] valores) {
+        double[] escores = new double[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            escores[i] = escoreZ(indicador, sexo, idadesMeses[i], valores[i]);
+        }
+        return escores;
+    }
+}
@@ -0,0 +1,138 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.events.BarramentoEventos;
+import br.ifma.consultasmedicas.adapters.out.events.EventosConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.AgendaDoDiaProjecao;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AgendaDoDiaProjecaoTest {
+
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico vilegas = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+    private final Medico souza = new Medico(2, "Dra. Souza", "CRM-MA 54321");
+
+    @Test
+    void deveManterAgendaPorDiaEPorMedicoComEventos() {
+        var eventos = new BarramentoEventos();
+        var consultaRepo = new EventosConsultaRepository(new InMemoryConsultaRepository(), eventos);
+        LocalDate dia = LocalDate.of(2024, 3, 10);
+        var projecao = new AgendaDoDiaProjecao(consultaRepo, new RelogioAjustavel(dia), 7, 30);
+        eventos.assinar(projecao::aplicar);
+
+        // Gravada antes da primeira leitura: entra pela carga inicial do dia
+        consultaRepo.salvar(new Consulta(1, paciente, vilegas, dia.atTime(14, 0), false));
+        assertEquals(List.of(1), ids(projecao.listar(dia)));
+
+        // Depois da carga: entram pelos eventos
+        consultaRepo.salvar(new Consulta(2, paciente, souza, dia.atTime(8, 0), false));
+        Consulta remarcada = new Consulta(3, paciente, vilegas, dia.atTime(10, 0), false);
+        consultaRepo.salvar(remarcada);
+        assertEquals(List.of(2, 3, 1), ids(projecao.listar(dia)));
+        assertEquals(List.of(3, 1), ids(projecao.listarPorMedico(dia, 1)));
+
+        consultaRepo.salvar(new Consulta(3, paciente, vilegas, dia.plusDays(1).atTime(10, 0), false));
+        assertEquals(List.of(2, 1), ids(projecao.listar(dia)));
+        assertEquals(List.of(3), ids(projecao.listar(dia.plusDays(1))));
+
+        Consulta cancelada = consultaRepo.buscarPorId(2).orElseThrow();
+        cancelada.cancelar();
+        consultaRepo.salvar(cancelada);
+        assertEquals(ConsultaStatus.CANCELADA, projecao.listarPorMedico(dia, 2).get(0).getStatus());
+
+        var service = new RegistrarProntuarioService(consultaRepo, new InMemoryProntuarioRepository(),
+            new InMemoryMedicamentoRepository(), new InMemoryExameRepository(), new HiLoIdGenerator(), eventos);
+        service.registrar(new RegistrarProntuarioCommand(1, 10, 0.9, "", "", List.of(), List.of()));
+        assertEquals(ConsultaStatus.REALIZADA, projecao.listar(dia).get(1).getStatus());
+    }
+
+    @Test
+    void deveMaterializarSoDiasDaJanelaEDescartarOsQueSaemDela() {
+        var eventos = new BarramentoEventos();
+        var repositorio = new InMemoryConsultaRepository();
+        var consultaRepo = new EventosConsultaRepository(repositorio, eventos);
+        LocalDate hoje = LocalDate.of(2024, 3, 10);
+        var relogio = new RelogioAjustavel(hoje);
+        var projecao = new AgendaDoDiaProjecao(consultaRepo, relogio, 1, 5);
+        eventos.assinar(projecao::aplicar);
+
+        consultaRepo.salvar(new Consulta(1, paciente, vilegas, hoje.atTime(9, 0), false));
+        consultaRepo.salvar(new Consulta(2, paciente, vilegas, hoje.plusYears(1).atTime(9, 0), false));
+        assertEquals(List.of(1), ids(projecao.listar(hoje)));
+        assertEquals(List.of(2), ids(projecao.listar(hoje.plusYears(1))));
+
+        // Gravação que não passa pelos eventos: o dia materializado não a vê, o dia fora da janela vê
+        repositorio.salvar(new Consulta(3, paciente, vilegas, hoje.atTime(8, 0), false));
+        repositorio.salvar(new Consulta(4, paciente, vilegas, hoje.plusYears(1).atTime(8, 0), false));
+        assertEquals(List.of(1), ids(projecao.listar(hoje)));
+        assertEquals(List.of(4, 2), ids(projecao.listar(hoje.plusYears(1))));
+
+        // Dois dias depois, hoje saiu da janela: é descartado na próxima carga e passa a vir do repositório
+        relogio.avancarDias(2);
+        projecao.listar(hoje.plusDays(2));
+        assertEquals(List.of(3, 1), ids(projecao.listar(hoje)));
+    }
+
+    @Test
+    void deveInserirEventosNaPosicaoOrdenadaMantendoListaPorMedico() {
+        var eventos = new BarramentoEventos();
+        var consultaRepo = new EventosConsultaRepository(new InMemoryConsultaRepository(), eventos);
+        LocalDate dia = LocalDate.of(2024, 3, 10);
+        var projecao = new AgendaDoDiaProjecao(consultaRepo, new RelogioAjustavel(dia), 7, 30);
+        eventos.assinar(projecao::aplicar);
+        assertTrue(projecao.listar(dia).isEmpty());
+
+        consultaRepo.salvar(new Consulta(1, paciente, vilegas, dia.atTime(10, 0), false));
+        consultaRepo.salvar(new Consulta(2, paciente, souza, dia.atTime(8, 0), false));
+        consultaRepo.salvar(new Consulta(3, paciente, vilegas, dia.atTime(10, 0), false));
+        consultaRepo.salvar(new Consulta(4, paciente, souza, dia.atTime(12, 0), false));
+        assertEquals(List.of(2, 1, 3, 4), ids(projecao.listar(dia)));
+
+        // Troca de médico e de horário no mesmo dia
+        consultaRepo.salvar(new Consulta(2, paciente, vilegas, dia.atTime(11, 0), false));
+        assertEquals(List.of(1, 3, 2, 4), ids(projecao.listar(dia)));
+        assertEquals(List.of(1, 3, 2), ids(projecao.listarPorMedico(dia, 1)));
+        assertEquals(List.of(4), ids(projecao.listarPorMedico(dia, 2)));
+    }
+
+    private static List<Integer> ids(List<Consulta> consultas) {
+        return consultas.stream().map(Consulta::getId).toList();
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+        private volatile Instant agora;
+
+        RelogioAjustavel(LocalDate dia) {
+            this.agora = dia.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        void avancarDias(int dias) {
+            agora = agora.plus(Duration.ofDays(dias));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.events.BarramentoEventos;
+import br.ifma.consultasmedicas.adapters.out.events.EventosConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryMedicoRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryPacienteRepository;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.AgendarConsultaService;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaCommand;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AgendarConsultaServiceTest {
+
+    // Segunda-feira
+    private static final LocalDate DIA = LocalDate.of(2024, 3, 11);
+
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico vilegas = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+    private final Medico souza = new Medico(2, "Dra. Souza", "CRM-MA 54321");
+
+    private final BarramentoEventos eventos = new BarramentoEventos();
+    private final EventosConsultaRepository consultaRepo =
+        new EventosConsultaRepository(new InMemoryConsultaRepository(), eventos);
+    private final AgendarConsultaService service;
+
+    AgendarConsultaServiceTest() {
+        var pacienteRepo = new InMemoryPacienteRepository();
+        pacienteRepo.salvar(paciente);
+        var medicoRepo = new InMemoryMedicoRepository();
+        medicoRepo.salvar(vilegas);
+        medicoRepo.salvar(souza);
+        Clock relogio = Clock.fixed(DIA.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        service = new AgendarConsultaService(consultaRepo, pacienteRepo, medicoRepo, new HiLoIdGenerator(),
+            Expediente.PADRAO, relogio);
+        eventos.assinar(service::aplicar);
+    }
+
+    @Test
+    void deveRecusarConflitoDoMesmoMedicoEPermitirOutroMedico() {
+        Integer id = service.agendar(new AgendarConsultaCommand(1, 1, DIA.atTime(9, 0), true));
+        assertEquals(ConsultaStatus.AGENDADA, consultaRepo.buscarPorId(id).orElseThrow().getStatus());
+
+        assertThrows(DomainException.class, () -> service.agendar(new AgendarConsultaCommand(1, 1, DIA.atTime(9, 0), false)));
+        assertNotNull(service.agendar(new AgendarConsultaCommand(1, 2, DIA.atTime(9, 0), false)));
+
+        assertThrows(DomainException.class, () -> service.agendar(new AgendarConsultaCommand(1, 1, DIA.atTime(9, 10), false)));
+        assertThrows(DomainException.class, () -> service.agendar(new AgendarConsultaCommand(1, 1, DIA.atTime(18, 0), false)));
+        assertThrows(DomainException.class, () -> service.agendar(new AgendarConsultaCommand(1, 1, DIA.minusDays(1).atTime(9, 0), false)));
+        assertThrows(DomainException.class, () -> service.agendar(new AgendarConsultaCommand(1, 3, DIA.atTime(10, 0), false)));
+    }
+
+    @Test
+    void deveListarHorariosLivresConsiderandoConsultasExistentesECancelamentos() {
+        // Gravada antes do primeiro acesso ao dia: entra pela carga; fora da grade ocupa o horário que a contém
+        consultaRepo.salvar(new Consulta(100, paciente, vilegas, DIA.atTime(8, 10), false));
+        Integer nove = service.agendar(new AgendarConsultaCommand(1, 1, DIA.atTime(9, 0), false));
+
+        assertEquals(List.of(DIA.atTime(8, 30), DIA.atTime(9, 30), DIA.atTime(10, 0)),
+            service.horariosLivres(1, DIA.atStartOfDay(), DIA.plusDays(7).atStartOfDay(), 3));
+
+        // Gravada depois da carga: entra pelo evento; remarcação libera o horário antigo
+        consultaRepo.salvar(new Consulta(101, paciente, vilegas, DIA.atTime(8, 30), false));
+        consultaRepo.salvar(new Consulta(100, paciente, vilegas, DIA.atTime(11, 0), false));
+        service.cancelar(nove);
+        assertEquals(List.of(DIA.atTime(8, 0), DIA.atTime(9, 0)),
+            service.horariosLivres(1, DIA.atStartOfDay(), DIA.plusDays(7).atStartOfDay(), 2));
+        assertThrows(DomainException.class, () -> service.cancelar(nove));
+
+        // Sexta à tarde até segunda de manhã: o fim de semana não tem atendimento
+        LocalDate sexta = DIA.plusDays(4);
+        assertEquals(List.of(sexta.atTime(17, 30), sexta.plusDays(3).atTime(8, 0)),
+            service.horariosLivres(2, sexta.atTime(17, 15), sexta.plusDays(3).atTime(8, 30), 10));
+    }
+
+    @Test
+    void deveAgendarCadaHorarioUmaUnicaVezSobConcorrencia() throws Exception {
+        int horarios = Expediente.PADRAO.getHorariosPorDia();
+        List<Integer> agendadas = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int secretaria = 0; secretaria < 8; secretaria++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int h = 0; h < horarios; h++) {
+                        LocalDateTime dataHora = DIA.atTime(8, 0).plusMinutes(30L * h);
+                        try {
+                            agendadas.add(service.agendar(new AgendarConsultaCommand(1, 1, dataHora, false)));
+                        } catch (DomainException e) {
+                            // horário tomado por outra secretária
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+        assertEquals(horarios, agendadas.size());
+        assertEquals(horarios, consultaRepo.buscarPorData(DIA).size());
+        assertTrue(service.horariosLivres(1, DIA.atStartOfDay(), DIA.plusDays(1).atStartOfDay(), 5).isEmpty());
+    }
+
+    @Test
+    void deveDescartarDiasPassadosDaGrade() {
+        var repositorio = new InMemoryConsultaRepository();
+        var barramento = new BarramentoEventos();
+        var consultas = new EventosConsultaRepository(repositorio, barramento);
+        var pacienteRepo = new InMemoryPacienteRepository();
+        pacienteRepo.salvar(paciente);
+        var medicoRepo = new InMemoryMedicoRepository();
+        medicoRepo.salvar(vilegas);
+        Instant[] agora = {DIA.atStartOfDay(ZoneOffset.UTC).toInstant()};
+        Clock relogio = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return agora[0];
+            }
+        };
+        var agenda = new AgendarConsultaService(consultas, pacienteRepo, medicoRepo, new HiLoIdGenerator(),
+            Expediente.PADRAO, relogio);
+        barramento.assinar(agenda::aplicar);
+
+        Integer nove = agenda.agendar(new AgendarConsultaCommand(1, 1, DIA.atTime(9, 0), false));
+        // Gravação sem evento: o dia carregado não a vê
+        repositorio.salvar(new Consulta(500, paciente, vilegas, DIA.atTime(8, 0), false));
+        assertEquals(DIA.atTime(8, 0), agenda.horariosLivres(1, DIA.atStartOfDay(), DIA.plusDays(1).atStartOfDay(), 1).get(0));
+
+        // Dois dias depois, a primeira carga descarta o dia passado; buscas nele voltam ao repositório
+        agora[0] = agora[0].plus(Duration.ofDays(2));
+        agenda.agendar(new AgendarConsultaCommand(1, 1, DIA.plusDays(2).atTime(9, 0), false));
+        assertEquals(DIA.atTime(8, 30), agenda.horariosLivres(1, DIA.atStartOfDay(), DIA.plusDays(1).atStartOfDay(), 1).get(0));
+        agenda.cancelar(nove);
+        assertEquals(ConsultaStatus.CANCELADA, consultas.buscarPorId(nove).orElseThrow().getStatus());
+    }
+}
@@ -0,0 +1,51 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.events.BarramentoEventos;
+import br.ifma.consultasmedicas.core.domain.event.ConsultaAgendada;
+import br.ifma.consultasmedicas.core.domain.event.EventoDominio;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BarramentoEventosTest {
+
+    private final EventoDominio evento = new ConsultaAgendada(new Consulta(1,
+        new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null),
+        new Medico(1, "Dr. Vilegas", "CRM-MA 12345"), LocalDateTime.of(2024, 3, 10, 9, 0), false));
+
+    @Test
+    void devePropagarFalhaDepoisDeEntregarAosDemaisAssinantes() {
+        var eventos = new BarramentoEventos();
+        List<EventoDominio> recebidos = new ArrayList<>();
+        eventos.assinar(e -> {
+            throw new IllegalStateException("projeção");
+        });
+        eventos.assinar(recebidos::add);
+        eventos.assinar(e -> {
+            throw new IllegalArgumentException("indicadores");
+        });
+
+        var falha = assertThrows(IllegalStateException.class, () -> eventos.publicar(evento));
+        assertEquals(List.of(evento), recebidos);
+        assertInstanceOf(IllegalArgumentException.class, falha.getSuppressed()[0]);
+    }
+
+    @Test
+    void deveEntregarFalhaAoTratadorInjetado() {
+        List<RuntimeException> falhas = new ArrayList<>();
+        var eventos = new BarramentoEventos((e, erro) -> falhas.add(erro));
+        eventos.assinar(e -> {
+            throw new IllegalStateException("projeção");
+        });
+
+        eventos.publicar(evento);
+        assertEquals(1, falhas.size());
+    }
+}
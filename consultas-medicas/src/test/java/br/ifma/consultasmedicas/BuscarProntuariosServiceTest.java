@@ -0,0 +1,83 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.search.IndexedProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.search.IndiceInvertidoProntuarios;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.BuscarProntuariosService;
+import br.ifma.consultasmedicas.ports.in.ResultadoBuscaProntuarios;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BuscarProntuariosServiceTest {
+
+    private final Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+    private final IndiceInvertidoProntuarios indice = new IndiceInvertidoProntuarios();
+    private final IndexedProntuarioRepository repo =
+        new IndexedProntuarioRepository(new InMemoryProntuarioRepository(), indice);
+    private final BuscarProntuariosService service = new BuscarProntuariosService(indice, repo);
+
+    @Test
+    void deveEncontrarComAcentosPluralERanquearPorRelevancia() {
+        repo.salvar(prontuario(1, 1, "Febre alta e tosse", "Hidratar"));
+        repo.salvar(prontuario(2, 1, "Tosse seca", "Tosse persistente há três dias, sem febre"));
+        repo.salvar(prontuario(3, 2, "Dor de ouvido", "Otite; observar"));
+        repo.salvar(prontuario(4, 2, "Vômitos", "Desidratação leve"));
+
+        assertEquals(List.of(2, 1), ids(service.buscar("TOSSES", null, 0, 10)));
+        assertEquals(List.of(4), ids(service.buscar("vomito", null, 0, 10)));
+        assertEquals(Set.of(1, 2), Set.copyOf(ids(service.buscar("febre tosse", null, 0, 10))));
+        assertEquals(List.of(), ids(service.buscar("tosse otite", null, 0, 10)));
+        assertEquals(List.of(3), ids(service.buscar("ouvido", 2, 0, 10)));
+        assertEquals(List.of(), ids(service.buscar("ouvido", 1, 0, 10)));
+    }
+
+    @Test
+    void devePaginarEReindexarAoRegravar() {
+        for (int i = 1; i <= 25; i++) {
+            repo.salvar(prontuario(i, 1, "Febre", "Observar"));
+        }
+        ResultadoBuscaProntuarios primeira = service.buscar("febre", null, 0, 10);
+        ResultadoBuscaProntuarios ultima = service.buscar("febre", null, 2, 10);
+        assertEquals(25, primeira.getTotal());
+        assertEquals(10, primeira.getItens().size());
+        assertTrue(primeira.temProxima());
+        assertEquals(5, ultima.getItens().size());
+        assertFalse(ultima.temProxima());
+
+        // Regravar substitui o texto indexado
+        repo.salvar(prontuario(7, 1, "Cefaleia", "Observar"));
+        assertEquals(24, service.buscar("febre", null, 0, 10).getTotal());
+        assertEquals(List.of(7), ids(service.buscar("cefaleia", null, 0, 10)));
+
+        assertThrows(DomainException.class, () -> service.buscar("  ", null, 0, 10));
+        assertThrows(DomainException.class, () -> service.buscar("febre", null, 0, 0));
+    }
+
+    @Test
+    void deveCruzarTermoRaroComTermoFrequente() {
+        for (int i = 1; i <= 1000; i++) {
+            repo.salvar(prontuario(i, i % 7, "Febre", i % 97 == 0 ? "Convulsão febril" : "Observar"));
+        }
+        var resultado = service.buscar("convulsões febre", null, 0, 100);
+        assertEquals(10, resultado.getTotal());
+        assertTrue(resultado.getItens().stream().allMatch(p -> p.getId() % 97 == 0));
+    }
+
+    private Prontuario prontuario(int id, int pacienteId, String sintomas, String observacao) {
+        Paciente paciente = new Paciente(pacienteId, "Paciente " + pacienteId, "Mãe", LocalDate.of(2020, 1, 1), "F",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+        Consulta consulta = new Consulta(id, paciente, medico, LocalDate.of(2024, 3, 1).atTime(8, 0).plusHours(id), false);
+        return new Prontuario(id, consulta, 10, 0.9, sintomas, observacao, List.of(), List.of());
+    }
+
+    private static List<Integer> ids(ResultadoBuscaProntuarios resultado) {
+        return resultado.getItens().stream().map(Prontuario::getId).toList();
+    }
+}
@@ -0,0 +1,43 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.ConsultarHistoricoProntuarioService;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsultarHistoricoProntuarioServiceTest {
+
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+
+    @Test
+    void devePaginarDoMaisRecenteParaOMaisAntigo() {
+        var repo = new InMemoryProntuarioRepository();
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 1; i <= 6; i++) {
+            Consulta consulta = new Consulta(i, paciente, medico, inicio.plusDays(i), false);
+            repo.salvar(new Prontuario(i, consulta, 10, 0.9, "", "", null, null));
+        }
+        var service = new ConsultarHistoricoProntuarioService(repo);
+
+        PaginaHistorico primeira = service.consultarPorPaciente(1, null, 3);
+        assertEquals(List.of(6, 5, 4), primeira.getItens().stream().map(Prontuario::getId).toList());
+        assertEquals(4, primeira.getProximoCursor());
+
+        PaginaHistorico segunda = service.consultarPorPaciente(1, primeira.getProximoCursor(), 3);
+        assertEquals(List.of(3, 2, 1), segunda.getItens().stream().map(Prontuario::getId).toList());
+        assertFalse(segunda.temProxima());
+
+        assertTrue(service.consultarPorPaciente(2, null, 3).getItens().isEmpty());
+        assertThrows(DomainException.class, () -> service.consultarPorPaciente(1, null, 0));
+    }
+}
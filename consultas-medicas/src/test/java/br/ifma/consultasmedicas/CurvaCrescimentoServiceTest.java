@@ -0,0 +1,75 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.referencia.TabelaLms;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.event.ProntuarioRegistrado;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.CurvaCrescimentoService;
+import br.ifma.consultasmedicas.ports.in.CurvaCrescimento;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CurvaCrescimentoServiceTest {
+
+    private static final LocalDate NASCIMENTO = LocalDate.of(2020, 1, 1);
+
+    private final Paciente pedro = new Paciente(1, "Pedro", "Mãe", NASCIMENTO, "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+
+    @Test
+    void deveManterSerieOrdenadaComEscoresZSemCarregarProntuarios() {
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var service = new CurvaCrescimentoService(prontuarioRepo, TabelaLms.oms());
+
+        // Registros fora de ordem (sincronização atrasada) entram na posição do dia
+        registrar(service, prontuarioRepo, 1, NASCIMENTO.plusYears(1), 9.6479, 0.757488);
+        registrar(service, prontuarioRepo, 2, NASCIMENTO, 3.3464, 0.498842);
+        registrar(service, prontuarioRepo, 3, NASCIMENTO.plusYears(2), 14.5, 0);
+        service.aplicar(new ProntuarioRegistrado(prontuarioRepo.buscarPorId(1).orElseThrow()));
+
+        CurvaCrescimento curva = service.consultar(1);
+        assertEquals(3, curva.getTamanho());
+        assertEquals(List.of(NASCIMENTO, NASCIMENTO.plusYears(1), NASCIMENTO.plusYears(2)),
+            List.of(curva.getData(0), curva.getData(1), curva.getData(2)));
+        assertEquals(0, curva.getIdadeMeses(0));
+        assertEquals(12, curva.getIdadeMeses(1), 0.1);
+
+        // Medianas da referência: z ~ 0 e percentil ~ 50
+        assertEquals(0, curva.getZPeso(0), 1e-3);
+        assertEquals(0, curva.getZAltura(0), 1e-3);
+        assertEquals(0, curva.getZPeso(1), 0.02);
+        assertEquals(75.7488, curva.getAltura(1), 1e-9);
+        assertEquals(9.6479 / (0.757488 * 0.757488), curva.getImc(1), 1e-9);
+        assertEquals(50, CurvaCrescimento.percentil(curva.getZPeso(0)), 0.1);
+
+        // Peso bem acima da mediana aos 2 anos; altura não medida
+        assertTrue(curva.getZPeso(2) > 1.5);
+        assertTrue(Double.isNaN(curva.getAltura(2)));
+        assertTrue(Double.isNaN(curva.getZImc(2)));
+
+        var reconstruido = new CurvaCrescimentoService(prontuarioRepo, TabelaLms.oms());
+        reconstruido.reconstruir();
+        assertEquals(3, reconstruido.consultarPainel(List.of(1, 2)).get(0).getTamanho());
+        assertEquals(0, reconstruido.consultarPainel(List.of(1, 2)).get(1).getTamanho());
+    }
+
+    @Test
+    void percentilDeveSeguirANormalPadrao() {
+        assertEquals(50, CurvaCrescimento.percentil(0), 1e-6);
+        assertEquals(97.5, CurvaCrescimento.percentil(1.959964), 1e-4);
+        assertEquals(2.275, CurvaCrescimento.percentil(-2), 1e-3);
+    }
+
+    private void registrar(CurvaCrescimentoService service, InMemoryProntuarioRepository repo,
+                           int id, LocalDate dia, double peso, double altura) {
+        var prontuario = new Prontuario(id, new Consulta(id, pedro, medico, dia.atTime(9, 0), false),
+            peso, altura, "", "", List.of(), List.of());
+        repo.salvar(prontuario);
+        service.aplicar(new ProntuarioRegistrado(prontuario));
+    }
+}
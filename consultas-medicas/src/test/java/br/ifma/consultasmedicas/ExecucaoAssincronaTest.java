@@ -0,0 +1,112 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.in.controller.ProntuarioAsyncController;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.service.*;
+import br.ifma.consultasmedicas.ports.in.PaginaHistorico;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExecucaoAssincronaTest {
+
+    @Test
+    void deveLimitarOperacoesSimultaneasEAplicarTimeout() throws Exception {
+        try (ExecutorService virtuais = Executors.newVirtualThreadPerTaskExecutor()) {
+            var execucao = new ExecucaoAssincrona(virtuais, 2, Duration.ofSeconds(5));
+            AtomicInteger simultaneas = new AtomicInteger();
+            AtomicInteger maximo = new AtomicInteger();
+            List<CompletableFuture<Integer>> futuros = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                int valor = i;
+                futuros.add(execucao.executar(() -> {
+                    maximo.accumulateAndGet(simultaneas.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    simultaneas.decrementAndGet();
+                    return valor;
+                }));
+            }
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i, futuros.get(i).get());
+            }
+            assertTrue(maximo.get() <= 2);
+
+            CompletableFuture<Object> erro = execucao.executar(() -> {
+                throw new DomainException("Consulta não encontrada: 9");
+            });
+            ExecutionException falha = assertThrows(ExecutionException.class, erro::get);
+            assertInstanceOf(DomainException.class, falha.getCause());
+
+            var lenta = new ExecucaoAssincrona(virtuais, 1, Duration.ofMillis(50));
+            CountDownLatch liberar = new CountDownLatch(1);
+            CompletableFuture<Boolean> ocupada = lenta.executar(() -> {
+                try {
+                    return liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            falha = assertThrows(ExecutionException.class, ocupada::get);
+            assertInstanceOf(TimeoutException.class, falha.getCause());
+            liberar.countDown();
+        }
+    }
+
+    @Test
+    void deveRejeitarNaSubmissaoQuandoAFilaEstiverCheia() throws Exception {
+        try (ExecutorService virtuais = Executors.newVirtualThreadPerTaskExecutor()) {
+            var execucao = new ExecucaoAssincrona(virtuais, 1, 1, Duration.ofSeconds(5));
+            CountDownLatch liberar = new CountDownLatch(1);
+            CompletableFuture<Integer> ocupada = execucao.executar(() -> {
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return 1;
+            });
+            CompletableFuture<Integer> naFila = execucao.executar(() -> 2);
+            assertEquals(2, execucao.admitidas());
+
+            CompletableFuture<Integer> rejeitada = execucao.executar(() -> 3);
+            assertTrue(rejeitada.isDone());
+            ExecutionException falha = assertThrows(ExecutionException.class, rejeitada::get);
+            assertInstanceOf(RejectedExecutionException.class, falha.getCause());
+
+            liberar.countDown();
+            assertEquals(1, ocupada.get());
+            assertEquals(2, naFila.get());
+        }
+    }
+
+    @Test
+    void controllerDeveConsultarHistoricosEmParalelo() throws Exception {
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        try (var execucao = new ExecucaoAssincrona()) {
+            var controller = new ProntuarioAsyncController(
+                new RegistrarProntuarioAsyncService(new RegistrarProntuarioService(new InMemoryConsultaRepository(),
+                    prontuarioRepo, new InMemoryMedicamentoRepository(),
+                    new InMemoryExameRepository(),
+                    new HiLoIdGenerator()), execucao),
+                new ListarConsultasDoDiaAsyncService(new ListarConsultasDoDiaService(new InMemoryConsultaRepository()), execucao),
+                new ConsultarHistoricoProntuarioAsyncService(new ConsultarHistoricoProntuarioService(prontuarioRepo), execucao));
+
+            Map<Integer, PaginaHistorico> paginas = controller.consultarHistoricos(List.of(3, 1, 2), 10).get();
+            assertEquals(List.of(3, 1, 2), new ArrayList<>(paginas.keySet()));
+            assertTrue(paginas.get(1).getItens().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.exportacao.BinarioExportacao;
+import br.ifma.consultasmedicas.adapters.out.exportacao.NdjsonExportacao;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.ExportarProntuariosService;
+import br.ifma.consultasmedicas.ports.in.FiltroExportacao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportarProntuariosServiceTest {
+
+    private final Paciente paciente = new Paciente(1, "Ana", "Maria", LocalDate.of(2020, 5, 3), "F",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico vilegas = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+    private final Medico souza = new Medico(2, "Dra. Souza", "CRM-MA 54321");
+    private final InMemoryProntuarioRepository repo = new InMemoryProntuarioRepository();
+    private final ExportarProntuariosService service = new ExportarProntuariosService(repo);
+
+    @Test
+    void deveExportarNdjsonEBinarioComFiltros(@TempDir Path dir) throws Exception {
+        Medicamento paracetamol = new Medicamento(1, "Paracetamol");
+        repo.salvar(prontuario(1, vilegas, LocalDate.of(2024, 3, 1), "Febre e tosse com \"chiado\" — três dias",
+            List.of(new Prescricao(10, paracetamol, "10mg/kg", "VO", "3 dias")), List.of(new Exame(5, "Hemograma"))));
+        repo.salvar(prontuario(2, souza, LocalDate.of(2024, 3, 2), "Otite", List.of(), List.of()));
+        repo.salvar(prontuario(3, vilegas, LocalDate.of(2024, 4, 1), null, List.of(), List.of()));
+
+        Path ndjson = dir.resolve("prontuarios.ndjson");
+        long exportados;
+        // Buffer minúsculo: força várias descargas no meio das linhas
+        try (var destino = new NdjsonExportacao(ndjson, 16)) {
+            exportados = service.exportar(FiltroExportacao.todos(), destino);
+        }
+        assertEquals(3, exportados);
+        List<String> linhas = Files.readAllLines(ndjson, StandardCharsets.UTF_8);
+        assertEquals(3, linhas.size());
+        String primeira = linhas.stream().filter(l -> l.startsWith("{\"id\":1,")).findFirst().orElseThrow();
+        assertTrue(primeira.contains("\"sintomas\":\"Febre e tosse com \\\"chiado\\\" — três dias\""));
+        assertTrue(primeira.contains("\"prescricoes\":[{\"id\":10,\"medicamentoId\":1,"));
+        assertTrue(primeira.endsWith("\"examesIds\":[5]}"));
+
+        Path binario = dir.resolve("prontuarios.bin");
+        try (var destino = new BinarioExportacao(binario, 32)) {
+            exportados = service.exportar(new FiltroExportacao(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), 1), destino);
+        }
+        assertEquals(1, exportados);
+        assertEquals(List.of(1), idsBinarios(binario));
+    }
+
+    private static List<Integer> idsBinarios(Path arquivo) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        try (var in = new DataInputStream(Files.newInputStream(arquivo))) {
+            assertArrayEquals(BinarioExportacao.ASSINATURA, in.readNBytes(4));
+            assertEquals(BinarioExportacao.VERSAO, in.readShort());
+            while (true) {
+                int tamanho;
+                try {
+                    tamanho = in.readInt();
+                } catch (EOFException fim) {
+                    return ids;
+                }
+                byte[] registro = in.readNBytes(tamanho);
+                assertEquals(tamanho, registro.length);
+                ids.add(ByteBuffer.wrap(registro).getInt());
+            }
+        }
+    }
+
+    private Prontuario prontuario(int id, Medico medico, LocalDate dia, String sintomas,
+                                  List<Prescricao> prescricoes, List<Exame> exames) {
+        Consulta consulta = new Consulta(id, paciente, medico, dia.atTime(9, 0), false);
+        return new Prontuario(id, consulta, 12.5, 0.9, sintomas, "Observar", prescricoes, exames);
+    }
+}
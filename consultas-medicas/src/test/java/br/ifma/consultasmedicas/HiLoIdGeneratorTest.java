@@ -0,0 +1,53 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HiLoIdGeneratorTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void naoDeveRepetirIdsEntreThreadsNemAposReinicio() throws Exception {
+        Path arquivo = diretorio.resolve("ids.dat");
+        Set<Integer> gerados = ConcurrentHashMap.newKeySet();
+
+        var ids = new HiLoIdGenerator(arquivo, 10);
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                tarefas.add(pool.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        assertTrue(gerados.add(ids.proximoId(IdGenerator.Sequencia.PRONTUARIO)));
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+        assertEquals(8000, gerados.size());
+
+        var reaberto = new HiLoIdGenerator(arquivo, 10);
+        int maior = gerados.stream().mapToInt(Integer::intValue).max().orElseThrow();
+        assertTrue(reaberto.proximoId(IdGenerator.Sequencia.PRONTUARIO) > maior);
+        assertEquals(1, reaberto.proximoId(IdGenerator.Sequencia.CONSULTA));
+
+        reaberto.avancarPara(IdGenerator.Sequencia.PACIENTE, 41);
+        assertEquals(42, new HiLoIdGenerator(arquivo, 10).proximoId(IdGenerator.Sequencia.PACIENTE));
+    }
+}
@@ -0,0 +1,109 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.in.importacao.ImportadorEmLote;
+import br.ifma.consultasmedicas.adapters.in.importacao.RelatorioImportacao;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.ConsultaStatus;
+import br.ifma.consultasmedicas.core.domain.model.Expediente;
+import br.ifma.consultasmedicas.core.domain.model.Paciente;
+import br.ifma.consultasmedicas.core.domain.model.TelefoneTipo;
+import br.ifma.consultasmedicas.core.service.AgendarConsultaService;
+import br.ifma.consultasmedicas.core.service.ImportarCadastrosService;
+import br.ifma.consultasmedicas.ports.in.AgendarConsultaCommand;
+import br.ifma.consultasmedicas.ports.out.IdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImportadorEmLoteTest {
+
+    private final InMemoryPacienteRepository pacienteRepo = new InMemoryPacienteRepository();
+    private final InMemoryConsultaRepository consultaRepo = new InMemoryConsultaRepository();
+    private final InMemoryMedicamentoRepository medicamentoRepo = new InMemoryMedicamentoRepository();
+    private final InMemoryMedicoRepository medicoRepo = new InMemoryMedicoRepository();
+    private final ImportadorEmLote importador = new ImportadorEmLote(
+        new ImportarCadastrosService(pacienteRepo, consultaRepo, medicamentoRepo, new InMemoryExameRepository(),
+            medicoRepo), 2, 2);
+
+    @Test
+    void deveImportarCsvENdjsonReportandoErrosPorLinha() throws Exception {
+        String pacientes = """
+            id,nomeCrianca,nomeResponsavel,dataNascimento,sexo,logradouro,numero,complemento,bairro,cidade,uf,cep,telefones,planoSaudeId,planoSaude
+            1,Ana,Maria,2020-05-03,F,"Rua A, fundos",1,,Centro,São Luís,MA,65000-000,98999990000:celular:Maria,,
+            2,Bia,João,2019-01-01,F,Rua B,2,,Centro,São Luís,MA,65000-000,,7,Unimed
+
+            3,Caio,Pedro,data-ruim,M,Rua C,3,,Centro,São Luís,MA,65000-000,,,
+            4,Davi,Paulo,2018-02-02,M,Rua D,4,,Centro,São Luís,MA,65000-000,3232:FAX,,
+            5,Eva,Rosa,2021-03-03,F,Rua E,5,,Centro,São Luís,MA,65000-000,,,
+            """;
+        RelatorioImportacao relatorio = importador.importar(new StringReader(pacientes),
+            ImportadorEmLote.Formato.CSV, ImportadorEmLote.Tipo.PACIENTE);
+
+        assertEquals(5, relatorio.getLinhasLidas());
+        assertEquals(3, relatorio.getImportados());
+        assertEquals(2, relatorio.getTotalErros());
+        assertEquals(5, relatorio.getErros().get(0).getLinha());
+        assertEquals(6, relatorio.getErros().get(1).getLinha());
+        assertEquals(5, relatorio.getMaiorId());
+        Paciente ana = pacienteRepo.buscarPorId(1).orElseThrow();
+        assertEquals("Rua A, fundos", ana.getEndereco().getLogradouro());
+        assertEquals(TelefoneTipo.CELULAR, ana.getTelefones().get(0).getTipo());
+        assertEquals("Unimed", pacienteRepo.buscarPorId(2).orElseThrow().getPlanoSaude().getNomePlano());
+
+        String consultas = """
+            {"id": 10, "pacienteId": 1, "medicoId": 1, "medicoNome": "Dr. Vilegas", "medicoCrm": "CRM-MA 1", "dataHora": "2024-03-10T09:00", "pacienteNovo": true}
+            {"id": 11, "pacienteId": 99, "medicoId": 1, "medicoNome": "Dr. Vilegas", "medicoCrm": "CRM-MA 1", "dataHora": "2024-03-10T10:00"}
+            {"id": 12, "pacienteId": 2, "medicoId": 1, "medicoNome": "Dr. Vilegas", "medicoCrm": "CRM-MA 1", "dataHora": "2024-03-10T11:00", "status": "realizada"}
+            {"id": 13,
+            """;
+        relatorio = importador.importar(new StringReader(consultas),
+            ImportadorEmLote.Formato.NDJSON, ImportadorEmLote.Tipo.CONSULTA);
+
+        assertEquals(2, relatorio.getImportados());
+        assertEquals(2, relatorio.getTotalErros());
+        assertEquals("Paciente não encontrado: 99", relatorio.getErros().get(0).getMotivo());
+        assertEquals(4, relatorio.getErros().get(1).getLinha());
+        assertEquals(2, consultaRepo.buscarPorData(LocalDate.of(2024, 3, 10)).size());
+        assertEquals(ConsultaStatus.REALIZADA, consultaRepo.buscarPorId(12).orElseThrow().getStatus());
+        assertEquals("Dr. Vilegas", consultaRepo.buscarPorId(10).orElseThrow().getMedico().getNome());
+    }
+
+    @Test
+    void medicoDasConsultasImportadasDeveAceitarAgendamento() throws Exception {
+        String pacientes = """
+            id,nomeCrianca,nomeResponsavel,dataNascimento,sexo,logradouro,numero,complemento,bairro,cidade,uf,cep,telefones,planoSaudeId,planoSaude
+            1,Ana,Maria,2020-05-03,F,Rua A,1,,Centro,São Luís,MA,65000-000,,,
+            """;
+        importador.importar(new StringReader(pacientes), ImportadorEmLote.Formato.CSV, ImportadorEmLote.Tipo.PACIENTE);
+        // Segunda-feira
+        String consultas = """
+            {"id": 10, "pacienteId": 1, "medicoId": 5, "medicoNome": "Dra. Souza", "medicoCrm": "CRM-MA 5", "dataHora": "2024-03-11T09:00"}
+            {"id": 11, "pacienteId": 1, "medicoId": 5, "medicoNome": "Dra. Souza", "medicoCrm": "CRM-MA 5", "dataHora": "2024-03-11T08:00", "status": "realizada"}
+            """;
+        assertEquals(2, importador.importar(new StringReader(consultas), ImportadorEmLote.Formato.NDJSON,
+            ImportadorEmLote.Tipo.CONSULTA).getImportados());
+        assertSame(medicoRepo.buscarPorId(5).orElseThrow(), consultaRepo.buscarPorId(10).orElseThrow().getMedico());
+
+        Clock relogio = Clock.fixed(LocalDate.of(2024, 3, 11).atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        var ids = new HiLoIdGenerator();
+        ids.avancarPara(IdGenerator.Sequencia.CONSULTA, 11);
+        var agendar = new AgendarConsultaService(consultaRepo, pacienteRepo, medicoRepo, ids, Expediente.PADRAO, relogio);
+
+        LocalDateTime nove = LocalDateTime.of(2024, 3, 11, 9, 0);
+        assertEquals(List.of(nove.plusMinutes(30)), agendar.horariosLivres(5, nove, nove.plusHours(1), 1));
+        DomainException ocupado = assertThrows(DomainException.class,
+            () -> agendar.agendar(new AgendarConsultaCommand(1, 5, nove, false)));
+        assertTrue(ocupado.getMessage().contains("Dra. Souza"));
+        Integer id = agendar.agendar(new AgendarConsultaCommand(1, 5, nove.plusMinutes(30), false));
+        assertEquals(5, consultaRepo.buscarPorId(id).orElseThrow().getMedico().getId());
+    }
+}
@@ -0,0 +1,86 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryConsultaRepositoryTest {
+
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+
+    @Test
+    void deveBuscarConsultasDoDiaOrdenadasPorHorario() {
+        var repo = new InMemoryConsultaRepository();
+        LocalDate dia = LocalDate.of(2024, 3, 10);
+
+        repo.salvar(new Consulta(1, paciente, medico, dia.atTime(14, 0), false));
+        repo.salvar(new Consulta(2, paciente, medico, dia.atTime(8, 30), false));
+        repo.salvar(new Consulta(3, paciente, medico, dia.plusDays(1).atTime(0, 0), false));
+        repo.salvar(new Consulta(4, paciente, medico, dia.minusDays(1).atTime(23, 59), false));
+
+        List<Consulta> doDia = repo.buscarPorData(dia);
+        assertEquals(List.of(2, 1), doDia.stream().map(Consulta::getId).toList());
+
+        List<Consulta> periodo = repo.buscarPorPeriodo(dia.atTime(9, 0), dia.plusDays(1).atTime(0, 1));
+        assertEquals(List.of(1, 3), periodo.stream().map(Consulta::getId).toList());
+    }
+
+    @Test
+    void deveReindexarConsultaSalvaNovamente() {
+        var repo = new InMemoryConsultaRepository();
+        LocalDateTime antes = LocalDateTime.of(2024, 3, 10, 9, 0);
+        LocalDateTime depois = LocalDateTime.of(2024, 3, 11, 9, 0);
+
+        repo.salvar(new Consulta(1, paciente, medico, antes, false));
+        repo.salvar(new Consulta(1, paciente, medico, depois, false));
+
+        assertTrue(repo.buscarPorData(antes.toLocalDate()).isEmpty());
+        assertEquals(1, repo.buscarPorData(depois.toLocalDate()).size());
+    }
+
+    @Test
+    void deveBuscarPorMedicoPacienteEPlanoNoPeriodo() {
+        var repo = new InMemoryConsultaRepository();
+        var outroMedico = new Medico(2, "Dra. Lima", "CRM-MA 54321");
+        var conveniado = new Paciente(2, "Bia", "Mãe", LocalDate.of(2021, 6, 1), "F", paciente.getEndereco(), List.of(),
+            new PlanoSaude(7, "Unimed"));
+        LocalDateTime inicio = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+        repo.salvar(new Consulta(1, paciente, medico, inicio.plusDays(20), false));
+        repo.salvar(new Consulta(2, conveniado, medico, inicio.plusDays(3), false));
+        repo.salvar(new Consulta(3, conveniado, outroMedico, inicio.plusDays(10), false));
+        repo.salvar(new Consulta(4, paciente, medico, inicio.plusMonths(1), false));
+        repo.buscarPorId(2).orElseThrow().cancelar();
+
+        LocalDateTime fim = inicio.plusMonths(1);
+        assertEquals(List.of(2, 1), ids(repo.buscarPorMedicoEPeriodo(1, inicio, fim)));
+        assertEquals(List.of(3), ids(repo.buscarPorMedicoEPeriodo(2, inicio, fim)));
+        assertEquals(List.of(1, 4), ids(repo.buscarPorPacienteEPeriodo(1, inicio, fim.plusDays(1))));
+        assertEquals(List.of(2, 3), ids(repo.buscarPorPlanoEPeriodo(7, inicio, fim)));
+        assertTrue(repo.buscarPorMedicoEPeriodo(99, inicio, fim).isEmpty());
+        assertTrue(repo.buscarPorMedicoEPeriodo(1, fim, inicio).isEmpty());
+
+        // O status é lido da instância: o cancelamento aparece sem nova gravação
+        var contagem = repo.contarPorStatus(1, inicio, fim);
+        assertEquals(1, contagem.get(ConsultaStatus.AGENDADA));
+        assertEquals(1, contagem.get(ConsultaStatus.CANCELADA));
+        assertEquals(0, contagem.get(ConsultaStatus.REALIZADA));
+
+        // Regravar com outro médico e data move a consulta entre os índices
+        repo.salvar(new Consulta(1, paciente, outroMedico, inicio.plusDays(1), false));
+        assertEquals(List.of(2), ids(repo.buscarPorMedicoEPeriodo(1, inicio, fim)));
+        assertEquals(List.of(1, 3), ids(repo.buscarPorMedicoEPeriodo(2, inicio, fim)));
+    }
+
+    private static List<Integer> ids(List<Consulta> consultas) {
+        return consultas.stream().map(Consulta::getId).toList();
+    }
+}
@@ -0,0 +1,84 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryProntuarioRepository;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryProntuarioRepositoryTest {
+
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+
+    @Test
+    void deveManterHistoricoOrdenadoPorDataHoraIndependenteDaOrdemDeGravacao() {
+        var repo = new InMemoryProntuarioRepository();
+        LocalDateTime base = LocalDateTime.of(2024, 3, 10, 9, 0);
+
+        repo.salvar(prontuario(1, consulta(10, base.plusDays(2))));
+        repo.salvar(prontuario(2, consulta(11, base)));
+        repo.salvar(prontuario(3, consulta(12, base.plusDays(1))));
+
+        assertEquals(List.of(2, 3, 1), ids(repo.buscarPorPaciente(1)));
+        assertEquals(List.of(1, 3), ids(repo.buscarPorPaciente(1, null, 2)));
+        assertEquals(List.of(2), ids(repo.buscarPorPaciente(1, 3, 2)));
+    }
+
+    @Test
+    void deveDesempatarMesmaDataHoraPeloIdSemPerderProntuarios() {
+        var repo = new InMemoryProntuarioRepository();
+        LocalDateTime mesmoHorario = LocalDateTime.of(2024, 3, 10, 9, 0);
+
+        repo.salvar(prontuario(7, consulta(10, mesmoHorario)));
+        repo.salvar(prontuario(3, consulta(11, mesmoHorario)));
+        repo.salvar(prontuario(5, consulta(12, mesmoHorario)));
+
+        assertEquals(List.of(3, 5, 7), ids(repo.buscarPorPaciente(1)));
+        assertEquals(List.of(5, 3), ids(repo.buscarPorPaciente(1, 7, 10)));
+    }
+
+    @Test
+    void deveAtualizarIndicesAoRegravarProntuarioEmOutraConsulta() {
+        var repo = new InMemoryProntuarioRepository();
+        LocalDateTime base = LocalDateTime.of(2024, 3, 10, 9, 0);
+
+        repo.salvar(prontuario(1, consulta(10, base)));
+        repo.salvar(prontuario(1, consulta(11, base.plusDays(1))));
+
+        assertFalse(repo.existeParaConsulta(10));
+        assertTrue(repo.existeParaConsulta(11));
+        assertEquals(List.of(1), ids(repo.buscarPorPaciente(1)));
+        assertEquals(11, repo.buscarPorId(1).get().getConsulta().getId());
+    }
+
+    @Test
+    void naoDeveSobrescreverProntuarioDeOutraConsultaNoSalvarSeAusente() {
+        var repo = new InMemoryProntuarioRepository();
+        Consulta consulta = consulta(10, LocalDateTime.of(2024, 3, 10, 9, 0));
+
+        assertTrue(repo.salvarSeAusente(prontuario(1, consulta)));
+        assertFalse(repo.salvarSeAusente(prontuario(2, consulta)));
+
+        assertTrue(repo.existeParaConsulta(10));
+        assertTrue(repo.buscarPorId(2).isEmpty());
+        assertEquals(List.of(1), ids(repo.buscarPorPaciente(1)));
+    }
+
+    private Consulta consulta(int id, LocalDateTime dataHora) {
+        return new Consulta(id, paciente, medico, dataHora, false);
+    }
+
+    private static Prontuario prontuario(int id, Consulta consulta) {
+        return ProntuarioBuilder.builder().id(id).consulta(consulta).peso(12.0).altura(0.80).build();
+    }
+
+    private static List<Integer> ids(List<Prontuario> prontuarios) {
+        return prontuarios.stream().map(Prontuario::getId).toList();
+    }
+}
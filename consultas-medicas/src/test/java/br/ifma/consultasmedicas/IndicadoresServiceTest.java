@@ -0,0 +1,88 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.events.BarramentoEventos;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.IndicadoresService;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.ports.in.ContagemIndicador;
+import br.ifma.consultasmedicas.ports.in.ProporcaoPacientesNovos;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndicadoresServiceTest {
+
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    private final Medico vilegas = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+    private final Medico souza = new Medico(2, "Dra. Souza", "CRM-MA 54321");
+
+    @Test
+    void deveAgregarIncrementalmenteEReconstruirOsMesmosIndicadores() {
+        var eventos = new BarramentoEventos();
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
+        medicamentoRepo.salvar(new Medicamento(2, "Ibuprofeno"));
+        exameRepo.salvar(new Exame(1, "Hemograma"));
+        exameRepo.salvar(new Exame(2, "Raio-X"));
+        var indicadores = new IndicadoresService(prontuarioRepo);
+        eventos.assinar(indicadores::aplicar);
+        var registrar = new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo,
+            new HiLoIdGenerator(), eventos);
+
+        LocalDate marco = LocalDate.of(2024, 3, 11);
+        consultaRepo.salvar(new Consulta(1, paciente, vilegas, marco.atTime(9, 0), true));
+        consultaRepo.salvar(new Consulta(2, paciente, vilegas, marco.plusDays(1).atTime(9, 0), false));
+        consultaRepo.salvar(new Consulta(3, paciente, souza, marco.plusDays(2).atTime(9, 0), false));
+        consultaRepo.salvar(new Consulta(4, paciente, souza, LocalDate.of(2024, 4, 1).atTime(9, 0), false));
+        registrar.registrar(comando(1, List.of(1, 2), List.of(1, 2)));
+        registrar.registrar(comando(2, List.of(2), List.of(1)));
+        registrar.registrar(comando(3, List.of(2), List.of(2)));
+        registrar.registrar(comando(4, List.of(1), List.of()));
+
+        verificar(indicadores);
+
+        var reconstruido = new IndicadoresService(prontuarioRepo);
+        reconstruido.reconstruir();
+        verificar(reconstruido);
+    }
+
+    private void verificar(IndicadoresService indicadores) {
+        YearMonth marco = YearMonth.of(2024, 3);
+        List<ContagemIndicador> medicamentos = indicadores.medicamentosMaisPrescritos(marco, 10);
+        assertEquals(List.of(2, 1), medicamentos.stream().map(ContagemIndicador::getId).toList());
+        assertEquals(3, medicamentos.get(0).getQuantidade());
+        assertEquals("Ibuprofeno", medicamentos.get(0).getNome());
+        assertEquals(1, indicadores.medicamentosMaisPrescritos(marco, 1).size());
+
+        List<ContagemIndicador> examesVilegas = indicadores.examesPorMedico(marco, 1);
+        assertEquals(List.of(1, 2), examesVilegas.stream().map(ContagemIndicador::getId).toList());
+        assertEquals(2, examesVilegas.get(0).getQuantidade());
+        assertEquals(List.of(2), indicadores.examesPorMedico(marco, 2).stream().map(ContagemIndicador::getId).toList());
+        assertTrue(indicadores.examesPorMedico(YearMonth.of(2024, 4), 2).isEmpty());
+
+        ProporcaoPacientesNovos trimestre = indicadores.proporcaoPacientesNovos(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 30));
+        assertEquals(1, trimestre.getNovos());
+        assertEquals(3, trimestre.getRetornos());
+        assertEquals(0.25, trimestre.getProporcaoNovos(), 1e-9);
+        ProporcaoPacientesNovos doisDias = indicadores.proporcaoPacientesNovos(LocalDate.of(2024, 3, 12), LocalDate.of(2024, 3, 13));
+        assertEquals(0, doisDias.getNovos());
+        assertEquals(2, doisDias.getRetornos());
+    }
+
+    private static RegistrarProntuarioCommand comando(int consultaId, List<Integer> medicamentos, List<Integer> exames) {
+        return new RegistrarProntuarioCommand(consultaId, 15, 0.95, "", "",
+            medicamentos.stream().map(id -> new RegistrarProntuarioCommand.PrescricaoItemCommand(id, "1", "VO", "3 dias")).toList(),
+            exames);
+    }
+}
@@ -0,0 +1,90 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.core.util.IntLongMap;
+import br.ifma.consultasmedicas.core.util.IntObjectMap;
+import br.ifma.consultasmedicas.core.util.IntSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntObjectMapTest {
+
+    @Test
+    void deveSeComportarComoHashMapEmOperacoesAleatorias() {
+        IntObjectMap<String> mapa = new IntObjectMap<>();
+        Map<Integer, String> referencia = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            int chave = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(referencia.remove(chave), mapa.remove(chave));
+            } else {
+                String valor = "v" + i;
+                assertEquals(referencia.put(chave, valor), mapa.put(chave, valor));
+            }
+        }
+
+        assertEquals(referencia.size(), mapa.size());
+        for (int chave = -1_000; chave < 1_000; chave++) {
+            assertEquals(referencia.get(chave), mapa.get(chave));
+        }
+    }
+
+    @Test
+    void intLongMapDeveSomarComoHashMap() {
+        IntLongMap contadores = new IntLongMap();
+        Map<Integer, Long> referencia = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            int chave = random.nextInt(2_000) - 1_000;
+            long delta = random.nextInt(10);
+            assertEquals((long) referencia.merge(chave, delta, Long::sum), contadores.somar(chave, delta));
+        }
+
+        assertEquals(referencia.size(), contadores.size());
+        for (int chave = -1_000; chave < 1_000; chave++) {
+            assertEquals(referencia.getOrDefault(chave, 0L), contadores.get(chave));
+        }
+    }
+
+    @Test
+    void intLongMapDeveIndexarERemoverComoHashMap() {
+        IntLongMap indice = new IntLongMap();
+        Map<Integer, Long> referencia = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 50_000; i++) {
+            int chave = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(referencia.remove(chave) != null, indice.remove(chave));
+            } else {
+                long valor = random.nextLong();
+                referencia.put(chave, valor);
+                indice.put(chave, valor);
+            }
+        }
+
+        assertEquals(referencia.size(), indice.size());
+        for (int chave = -1_000; chave < 1_000; chave++) {
+            assertEquals(referencia.containsKey(chave), indice.containsKey(chave));
+            assertEquals(referencia.getOrDefault(chave, Long.MIN_VALUE), indice.getOrDefault(chave, Long.MIN_VALUE));
+        }
+    }
+
+    @Test
+    void intSetDeveIgnorarDuplicatas() {
+        IntSet ids = new IntSet();
+        assertTrue(ids.add(0));
+        assertTrue(ids.add(7));
+        assertFalse(ids.add(7));
+        assertTrue(ids.contains(0));
+        assertFalse(ids.contains(1));
+        assertEquals(2, ids.size());
+    }
+}
@@ -0,0 +1,60 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.in.importacao.ImportadorEmLote;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.ImportarCadastrosService;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InternamentoTest {
+
+    @Test
+    void importacaoDeveCompartilharValoresRepetidosEntrePacientes() throws Exception {
+        var internamento = Internamento.novo();
+        var pacienteRepo = new InMemoryPacienteRepository();
+        var importador = new ImportadorEmLote(new ImportarCadastrosService(pacienteRepo, new InMemoryConsultaRepository(),
+            new InMemoryMedicamentoRepository(), new InMemoryExameRepository(), new InMemoryMedicoRepository()), 1, 10, internamento);
+
+        // Cada linha gera instâncias novas dos mesmos textos, como qualquer parser
+        String csv = """
+            id,nomeCrianca,nomeResponsavel,dataNascimento,sexo,logradouro,numero,complemento,bairro,cidade,uf,cep,telefones,planoSaudeId,planoSaude
+            1,Ana,Maria,2020-01-01,F,Rua A,10,,Centro,São Luís,MA,65000-000,98999990000:celular:Maria,1,Plano Saúde MA
+            2,Bia,Maria,2020-01-01,F,Rua A,10,,Centro,São Luís,MA,65000-000,98999990000:celular:Maria,1,Plano Saúde MA
+            """;
+        assertEquals(2, importador.importar(new StringReader(csv), ImportadorEmLote.Formato.CSV,
+            ImportadorEmLote.Tipo.PACIENTE).getImportados());
+
+        Paciente ana = pacienteRepo.buscarPorId(1).orElseThrow();
+        Paciente bia = pacienteRepo.buscarPorId(2).orElseThrow();
+        assertEquals("São Luís", bia.getEndereco().getCidade());
+        assertSame(ana.getEndereco().getCidade(), bia.getEndereco().getCidade());
+        assertSame(ana.getEndereco().getCep(), bia.getEndereco().getCep());
+        assertSame(ana.getSexo(), bia.getSexo());
+        assertSame(ana.getTelefones().get(0), bia.getTelefones().get(0));
+        assertSame(ana.getPlanoSaude().getNomePlano(), bia.getPlanoSaude().getNomePlano());
+        // Nomes não passam pelos pools
+        assertNotSame(ana.getNomeResponsavel(), bia.getNomeResponsavel());
+    }
+
+    @Test
+    void deveDevolverInstanciaCanonicaDasFrasesDePrescricao() {
+        var internamento = Internamento.novo();
+        String primeira = internamento.frasePrescricao(new String("VO a cada 6h"));
+        assertSame(primeira, internamento.frasePrescricao(new String("VO a cada 6h")));
+        assertNull(internamento.frasePrescricao(null));
+        // Pools separados: a mesma frase no cadastro é outra instância
+        assertNotSame(primeira, internamento.cadastro(new String("VO a cada 6h")));
+    }
+
+    @Test
+    void desligadoDeveDevolverOsValoresComoVieram() {
+        String bairro = new String("Centro");
+        assertSame(bairro, Internamento.DESLIGADO.cadastro(bairro));
+        Telefone telefone = new Telefone("98999990000", TelefoneTipo.CELULAR, null);
+        assertSame(telefone, Internamento.DESLIGADO.telefone(telefone));
+    }
+}
@@ -0,0 +1,155 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.journal.JournaledRepositorios;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JournaledRepositoriosTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final Endereco endereco = new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000");
+    private final Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+        endereco, List.of(new Telefone("9800000000", TelefoneTipo.CELULAR, "Pai")), new PlanoSaude(3, "Unimed"));
+    private final Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+    private final LocalDateTime dataHora = LocalDateTime.of(2024, 3, 10, 9, 0);
+
+    @Test
+    void deveRecuperarEstadoAposReabrir() {
+        registrarProntuario(JournaledRepositorios.REGISTROS_POR_SNAPSHOT_PADRAO);
+
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            verificarEstadoRecuperado(repos);
+        }
+    }
+
+    @Test
+    void deveRecuperarAPartirDoSnapshotEDoLogDaMesmaGeracao() throws IOException {
+        registrarProntuario(2);
+
+        try (var repos = JournaledRepositorios.abrir(diretorio, 2)) {
+            verificarEstadoRecuperado(repos);
+        }
+        try (var arquivos = Files.list(diretorio)) {
+            assertTrue(arquivos.anyMatch(p -> p.getFileName().toString().startsWith("snapshot-")));
+        }
+    }
+
+    @Test
+    void deveDescartarRegistroTruncadoNoFimDoLog() throws IOException {
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            repos.medicamentos().salvar(new Medicamento(1, "Paracetamol"));
+        }
+        Path log = diretorio.resolve("journal-0.log");
+        Files.write(log, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            assertEquals("Paracetamol", repos.medicamentos().buscarPorId(1).orElseThrow().getNome());
+            repos.exames().salvar(new Exame(1, "Hemograma"));
+        }
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            assertTrue(repos.exames().buscarPorId(1).isPresent());
+        }
+    }
+
+    @Test
+    void gravacoesConcorrentesDoMesmoRegistroDevemChegarAoLogNaOrdemDaMemoria() throws Exception {
+        String nomeFinal;
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    int thread = t;
+                    tarefas.add(executor.submit(() -> {
+                        for (int i = 0; i < 200; i++) {
+                            repos.medicamentos().salvar(new Medicamento(1, "Paracetamol " + thread + "-" + i));
+                        }
+                    }));
+                }
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get();
+                }
+            }
+            nomeFinal = repos.medicamentos().buscarPorId(1).orElseThrow().getNome();
+        }
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            assertEquals(nomeFinal, repos.medicamentos().buscarPorId(1).orElseThrow().getNome());
+        }
+    }
+
+    @Test
+    void falhaDeSnapshotDeveIrParaOTratadorSemPerderRegistros() throws Exception {
+        var falha = new CompletableFuture<Exception>();
+        try (var repos = JournaledRepositorios.abrir(diretorio, 1, falha::complete)) {
+            // Um diretório no lugar do temporário impede a escrita do snapshot
+            Files.createDirectory(diretorio.resolve("snapshot-1.tmp"));
+            repos.medicamentos().salvar(new Medicamento(1, "Paracetamol"));
+            assertInstanceOf(IOException.class, falha.get(5, TimeUnit.SECONDS));
+            repos.exames().salvar(new Exame(1, "Hemograma"));
+            assertTrue(repos.falhasSnapshot() >= 1);
+        }
+        try (var repos = JournaledRepositorios.abrir(diretorio)) {
+            assertTrue(repos.medicamentos().buscarPorId(1).isPresent());
+            assertTrue(repos.exames().buscarPorId(1).isPresent());
+        }
+    }
+
+    @Test
+    void gravarDepoisDeFecharDeveFalharSemBloquear() {
+        var repos = JournaledRepositorios.abrir(diretorio);
+        repos.close();
+        assertThrows(IllegalStateException.class, () -> repos.exames().salvar(new Exame(1, "Hemograma")));
+    }
+
+    private void registrarProntuario(int registrosPorSnapshot) {
+        try (var repos = JournaledRepositorios.abrir(diretorio, registrosPorSnapshot)) {
+            repos.medicamentos().salvar(new Medicamento(1, "Paracetamol"));
+            repos.exames().salvar(new Exame(1, "Hemograma"));
+            repos.pacientes().salvar(paciente);
+            repos.consultas().salvar(new Consulta(10, paciente, medico, dataHora, true));
+
+            var service = new RegistrarProntuarioService(repos.consultas(), repos.prontuarios(),
+                repos.medicamentos(), repos.exames(), repos.ids());
+            service.registrar(new RegistrarProntuarioCommand(10, 12.5, 0.9, "Febre", "Observar",
+                List.of(new RegistrarProntuarioCommand.PrescricaoItemCommand(1, "10mg/kg", "VO a cada 6h", "3 dias")),
+                List.of(1)));
+        }
+    }
+
+    private void verificarEstadoRecuperado(JournaledRepositorios repos) {
+        Consulta consulta = repos.consultas().buscarPorId(10).orElseThrow();
+        assertEquals(ConsultaStatus.REALIZADA, consulta.getStatus());
+        assertEquals(dataHora, consulta.getDataHora());
+        assertEquals(1, repos.consultas().buscarPorData(dataHora.toLocalDate()).size());
+        assertEquals("Unimed", repos.pacientes().buscarPorId(1).orElseThrow().getPlanoSaude().getNomePlano());
+
+        assertTrue(repos.prontuarios().existeParaConsulta(10));
+        List<Prontuario> historico = repos.prontuarios().buscarPorPaciente(1);
+        assertEquals(1, historico.size());
+        Prontuario prontuario = historico.get(0);
+        assertSame(consulta, prontuario.getConsulta());
+        assertEquals(12.5, prontuario.getPeso());
+        assertEquals("VO a cada 6h", prontuario.getPrescricoes().get(0).getAdministracao());
+        assertEquals("Hemograma", prontuario.getExames().get(0).getNome());
+    }
+}
@@ -0,0 +1,136 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.mmap.MappedProntuarioRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryConsultaRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryExameRepository;
+import br.ifma.consultasmedicas.adapters.out.repository.InMemoryMedicamentoRepository;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedProntuarioRepositoryTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void deveGravarEReabrirHistoricoOrdenadoEntreSegmentos() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        Medicamento medicamento = new Medicamento(1, "Paracetamol");
+        Exame exame = new Exame(1, "Hemograma");
+        medicamentoRepo.salvar(medicamento);
+        exameRepo.salvar(exame);
+
+        Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        Path arquivo = diretorio.resolve("prontuarios.dat");
+        int segmentoPequeno = 512;
+        try (var repo = new MappedProntuarioRepository(arquivo, segmentoPequeno, consultaRepo, medicamentoRepo, exameRepo)) {
+            // Ordem de gravação invertida para exercitar a ordenação por dataHora
+            for (int i = 20; i >= 1; i--) {
+                Consulta consulta = new Consulta(i, paciente, medico, inicio.plusDays(i), false);
+                consultaRepo.salvar(consulta);
+                repo.salvar(new Prontuario(i, consulta, 10 + i, 0.9, "Febre " + i, "Obs ção",
+                    List.of(new Prescricao(i, medicamento, "10mg/kg", "VO a cada 6h", "3 dias")), List.of(exame)));
+            }
+            assertTrue(repo.existeParaConsulta(7));
+        }
+
+        try (var repo = new MappedProntuarioRepository(arquivo, segmentoPequeno, consultaRepo, medicamentoRepo, exameRepo)) {
+            List<Prontuario> historico = repo.buscarPorPaciente(1);
+            assertEquals(20, historico.size());
+            assertEquals(1, historico.get(0).getId());
+            assertEquals(20, historico.get(19).getId());
+
+            Prontuario p = historico.get(4);
+            assertEquals(15.0, p.getPeso());
+            assertEquals("Febre 5", p.getSintomas());
+            assertEquals("Obs ção", p.getObservacaoClinica());
+            assertEquals("VO a cada 6h", p.getPrescricoes().get(0).getAdministracao());
+            assertSame(exame, p.getExames().get(0));
+
+            Consulta nova = new Consulta(21, paciente, medico, inicio, false);
+            consultaRepo.salvar(nova);
+            assertFalse(repo.salvarSeAusente(new Prontuario(99, consultaRepo.buscarPorId(3).orElseThrow(), 1, 1, "", "", null, null)));
+            assertTrue(repo.salvarSeAusente(new Prontuario(21, nova, 1, 1, "", "", null, null)));
+            assertEquals(21, repo.buscarPorPaciente(1).get(0).getId());
+
+            // Páginas do mais recente para o mais antigo, retomando pelo id do último item
+            List<Integer> ids = new ArrayList<>();
+            Integer cursor = null;
+            do {
+                List<Prontuario> pagina = repo.buscarPorPaciente(1, cursor, 8);
+                pagina.forEach(item -> ids.add(item.getId()));
+                cursor = pagina.size() < 8 ? null : pagina.get(7).getId();
+            } while (cursor != null);
+            List<Integer> esperado = new ArrayList<>(IntStream.rangeClosed(1, 20).boxed().toList().reversed());
+            esperado.add(21);
+            assertEquals(esperado, ids);
+            assertEquals(esperado, repo.streamPorPaciente(1).map(Prontuario::getId).toList());
+        }
+    }
+
+    @Test
+    void deveOrdenarPorNanossegundosEIgnorarRegistroNaoPublicadoAoReabrir() throws Exception {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        LocalDateTime segundo = LocalDateTime.of(2024, 1, 1, 9, 0, 0);
+        for (int i = 1; i <= 4; i++) {
+            consultaRepo.salvar(new Consulta(i, paciente, medico, segundo.plusNanos(1_000 * (4 - i)), false));
+        }
+
+        Path arquivo = diretorio.resolve("prontuarios.dat");
+        try (var repo = new MappedProntuarioRepository(arquivo, 4096, consultaRepo, medicamentoRepo, exameRepo)) {
+            for (int i = 1; i <= 3; i++) {
+                repo.salvar(new Prontuario(i, consultaRepo.buscarPorId(i).orElseThrow(), 1, 1,
+                    "Sintomas longos do prontuário " + i, "", null, null));
+            }
+            assertEquals(List.of(1, 2, 3), repo.streamPorPaciente(1).map(Prontuario::getId).toList());
+            assertEquals(List.of(2, 3), repo.buscarPorPaciente(1, 1, 10).stream().map(Prontuario::getId).toList());
+        }
+
+        // Simula queda antes da publicação do tamanho do terceiro registro
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long posicao = 0;
+            for (int i = 0; i < 2; i++) {
+                ByteBuffer tamanho = ByteBuffer.allocate(4);
+                canal.read(tamanho, posicao);
+                posicao += tamanho.flip().getInt();
+            }
+            canal.write(ByteBuffer.allocate(4), posicao);
+        }
+
+        try (var repo = new MappedProntuarioRepository(arquivo, 4096, consultaRepo, medicamentoRepo, exameRepo)) {
+            assertFalse(repo.existeParaConsulta(3));
+            assertEquals(List.of(1, 2), repo.streamPorPaciente(1).map(Prontuario::getId).toList());
+            // Registro menor que o descartado: sem o terminador, a recuperação leria restos do antigo
+            repo.salvar(new Prontuario(4, consultaRepo.buscarPorId(4).orElseThrow(), 1, 1, "", "", null, null));
+        }
+
+        try (var repo = new MappedProntuarioRepository(arquivo, 4096, consultaRepo, medicamentoRepo, exameRepo)) {
+            assertEquals(List.of(1, 2, 4), repo.streamPorPaciente(1).map(Prontuario::getId).toList());
+            assertEquals(3, repo.streamTodos().count());
+        }
+    }
+}
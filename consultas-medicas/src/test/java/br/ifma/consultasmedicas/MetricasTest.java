@@ -0,0 +1,92 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.metrics.Histograma;
+import br.ifma.consultasmedicas.adapters.metrics.RegistroMetricas;
+import br.ifma.consultasmedicas.adapters.metrics.SnapshotMetrica;
+import br.ifma.consultasmedicas.adapters.metrics.TimedRegistrarProntuarioUseCase;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioUseCase;
+import br.ifma.consultasmedicas.ports.in.ResultadoRegistroProntuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricasTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void histogramaDeveEstimarPercentisComErroRelativoPequeno() {
+        var histograma = new Histograma();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histograma.registrar(micros * 1_000);
+        }
+        assertEquals(100_000, histograma.total());
+        assertEquals(100_000_000, histograma.maximo());
+        assertEquals(50_000_000, histograma.percentil(50), 50_000_000 * 0.07);
+        assertEquals(99_000_000, histograma.percentil(99), 99_000_000 * 0.07);
+        assertEquals(99_900_000, histograma.percentil(99.9), 99_900_000 * 0.07);
+    }
+
+    @Test
+    void decoradorDeveContarChamadasEErros() throws Exception {
+        var metricas = new RegistroMetricas();
+        RegistrarProntuarioUseCase falhaNaConsulta2 = new RegistrarProntuarioUseCase() {
+            @Override
+            public Integer registrar(RegistrarProntuarioCommand command) {
+                if (command.getConsultaId() == 2) {
+                    throw new DomainException("Consulta não encontrada: 2");
+                }
+                return 10;
+            }
+
+            @Override
+            public List<ResultadoRegistroProntuario> registrarEmLote(List<RegistrarProntuarioCommand> commands) {
+                return List.of();
+            }
+        };
+        var useCase = new TimedRegistrarProntuarioUseCase(falhaNaConsulta2, metricas);
+
+        assertEquals(10, useCase.registrar(comando(1)));
+        assertThrows(DomainException.class, () -> useCase.registrar(comando(2)));
+
+        SnapshotMetrica registrar = metricas.snapshot().stream()
+            .filter(m -> m.getNome().equals("RegistrarProntuarioUseCase.registrar"))
+            .findFirst().orElseThrow();
+        assertEquals(2, registrar.getChamadas());
+        assertEquals(1, registrar.getErros());
+        assertTrue(registrar.getP99() >= registrar.getP50());
+
+        Path arquivo = diretorio.resolve("metricas.txt");
+        metricas.despejarPeriodicamente(arquivo, Duration.ofHours(1)).close();
+        String conteudo = Files.readString(arquivo);
+        assertTrue(conteudo.contains("RegistrarProntuarioUseCase.registrar"));
+        assertFalse(conteudo.contains("registrarEmLote"));
+    }
+
+    @Test
+    void falhaDoDespejoPeriodicoDeveIrParaOTratador() throws Exception {
+        var metricas = new RegistroMetricas();
+        Path arquivo = diretorio.resolve("inexistente").resolve("metricas.txt");
+        var falha = new CompletableFuture<UncheckedIOException>();
+        AutoCloseable despejo = metricas.despejarPeriodicamente(arquivo, Duration.ofMillis(10), falha::complete);
+
+        assertNotNull(falha.get(5, TimeUnit.SECONDS));
+        assertThrows(UncheckedIOException.class, despejo::close);
+    }
+
+    private static RegistrarProntuarioCommand comando(int consultaId) {
+        return new RegistrarProntuarioCommand(consultaId, 10, 0.9, "", "", List.of(), List.of());
+    }
+}
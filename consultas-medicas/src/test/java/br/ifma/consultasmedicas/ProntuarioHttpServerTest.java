@@ -0,0 +1,164 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.in.controller.ProntuarioController;
+import br.ifma.consultasmedicas.adapters.in.http.ProntuarioHttpServer;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.ConsultarHistoricoProntuarioService;
+import br.ifma.consultasmedicas.core.service.ListarConsultasDoDiaService;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProntuarioHttpServerTest {
+
+    @Test
+    void deveExporRegistroConsultasDoDiaEHistorico() throws Exception {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
+        exameRepo.salvar(new Exame(1, "Hemograma"));
+
+        Paciente paciente = new Paciente(1, "Ana", "Maria", LocalDate.of(2020, 5, 3), "F",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+        LocalDateTime dataHora = LocalDateTime.of(2024, 3, 10, 9, 0);
+        consultaRepo.salvar(new Consulta(1, paciente, new Medico(1, "Dr. Vilegas", "CRM-MA 12345"), dataHora, true));
+        Paciente outro = new Paciente(2, "Bia", "Maria", LocalDate.of(2021, 1, 9), "F", paciente.getEndereco(), List.of(), null);
+        consultaRepo.salvar(new Consulta(2, outro, new Medico(1, "Dr. Vilegas", "CRM-MA 12345"), dataHora.plusDays(1), false));
+
+        var controller = new ProntuarioController(
+            new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo, new HiLoIdGenerator()),
+            new ListarConsultasDoDiaService(consultaRepo),
+            new ConsultarHistoricoProntuarioService(prontuarioRepo));
+
+        try (var server = new ProntuarioHttpServer(controller, 0)) {
+            server.iniciar();
+            String base = "http://localhost:" + server.porta();
+            HttpClient client = HttpClient.newHttpClient();
+
+            String corpo = """
+                {"consultaId": 1, "peso": 15.2, "altura": 0.95, "sintomas": "Febre \\"alta\\"",
+                 "observacaoClinica": "Hidratar", "ignorado": {"a": [1, 2]},
+                 "prescricoes": [{"medicamentoId": 1, "dosagem": "10mg/kg", "administracao": "VO", "tempoUso": "3 dias"}],
+                 "examesIds": [1]}
+                """;
+            var registro = client.send(HttpRequest.newBuilder(URI.create(base + "/prontuarios"))
+                .POST(HttpRequest.BodyPublishers.ofString(corpo)).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, registro.statusCode());
+            assertTrue(registro.body().matches("\\{\"id\":\\d+}"));
+
+            var repetido = client.send(HttpRequest.newBuilder(URI.create(base + "/prontuarios"))
+                .POST(HttpRequest.BodyPublishers.ofString(corpo)).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(422, repetido.statusCode());
+
+            // Com Idempotency-Key o reenvio devolve o mesmo id
+            var comChave = HttpRequest.newBuilder(URI.create(base + "/prontuarios")).header("Idempotency-Key", "tablet-1:42")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"consultaId\": 2, \"peso\": 15.4}")).build();
+            var primeiro = client.send(comChave, HttpResponse.BodyHandlers.ofString());
+            var reenvio = client.send(comChave, HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, primeiro.statusCode());
+            assertEquals(201, reenvio.statusCode());
+            assertEquals(primeiro.body(), reenvio.body());
+
+            var consultas = client.send(HttpRequest.newBuilder(URI.create(base + "/consultas?data=2024-03-10")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, consultas.statusCode());
+            assertTrue(consultas.body().contains("\"status\":\"REALIZADA\""));
+
+            var historico = client.send(HttpRequest.newBuilder(URI.create(base + "/pacientes/1/prontuarios")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, historico.statusCode());
+            assertTrue(historico.body().contains("\"sintomas\":\"Febre \\\"alta\\\"\""));
+            assertTrue(historico.body().contains("\"medicamento\":\"Paracetamol\""));
+
+            var pagina = client.send(HttpRequest.newBuilder(URI.create(base + "/pacientes/1/prontuarios?limite=1")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, pagina.statusCode());
+            assertTrue(pagina.body().startsWith("{\"itens\":[{"));
+            assertTrue(pagina.body().endsWith("\"proximoCursor\":null}"));
+        }
+    }
+
+    @Test
+    void corpoTruncadoDentroDeCampoIgnoradoDeveResponder400() throws Exception {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var controller = new ProntuarioController(
+            new RegistrarProntuarioService(consultaRepo, prontuarioRepo, new InMemoryMedicamentoRepository(),
+                new InMemoryExameRepository(), new HiLoIdGenerator()),
+            new ListarConsultasDoDiaService(consultaRepo),
+            new ConsultarHistoricoProntuarioService(prontuarioRepo));
+
+        try (var server = new ProntuarioHttpServer(controller, 0)) {
+            server.iniciar();
+            HttpClient client = HttpClient.newHttpClient();
+            for (String corpo : List.of("{\"consultaId\": 1, \"x\": [1, 2", "{\"x\": {\"a\": [\"b\"", "{\"x\": [")) {
+                var resposta = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + server.porta() + "/prontuarios"))
+                    .timeout(Duration.ofSeconds(5))
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo)).build(), HttpResponse.BodyHandlers.ofString());
+                assertEquals(400, resposta.statusCode(), corpo);
+                assertTrue(resposta.body().contains("fim inesperado"), resposta.body());
+            }
+        }
+    }
+
+    @Test
+    void prescricaoIncompletaDeveResponder400EFalhaDeGravacao500() throws Exception {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository() {
+            @Override
+            public boolean salvarSeAusente(Prontuario prontuario) {
+                throw new UncheckedIOException(new IOException("disco cheio"));
+            }
+        };
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
+        Paciente paciente = new Paciente(1, "Ana", "Maria", LocalDate.of(2020, 5, 3), "F",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+        consultaRepo.salvar(new Consulta(1, paciente, new Medico(1, "Dr. Vilegas", "CRM-MA 12345"),
+            LocalDateTime.of(2024, 3, 10, 9, 0), true));
+        var controller = new ProntuarioController(
+            new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, new InMemoryExameRepository(),
+                new HiLoIdGenerator()),
+            new ListarConsultasDoDiaService(consultaRepo),
+            new ConsultarHistoricoProntuarioService(prontuarioRepo));
+
+        try (var server = new ProntuarioHttpServer(controller, 0)) {
+            server.iniciar();
+            URI uri = URI.create("http://localhost:" + server.porta() + "/prontuarios");
+            HttpClient client = HttpClient.newHttpClient();
+
+            var semMedicamento = client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"consultaId\": 1, \"prescricoes\": [{\"dosagem\": \"10mg/kg\", \"administracao\": \"VO\", \"tempoUso\": \"3 dias\"}]}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, semMedicamento.statusCode());
+            assertTrue(semMedicamento.body().contains("medicamentoId"));
+
+            var semDosagem = client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"consultaId\": 1, \"prescricoes\": [{\"medicamentoId\": 1, \"administracao\": \"VO\", \"tempoUso\": \"3 dias\"}]}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, semDosagem.statusCode());
+
+            var falhaGravacao = client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"consultaId\": 1, \"peso\": 15.2}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(500, falhaGravacao.statusCode());
+            assertTrue(falhaGravacao.body().startsWith("{\"erro\":"));
+        }
+    }
+}
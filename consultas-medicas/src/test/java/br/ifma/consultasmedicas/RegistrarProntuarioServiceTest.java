@@ -5,11 +5,15 @@ import br.ifma.consultasmedicas.core.domain.exception.DomainException;
 import br.ifma.consultasmedicas.core.domain.model.*;
 import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
 import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.in.ResultadoRegistroProntuario;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,4 +52,127 @@ public class RegistrarProntuarioServiceTest {
 
         assertThrows(DomainException.class, () -> service.registrar(cmd));
     }
+
+    @Test
+    void deveRegistrarUmUnicoProntuarioSobRequisicoesConcorrentes() throws Exception {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var service = new RegistrarProntuarioService(consultaRepo, prontuarioRepo,
+            new InMemoryMedicamentoRepository(), new InMemoryExameRepository());
+
+        Endereco endereco = new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000");
+        Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M", endereco, List.of(), null);
+        consultaRepo.salvar(new Consulta(10, paciente, new Medico(1, "Dr. Vilegas", "CRM-MA 12345"), LocalDateTime.now(), false));
+
+        var cmd = new RegistrarProntuarioCommand(10, 12.0, 0.80, "Sintomas", "Obs", List.of(), List.of());
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger sucessos = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futuros.add(pool.submit(() -> {
+                    largada.await();
+                    try {
+                        service.registrar(cmd);
+                        sucessos.incrementAndGet();
+                    } catch (DomainException e) {
+                        falhas.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> f : futuros) f.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, sucessos.get());
+        assertEquals(threads - 1, falhas.get());
+        assertEquals(1, prontuarioRepo.buscarPorPaciente(1).size());
+        assertEquals(ConsultaStatus.REALIZADA, consultaRepo.buscarPorId(10).get().getStatus());
+    }
+
+    @Test
+    void deveRegistrarEmLoteReportandoErrosPorItem() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
+        exameRepo.salvar(new Exame(1, "Hemograma"));
+
+        Endereco endereco = new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000");
+        Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M", endereco, List.of(), null);
+        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        consultaRepo.salvar(new Consulta(10, paciente, medico, LocalDateTime.now(), false));
+        consultaRepo.salvar(new Consulta(11, paciente, medico, LocalDateTime.now().plusHours(1), false));
+
+        var service = new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo);
+
+        var item = new RegistrarProntuarioCommand.PrescricaoItemCommand(1, "x", "y", "z");
+        var resultados = service.registrarEmLote(List.of(
+            new RegistrarProntuarioCommand(10, 12.0, 0.80, "S", "O", List.of(item), List.of(1)),
+            new RegistrarProntuarioCommand(10, 12.0, 0.80, "S", "O", List.of(), List.of()),
+            new RegistrarProntuarioCommand(11, 12.0, 0.80, "S", "O",
+                List.of(new RegistrarProntuarioCommand.PrescricaoItemCommand(99, "x", "y", "z")), List.of()),
+            new RegistrarProntuarioCommand(12, 12.0, 0.80, "S", "O", List.of(), List.of())
+        ));
+
+        assertEquals(4, resultados.size());
+        assertTrue(resultados.get(0).isSucesso());
+        assertNotNull(resultados.get(0).getProntuarioId());
+        assertFalse(resultados.get(1).isSucesso());
+        assertFalse(resultados.get(2).isSucesso());
+        assertFalse(resultados.get(3).isSucesso());
+
+        assertTrue(prontuarioRepo.existeParaConsulta(10));
+        assertFalse(prontuarioRepo.existeParaConsulta(11));
+        assertEquals(ConsultaStatus.REALIZADA, consultaRepo.buscarPorId(10).get().getStatus());
+        assertEquals(ConsultaStatus.AGENDADA, consultaRepo.buscarPorId(11).get().getStatus());
+    }
+
+    @Test
+    void deveDevolverConsultaParaAgendadaQuandoGravacaoDoLoteFalha() {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository() {
+            @Override
+            public boolean salvarSeAusente(Prontuario prontuario) {
+                if (prontuario.getConsulta().getId() == 11) {
+                    throw new IllegalStateException("disco cheio");
+                }
+                return super.salvarSeAusente(prontuario);
+            }
+        };
+        var service = new RegistrarProntuarioService(consultaRepo, prontuarioRepo,
+            new InMemoryMedicamentoRepository(), new InMemoryExameRepository());
+
+        Endereco endereco = new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000");
+        Paciente paciente = new Paciente(1, "João", "Pai", LocalDate.of(2019, 1, 1), "M", endereco, List.of(), null);
+        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        consultaRepo.salvar(new Consulta(10, paciente, medico, LocalDateTime.now(), false));
+        consultaRepo.salvar(new Consulta(11, paciente, medico, LocalDateTime.now().plusHours(1), false));
+        consultaRepo.salvar(new Consulta(12, paciente, medico, LocalDateTime.now().plusHours(2), false));
+
+        List<ResultadoRegistroProntuario> resultados = service.registrarEmLote(List.of(
+            new RegistrarProntuarioCommand(10, 12.0, 0.80, "S", "O", List.of(), List.of()),
+            new RegistrarProntuarioCommand(11, 12.0, 0.80, "S", "O", List.of(), List.of()),
+            new RegistrarProntuarioCommand(12, 12.0, 0.80, "S", "O", List.of(), List.of())
+        ));
+
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.get(0).isSucesso());
+        assertFalse(resultados.get(1).isSucesso());
+        assertTrue(resultados.get(1).getErro().contains("disco cheio"));
+        assertTrue(resultados.get(2).isSucesso());
+        assertTrue(prontuarioRepo.existeParaConsulta(10));
+        assertTrue(prontuarioRepo.existeParaConsulta(12));
+        assertEquals(ConsultaStatus.REALIZADA, consultaRepo.buscarPorId(10).get().getStatus());
+        assertFalse(prontuarioRepo.existeParaConsulta(11));
+        assertEquals(ConsultaStatus.AGENDADA, consultaRepo.buscarPorId(11).get().getStatus());
+    }
 }
@@ -0,0 +1,117 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Orçamento de alocação do registro de prontuário, medido pelo JFR ({@code jdk.ThreadAllocationStatistics}
+ * no início e no fim da gravação, só para a thread do teste). Cobre o serviço e a gravação no repositório
+ * em memória, com duas prescrições e um exame por registro; a montagem dos comandos fica fora da medição.
+ */
+public class RegistroAlocacaoTest {
+
+    /** Bytes por registro (hoje ~570 B, metade no prontuário e metade nos índices do repositório). */
+    private static final long ORCAMENTO_BYTES = 640;
+
+    private static final int AQUECIMENTO = 30_000;
+    private static final int MEDIDOS = 20_000;
+
+    @Test
+    void registroDeveFicarDentroDoOrcamentoDeAlocacao() throws Exception {
+        var consultaRepo = new InMemoryConsultaRepository();
+        var prontuarioRepo = new InMemoryProntuarioRepository();
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
+        medicamentoRepo.salvar(new Medicamento(2, "Amoxicilina"));
+        exameRepo.salvar(new Exame(1, "Hemograma"));
+        var service = new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo,
+            new HiLoIdGenerator());
+
+        RegistrarProntuarioCommand[] aquecimento = agendar(consultaRepo, 1, AQUECIMENTO);
+        RegistrarProntuarioCommand[] medidos = agendar(consultaRepo, AQUECIMENTO + 1, MEDIDOS);
+        for (RegistrarProntuarioCommand command : aquecimento) {
+            service.registrar(command);
+        }
+
+        Path arquivo = Files.createTempFile("registro-alocacao", ".jfr");
+        try (Recording gravacao = new Recording()) {
+            // "everyChunk": um evento por thread ao abrir e ao fechar a gravação
+            gravacao.enable("jdk.ThreadAllocationStatistics").with("period", "everyChunk");
+            gravacao.start();
+            for (RegistrarProntuarioCommand command : medidos) {
+                service.registrar(command);
+            }
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long minimo = Long.MAX_VALUE;
+        long maximo = Long.MIN_VALUE;
+        for (RecordedEvent evento : RecordingFile.readAllEvents(arquivo)) {
+            if (evento.getThread("thread") != null && evento.getThread("thread").getJavaThreadId() == threadId) {
+                minimo = Math.min(minimo, evento.getLong("allocated"));
+                maximo = Math.max(maximo, evento.getLong("allocated"));
+            }
+        }
+        Files.delete(arquivo);
+
+        assertTrue(maximo > minimo, "JFR não registrou a alocação da thread do teste");
+        long bytesPorRegistro = (maximo - minimo) / MEDIDOS;
+        assertTrue(bytesPorRegistro <= ORCAMENTO_BYTES,
+            "Registro alocou " + bytesPorRegistro + " B/registro; orçamento " + ORCAMENTO_BYTES);
+        assertEquals(AQUECIMENTO + MEDIDOS, prontuarioRepo.listarTodos().size());
+    }
+
+    @Test
+    void prontuarioDeveExporListasImutaveisSemCopiaPorLeitura() {
+        Consulta consulta = new Consulta(1, paciente(1), new Medico(1, "Dr. Vilegas", "CRM-MA 12345"),
+            LocalDateTime.of(2024, 3, 10, 9, 0), false);
+        Prontuario prontuario = ProntuarioBuilder.builder(1, 1)
+            .id(1).consulta(consulta)
+            .addPrescricao(new Prescricao(1, new Medicamento(1, "Paracetamol"), "10mg/kg", "VO", "3 dias"))
+            .addExame(new Exame(1, "Hemograma"))
+            .build();
+
+        assertSame(prontuario.getPrescricoes(), prontuario.getPrescricoes());
+        assertEquals(1, prontuario.getExames().size());
+        assertThrows(UnsupportedOperationException.class, () -> prontuario.getExames().add(new Exame(2, "Urina")));
+        assertThrows(UnsupportedOperationException.class, () -> prontuario.getPrescricoes().clear());
+    }
+
+    private static RegistrarProntuarioCommand[] agendar(InMemoryConsultaRepository consultaRepo, int primeiroId, int quantidade) {
+        Medico medico = new Medico(1, "Dr. Vilegas", "CRM-MA 12345");
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 8, 0);
+        RegistrarProntuarioCommand[] commands = new RegistrarProntuarioCommand[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            int id = primeiroId + i;
+            consultaRepo.salvar(new Consulta(id, paciente(id % 500 + 1), medico, inicio.plusMinutes(30L * id), false));
+            commands[i] = new RegistrarProntuarioCommand(id, 15.0, 0.95, "Febre e tosse", "Hidratar",
+                List.of(new RegistrarProntuarioCommand.PrescricaoItemCommand(1, "10mg/kg", "VO a cada 6h", "3 dias"),
+                    new RegistrarProntuarioCommand.PrescricaoItemCommand(2, "50mg/kg/dia", "VO a cada 8h", "7 dias")),
+                List.of(1));
+        }
+        return commands;
+    }
+
+    private static Paciente paciente(int id) {
+        return new Paciente(id, "Ana", "Maria", LocalDate.of(2020, 5, 3), "F",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+    }
+}
@@ -0,0 +1,235 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.exception.DomainException;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.CacheIdempotencia;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.core.service.VerificadorInteracoes;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.out.PublicadorEventos;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistroIdempotenteTest {
+
+    private final AtomicInteger buscasDeConsulta = new AtomicInteger();
+    // Segura o registro da consulta 1 enquanto a contagem não chega a zero
+    private volatile CountDownLatch segurarConsulta1 = new CountDownLatch(0);
+    private final InMemoryConsultaRepository consultaRepo = new InMemoryConsultaRepository() {
+        @Override
+        public Optional<Consulta> buscarPorId(int id) {
+            buscasDeConsulta.incrementAndGet();
+            if (id == 1) {
+                try {
+                    segurarConsulta1.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.buscarPorId(id);
+        }
+    };
+    private final InMemoryProntuarioRepository prontuarioRepo = new InMemoryProntuarioRepository();
+    private final RelogioAjustavel relogio = new RelogioAjustavel();
+
+    @Test
+    void reenvioComMesmaChaveDeveDevolverOMesmoIdSemRepetirOFluxo() {
+        var service = servico(new CacheIdempotencia(100, Duration.ofMinutes(10), relogio));
+        agendar(1);
+
+        Integer id = service.registrar(comando(1, "tablet-7:1"));
+        int buscas = buscasDeConsulta.get();
+        assertEquals(id, service.registrar(comando(1, "tablet-7:1")));
+        assertEquals(id, service.registrar(comando(1, "tablet-7:1")));
+        assertEquals(buscas, buscasDeConsulta.get(), "reenvio não deve consultar repositórios");
+
+        // Sem chave o fluxo roda de novo e a unicidade por consulta continua valendo
+        assertThrows(DomainException.class, () -> service.registrar(comando(1, null)));
+        // A mesma chave não serve para outra consulta
+        agendar(2);
+        assertThrows(DomainException.class, () -> service.registrar(comando(2, "tablet-7:1")));
+    }
+
+    @Test
+    void chaveDeveExpirarPeloTtlEPelaCapacidade() {
+        var cache = new CacheIdempotencia(2, Duration.ofMinutes(10), relogio);
+        var service = servico(cache);
+        for (int i = 1; i <= 3; i++) {
+            agendar(i);
+            service.registrar(comando(i, "chave-" + i));
+        }
+        assertEquals(2, cache.tamanho());
+        // chave-1 saiu pela capacidade: o reenvio roda o fluxo e esbarra no prontuário existente
+        assertThrows(DomainException.class, () -> service.registrar(comando(1, "chave-1")));
+        assertNotNull(service.registrar(comando(3, "chave-3")));
+
+        relogio.avancar(Duration.ofMinutes(11));
+        assertThrows(DomainException.class, () -> service.registrar(comando(3, "chave-3")));
+    }
+
+    @Test
+    void falhaNaoDeveFicarNoCache() {
+        var service = servico(new CacheIdempotencia(100, Duration.ofMinutes(10), relogio));
+        assertThrows(DomainException.class, () -> service.registrar(comando(1, "k")));
+        agendar(1);
+        assertNotNull(service.registrar(comando(1, "k")));
+    }
+
+    @Test
+    void falhasNaoDevemCrescerAFilaAlemDaCapacidade() {
+        var cache = new CacheIdempotencia(2, Duration.ofMinutes(10), relogio);
+        var service = servico(cache);
+        // Consultas inexistentes: cada chave falha e sai do mapa, mas a entrada já estava na fila
+        for (int i = 1; i <= 50; i++) {
+            int consultaId = i;
+            assertThrows(DomainException.class, () -> service.registrar(comando(consultaId, "falha-" + consultaId)));
+        }
+        assertEquals(0, cache.tamanho());
+        assertTrue(cache.ocupacao() <= 2, "fila com " + cache.ocupacao() + " entradas");
+
+        agendar(1);
+        assertNotNull(service.registrar(comando(1, "falha-1")));
+        assertEquals(1, cache.tamanho());
+        assertTrue(cache.ocupacao() <= 2);
+    }
+
+    @Test
+    void reenviosConcorrentesDevemReceberOMesmoId() throws Exception {
+        var service = servico(new CacheIdempotencia());
+        agendar(1);
+        int threads = 16;
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Integer>> ids = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                ids.add(executor.submit(() -> {
+                    largada.await();
+                    return service.registrar(comando(1, "rajada"));
+                }));
+            }
+            largada.countDown();
+            Integer primeiro = ids.get(0).get();
+            for (Future<Integer> id : ids) {
+                assertEquals(primeiro, id.get());
+            }
+        }
+        assertEquals(1, prontuarioRepo.listarTodos().size());
+    }
+
+    @Test
+    void loteDeveReaproveitarChavesJaRegistradas() {
+        var service = servico(new CacheIdempotencia());
+        agendar(1);
+        agendar(2);
+        Integer id = service.registrar(comando(1, "a"));
+
+        var resultados = service.registrarEmLote(List.of(comando(1, "a"), comando(2, "b")));
+        assertTrue(resultados.get(0).isSucesso());
+        assertEquals(id, resultados.get(0).getProntuarioId());
+        assertTrue(resultados.get(1).isSucesso());
+        assertEquals(resultados.get(1).getProntuarioId(), service.registrar(comando(2, "b")));
+    }
+
+    @Test
+    void chaveRepetidaNoLoteDeveRegistrarUmaVez() {
+        var service = servico(new CacheIdempotencia());
+        agendar(1);
+
+        var resultados = service.registrarEmLote(List.of(comando(1, "a"), comando(1, "a")));
+        assertTrue(resultados.get(0).isSucesso());
+        assertTrue(resultados.get(1).isSucesso());
+        assertEquals(resultados.get(0).getProntuarioId(), resultados.get(1).getProntuarioId());
+        assertEquals(1, prontuarioRepo.listarTodos().size());
+        assertEquals(resultados.get(0).getProntuarioId(), service.registrar(comando(1, "a")));
+    }
+
+    @Test
+    void entradaEmAndamentoNaoDeveSairPelaCapacidade() throws Exception {
+        var cache = new CacheIdempotencia(1, Duration.ofMinutes(10), relogio);
+        var service = servico(cache);
+        agendar(1);
+        agendar(2);
+        agendar(3);
+        segurarConsulta1 = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Integer> primeiro = executor.submit(() -> service.registrar(comando(1, "lento")));
+            while (cache.ocupacao() == 0) {
+                Thread.onSpinWait();
+            }
+            // A fila passa da capacidade, mas "lento" está no início e em andamento
+            service.registrar(comando(2, "b"));
+            service.registrar(comando(3, "c"));
+            assertEquals(3, cache.tamanho());
+
+            AtomicReference<Thread> threadReenvio = new AtomicReference<>();
+            Future<Integer> reenvio = executor.submit(() -> {
+                threadReenvio.set(Thread.currentThread());
+                return service.registrar(comando(1, "lento"));
+            });
+            // Só libera o primeiro envio com o reenvio já parado, esperando por ele
+            while (threadReenvio.get() == null || threadReenvio.get().getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            segurarConsulta1.countDown();
+            assertEquals(primeiro.get(5, TimeUnit.SECONDS), reenvio.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(3, prontuarioRepo.listarTodos().size());
+        assertEquals(1, cache.ocupacao());
+    }
+
+    private RegistrarProntuarioService servico(CacheIdempotencia cache) {
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        var exameRepo = new InMemoryExameRepository();
+        medicamentoRepo.salvar(new Medicamento(1, "Paracetamol"));
+        exameRepo.salvar(new Exame(1, "Hemograma"));
+        return new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, exameRepo,
+            new HiLoIdGenerator(), PublicadorEventos.NENHUM, cache, VerificadorInteracoes.DESLIGADO);
+    }
+
+    private void agendar(int consultaId) {
+        Paciente paciente = new Paciente(1, "Ana", "Maria", LocalDate.of(2020, 5, 3), "F",
+            new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+        consultaRepo.salvar(new Consulta(consultaId, paciente, new Medico(1, "Dr. Vilegas", "CRM-MA 12345"),
+            LocalDateTime.of(2024, 3, 10, 9, 0).plusMinutes(30L * consultaId), false));
+    }
+
+    private static RegistrarProntuarioCommand comando(int consultaId, String chave) {
+        return new RegistrarProntuarioCommand(consultaId, 15.0, 0.95, "Febre", "Hidratar",
+            List.of(new RegistrarProntuarioCommand.PrescricaoItemCommand(1, "10mg/kg", "VO", "3 dias")),
+            List.of(1), chave);
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+        private volatile Instant agora = Instant.parse("2024-03-10T12:00:00Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package br.ifma.consultasmedicas;
+
+import br.ifma.consultasmedicas.adapters.out.events.BarramentoEventos;
+import br.ifma.consultasmedicas.adapters.out.ids.HiLoIdGenerator;
+import br.ifma.consultasmedicas.adapters.out.referencia.TabelaInteracoes;
+import br.ifma.consultasmedicas.adapters.out.repository.*;
+import br.ifma.consultasmedicas.core.domain.model.*;
+import br.ifma.consultasmedicas.core.service.CacheIdempotencia;
+import br.ifma.consultasmedicas.core.service.RegistrarProntuarioService;
+import br.ifma.consultasmedicas.core.service.VerificadorInteracoes;
+import br.ifma.consultasmedicas.ports.in.AlertaPrescricao;
+import br.ifma.consultasmedicas.ports.in.RegistrarProntuarioCommand;
+import br.ifma.consultasmedicas.ports.in.RegistroProntuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerificadorInteracoesTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    private final InMemoryConsultaRepository consultaRepo = new InMemoryConsultaRepository();
+    private final InMemoryProntuarioRepository prontuarioRepo = new InMemoryProntuarioRepository();
+    private final Paciente paciente = new Paciente(1, "Ana", "Maria", LocalDate.of(2020, 5, 3), "F",
+        new Endereco("Rua A", "1", null, "Centro", "São Luís", "MA", "65000-000"), List.of(), null);
+
+    @Test
+    void tabelaDeveSerSimetricaEIgnorarIdsForaDaMatriz() throws Exception {
+        TabelaInteracoes tabela = tabela();
+        assertEquals(2, tabela.tamanho());
+        assertEquals("grave", tabela.buscar(2, 1).gravidade());
+        assertEquals("grave", tabela.buscar(1, 2).gravidade());
+        assertEquals("Risco de sangramento, monitorar", tabela.buscar(130, 3).descricao());
+        assertNull(tabela.buscar(1, 3));
+        assertNull(tabela.buscar(1, 500));
+        assertNull(tabela.buscar(900, 1));
+        assertNull(tabela.buscar(-1, 2));
+    }
+
+    @Test
+    void registroDeveAlertarInteracoesERepeticoesNaJanela() throws Exception {
+        var eventos = new BarramentoEventos();
+        var verificador = new VerificadorInteracoes(prontuarioRepo, tabela());
+        verificador.reconstruir();
+        eventos.assinar(verificador::aplicar);
+        var service = servico(eventos, verificador);
+
+        // Mesmo prontuário: 1 e 2 interagem
+        RegistroProntuario primeiro = service.registrarComAlertas(comando(agendar(1, 0), null, 1, 2));
+        assertEquals(1, primeiro.getAlertas().size());
+        AlertaPrescricao interacao = primeiro.getAlertas().get(0);
+        assertEquals(AlertaPrescricao.Tipo.INTERACAO, interacao.getTipo());
+        assertEquals("grave", interacao.getGravidade());
+        assertNull(interacao.getPrescritoEm());
+
+        // Dez dias depois: 2 se repete e interage com o 1, ainda em uso
+        RegistroProntuario retorno = service.registrarComAlertas(comando(agendar(2, 10), "tablet:2", 2));
+        assertEquals(2, retorno.getAlertas().size());
+        assertTrue(retorno.getAlertas().stream().anyMatch(a -> a.getTipo() == AlertaPrescricao.Tipo.REPETICAO
+            && a.getPrescritoEm().equals(INICIO.toLocalDate())));
+        assertTrue(retorno.getAlertas().stream().anyMatch(a -> a.getTipo() == AlertaPrescricao.Tipo.INTERACAO_EM_USO
+            && a.getOutroMedicamentoId() == 1));
+        // Reenvio com a mesma chave devolve os mesmos alertas
+        assertSame(retorno.getAlertas(), service.registrarComAlertas(comando(2, "tablet:2", 2)).getAlertas());
+
+        // Fora da janela de 30 dias a partir da última prescrição: sem alertas
+        assertTrue(service.registrarComAlertas(comando(agendar(3, 45), null, 1)).getAlertas().isEmpty());
+        // Sem prescrições, nada a verificar
+        assertTrue(service.registrarComAlertas(comando(agendar(4, 46), null)).getAlertas().isEmpty());
+    }
+
+    @Test
+    void prontuarioRetroativoDeveEnxergarUsosAnterioresDoMesmoMedicamento() throws Exception {
+        var eventos = new BarramentoEventos();
+        var verificador = new VerificadorInteracoes(prontuarioRepo, tabela());
+        verificador.reconstruir();
+        eventos.assinar(verificador::aplicar);
+        var service = servico(eventos, verificador);
+
+        service.registrarComAlertas(comando(agendar(1, 0), null, 3));
+        service.registrarComAlertas(comando(agendar(2, 20), null, 3));
+        service.registrarComAlertas(comando(agendar(3, 25), null, 3));
+
+        // Registrado depois, com data entre as duas primeiras: o uso do dia 0 ainda conta
+        List<AlertaPrescricao> alertas = service.registrarComAlertas(comando(agendar(4, 10), null, 3)).getAlertas();
+        assertEquals(1, alertas.size());
+        assertEquals(AlertaPrescricao.Tipo.REPETICAO, alertas.get(0).getTipo());
+        assertEquals(INICIO.toLocalDate(), alertas.get(0).getPrescritoEm());
+
+        // Depois de todos: um único alerta, com a prescrição mais recente
+        alertas = service.registrarComAlertas(comando(agendar(5, 30), null, 3)).getAlertas();
+        assertEquals(1, alertas.size());
+        assertEquals(INICIO.toLocalDate().plusDays(25), alertas.get(0).getPrescritoEm());
+    }
+
+    @Test
+    void reconstruirDeveRecuperarMedicamentosEmUso() throws Exception {
+        var semVerificacao = servico(new BarramentoEventos(), VerificadorInteracoes.DESLIGADO);
+        assertTrue(semVerificacao.registrarComAlertas(comando(agendar(1, 0), null, 130)).getAlertas().isEmpty());
+
+        var eventos = new BarramentoEventos();
+        var verificador = new VerificadorInteracoes(prontuarioRepo, tabela());
+        verificador.reconstruir();
+        eventos.assinar(verificador::aplicar);
+        var resultados = servico(eventos, verificador).registrarEmLote(List.of(comando(agendar(2, 5), null, 3)));
+
+        assertTrue(resultados.get(0).isSucesso());
+        assertEquals(AlertaPrescricao.Tipo.INTERACAO_EM_USO, resultados.get(0).getAlertas().get(0).getTipo());
+        assertEquals(LocalDate.of(2024, 3, 1), resultados.get(0).getAlertas().get(0).getPrescritoEm());
+    }
+
+    private TabelaInteracoes tabela() throws Exception {
+        Path arquivo = dir.resolve("interacoes.csv");
+        Files.writeString(arquivo, """
+            medicamentoA,medicamentoB,gravidade,descricao
+            1,2,grave,Potencializa efeito anticoagulante
+            3,130,moderada,Risco de sangramento, monitorar
+            """);
+        return TabelaInteracoes.ler(arquivo);
+    }
+
+    private RegistrarProntuarioService servico(BarramentoEventos eventos, VerificadorInteracoes verificador) {
+        var medicamentoRepo = new InMemoryMedicamentoRepository();
+        for (int id : new int[]{1, 2, 3, 130}) {
+            medicamentoRepo.salvar(new Medicamento(id, "Medicamento " + id));
+        }
+        return new RegistrarProntuarioService(consultaRepo, prontuarioRepo, medicamentoRepo, new InMemoryExameRepository(),
+            new HiLoIdGenerator(), eventos, new CacheIdempotencia(), verificador);
+    }
+
+    private int agendar(int consultaId, int dias) {
+        consultaRepo.salvar(new Consulta(consultaId, paciente, new Medico(1, "Dr. Vilegas", "CRM-MA 12345"),
+            INICIO.plusDays(dias), false));
+        return consultaId;
+    }
+
+    private static RegistrarProntuarioCommand comando(int consultaId, String chave, int... medicamentos) {
+        List<RegistrarProntuarioCommand.PrescricaoItemCommand> itens = Arrays.stream(medicamentos)
+            .mapToObj(id -> new RegistrarProntuarioCommand.PrescricaoItemCommand(id, "1cp", "VO", "5 dias"))
+            .toList();
+        return new RegistrarProntuarioCommand(consultaId, 15.0, 0.95, "", "", itens, List.of(), chave);
+    }
+}